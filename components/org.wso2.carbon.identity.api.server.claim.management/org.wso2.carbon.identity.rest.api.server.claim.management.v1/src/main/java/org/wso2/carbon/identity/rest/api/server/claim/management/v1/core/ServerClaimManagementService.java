@@ -24,6 +24,8 @@ import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.context.CarbonContext;
 import org.wso2.carbon.identity.api.server.claim.management.common.Constant;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.cache.UserStoreDomainCache;
+import org.wso2.carbon.identity.api.server.common.cache.UserStoreDomainCacheEntry;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataClientException;
@@ -44,6 +46,7 @@ import org.wso2.carbon.identity.rest.api.server.claim.management.v1.dto.LocalCla
 import org.wso2.carbon.identity.rest.api.server.claim.management.v1.dto.LocalClaimResDTO;
 import org.wso2.carbon.identity.rest.api.server.claim.management.v1.dto.PropertyDTO;
 import org.wso2.carbon.user.api.UserStoreException;
+import org.wso2.carbon.user.core.UserCoreConstants;
 import org.wso2.carbon.user.core.UserStoreManager;
 
 import java.nio.charset.StandardCharsets;
@@ -51,8 +54,11 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javax.ws.rs.core.Response;
@@ -769,17 +775,41 @@ public class ServerClaimManagementService {
         return base64EncodeId(val);
     }
 
-    private boolean isUserStoreExists(String userStoreDomain) throws UserStoreException {
+    /**
+     * Resolve the userstore domains of the tenant in the current context. The domains are served from the
+     * {@link UserStoreDomainCache} and loaded from the user realm in a single walk of the userstore chain on a miss.
+     *
+     * @param refresh Whether to skip the cached entry and reload the domains from the user realm.
+     * @return Userstore domains of the tenant.
+     * @throws UserStoreException If an error occurred while loading the userstore managers.
+     */
+    private UserStoreDomainCacheEntry getUserStoreDomains(boolean refresh) throws UserStoreException {
+
+        String tenantDomain = ContextLoader.getTenantDomainFromContext();
+        UserStoreDomainCache userStoreDomainCache = UserStoreDomainCache.getInstance();
+        if (!refresh) {
+            UserStoreDomainCacheEntry cacheEntry = userStoreDomainCache.getValueFromCache(tenantDomain);
+            if (cacheEntry != null) {
+                return cacheEntry;
+            }
+        }
 
-        UserStoreManager userStoreManager;
-        if (IdentityUtil.getPrimaryDomainName().equals(userStoreDomain)) {
-            return true;
-        } else {
-            userStoreManager = ((UserStoreManager) CarbonContext.getThreadLocalCarbonContext().getUserRealm()
-                    .getUserStoreManager()).getSecondaryUserStoreManager(userStoreDomain);
+        Set<String> userStoreDomains = new HashSet<>();
+        userStoreDomains.add(IdentityUtil.getPrimaryDomainName());
+        UserStoreManager secondaryUserStoreManager = ((UserStoreManager) CarbonContext.getThreadLocalCarbonContext()
+                .getUserRealm().getUserStoreManager()).getSecondaryUserStoreManager();
+        while (secondaryUserStoreManager != null) {
+            String domainName = secondaryUserStoreManager.getRealmConfiguration()
+                    .getUserStoreProperty(UserCoreConstants.RealmConfig.PROPERTY_DOMAIN_NAME);
+            if (StringUtils.isNotBlank(domainName)) {
+                userStoreDomains.add(domainName);
+            }
+            secondaryUserStoreManager = secondaryUserStoreManager.getSecondaryUserStoreManager();
         }
 
-        return userStoreManager != null;
+        UserStoreDomainCacheEntry cacheEntry = new UserStoreDomainCacheEntry(userStoreDomains);
+        userStoreDomainCache.addToCache(tenantDomain, cacheEntry);
+        return cacheEntry;
     }
 
     private boolean isDialectExists(String dialectId) throws ClaimMetadataException {
@@ -959,6 +989,7 @@ public class ServerClaimManagementService {
             throw handleClaimManagementClientError(ERROR_CODE_EMPTY_ATTRIBUTE_MAPPINGS, BAD_REQUEST);
         }
         String primaryUserstoreDomainName = IdentityUtil.getPrimaryDomainName();
+        Set<String> mappedUserStoreDomains = new LinkedHashSet<>();
         for (AttributeMappingDTO attributeMappingDTO : attributeMappingDTOList) {
             if (StringUtils.isBlank(attributeMappingDTO.getUserstore())) {
                 throw handleClaimManagementClientError(ERROR_CODE_USERSTORE_NOT_SPECIFIED_IN_MAPPINGS,
@@ -970,10 +1001,35 @@ public class ServerClaimManagementService {
                 throw handleClaimManagementClientError(ERROR_CODE_EMPTY_MAPPED_ATTRIBUTES_IN_LOCAL_CLAIM,
                         BAD_REQUEST, attributeMappingDTO.getUserstore());
             }
-            if (!isUserStoreExists(attributeMappingDTO.getUserstore())) {
-                throw handleClaimManagementClientError(ERROR_CODE_INVALID_USERSTORE, BAD_REQUEST,
-                        attributeMappingDTO.getUserstore());
+            if (!primaryUserstoreDomainName.equals(attributeMappingDTO.getUserstore())) {
+                mappedUserStoreDomains.add(attributeMappingDTO.getUserstore());
+            }
+        }
+        if (mappedUserStoreDomains.isEmpty()) {
+            return;
+        }
+
+        // Validate all the mapped userstore domains against a single snapshot of the tenant's userstores.
+        UserStoreDomainCacheEntry userStoreDomains = getUserStoreDomains(false);
+        String invalidUserStoreDomain = getUnknownUserStoreDomain(mappedUserStoreDomains, userStoreDomains);
+        if (invalidUserStoreDomain != null) {
+            // The cached domains could be outdated if a userstore was added outside the server APIs.
+            userStoreDomains = getUserStoreDomains(true);
+            invalidUserStoreDomain = getUnknownUserStoreDomain(mappedUserStoreDomains, userStoreDomains);
+        }
+        if (invalidUserStoreDomain != null) {
+            throw handleClaimManagementClientError(ERROR_CODE_INVALID_USERSTORE, BAD_REQUEST, invalidUserStoreDomain);
+        }
+    }
+
+    private String getUnknownUserStoreDomain(Set<String> mappedUserStoreDomains,
+                                             UserStoreDomainCacheEntry userStoreDomains) {
+
+        for (String mappedUserStoreDomain : mappedUserStoreDomains) {
+            if (!userStoreDomains.contains(mappedUserStoreDomain)) {
+                return mappedUserStoreDomain;
             }
         }
+        return null;
     }
 }
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+
+/**
+ * Cache holding the userstore domains known to a tenant, keyed by the tenant domain. Entries are cleared whenever a
+ * userstore of the tenant is added, updated or deleted through the server APIs.
+ */
+public class UserStoreDomainCache extends BaseCache<String, UserStoreDomainCacheEntry> {
+
+    private static final String USER_STORE_DOMAIN_CACHE_NAME = "APIServerUserStoreDomainCache";
+    private static final UserStoreDomainCache instance = new UserStoreDomainCache();
+
+    private UserStoreDomainCache() {
+
+        super(USER_STORE_DOMAIN_CACHE_NAME);
+    }
+
+    public static UserStoreDomainCache getInstance() {
+
+        return instance;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.cache;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Cache entry holding the upper cased userstore domain names of a tenant.
+ */
+public class UserStoreDomainCacheEntry implements Serializable {
+
+    private static final long serialVersionUID = -4815021316745338214L;
+
+    private final Set<String> userStoreDomains;
+
+    public UserStoreDomainCacheEntry(Set<String> userStoreDomains) {
+
+        Set<String> domains = new HashSet<>();
+        for (String userStoreDomain : userStoreDomains) {
+            domains.add(userStoreDomain.toUpperCase(Locale.ENGLISH));
+        }
+        this.userStoreDomains = Collections.unmodifiableSet(domains);
+    }
+
+    public Set<String> getUserStoreDomains() {
+
+        return userStoreDomains;
+    }
+
+    /**
+     * Check whether the given userstore domain is known to the tenant. The check is case insensitive.
+     *
+     * @param userStoreDomain Userstore domain name.
+     * @return True if the domain is present in this entry.
+     */
+    public boolean contains(String userStoreDomain) {
+
+        return userStoreDomain != null && userStoreDomains.contains(userStoreDomain.toUpperCase(Locale.ENGLISH));
+    }
+}
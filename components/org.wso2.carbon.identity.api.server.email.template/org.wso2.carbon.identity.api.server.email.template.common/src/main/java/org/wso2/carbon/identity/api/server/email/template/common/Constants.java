@@ -42,6 +42,18 @@ public class Constants {
     public static final String BODY = "templates.body";
     public static final String FOOTER = "templates.footer";
 
+    // Sorting of the email template types.
+    public static final String DISPLAY_NAME = "displayName";
+    public static final String SORT_ORDER_ASCENDING = "asc";
+    public static final String SORT_ORDER_DESCENDING = "desc";
+
+    // Bulk import of email templates.
+    public static final String EMAIL_TEMPLATE_IMPORT_ARCHIVE_EXTENSION = ".zip";
+    public static final String EMAIL_TEMPLATE_IMPORT_FILE_EXTENSION = ".json";
+    public static final int EMAIL_TEMPLATE_IMPORT_MAX_FILES = 500;
+    public static final long EMAIL_TEMPLATE_IMPORT_MAX_SIZE = 10 * 1024 * 1024L;
+    public static final long EMAIL_TEMPLATE_IMPORT_MAX_SIZE_IN_MB = EMAIL_TEMPLATE_IMPORT_MAX_SIZE / (1024 * 1024L);
+
     private static final Map<String, ErrorMessage> ERROR_CODE_MAP = new HashMap<>();
 
     /**
@@ -84,6 +96,9 @@ public class Constants {
         ERROR_SORTING_NOT_SUPPORTED("55012", Status.NOT_IMPLEMENTED,
                 "Sorting is not yet supported.",
                 "Please remove 'sortOrder' and 'sortBy' parameters from the request and try again."),
+        ERROR_IMPORTING_EMAIL_TEMPLATES("55013", Status.INTERNAL_SERVER_ERROR,
+                "Unable to import the email templates.",
+                "Server encountered an error while importing the email templates."),
         ERROR_EMAIL_TEMPLATE_TYPE_NOT_FOUND("50002", Status.NOT_FOUND,
                 "Email Template Type does not exists.",
                 "Specified email template type does not exist in the system."),
@@ -100,7 +115,14 @@ public class Constants {
         ERROR_ATTRIBUTE_NOT_SUPPORTED("50006", Status.BAD_REQUEST, "Attribute type not found",
                 "Invalid attribute for email templates. Supported attributes are: 'templates', " +
                         "'templates.id', 'templates.contentType', 'templates.subject', 'templates.body' " +
-                        "and 'templates.footer'.");
+                        "and 'templates.footer'."),
+        ERROR_SORT_ATTRIBUTE_NOT_SUPPORTED("50007", Status.BAD_REQUEST, "Sort attribute not supported.",
+                "Email template types can only be sorted by the 'displayName' attribute."),
+        ERROR_SORT_ORDER_NOT_SUPPORTED("50008", Status.BAD_REQUEST, "Sort order not supported.",
+                "Supported sort orders are 'asc' and 'desc'."),
+        ERROR_INVALID_EMAIL_TEMPLATE_IMPORT_FILE("50009", Status.BAD_REQUEST, "Invalid email template import file.",
+                "The file should be a '%s' archive of at most %d '<locale>%s' email template files, " +
+                        "with at most %d MB of uncompressed content.");
 
         private final String message;
         private final Status httpStatus;
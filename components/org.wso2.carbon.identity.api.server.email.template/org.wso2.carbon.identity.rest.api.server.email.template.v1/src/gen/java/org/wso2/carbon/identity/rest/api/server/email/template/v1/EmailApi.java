@@ -21,6 +21,9 @@ import org.apache.cxf.jaxrs.ext.multipart.Attachment;
 import org.apache.cxf.jaxrs.ext.multipart.Multipart;
 import java.io.InputStream;
 
+import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTemplateImportSummary;
+import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTemplatePreview;
+import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTemplatePreviewRequest;
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTemplateType;
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTemplateTypeWithID;
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTemplateTypeWithoutTemplates;
@@ -159,7 +162,7 @@ public class EmailApi  {
         @ApiResponse(code = 403, message = "Forbidden", response = Void.class),
         @ApiResponse(code = 500, message = "Internal Server Error", response = Error.class)
     })
-    public Response getAllEmailTemplateTypes(    @Valid @Min(0)@ApiParam(value = "Maximum number of records to return. _<b>This option is not yet supported.<b>_")  @QueryParam("limit") Integer limit,     @Valid @Min(0)@ApiParam(value = "Number of records to skip for pagination. _<b>This option is not yet supported.<b>_")  @QueryParam("offset") Integer offset,     @Valid@ApiParam(value = "Define the order in which the retrieved records should be sorted. _<b>This option is not yet supported.<b>_", allowableValues="asc, desc")  @QueryParam("sortOrder") String sortOrder,     @Valid@ApiParam(value = "Attribute by which the retrieved records should be sorted. _<b>This option is not yet supported.<b>_")  @QueryParam("sortBy") String sortBy,     @Valid@ApiParam(value = "Specifies the required parameters in the response.")  @QueryParam("requiredAttributes") String requiredAttributes) {
+    public Response getAllEmailTemplateTypes(    @Valid @Min(0)@ApiParam(value = "Maximum number of email template types to return.")  @QueryParam("limit") Integer limit,     @Valid @Min(0)@ApiParam(value = "Number of email template types to skip for pagination.")  @QueryParam("offset") Integer offset,     @Valid@ApiParam(value = "Define the order in which the email template types should be sorted. Defaults to asc.", allowableValues="asc, desc")  @QueryParam("sortOrder") String sortOrder,     @Valid@ApiParam(value = "Attribute by which the email template types should be sorted. Only displayName is supported.")  @QueryParam("sortBy") String sortBy,     @Valid@ApiParam(value = "Specifies the required parameters in the response.")  @QueryParam("requiredAttributes") String requiredAttributes) {
 
         return delegate.getAllEmailTemplateTypes(limit,  offset,  sortOrder,  sortBy,  requiredAttributes );
     }
@@ -236,6 +239,54 @@ public class EmailApi  {
         return delegate.getTemplatesListOfEmailTemplateType(templateTypeId,  limit,  offset,  sortOrder,  sortBy );
     }
 
+    @Valid
+    @POST
+    @Path("/template-types/{template-type-id}/templates/import")
+    @Consumes({ "multipart/form-data" })
+    @Produces({ "application/json" })
+    @ApiOperation(value = "Imports email templates of multiple locales to an email template type.", notes = "Imports the email templates in a zip archive of locale named JSON files, e.g. en_US.json, to the email template type identified by the template-type-id. Each file is validated and imported independently and the result of each locale is returned. <br>  <b>Permission required:</b> <br>   * /permission/admin/manage/identity/emailmgt/create <br>   <b>Scopes required:</b><br>   * internal_email_mgt_create ", response = EmailTemplateImportSummary.class, authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "Email Templates", })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "Result of importing each email template.", response = EmailTemplateImportSummary.class),
+        @ApiResponse(code = 400, message = "Invalid input request", response = Error.class),
+        @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
+        @ApiResponse(code = 403, message = "Forbidden", response = Void.class),
+        @ApiResponse(code = 404, message = "The specified resource is not found", response = Error.class),
+        @ApiResponse(code = 500, message = "Internal Server Error", response = Error.class)
+    })
+    public Response importEmailTemplates(@ApiParam(value = "Email Template Type ID",required=true) @PathParam("template-type-id") String templateTypeId, @Multipart(value = "file") InputStream fileInputStream,@Multipart(value = "file" ) Attachment fileDetail,     @Valid@ApiParam(value = "Replace the existing email templates of the same locales.", defaultValue="false") @DefaultValue("false")  @QueryParam("overwrite") Boolean overwrite) {
+
+        return delegate.importEmailTemplates(templateTypeId,  fileInputStream, fileDetail,  overwrite );
+    }
+
+    @Valid
+    @POST
+    @Path("/template-types/{template-type-id}/templates/{template-id}/preview")
+    @Consumes({ "application/json" })
+    @Produces({ "application/json" })
+    @ApiOperation(value = "Renders an email template with sample placeholder values.", notes = "Renders the email template identified by the template-type-id and the template-id, replacing the placeholders with the given values. Placeholders without a value are kept in the rendered content and listed in the response. <br>  <b>Permission required:</b> <br>   * /permission/admin/manage/identity/emailmgt/view <br>   <b>Scopes required:</b><br>   * internal_email_mgt_view ", response = EmailTemplatePreview.class, authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "Email Templates", })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "Rendered email template.", response = EmailTemplatePreview.class),
+        @ApiResponse(code = 400, message = "Invalid input request", response = Error.class),
+        @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
+        @ApiResponse(code = 403, message = "Forbidden", response = Void.class),
+        @ApiResponse(code = 404, message = "The specified resource is not found", response = Error.class),
+        @ApiResponse(code = 500, message = "Internal Server Error", response = Error.class)
+    })
+    public Response previewEmailTemplate(@ApiParam(value = "Email Template Type ID",required=true) @PathParam("template-type-id") String templateTypeId, @ApiParam(value = "Email template ID. This should be a valid locale.",required=true) @PathParam("template-id") String templateId, @ApiParam(value = "Values of the placeholders in the email template." ) @Valid EmailTemplatePreviewRequest emailTemplatePreviewRequest) {
+
+        return delegate.previewEmailTemplate(templateTypeId,  templateId,  emailTemplatePreviewRequest );
+    }
+
     @Valid
     @PUT
     @Path("/template-types/{template-type-id}/templates/{template-id}")
@@ -21,6 +21,9 @@ import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.*;
 import org.apache.cxf.jaxrs.ext.multipart.Attachment;
 import org.apache.cxf.jaxrs.ext.multipart.Multipart;
 import java.io.InputStream;
+import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTemplateImportSummary;
+import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTemplatePreview;
+import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTemplatePreviewRequest;
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTemplateType;
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTemplateTypeWithID;
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTemplateTypeWithoutTemplates;
@@ -49,6 +52,10 @@ public interface EmailApiService {
 
       public Response getTemplatesListOfEmailTemplateType(String templateTypeId, Integer limit, Integer offset, String sortOrder, String sortBy);
 
+      public Response importEmailTemplates(String templateTypeId, InputStream fileInputStream, Attachment fileDetail, Boolean overwrite);
+
+      public Response previewEmailTemplate(String templateTypeId, String templateId, EmailTemplatePreviewRequest emailTemplatePreviewRequest);
+
       public Response updateEmailTemplate(String templateTypeId, String templateId, EmailTemplateWithID emailTemplateWithID);
 
       public Response updateEmailTemplateType(String templateTypeId, List<EmailTemplateWithID> emailTemplateWithID);
@@ -0,0 +1,201 @@
+/*
+* Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package org.wso2.carbon.identity.rest.api.server.email.template.v1.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import java.util.ArrayList;
+import java.util.List;
+import javax.validation.constraints.*;
+
+
+import io.swagger.annotations.*;
+import java.util.Objects;
+import javax.validation.Valid;
+import javax.xml.bind.annotation.*;
+public class EmailTemplateImportSummary  {
+  
+    private Integer total;
+    private Integer created;
+    private Integer updated;
+    private Integer failed;
+    private List<EmailTemplateImportResult> results = new ArrayList<>();
+
+
+    /**
+    * Number of email templates found in the uploaded file.
+    **/
+    public EmailTemplateImportSummary total(Integer total) {
+
+        this.total = total;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "40", required = true, value = "Number of email templates found in the uploaded file.")
+    @JsonProperty("total")
+    @Valid
+    @NotNull(message = "Property total cannot be null.")
+
+    public Integer getTotal() {
+        return total;
+    }
+    public void setTotal(Integer total) {
+        this.total = total;
+    }
+
+    /**
+    * Number of email templates created.
+    **/
+    public EmailTemplateImportSummary created(Integer created) {
+
+        this.created = created;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "38", required = true, value = "Number of email templates created.")
+    @JsonProperty("created")
+    @Valid
+    @NotNull(message = "Property created cannot be null.")
+
+    public Integer getCreated() {
+        return created;
+    }
+    public void setCreated(Integer created) {
+        this.created = created;
+    }
+
+    /**
+    * Number of existing email templates replaced.
+    **/
+    public EmailTemplateImportSummary updated(Integer updated) {
+
+        this.updated = updated;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "1", required = true, value = "Number of existing email templates replaced.")
+    @JsonProperty("updated")
+    @Valid
+    @NotNull(message = "Property updated cannot be null.")
+
+    public Integer getUpdated() {
+        return updated;
+    }
+    public void setUpdated(Integer updated) {
+        this.updated = updated;
+    }
+
+    /**
+    * Number of email templates that could not be imported.
+    **/
+    public EmailTemplateImportSummary failed(Integer failed) {
+
+        this.failed = failed;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "1", required = true, value = "Number of email templates that could not be imported.")
+    @JsonProperty("failed")
+    @Valid
+    @NotNull(message = "Property failed cannot be null.")
+
+    public Integer getFailed() {
+        return failed;
+    }
+    public void setFailed(Integer failed) {
+        this.failed = failed;
+    }
+
+    /**
+    * Result of importing each email template.
+    **/
+    public EmailTemplateImportSummary results(List<EmailTemplateImportResult> results) {
+
+        this.results = results;
+        return this;
+    }
+    
+    @ApiModelProperty(required = true, value = "Result of importing each email template.")
+    @JsonProperty("results")
+    @Valid
+    @NotNull(message = "Property results cannot be null.")
+
+    public List<EmailTemplateImportResult> getResults() {
+        return results;
+    }
+    public void setResults(List<EmailTemplateImportResult> results) {
+        this.results = results;
+    }
+
+    public EmailTemplateImportSummary addResultsItem(EmailTemplateImportResult resultsItem) {
+        this.results.add(resultsItem);
+        return this;
+    }
+
+    
+
+    @Override
+    public boolean equals(java.lang.Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        EmailTemplateImportSummary emailTemplateImportSummary = (EmailTemplateImportSummary) o;
+        return Objects.equals(this.total, emailTemplateImportSummary.total) &&
+            Objects.equals(this.created, emailTemplateImportSummary.created) &&
+            Objects.equals(this.updated, emailTemplateImportSummary.updated) &&
+            Objects.equals(this.failed, emailTemplateImportSummary.failed) &&
+            Objects.equals(this.results, emailTemplateImportSummary.results);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(total, created, updated, failed, results);
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("class EmailTemplateImportSummary {\n");
+        
+        sb.append("    total: ").append(toIndentedString(total)).append("\n");
+        sb.append("    created: ").append(toIndentedString(created)).append("\n");
+        sb.append("    updated: ").append(toIndentedString(updated)).append("\n");
+        sb.append("    failed: ").append(toIndentedString(failed)).append("\n");
+        sb.append("    results: ").append(toIndentedString(results)).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+    * Convert the given object to string with each line indented by 4 spaces
+    * (except the first line).
+    */
+    private String toIndentedString(java.lang.Object o) {
+
+        if (o == null) {
+            return "null";
+        }
+        return o.toString().replace("\n", "\n");
+    }
+}
\ No newline at end of file
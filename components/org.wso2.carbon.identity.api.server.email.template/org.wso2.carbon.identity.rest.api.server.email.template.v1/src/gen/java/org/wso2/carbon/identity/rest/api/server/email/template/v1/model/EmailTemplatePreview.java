@@ -0,0 +1,226 @@
+/*
+* Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package org.wso2.carbon.identity.rest.api.server.email.template.v1.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import java.util.ArrayList;
+import java.util.List;
+import javax.validation.constraints.*;
+
+/**
+ * Email template rendered with sample placeholder values.
+ **/
+
+import io.swagger.annotations.*;
+import java.util.Objects;
+import javax.validation.Valid;
+import javax.xml.bind.annotation.*;
+@ApiModel(description = "Email template rendered with sample placeholder values.")
+public class EmailTemplatePreview  {
+  
+    private String id;
+    private String contentType;
+    private String subject;
+    private String body;
+    private String footer;
+    private List<String> unresolvedPlaceholders = null;
+
+
+    /**
+    * Unique ID of the email template. This id represents the locale of the email template.
+    **/
+    public EmailTemplatePreview id(String id) {
+
+        this.id = id;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "en_US", value = "Unique ID of the email template. This id represents the locale of the email template.")
+    @JsonProperty("id")
+    @Valid
+
+    public String getId() {
+        return id;
+    }
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    /**
+    * Content type of the email template.
+    **/
+    public EmailTemplatePreview contentType(String contentType) {
+
+        this.contentType = contentType;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "text/html", value = "Content type of the email template.")
+    @JsonProperty("contentType")
+    @Valid
+
+    public String getContentType() {
+        return contentType;
+    }
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    /**
+    * Rendered subject of the email.
+    **/
+    public EmailTemplatePreview subject(String subject) {
+
+        this.subject = subject;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "Account Recovery - Reset Password", value = "Rendered subject of the email.")
+    @JsonProperty("subject")
+    @Valid
+
+    public String getSubject() {
+        return subject;
+    }
+    public void setSubject(String subject) {
+        this.subject = subject;
+    }
+
+    /**
+    * Rendered body of the email.
+    **/
+    public EmailTemplatePreview body(String body) {
+
+        this.body = body;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "Hi John, please click the below link to reset your password.", value = "Rendered body of the email.")
+    @JsonProperty("body")
+    @Valid
+
+    public String getBody() {
+        return body;
+    }
+    public void setBody(String body) {
+        this.body = body;
+    }
+
+    /**
+    * Rendered footer of the email.
+    **/
+    public EmailTemplatePreview footer(String footer) {
+
+        this.footer = footer;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "WSO2 Identity Server Team", value = "Rendered footer of the email.")
+    @JsonProperty("footer")
+    @Valid
+
+    public String getFooter() {
+        return footer;
+    }
+    public void setFooter(String footer) {
+        this.footer = footer;
+    }
+
+    /**
+    * Placeholders of the template without a sample value. These are left as they are in the rendered email.
+    **/
+    public EmailTemplatePreview unresolvedPlaceholders(List<String> unresolvedPlaceholders) {
+
+        this.unresolvedPlaceholders = unresolvedPlaceholders;
+        return this;
+    }
+    
+    @ApiModelProperty(value = "Placeholders of the template without a sample value. These are left as they are in the rendered email.")
+    @JsonProperty("unresolvedPlaceholders")
+    @Valid
+
+    public List<String> getUnresolvedPlaceholders() {
+        return unresolvedPlaceholders;
+    }
+    public void setUnresolvedPlaceholders(List<String> unresolvedPlaceholders) {
+        this.unresolvedPlaceholders = unresolvedPlaceholders;
+    }
+
+    public EmailTemplatePreview addUnresolvedPlaceholdersItem(String unresolvedPlaceholdersItem) {
+        if (this.unresolvedPlaceholders == null) {
+            this.unresolvedPlaceholders = new ArrayList<>();
+        }
+        this.unresolvedPlaceholders.add(unresolvedPlaceholdersItem);
+        return this;
+    }
+
+    
+
+    @Override
+    public boolean equals(java.lang.Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        EmailTemplatePreview emailTemplatePreview = (EmailTemplatePreview) o;
+        return Objects.equals(this.id, emailTemplatePreview.id) &&
+            Objects.equals(this.contentType, emailTemplatePreview.contentType) &&
+            Objects.equals(this.subject, emailTemplatePreview.subject) &&
+            Objects.equals(this.body, emailTemplatePreview.body) &&
+            Objects.equals(this.footer, emailTemplatePreview.footer) &&
+            Objects.equals(this.unresolvedPlaceholders, emailTemplatePreview.unresolvedPlaceholders);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, contentType, subject, body, footer, unresolvedPlaceholders);
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("class EmailTemplatePreview {\n");
+        
+        sb.append("    id: ").append(toIndentedString(id)).append("\n");
+        sb.append("    contentType: ").append(toIndentedString(contentType)).append("\n");
+        sb.append("    subject: ").append(toIndentedString(subject)).append("\n");
+        sb.append("    body: ").append(toIndentedString(body)).append("\n");
+        sb.append("    footer: ").append(toIndentedString(footer)).append("\n");
+        sb.append("    unresolvedPlaceholders: ").append(toIndentedString(unresolvedPlaceholders)).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+    * Convert the given object to string with each line indented by 4 spaces
+    * (except the first line).
+    */
+    private String toIndentedString(java.lang.Object o) {
+
+        if (o == null) {
+            return "null";
+        }
+        return o.toString().replace("\n", "\n");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,111 @@
+/*
+* Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package org.wso2.carbon.identity.rest.api.server.email.template.v1.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import java.util.HashMap;
+import java.util.Map;
+import javax.validation.constraints.*;
+
+/**
+ * Sample values used to render an email template preview.
+ **/
+
+import io.swagger.annotations.*;
+import java.util.Objects;
+import javax.validation.Valid;
+import javax.xml.bind.annotation.*;
+@ApiModel(description = "Sample values used to render an email template preview.")
+public class EmailTemplatePreviewRequest  {
+  
+    private Map<String, String> placeholderValues = null;
+
+
+    /**
+    * Sample values of the template placeholders, keyed by the placeholder name without the enclosing braces. E.g. user-name, user.claim.givenname
+    **/
+    public EmailTemplatePreviewRequest placeholderValues(Map<String, String> placeholderValues) {
+
+        this.placeholderValues = placeholderValues;
+        return this;
+    }
+    
+    @ApiModelProperty(value = "Sample values of the template placeholders, keyed by the placeholder name without the enclosing braces. E.g. user-name, user.claim.givenname")
+    @JsonProperty("placeholderValues")
+    @Valid
+
+    public Map<String, String> getPlaceholderValues() {
+        return placeholderValues;
+    }
+    public void setPlaceholderValues(Map<String, String> placeholderValues) {
+        this.placeholderValues = placeholderValues;
+    }
+
+    public EmailTemplatePreviewRequest putPlaceholderValuesItem(String key, String placeholderValuesItem) {
+        if (this.placeholderValues == null) {
+            this.placeholderValues = new HashMap<>();
+        }
+        this.placeholderValues.put(key, placeholderValuesItem);
+        return this;
+    }
+
+    
+
+    @Override
+    public boolean equals(java.lang.Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        EmailTemplatePreviewRequest emailTemplatePreviewRequest = (EmailTemplatePreviewRequest) o;
+        return Objects.equals(this.placeholderValues, emailTemplatePreviewRequest.placeholderValues);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(placeholderValues);
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("class EmailTemplatePreviewRequest {\n");
+        
+        sb.append("    placeholderValues: ").append(toIndentedString(placeholderValues)).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+    * Convert the given object to string with each line indented by 4 spaces
+    * (except the first line).
+    */
+    private String toIndentedString(java.lang.Object o) {
+
+        if (o == null) {
+            return "null";
+        }
+        return o.toString().replace("\n", "\n");
+    }
+}
\ No newline at end of file
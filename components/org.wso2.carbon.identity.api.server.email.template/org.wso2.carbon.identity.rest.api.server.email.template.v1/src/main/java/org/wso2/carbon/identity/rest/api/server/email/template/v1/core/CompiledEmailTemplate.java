@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rest.api.server.email.template.v1.core;
+
+import org.wso2.carbon.email.mgt.model.EmailTemplate;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Email template compiled into literal and placeholder segments, so that it can be rendered repeatedly without
+ * scanning the template content for placeholders.
+ */
+public class CompiledEmailTemplate implements Serializable {
+
+    private static final long serialVersionUID = -2870614839427167325L;
+
+    private final String locale;
+    private final String contentType;
+    private final CompiledText subject;
+    private final CompiledText body;
+    private final CompiledText footer;
+
+    private CompiledEmailTemplate(EmailTemplate emailTemplate) {
+
+        this.locale = emailTemplate.getLocale();
+        this.contentType = emailTemplate.getEmailContentType();
+        this.subject = CompiledText.compile(emailTemplate.getSubject());
+        this.body = CompiledText.compile(emailTemplate.getBody());
+        this.footer = CompiledText.compile(emailTemplate.getFooter());
+    }
+
+    /**
+     * Compile the given email template.
+     *
+     * @param emailTemplate Email template to be compiled.
+     * @return CompiledEmailTemplate.
+     */
+    public static CompiledEmailTemplate compile(EmailTemplate emailTemplate) {
+
+        return new CompiledEmailTemplate(emailTemplate);
+    }
+
+    public String getLocale() {
+
+        return locale;
+    }
+
+    public String getContentType() {
+
+        return contentType;
+    }
+
+    /**
+     * Render the subject with the given placeholder values.
+     *
+     * @param placeholderValues      Values of the placeholders.
+     * @param unresolvedPlaceholders Set to collect the placeholders without a value.
+     * @return Rendered subject or null if the template has no subject.
+     */
+    public String renderSubject(Map<String, String> placeholderValues, Set<String> unresolvedPlaceholders) {
+
+        return subject == null ? null : subject.render(placeholderValues, unresolvedPlaceholders);
+    }
+
+    /**
+     * Render the body with the given placeholder values.
+     *
+     * @param placeholderValues      Values of the placeholders.
+     * @param unresolvedPlaceholders Set to collect the placeholders without a value.
+     * @return Rendered body or null if the template has no body.
+     */
+    public String renderBody(Map<String, String> placeholderValues, Set<String> unresolvedPlaceholders) {
+
+        return body == null ? null : body.render(placeholderValues, unresolvedPlaceholders);
+    }
+
+    /**
+     * Render the footer with the given placeholder values.
+     *
+     * @param placeholderValues      Values of the placeholders.
+     * @param unresolvedPlaceholders Set to collect the placeholders without a value.
+     * @return Rendered footer or null if the template has no footer.
+     */
+    public String renderFooter(Map<String, String> placeholderValues, Set<String> unresolvedPlaceholders) {
+
+        return footer == null ? null : footer.render(placeholderValues, unresolvedPlaceholders);
+    }
+
+    /**
+     * Text of a template part split into segments. Even segments are literals and odd segments are placeholder
+     * names, hence a text always starts and ends with a literal, which may be empty.
+     */
+    private static class CompiledText implements Serializable {
+
+        private static final long serialVersionUID = 4517983064530270911L;
+        private static final String PLACEHOLDER_PREFIX = "{{";
+        private static final String PLACEHOLDER_SUFFIX = "}}";
+
+        private final String[] segments;
+        private final int literalLength;
+
+        private CompiledText(String[] segments, int literalLength) {
+
+            this.segments = segments;
+            this.literalLength = literalLength;
+        }
+
+        static CompiledText compile(String text) {
+
+            if (text == null) {
+                return null;
+            }
+            List<String> segments = new ArrayList<>();
+            int literalLength = 0;
+            int literalStart = 0;
+            int placeholderStart = text.indexOf(PLACEHOLDER_PREFIX);
+            while (placeholderStart >= 0) {
+                int placeholderEnd = text.indexOf(PLACEHOLDER_SUFFIX, placeholderStart + PLACEHOLDER_PREFIX.length());
+                if (placeholderEnd < 0) {
+                    break;
+                }
+                String literal = text.substring(literalStart, placeholderStart);
+                segments.add(literal);
+                segments.add(text.substring(placeholderStart + PLACEHOLDER_PREFIX.length(), placeholderEnd).trim());
+                literalLength += literal.length();
+                literalStart = placeholderEnd + PLACEHOLDER_SUFFIX.length();
+                placeholderStart = text.indexOf(PLACEHOLDER_PREFIX, literalStart);
+            }
+            String literal = text.substring(literalStart);
+            segments.add(literal);
+            literalLength += literal.length();
+            return new CompiledText(segments.toArray(new String[0]), literalLength);
+        }
+
+        String render(Map<String, String> placeholderValues, Set<String> unresolvedPlaceholders) {
+
+            if (segments.length == 1) {
+                return segments[0];
+            }
+            StringBuilder rendered = new StringBuilder(literalLength + 16 * (segments.length / 2));
+            for (int i = 0; i < segments.length; i++) {
+                if (i % 2 == 0) {
+                    rendered.append(segments[i]);
+                    continue;
+                }
+                String value = placeholderValues.get(segments[i]);
+                if (value == null) {
+                    // Keep the placeholder as it is, so that it is visible in the preview.
+                    unresolvedPlaceholders.add(segments[i]);
+                    rendered.append(PLACEHOLDER_PREFIX).append(segments[i]).append(PLACEHOLDER_SUFFIX);
+                } else {
+                    rendered.append(value);
+                }
+            }
+            return rendered.toString();
+        }
+    }
+}
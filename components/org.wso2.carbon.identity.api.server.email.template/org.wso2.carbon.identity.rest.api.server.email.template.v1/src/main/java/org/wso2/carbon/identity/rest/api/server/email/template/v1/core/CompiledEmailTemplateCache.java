@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rest.api.server.email.template.v1.core;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+
+/**
+ * Cache holding the compiled email templates used to render previews, keyed by the tenant domain, the locale and the
+ * normalized template type name.
+ */
+public class CompiledEmailTemplateCache extends BaseCache<String, CompiledEmailTemplate> {
+
+    private static final String COMPILED_EMAIL_TEMPLATE_CACHE_NAME = "APIServerCompiledEmailTemplateCache";
+    private static final String KEY_SEPARATOR = "|";
+    private static final CompiledEmailTemplateCache instance = new CompiledEmailTemplateCache();
+
+    private CompiledEmailTemplateCache() {
+
+        super(COMPILED_EMAIL_TEMPLATE_CACHE_NAME);
+    }
+
+    public static CompiledEmailTemplateCache getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Build the cache key of an email template. The template type is placed last, as it is the only part which may
+     * contain the separator.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param locale       Locale of the email template.
+     * @param templateType Normalized name of the email template type.
+     * @return Cache key.
+     */
+    public static String buildKey(String tenantDomain, String locale, String templateType) {
+
+        return tenantDomain + KEY_SEPARATOR + locale + KEY_SEPARATOR + templateType;
+    }
+}
@@ -18,7 +18,10 @@
 
 package org.wso2.carbon.identity.rest.api.server.email.template.v1.core;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.lang.LocaleUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -33,17 +36,35 @@ import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.api.server.email.template.common.Constants;
 import org.wso2.carbon.identity.api.server.email.template.common.EmailTemplatesServiceHolder;
+import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTemplateImportResult;
+import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTemplateImportSummary;
+import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTemplatePreview;
+import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTemplatePreviewRequest;
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTemplateType;
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTemplateTypeWithID;
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTemplateTypeWithoutTemplates;
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTemplateWithID;
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.SimpleEmailTemplate;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 import javax.ws.rs.core.Response;
 
 import static org.wso2.carbon.identity.api.server.common.Constants.V1_API_PATH_COMPONENT;
@@ -52,6 +73,11 @@ import static org.wso2.carbon.identity.api.server.common.Util.base64URLDecode;
 import static org.wso2.carbon.identity.api.server.common.Util.base64URLEncode;
 import static org.wso2.carbon.identity.api.server.email.template.common.Constants.EMAIL_TEMPLATES_API_BASE_PATH;
 import static org.wso2.carbon.identity.api.server.email.template.common.Constants.EMAIL_TEMPLATES_PATH;
+import static org.wso2.carbon.identity.api.server.email.template.common.Constants.EMAIL_TEMPLATE_IMPORT_ARCHIVE_EXTENSION;
+import static org.wso2.carbon.identity.api.server.email.template.common.Constants.EMAIL_TEMPLATE_IMPORT_FILE_EXTENSION;
+import static org.wso2.carbon.identity.api.server.email.template.common.Constants.EMAIL_TEMPLATE_IMPORT_MAX_FILES;
+import static org.wso2.carbon.identity.api.server.email.template.common.Constants.EMAIL_TEMPLATE_IMPORT_MAX_SIZE;
+import static org.wso2.carbon.identity.api.server.email.template.common.Constants.EMAIL_TEMPLATE_IMPORT_MAX_SIZE_IN_MB;
 import static org.wso2.carbon.identity.api.server.email.template.common.Constants.EMAIL_TEMPLATE_TYPES_PATH;
 import static org.wso2.carbon.identity.api.server.email.template.common.Constants.PATH_SEPARATOR;
 
@@ -63,14 +89,16 @@ import static org.wso2.carbon.identity.api.server.email.template.common.Constant
 public class ServerEmailTemplatesService {
 
     private static final Log log = LogFactory.getLog(ServerEmailTemplatesService.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
     /**
-     * Return all email template types in the system with limited information of the templates inside.
+     * Return all email template types in the system with limited information of the templates inside. Templates are
+     * only read for the email template types of the requested page.
      *
-     * @param limit     Limit the number of email template types in the response. **Not supported at the moment**
-     * @param offset    Offset to be used with the limit parameter. **Not supported at the moment**
-     * @param sortOrder Sort the response in ascending order or descending order. **Not supported at the moment**
-     * @param sortBy    Element to sort the responses. **Not supported at the moment**
+     * @param limit     Limit the number of email template types in the response.
+     * @param offset    Offset to be used with the limit parameter.
+     * @param sortOrder Sort the response in ascending order or descending order.
+     * @param sortBy    Element to sort the responses. Only the displayName is supported.
      * @param requiredAttributes Required attributes in the email template types list response.
      * @return A list of email template types.
      */
@@ -78,29 +106,41 @@ public class ServerEmailTemplatesService {
                                                                             String sortOrder, String sortBy,
                                                                             String requiredAttributes) {
 
-        handleNoteSupportedParameters(limit, offset, sortOrder, sortBy);
+        Set<String> requestedAttributes = null;
+        if (StringUtils.isNotBlank(requiredAttributes)) {
+            requestedAttributes = new HashSet<>(Arrays.asList(requiredAttributes.split(",")));
+            List<String> supportedAttributes =
+                    Arrays.asList(Constants.TEMPLATES, Constants.LOCALE, Constants.CONTENT_TYPE, Constants.SUBJECT,
+                            Constants.BODY, Constants.FOOTER);
+            for (String requestedAttribute : requestedAttributes) {
+                if (!supportedAttributes.contains(requestedAttribute)) {
+                    throw handleError(Constants.ErrorMessage.ERROR_ATTRIBUTE_NOT_SUPPORTED);
+                }
+            }
+        }
+        Comparator<String> templateTypeComparator = buildTemplateTypeComparator(sortOrder, sortBy);
 
         try {
-            List<String> requestedAttributeList = null;
-            List<EmailTemplate> allTemplates = null;
             List<String> availableTemplateTypes = EmailTemplatesServiceHolder.getEmailTemplateManager()
                     .getAvailableTemplateTypes(getTenantDomainFromContext());
-            if (StringUtils.isNotBlank(requiredAttributes)) {
-                requestedAttributeList = new ArrayList<>(Arrays.asList(requiredAttributes.split(",")));
-                List<String> supportedAttributes =
-                        Arrays.asList(Constants.TEMPLATES, Constants.LOCALE, Constants.CONTENT_TYPE, Constants.SUBJECT,
-                                Constants.BODY, Constants.FOOTER);
-                for (String requestedAttribute : requestedAttributeList) {
-                    if (!supportedAttributes.contains(requestedAttribute)) {
-                        throw handleError(Constants.ErrorMessage.ERROR_ATTRIBUTE_NOT_SUPPORTED);
-                    }
-                }
-                allTemplates = EmailTemplatesServiceHolder.getEmailTemplateManager()
-                        .getAllEmailTemplates(getTenantDomainFromContext());
+            Stream<String> templateTypes = availableTemplateTypes.stream();
+            if (templateTypeComparator != null) {
+                templateTypes = templateTypes.sorted(templateTypeComparator);
+            }
+            if (offset != null) {
+                templateTypes = templateTypes.skip(offset);
+            }
+            if (limit != null) {
+                templateTypes = templateTypes.limit(limit);
             }
+            List<String> pagedTemplateTypes = templateTypes.collect(Collectors.toList());
 
-            return buildEmailTemplateTypeWithoutTemplatesList(availableTemplateTypes, allTemplates,
-                    requestedAttributeList);
+            List<EmailTemplate> templates = null;
+            if (requestedAttributes != null) {
+                templates = getEmailTemplatesOfTemplateTypes(pagedTemplateTypes,
+                        availableTemplateTypes.size());
+            }
+            return buildEmailTemplateTypeWithoutTemplatesList(pagedTemplateTypes, templates, requestedAttributes);
         } catch (I18nEmailMgtException e) {
             throw handleI18nEmailMgtException(e, Constants.ErrorMessage.ERROR_RETRIEVING_EMAIL_TEMPLATE_TYPES);
         }
@@ -197,6 +237,38 @@ public class ServerEmailTemplatesService {
         }
     }
 
+    /**
+     * Render the email template identified by the template-type-id and the template-id with the given sample
+     * placeholder values. Templates are compiled once and served from the {@link CompiledEmailTemplateCache} until
+     * they are updated or deleted.
+     *
+     * @param templateTypeId Email template type id.
+     * @param templateId     Email template id.
+     * @param previewRequest Sample placeholder values.
+     * @return Rendered email template, 404 if not found.
+     */
+    public EmailTemplatePreview previewEmailTemplate(String templateTypeId, String templateId,
+                                                     EmailTemplatePreviewRequest previewRequest) {
+
+        String templateTypeDisplayName = decodeTemplateTypeId(templateTypeId);
+        CompiledEmailTemplate compiledEmailTemplate = getCompiledEmailTemplate(templateTypeDisplayName, templateId);
+
+        Map<String, String> placeholderValues = Collections.emptyMap();
+        if (previewRequest != null && previewRequest.getPlaceholderValues() != null) {
+            placeholderValues = previewRequest.getPlaceholderValues();
+        }
+        Set<String> unresolvedPlaceholders = new LinkedHashSet<>();
+        EmailTemplatePreview emailTemplatePreview = new EmailTemplatePreview();
+        emailTemplatePreview.setId(compiledEmailTemplate.getLocale());
+        emailTemplatePreview.setContentType(compiledEmailTemplate.getContentType());
+        emailTemplatePreview.setSubject(compiledEmailTemplate.renderSubject(placeholderValues,
+                unresolvedPlaceholders));
+        emailTemplatePreview.setBody(compiledEmailTemplate.renderBody(placeholderValues, unresolvedPlaceholders));
+        emailTemplatePreview.setFooter(compiledEmailTemplate.renderFooter(placeholderValues, unresolvedPlaceholders));
+        emailTemplatePreview.setUnresolvedPlaceholders(new ArrayList<>(unresolvedPlaceholders));
+        return emailTemplatePreview;
+    }
+
     /**
      * Adds a new email template type to the system. Another template with the same display name should not exists in
      * the system. 0 or more email templates can be provided.
@@ -263,6 +335,66 @@ public class ServerEmailTemplatesService {
         }
     }
 
+    /**
+     * Import the email templates of a template type from a zip archive of {@code <locale>.json} files. The files are
+     * validated in parallel and the valid email templates are then saved to the system, one locale at a time, so
+     * that a failure of one locale does not fail the rest of the import.
+     *
+     * @param templateTypeId  Email template type id.
+     * @param fileInputStream Zip archive of the email templates.
+     * @param fileName        Name of the uploaded file, if provided by the client.
+     * @param overwrite       Whether to replace the existing email templates of the same locales.
+     * @return Result of importing each email template, 404 if the template type is not found.
+     */
+    public EmailTemplateImportSummary importEmailTemplates(String templateTypeId, InputStream fileInputStream,
+                                                           String fileName, Boolean overwrite) {
+
+        if (StringUtils.isNotBlank(fileName) &&
+                !StringUtils.endsWithIgnoreCase(fileName, EMAIL_TEMPLATE_IMPORT_ARCHIVE_EXTENSION)) {
+            throw handleInvalidImportFileError();
+        }
+        String templateTypeDisplayName = decodeTemplateTypeId(templateTypeId);
+        String tenantDomain = getTenantDomainFromContext();
+        try {
+            boolean isTemplateTypeExists = EmailTemplatesServiceHolder.getEmailTemplateManager()
+                    .isEmailTemplateTypeExists(templateTypeDisplayName, tenantDomain);
+            if (!isTemplateTypeExists) {
+                throw handleError(Constants.ErrorMessage.ERROR_EMAIL_TEMPLATE_TYPE_NOT_FOUND);
+            }
+            Set<String> existingLocales = EmailTemplatesServiceHolder.getEmailTemplateManager()
+                    .getEmailTemplateType(templateTypeDisplayName, tenantDomain).stream()
+                    .map(EmailTemplate::getLocale)
+                    .collect(Collectors.toSet());
+
+            List<ValidatedEmailTemplate> validatedEmailTemplates = readEmailTemplateImportFile(fileInputStream)
+                    .parallelStream()
+                    .map(ServerEmailTemplatesService::validateEmailTemplateImportEntry)
+                    .collect(Collectors.toList());
+
+            EmailTemplateImportSummary summary = new EmailTemplateImportSummary()
+                    .total(validatedEmailTemplates.size()).created(0).updated(0).failed(0);
+            Set<String> importedLocales = new HashSet<>();
+            for (ValidatedEmailTemplate validatedEmailTemplate : validatedEmailTemplates) {
+                EmailTemplateImportResult result = importEmailTemplate(templateTypeId, templateTypeDisplayName,
+                        validatedEmailTemplate, existingLocales, importedLocales, Boolean.TRUE.equals(overwrite));
+                switch (result.getStatus()) {
+                    case CREATED:
+                        summary.setCreated(summary.getCreated() + 1);
+                        break;
+                    case UPDATED:
+                        summary.setUpdated(summary.getUpdated() + 1);
+                        break;
+                    default:
+                        summary.setFailed(summary.getFailed() + 1);
+                }
+                summary.addResultsItem(result);
+            }
+            return summary;
+        } catch (I18nEmailMgtException e) {
+            throw handleI18nEmailMgtException(e, Constants.ErrorMessage.ERROR_IMPORTING_EMAIL_TEMPLATES);
+        }
+    }
+
     /**
      * Delete the email template type from the system.
      *
@@ -282,8 +414,13 @@ public class ServerEmailTemplatesService {
                     EmailTemplatesServiceHolder.getEmailTemplateManager().isEmailTemplateTypeExists(
                             templateTypeDisplayName, getTenantDomainFromContext());
             if (isTemplateTypeExists) {
+                List<EmailTemplate> emailTemplates = EmailTemplatesServiceHolder.getEmailTemplateManager()
+                        .getEmailTemplateType(templateTypeDisplayName, getTenantDomainFromContext());
                 EmailTemplatesServiceHolder.getEmailTemplateManager().deleteEmailTemplateType(templateTypeDisplayName,
                         getTenantDomainFromContext());
+                for (EmailTemplate emailTemplate : emailTemplates) {
+                    clearCompiledEmailTemplate(templateTypeDisplayName, emailTemplate.getLocale());
+                }
             }
         } catch (I18nEmailMgtException e) {
             throw handleI18nEmailMgtException(e, Constants.ErrorMessage.ERROR_DELETING_EMAIL_TEMPLATE_TYPE);
@@ -311,6 +448,7 @@ public class ServerEmailTemplatesService {
             if (isTemplateExists) {
                 EmailTemplatesServiceHolder.getEmailTemplateManager().deleteEmailTemplate(templateTypeDisplayName,
                         templateId, getTenantDomainFromContext());
+                clearCompiledEmailTemplate(templateTypeDisplayName, templateId);
             }
         } catch (I18nEmailMgtException e) {
             throw handleI18nEmailMgtException(e, Constants.ErrorMessage.ERROR_DELETING_EMAIL_TEMPLATE);
@@ -374,6 +512,66 @@ public class ServerEmailTemplatesService {
         }
     }
 
+    /**
+     * Retrieve the email templates of the given email template types. The templates of the tenant are read at once
+     * only when the page covers every template type, otherwise only the templates of the types of the page are read,
+     * one template type at a time.
+     *
+     * @param templateTypes          Display names of the email template types.
+     * @param availableTemplateCount Number of email template types available in the tenant.
+     * @return List of email templates.
+     * @throws I18nEmailMgtException If an error occurred while retrieving the templates.
+     */
+    private List<EmailTemplate> getEmailTemplatesOfTemplateTypes(List<String> templateTypes,
+                                                                 int availableTemplateCount)
+            throws I18nEmailMgtException {
+
+        if (templateTypes.isEmpty()) {
+            return new ArrayList<>();
+        }
+        String tenantDomain = getTenantDomainFromContext();
+        if (templateTypes.size() == availableTemplateCount) {
+            return EmailTemplatesServiceHolder.getEmailTemplateManager().getAllEmailTemplates(tenantDomain);
+        }
+        List<EmailTemplate> templates = new ArrayList<>();
+        for (String templateType : templateTypes) {
+            try {
+                templates.addAll(EmailTemplatesServiceHolder.getEmailTemplateManager()
+                        .getEmailTemplateType(templateType, tenantDomain));
+            } catch (I18nEmailMgtException e) {
+                // The template type could have been deleted after the available template types were listed.
+                if (!StringUtils.equals(I18nMgtConstants.ErrorCodes.EMAIL_TEMPLATE_TYPE_NOT_FOUND, e.getErrorCode())) {
+                    throw e;
+                }
+            }
+        }
+        return templates;
+    }
+
+    /**
+     * Build the comparator to sort the email template types by their display names.
+     *
+     * @param sortOrder Sort order, asc or desc. Defaults to asc.
+     * @param sortBy    Sort attribute. Only the displayName is supported.
+     * @return Comparator of the template type display names or null if sorting is not requested.
+     */
+    private Comparator<String> buildTemplateTypeComparator(String sortOrder, String sortBy) {
+
+        if (StringUtils.isBlank(sortOrder) && StringUtils.isBlank(sortBy)) {
+            return null;
+        }
+        if (StringUtils.isNotBlank(sortBy) && !Constants.DISPLAY_NAME.equals(sortBy)) {
+            throw handleError(Constants.ErrorMessage.ERROR_SORT_ATTRIBUTE_NOT_SUPPORTED);
+        }
+        if (StringUtils.isBlank(sortOrder) || Constants.SORT_ORDER_ASCENDING.equalsIgnoreCase(sortOrder)) {
+            return String.CASE_INSENSITIVE_ORDER;
+        }
+        if (Constants.SORT_ORDER_DESCENDING.equalsIgnoreCase(sortOrder)) {
+            return String.CASE_INSENSITIVE_ORDER.reversed();
+        }
+        throw handleError(Constants.ErrorMessage.ERROR_SORT_ORDER_NOT_SUPPORTED);
+    }
+
     private void addEmailTemplateToTheSystem(String templateTypeDisplayName, EmailTemplateWithID emailTemplateWithID)
             throws I18nEmailMgtException {
 
@@ -388,6 +586,176 @@ public class ServerEmailTemplatesService {
 
         EmailTemplatesServiceHolder.getEmailTemplateManager().addEmailTemplate(internalEmailTemplate,
                 getTenantDomainFromContext());
+        // The template could have been replaced, hence the compiled template is cleared.
+        clearCompiledEmailTemplate(templateTypeDisplayName, emailTemplateWithID.getId());
+    }
+
+    private EmailTemplateImportResult importEmailTemplate(String templateTypeId, String templateTypeDisplayName,
+                                                          ValidatedEmailTemplate validatedEmailTemplate,
+                                                          Set<String> existingLocales, Set<String> importedLocales,
+                                                          boolean overwrite) {
+
+        String locale = validatedEmailTemplate.locale;
+        EmailTemplateImportResult result = new EmailTemplateImportResult().id(locale);
+        if (validatedEmailTemplate.error != null) {
+            return result.status(EmailTemplateImportResult.StatusEnum.FAILED).error(validatedEmailTemplate.error);
+        }
+        if (!importedLocales.add(locale)) {
+            return result.status(EmailTemplateImportResult.StatusEnum.FAILED)
+                    .error("Duplicate email template for the locale: " + locale + ".");
+        }
+        boolean isTemplateExists = existingLocales.contains(locale);
+        if (isTemplateExists && !overwrite) {
+            return result.status(EmailTemplateImportResult.StatusEnum.FAILED)
+                    .error(Constants.ErrorMessage.ERROR_EMAIL_TEMPLATE_ALREADY_EXISTS.getDescription());
+        }
+        try {
+            addEmailTemplateToTheSystem(templateTypeDisplayName, validatedEmailTemplate.emailTemplate);
+        } catch (I18nEmailMgtException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Error while importing the email template: " + locale + " of the template type: " +
+                        templateTypeDisplayName, e);
+            }
+            return result.status(EmailTemplateImportResult.StatusEnum.FAILED).error(e.getMessage());
+        }
+        return result.status(isTemplateExists ? EmailTemplateImportResult.StatusEnum.UPDATED :
+                EmailTemplateImportResult.StatusEnum.CREATED).self(getTemplateLocation(templateTypeId, locale));
+    }
+
+    /**
+     * Read the entries of the uploaded zip archive. Directories and hidden files, e.g. the metadata added by archive
+     * tools, are skipped.
+     *
+     * @param fileInputStream Zip archive of the email templates.
+     * @return File name and content of each entry.
+     */
+    private List<Map.Entry<String, byte[]>> readEmailTemplateImportFile(InputStream fileInputStream) {
+
+        if (fileInputStream == null) {
+            throw handleInvalidImportFileError();
+        }
+        List<Map.Entry<String, byte[]>> importEntries = new ArrayList<>();
+        long remainingSize = EMAIL_TEMPLATE_IMPORT_MAX_SIZE;
+        byte[] buffer = new byte[8192];
+        try (ZipInputStream zipInputStream = new ZipInputStream(fileInputStream, StandardCharsets.UTF_8)) {
+            ZipEntry zipEntry;
+            while ((zipEntry = zipInputStream.getNextEntry()) != null) {
+                String fileName = zipEntry.getName().substring(zipEntry.getName().lastIndexOf('/') + 1);
+                if (zipEntry.isDirectory() || fileName.isEmpty() || fileName.startsWith(".")) {
+                    continue;
+                }
+                if (importEntries.size() == EMAIL_TEMPLATE_IMPORT_MAX_FILES) {
+                    throw handleInvalidImportFileError();
+                }
+                // Entry sizes in the zip headers cannot be trusted, hence the content is counted while reading.
+                ByteArrayOutputStream content = new ByteArrayOutputStream();
+                int read;
+                while ((read = zipInputStream.read(buffer)) != -1) {
+                    remainingSize -= read;
+                    if (remainingSize < 0) {
+                        throw handleInvalidImportFileError();
+                    }
+                    content.write(buffer, 0, read);
+                }
+                importEntries.add(new AbstractMap.SimpleImmutableEntry<>(fileName, content.toByteArray()));
+            }
+        } catch (IOException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Error while reading the email template import file.", e);
+            }
+            throw handleInvalidImportFileError();
+        }
+        if (importEntries.isEmpty()) {
+            throw handleInvalidImportFileError();
+        }
+        return importEntries;
+    }
+
+    /**
+     * Validate the locale and the content of an imported email template file. Invoked in parallel, hence this should
+     * not depend on the carbon context of the request.
+     *
+     * @param importEntry File name and content of the email template file.
+     * @return Validated email template, or the reason for it to be invalid.
+     */
+    private static ValidatedEmailTemplate validateEmailTemplateImportEntry(Map.Entry<String, byte[]> importEntry) {
+
+        String fileName = importEntry.getKey();
+        if (!fileName.endsWith(EMAIL_TEMPLATE_IMPORT_FILE_EXTENSION)) {
+            return ValidatedEmailTemplate.invalid(fileName, "Unsupported file: " + fileName + ". Email templates " +
+                    "should be provided as '<locale>" + EMAIL_TEMPLATE_IMPORT_FILE_EXTENSION + "' files.");
+        }
+        String locale = fileName.substring(0, fileName.length() - EMAIL_TEMPLATE_IMPORT_FILE_EXTENSION.length());
+        try {
+            if (!LocaleUtils.isAvailableLocale(LocaleUtils.toLocale(locale))) {
+                return ValidatedEmailTemplate.invalid(locale, "Unsupported locale: " + locale + ".");
+            }
+        } catch (IllegalArgumentException e) {
+            return ValidatedEmailTemplate.invalid(locale, "Invalid locale: " + locale + ".");
+        }
+
+        EmailTemplateWithID emailTemplate;
+        try {
+            emailTemplate = OBJECT_MAPPER.readValue(importEntry.getValue(), EmailTemplateWithID.class);
+        } catch (JsonProcessingException e) {
+            return ValidatedEmailTemplate.invalid(locale, "Invalid email template content: " + e.getOriginalMessage());
+        } catch (IOException e) {
+            return ValidatedEmailTemplate.invalid(locale, "Unable to read the email template content.");
+        }
+        if (emailTemplate == null) {
+            return ValidatedEmailTemplate.invalid(locale, "Email template content is empty.");
+        }
+        if (emailTemplate.getId() != null && !locale.equals(emailTemplate.getId())) {
+            return ValidatedEmailTemplate.invalid(locale, "Email template id: " + emailTemplate.getId() +
+                    " does not match the locale of the file.");
+        }
+        emailTemplate.setId(locale);
+        if (StringUtils.isBlank(emailTemplate.getContentType()) || emailTemplate.getSubject() == null ||
+                emailTemplate.getBody() == null || emailTemplate.getFooter() == null) {
+            return ValidatedEmailTemplate.invalid(locale, "Email template should contain the 'contentType', " +
+                    "'subject', 'body' and 'footer' properties.");
+        }
+        return new ValidatedEmailTemplate(locale, emailTemplate, null);
+    }
+
+    /**
+     * Return the compiled email template from the cache, or compile and cache the stored template on a miss.
+     *
+     * @param templateTypeDisplayName Display name of the email template type.
+     * @param templateId              Email template id.
+     * @return Compiled email template, 404 if not found.
+     */
+    private CompiledEmailTemplate getCompiledEmailTemplate(String templateTypeDisplayName, String templateId) {
+
+        String tenantDomain = getTenantDomainFromContext();
+        String cacheKey = CompiledEmailTemplateCache.buildKey(tenantDomain, templateId,
+                I18nEmailUtil.getNormalizedName(templateTypeDisplayName));
+        CompiledEmailTemplateCache compiledEmailTemplateCache = CompiledEmailTemplateCache.getInstance();
+        CompiledEmailTemplate compiledEmailTemplate = compiledEmailTemplateCache.getValueFromCache(cacheKey);
+        if (compiledEmailTemplate != null) {
+            return compiledEmailTemplate;
+        }
+
+        try {
+            EmailTemplate internalEmailTemplate = EmailTemplatesServiceHolder.getEmailTemplateManager().
+                    getEmailTemplate(templateTypeDisplayName, templateId, tenantDomain);
+            // EmailTemplateManager sends the default template if no matching template found. We need to check for
+            // the locale specifically.
+            if (!internalEmailTemplate.getLocale().equals(templateId)) {
+                throw handleError(Constants.ErrorMessage.ERROR_EMAIL_TEMPLATE_NOT_FOUND);
+            }
+            compiledEmailTemplate = CompiledEmailTemplate.compile(internalEmailTemplate);
+            compiledEmailTemplateCache.addToCache(cacheKey, compiledEmailTemplate);
+            return compiledEmailTemplate;
+        } catch (I18nEmailMgtException e) {
+            throw handleI18nEmailMgtException(e, Constants.ErrorMessage.ERROR_RETRIEVING_EMAIL_TEMPLATE);
+        }
+    }
+
+    private void clearCompiledEmailTemplate(String templateTypeDisplayName, String templateId) {
+
+        CompiledEmailTemplateCache.getInstance().clearCacheEntry(CompiledEmailTemplateCache.buildKey(
+                getTenantDomainFromContext(), templateId, I18nEmailUtil.getNormalizedName(templateTypeDisplayName)));
     }
 
     /**
@@ -412,18 +780,19 @@ public class ServerEmailTemplatesService {
     }
 
     /**
-     * Create a list EmailTemplateTypeWithoutTemplates objects by reading an internal EmailTemplate list.
+     * Create a list EmailTemplateTypeWithoutTemplates objects by reading an internal EmailTemplate list. The
+     * templates are grouped into their template types in a single pass.
      *
-     * @param emailTemplateTypes List of available email template types.
+     * @param emailTemplateTypes List of email template types, in the order of the response.
      * @param internalEmailTemplates List of EmailTemplate objects.
-     * @param requestedAttributeList List of required attributes.
+     * @param requestedAttributes Set of required attributes.
      * @return List of EmailTemplateTypeWithoutTemplates objects.
      */
     private List<EmailTemplateTypeWithoutTemplates> buildEmailTemplateTypeWithoutTemplatesList(
             List<String> emailTemplateTypes, List<EmailTemplate> internalEmailTemplates,
-            List<String> requestedAttributeList) {
+            Set<String> requestedAttributes) {
 
-        Map<String, EmailTemplateTypeWithoutTemplates> templateTypeMap = new HashMap<>();
+        Map<String, EmailTemplateTypeWithoutTemplates> templateTypeMap = new LinkedHashMap<>();
         for (String templateType : emailTemplateTypes) {
 
             EmailTemplateTypeWithoutTemplates emailTemplateType = new EmailTemplateTypeWithoutTemplates();
@@ -435,52 +804,47 @@ public class ServerEmailTemplatesService {
             // Set location.
             emailTemplateType.setSelf(getTemplateTypeLocation(templateTypeId));
 
-            if (requestedAttributeList != null) {
+            if (requestedAttributes != null) {
                 emailTemplateType.setTemplates(new ArrayList<>());
             }
             templateTypeMap.put(templateType, emailTemplateType);
         }
 
         // Populate optional email template information if exists.
-        if (requestedAttributeList != null) {
+        if (requestedAttributes != null && internalEmailTemplates != null) {
+            boolean includeAll = requestedAttributes.contains(Constants.TEMPLATES);
+            boolean includeLocale = includeAll || requestedAttributes.contains(Constants.LOCALE);
+            boolean includeContentType = includeAll || requestedAttributes.contains(Constants.CONTENT_TYPE);
+            boolean includeSubject = includeAll || requestedAttributes.contains(Constants.SUBJECT);
+            boolean includeBody = includeAll || requestedAttributes.contains(Constants.BODY);
+            boolean includeFooter = includeAll || requestedAttributes.contains(Constants.FOOTER);
             for (EmailTemplate emailTemplate : internalEmailTemplates) {
-                EmailTemplateWithID templateWithID = new EmailTemplateWithID();
-                for (String requestedAttribute : requestedAttributeList) {
-                    switch (requestedAttribute) {
-                        case Constants.TEMPLATES:
-                            templateWithID.setContentType(emailTemplate.getEmailContentType());
-                            templateWithID.setSubject(emailTemplate.getSubject());
-                            templateWithID.setBody(emailTemplate.getBody());
-                            templateWithID.setFooter(emailTemplate.getFooter());
-                            templateWithID.setId(emailTemplate.getLocale());
-                            break;
-                        case Constants.LOCALE:
-                            templateWithID.setId(emailTemplate.getLocale());
-                            break;
-                        case Constants.CONTENT_TYPE:
-                            templateWithID.setContentType(emailTemplate.getEmailContentType());
-                            break;
-                        case Constants.SUBJECT:
-                            templateWithID.setSubject(emailTemplate.getSubject());
-                            break;
-                        case Constants.BODY:
-                            templateWithID.setBody(emailTemplate.getBody());
-                            break;
-                        case Constants.FOOTER:
-                            templateWithID.setFooter(emailTemplate.getFooter());
-                            break;
-                        default:
-                            if (log.isDebugEnabled()) {
-                                log.debug("Unknown requested attribute: " + requestedAttribute);
-                            }
-                            break;
-                    }
-                }
                 /*
                   Email template's display name is used to search templateTypeMap key because
                   Template's display name and Template type's display name are equal.
                  */
-                templateTypeMap.get(emailTemplate.getTemplateDisplayName()).getTemplates().add(templateWithID);
+                EmailTemplateTypeWithoutTemplates emailTemplateType =
+                        templateTypeMap.get(emailTemplate.getTemplateDisplayName());
+                if (emailTemplateType == null) {
+                    continue;
+                }
+                EmailTemplateWithID templateWithID = new EmailTemplateWithID();
+                if (includeLocale) {
+                    templateWithID.setId(emailTemplate.getLocale());
+                }
+                if (includeContentType) {
+                    templateWithID.setContentType(emailTemplate.getEmailContentType());
+                }
+                if (includeSubject) {
+                    templateWithID.setSubject(emailTemplate.getSubject());
+                }
+                if (includeBody) {
+                    templateWithID.setBody(emailTemplate.getBody());
+                }
+                if (includeFooter) {
+                    templateWithID.setFooter(emailTemplate.getFooter());
+                }
+                emailTemplateType.getTemplates().add(templateWithID);
             }
         }
 
@@ -610,9 +974,44 @@ public class ServerEmailTemplatesService {
         return new APIError(error.getHttpStatus(), getErrorBuilder(error).build());
     }
 
+    /**
+     * Build the error of an invalid email template import file, describing the configured import limits.
+     *
+     * @return API Error object.
+     */
+    private APIError handleInvalidImportFileError() {
+
+        Constants.ErrorMessage error = Constants.ErrorMessage.ERROR_INVALID_EMAIL_TEMPLATE_IMPORT_FILE;
+        return new APIError(error.getHttpStatus(), getErrorBuilder(error).withDescription(String.format(
+                error.getDescription(), EMAIL_TEMPLATE_IMPORT_ARCHIVE_EXTENSION, EMAIL_TEMPLATE_IMPORT_MAX_FILES,
+                EMAIL_TEMPLATE_IMPORT_FILE_EXTENSION, EMAIL_TEMPLATE_IMPORT_MAX_SIZE_IN_MB)).build());
+    }
+
     private ErrorResponse.Builder getErrorBuilder(Constants.ErrorMessage errorMsg) {
 
         return new ErrorResponse.Builder().withCode(errorMsg.getCode()).
                 withMessage(errorMsg.getMessage()).withDescription(errorMsg.getDescription());
     }
+
+    /**
+     * Email template of an import file along with the result of validating it.
+     */
+    private static class ValidatedEmailTemplate {
+
+        private final String locale;
+        private final EmailTemplateWithID emailTemplate;
+        private final String error;
+
+        ValidatedEmailTemplate(String locale, EmailTemplateWithID emailTemplate, String error) {
+
+            this.locale = locale;
+            this.emailTemplate = emailTemplate;
+            this.error = error;
+        }
+
+        static ValidatedEmailTemplate invalid(String locale, String error) {
+
+            return new ValidatedEmailTemplate(locale, null, error);
+        }
+    }
 }
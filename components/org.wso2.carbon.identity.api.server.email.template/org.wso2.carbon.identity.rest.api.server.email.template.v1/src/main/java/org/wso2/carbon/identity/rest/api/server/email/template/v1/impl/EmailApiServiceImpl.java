@@ -16,14 +16,17 @@
 
 package org.wso2.carbon.identity.rest.api.server.email.template.v1.impl;
 
+import org.apache.cxf.jaxrs.ext.multipart.Attachment;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.EmailApiService;
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.core.ServerEmailTemplatesService;
+import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTemplatePreviewRequest;
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTemplateType;
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTemplateTypeWithoutTemplates;
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTemplateWithID;
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.SimpleEmailTemplate;
 
+import java.io.InputStream;
 import java.net.URI;
 import java.util.List;
 import javax.ws.rs.core.Response;
@@ -110,6 +113,24 @@ public class EmailApiServiceImpl implements EmailApiService {
                 getTemplatesListOfEmailTemplateType(templateTypeId, limit, offset, sortOrder, sortBy)).build();
     }
 
+    @Override
+    public Response importEmailTemplates(String templateTypeId, InputStream fileInputStream, Attachment fileDetail,
+                                         Boolean overwrite) {
+
+        String fileName = fileDetail != null && fileDetail.getDataHandler() != null ?
+                fileDetail.getDataHandler().getName() : null;
+        return Response.ok().entity(emailTemplatesService.importEmailTemplates(templateTypeId, fileInputStream,
+                fileName, overwrite)).build();
+    }
+
+    @Override
+    public Response previewEmailTemplate(String templateTypeId, String templateId,
+                                         EmailTemplatePreviewRequest emailTemplatePreviewRequest) {
+
+        return Response.ok().entity(emailTemplatesService.previewEmailTemplate(templateTypeId, templateId,
+                emailTemplatePreviewRequest)).build();
+    }
+
     @Override
     public Response updateEmailTemplate(String templateTypeId, String templateId,
                                         EmailTemplateWithID emailTemplateWithID) {
@@ -42,8 +42,23 @@ public class RemoteFetchConfigurationConstants {
     public static final String WEBHOOK_REQUEST = "webHookRequest";
     public static final String SUCCESS = "SUCCESS";
     public static final String FAIL = "FAIL";
+    public static final String STATUS = "status";
+    public static final String LIMIT = "limit";
+    public static final String OFFSET = "offset";
     public static final String REMOTE_FETCH_CONFIGURATION_PATH_COMPONENT = "/remote-fetch";
 
+    // Web hook processing constants.
+    public static final long WEBHOOK_DEBOUNCE_MILLIS = 10000;
+    public static final long WEBHOOK_MAX_DELAY_MILLIS = 60000;
+    public static final int WEBHOOK_MAX_PENDING_PUSHES = 1000;
+    public static final int WEBHOOK_MAX_PENDING_PUSHES_PER_TENANT = 100;
+
+    // Deployment status constants.
+    public static final int DEPLOYMENT_STATUS_DEFAULT_LIMIT = 100;
+    public static final int DEPLOYMENT_STATUS_MAX_LIMIT = 1000;
+    public static final long DEPLOYMENT_STATUS_CACHE_TIMEOUT_MILLIS = 30000;
+    public static final int DEPLOYMENT_LEDGER_MAX_ENTRIES = 10000;
+
     /**
      * Enum for error messages.
      */
@@ -73,6 +88,9 @@ public class RemoteFetchConfigurationConstants {
         ERROR_CODE_ERROR_WEB_HOOK_REMOTE_FETCH("65008",
                 "Unable to handle web hook for remote fetch .",
                 "Server encountered an error while handling web hook."),
+        ERROR_CODE_WEB_HOOK_QUEUE_FULL("65009",
+                "Unable to handle web hook for remote fetch.",
+                "Server is too busy to accept more web hook events. Retry later."),
         ERROR_CODE_INVALID_RE_CONFIG_INPUT("60001", "Invalid input.",
                 "Unable to create a remote fetch configuration. " +
                         "Input value for %s is Invalid or Missing."),
@@ -80,7 +98,9 @@ public class RemoteFetchConfigurationConstants {
                 "Unable to find a resource matching the provided " +
                         "remote fetch configuration identifier %s."),
         ERROR_CODE_COMMIT_NOT_FOUND("60003", "Commit not found.",
-                "Unable to find commit params.");
+                "Unable to find commit params."),
+        ERROR_CODE_INVALID_STATUS_QUERY("60004", "Invalid input.",
+                "Unable to retrieve the deployment status. Input value for %s is invalid.");
 
         private final String code;
         private final String message;
@@ -28,6 +28,7 @@ import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchConf
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchConfigurationPOSTRequest;
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchConfigurationPatchRequest;
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.StatusListResponse;
+import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.WebHookMetrics;
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.RemoteFetchApiService;
 
 import javax.validation.Valid;
@@ -147,7 +148,7 @@ public class RemoteFetchApi  {
     @Path("/{id}/status")
     
     @Produces({ "application/json" })
-    @ApiOperation(value = "Retrieve latest Deployment status of remotefetch configuration. ", notes = "This API provides the status of remote fetch configuration. The status hold deployment status and the deployment failure details . <br> <b>Permission required:</b> <br>     * None <br> <b>Scope required:</b> <br>     * internal_login ", response = StatusListResponse.class, authorizations = {
+    @ApiOperation(value = "Retrieve latest Deployment status of remotefetch configuration. ", notes = "This API provides the status of remote fetch configuration. The status hold deployment status and the deployment failure details . The deployment revisions can be filtered by the deployment status and are paginated, while the deployment counts cover all the revisions. <br> <b>Permission required:</b> <br>     * None <br> <b>Scope required:</b> <br>     * internal_login ", response = StatusListResponse.class, authorizations = {
         @Authorization(value = "BasicAuth"),
         @Authorization(value = "OAuth2", scopes = {
             
@@ -161,9 +162,31 @@ public class RemoteFetchApi  {
         @ApiResponse(code = 404, message = "Not Found", response = Error.class),
         @ApiResponse(code = 500, message = "Server Error", response = Error.class)
     })
-    public Response getStatus(@ApiParam(value = "ID of the remote fetch configuration.",required=true) @PathParam("id") String id) {
+    public Response getStatus(@ApiParam(value = "ID of the remote fetch configuration.",required=true) @PathParam("id") String id,     @Valid@ApiParam(value = "Deployment status of the revisions to be returned.", allowableValues="SUCCESS, FAIL")  @QueryParam("status") String status,     @Valid@ApiParam(value = "Maximum number of records to return.")  @QueryParam("limit") Integer limit,     @Valid@ApiParam(value = "Number of records to skip for pagination.")  @QueryParam("offset") Integer offset) {
 
-        return delegate.getStatus(id );
+        return delegate.getStatus(id,  status,  limit,  offset );
+    }
+
+    @Valid
+    @GET
+    @Path("/webhook/sp/metrics")
+    
+    @Produces({ "application/json" })
+    @ApiOperation(value = "Retrieve metrics of the web hook processing. ", notes = "This API provides the metrics of the web hook processing of the tenant. The push events are coalesced per repository and branch and deployed asynchronously, hence the metrics hold the number of pushes waiting to be deployed and the deployment latencies. <br> <b>Permission required:</b> <br>     * None <br> <b>Scope required:</b> <br>     * internal_login ", response = WebHookMetrics.class, authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "Remote Fetch Webhook", })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "Successful Response", response = WebHookMetrics.class),
+        @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
+        @ApiResponse(code = 403, message = "Forbidden", response = Void.class),
+        @ApiResponse(code = 500, message = "Server Error", response = Error.class)
+    })
+    public Response getWebHookMetrics() {
+
+        return delegate.getWebHookMetrics();
     }
 
     @Valid
@@ -183,7 +206,8 @@ public class RemoteFetchApi  {
         @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
         @ApiResponse(code = 403, message = "Forbidden", response = Void.class),
         @ApiResponse(code = 404, message = "Not Found", response = Error.class),
-        @ApiResponse(code = 500, message = "Server Error", response = Error.class)
+        @ApiResponse(code = 500, message = "Server Error", response = Error.class),
+        @ApiResponse(code = 503, message = "Service Unavailable", response = Error.class)
     })
     public Response handleWebHook(@ApiParam(value = "" ) @Valid PushEventWebHookPOSTRequest pushEventWebHookPOSTRequest) {
 
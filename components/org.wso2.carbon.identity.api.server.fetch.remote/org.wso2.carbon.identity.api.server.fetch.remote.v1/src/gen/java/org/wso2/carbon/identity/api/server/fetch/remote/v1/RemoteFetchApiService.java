@@ -28,6 +28,7 @@ import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchConf
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchConfigurationPOSTRequest;
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchConfigurationPatchRequest;
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.StatusListResponse;
+import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.WebHookMetrics;
 import javax.ws.rs.core.Response;
 
 
@@ -41,7 +42,9 @@ public interface RemoteFetchApiService {
 
       public Response getRemoteFetchConfigs();
 
-      public Response getStatus(String id);
+      public Response getStatus(String id, String status, Integer limit, Integer offset);
+
+      public Response getWebHookMetrics();
 
       public Response handleWebHook(PushEventWebHookPOSTRequest pushEventWebHookPOSTRequest);
 
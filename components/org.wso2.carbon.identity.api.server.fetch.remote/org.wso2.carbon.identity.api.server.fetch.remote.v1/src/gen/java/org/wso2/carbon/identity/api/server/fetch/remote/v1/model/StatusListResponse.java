@@ -34,8 +34,11 @@ import javax.xml.bind.annotation.*;
 public class StatusListResponse  {
   
     private Integer count;
+    private Integer totalResults;
     private Integer successfulDeployments;
     private Integer failedDeployments;
+    private Integer skippedDeployments;
+    private Integer skippedFiles;
     private String lastSynchronizedTime;
     private List<StatusListItem> remoteFetchRevisionStatuses = null;
 
@@ -58,6 +61,25 @@ public class StatusListResponse  {
         this.count = count;
     }
 
+    /**
+    * Number of revisions matching the status query.
+    **/
+    public StatusListResponse totalResults(Integer totalResults) {
+
+        this.totalResults = totalResults;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "120", value = "Number of revisions matching the status query.")
+    @JsonProperty("totalResults")
+    @Valid
+    public Integer getTotalResults() {
+        return totalResults;
+    }
+    public void setTotalResults(Integer totalResults) {
+        this.totalResults = totalResults;
+    }
+
     /**
     **/
     public StatusListResponse successfulDeployments(Integer successfulDeployments) {
@@ -94,6 +116,44 @@ public class StatusListResponse  {
         this.failedDeployments = failedDeployments;
     }
 
+    /**
+    * Number of web hook deployments skipped as the pushed content had already been deployed.
+    **/
+    public StatusListResponse skippedDeployments(Integer skippedDeployments) {
+
+        this.skippedDeployments = skippedDeployments;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "3", value = "Number of web hook deployments skipped as the pushed content had already been deployed.")
+    @JsonProperty("skippedDeployments")
+    @Valid
+    public Integer getSkippedDeployments() {
+        return skippedDeployments;
+    }
+    public void setSkippedDeployments(Integer skippedDeployments) {
+        this.skippedDeployments = skippedDeployments;
+    }
+
+    /**
+    * Number of files not deployed again as their content had already been deployed.
+    **/
+    public StatusListResponse skippedFiles(Integer skippedFiles) {
+
+        this.skippedFiles = skippedFiles;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "42", value = "Number of files not deployed again as their content had already been deployed.")
+    @JsonProperty("skippedFiles")
+    @Valid
+    public Integer getSkippedFiles() {
+        return skippedFiles;
+    }
+    public void setSkippedFiles(Integer skippedFiles) {
+        this.skippedFiles = skippedFiles;
+    }
+
     /**
     **/
     public StatusListResponse lastSynchronizedTime(String lastSynchronizedTime) {
@@ -151,15 +211,18 @@ public class StatusListResponse  {
         }
         StatusListResponse statusListResponse = (StatusListResponse) o;
         return Objects.equals(this.count, statusListResponse.count) &&
+            Objects.equals(this.totalResults, statusListResponse.totalResults) &&
             Objects.equals(this.successfulDeployments, statusListResponse.successfulDeployments) &&
             Objects.equals(this.failedDeployments, statusListResponse.failedDeployments) &&
+            Objects.equals(this.skippedDeployments, statusListResponse.skippedDeployments) &&
+            Objects.equals(this.skippedFiles, statusListResponse.skippedFiles) &&
             Objects.equals(this.lastSynchronizedTime, statusListResponse.lastSynchronizedTime) &&
             Objects.equals(this.remoteFetchRevisionStatuses, statusListResponse.remoteFetchRevisionStatuses);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(count, successfulDeployments, failedDeployments, lastSynchronizedTime, remoteFetchRevisionStatuses);
+        return Objects.hash(count, totalResults, successfulDeployments, failedDeployments, skippedDeployments, skippedFiles, lastSynchronizedTime, remoteFetchRevisionStatuses);
     }
 
     @Override
@@ -169,8 +232,11 @@ public class StatusListResponse  {
         sb.append("class StatusListResponse {\n");
         
         sb.append("    count: ").append(toIndentedString(count)).append("\n");
+        sb.append("    totalResults: ").append(toIndentedString(totalResults)).append("\n");
         sb.append("    successfulDeployments: ").append(toIndentedString(successfulDeployments)).append("\n");
         sb.append("    failedDeployments: ").append(toIndentedString(failedDeployments)).append("\n");
+        sb.append("    skippedDeployments: ").append(toIndentedString(skippedDeployments)).append("\n");
+        sb.append("    skippedFiles: ").append(toIndentedString(skippedFiles)).append("\n");
         sb.append("    lastSynchronizedTime: ").append(toIndentedString(lastSynchronizedTime)).append("\n");
         sb.append("    remoteFetchRevisionStatuses: ").append(toIndentedString(remoteFetchRevisionStatuses)).append("\n");
         sb.append("}");
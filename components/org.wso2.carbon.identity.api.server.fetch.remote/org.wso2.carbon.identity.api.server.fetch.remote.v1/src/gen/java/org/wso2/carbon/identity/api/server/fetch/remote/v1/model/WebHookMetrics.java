@@ -0,0 +1,317 @@
+/*
+* Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package org.wso2.carbon.identity.api.server.fetch.remote.v1.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import javax.validation.constraints.*;
+
+
+import io.swagger.annotations.*;
+import java.util.Objects;
+import javax.validation.Valid;
+import javax.xml.bind.annotation.*;
+
+public class WebHookMetrics  {
+  
+    private Integer queueDepth;
+    private Long receivedPushes;
+    private Long coalescedPushes;
+    private Long rejectedPushes;
+    private Long deployments;
+    private Long failedDeployments;
+    private Long skippedDeployments;
+    private Long averageQueueWaitMillis;
+    private Long lastDeployLatencyMillis;
+    private Long averageDeployLatencyMillis;
+    private Long maxDeployLatencyMillis;
+
+
+    /**
+    * Number of repository branches with pushes waiting to be deployed.
+    **/
+    public WebHookMetrics queueDepth(Integer queueDepth) {
+
+        this.queueDepth = queueDepth;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "2", value = "Number of repository branches with pushes waiting to be deployed.")
+    @JsonProperty("queueDepth")
+    @Valid
+    public Integer getQueueDepth() {
+        return queueDepth;
+    }
+    public void setQueueDepth(Integer queueDepth) {
+        this.queueDepth = queueDepth;
+    }
+
+    /**
+    * Number of push events received.
+    **/
+    public WebHookMetrics receivedPushes(Long receivedPushes) {
+
+        this.receivedPushes = receivedPushes;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "25", value = "Number of push events received.")
+    @JsonProperty("receivedPushes")
+    @Valid
+    public Long getReceivedPushes() {
+        return receivedPushes;
+    }
+    public void setReceivedPushes(Long receivedPushes) {
+        this.receivedPushes = receivedPushes;
+    }
+
+    /**
+    * Number of push events merged to a push already waiting to be deployed.
+    **/
+    public WebHookMetrics coalescedPushes(Long coalescedPushes) {
+
+        this.coalescedPushes = coalescedPushes;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "18", value = "Number of push events merged to a push already waiting to be deployed.")
+    @JsonProperty("coalescedPushes")
+    @Valid
+    public Long getCoalescedPushes() {
+        return coalescedPushes;
+    }
+    public void setCoalescedPushes(Long coalescedPushes) {
+        this.coalescedPushes = coalescedPushes;
+    }
+
+    /**
+    * Number of push events rejected as too many pushes were waiting to be deployed.
+    **/
+    public WebHookMetrics rejectedPushes(Long rejectedPushes) {
+
+        this.rejectedPushes = rejectedPushes;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "0", value = "Number of push events rejected as too many pushes were waiting to be deployed.")
+    @JsonProperty("rejectedPushes")
+    @Valid
+    public Long getRejectedPushes() {
+        return rejectedPushes;
+    }
+    public void setRejectedPushes(Long rejectedPushes) {
+        this.rejectedPushes = rejectedPushes;
+    }
+
+    /**
+    * Number of deployments of the coalesced pushes.
+    **/
+    public WebHookMetrics deployments(Long deployments) {
+
+        this.deployments = deployments;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "7", value = "Number of deployments of the coalesced pushes.")
+    @JsonProperty("deployments")
+    @Valid
+    public Long getDeployments() {
+        return deployments;
+    }
+    public void setDeployments(Long deployments) {
+        this.deployments = deployments;
+    }
+
+    /**
+    * Number of deployments which failed.
+    **/
+    public WebHookMetrics failedDeployments(Long failedDeployments) {
+
+        this.failedDeployments = failedDeployments;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "1", value = "Number of deployments which failed.")
+    @JsonProperty("failedDeployments")
+    @Valid
+    public Long getFailedDeployments() {
+        return failedDeployments;
+    }
+    public void setFailedDeployments(Long failedDeployments) {
+        this.failedDeployments = failedDeployments;
+    }
+
+    /**
+    * Number of deployments skipped as the pushed content had already been deployed.
+    **/
+    public WebHookMetrics skippedDeployments(Long skippedDeployments) {
+
+        this.skippedDeployments = skippedDeployments;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "2", value = "Number of deployments skipped as the pushed content had already been deployed.")
+    @JsonProperty("skippedDeployments")
+    @Valid
+    public Long getSkippedDeployments() {
+        return skippedDeployments;
+    }
+    public void setSkippedDeployments(Long skippedDeployments) {
+        this.skippedDeployments = skippedDeployments;
+    }
+
+    /**
+    * Average time in milliseconds the first push of a deployment waited before the deployment started.
+    **/
+    public WebHookMetrics averageQueueWaitMillis(Long averageQueueWaitMillis) {
+
+        this.averageQueueWaitMillis = averageQueueWaitMillis;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "10250", value = "Average time in milliseconds the first push of a deployment waited before the deployment started.")
+    @JsonProperty("averageQueueWaitMillis")
+    @Valid
+    public Long getAverageQueueWaitMillis() {
+        return averageQueueWaitMillis;
+    }
+    public void setAverageQueueWaitMillis(Long averageQueueWaitMillis) {
+        this.averageQueueWaitMillis = averageQueueWaitMillis;
+    }
+
+    /**
+    * Time in milliseconds taken by the last deployment.
+    **/
+    public WebHookMetrics lastDeployLatencyMillis(Long lastDeployLatencyMillis) {
+
+        this.lastDeployLatencyMillis = lastDeployLatencyMillis;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "840", value = "Time in milliseconds taken by the last deployment.")
+    @JsonProperty("lastDeployLatencyMillis")
+    @Valid
+    public Long getLastDeployLatencyMillis() {
+        return lastDeployLatencyMillis;
+    }
+    public void setLastDeployLatencyMillis(Long lastDeployLatencyMillis) {
+        this.lastDeployLatencyMillis = lastDeployLatencyMillis;
+    }
+
+    /**
+    * Average time in milliseconds taken by a deployment.
+    **/
+    public WebHookMetrics averageDeployLatencyMillis(Long averageDeployLatencyMillis) {
+
+        this.averageDeployLatencyMillis = averageDeployLatencyMillis;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "910", value = "Average time in milliseconds taken by a deployment.")
+    @JsonProperty("averageDeployLatencyMillis")
+    @Valid
+    public Long getAverageDeployLatencyMillis() {
+        return averageDeployLatencyMillis;
+    }
+    public void setAverageDeployLatencyMillis(Long averageDeployLatencyMillis) {
+        this.averageDeployLatencyMillis = averageDeployLatencyMillis;
+    }
+
+    /**
+    * Maximum time in milliseconds taken by a deployment.
+    **/
+    public WebHookMetrics maxDeployLatencyMillis(Long maxDeployLatencyMillis) {
+
+        this.maxDeployLatencyMillis = maxDeployLatencyMillis;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "2300", value = "Maximum time in milliseconds taken by a deployment.")
+    @JsonProperty("maxDeployLatencyMillis")
+    @Valid
+    public Long getMaxDeployLatencyMillis() {
+        return maxDeployLatencyMillis;
+    }
+    public void setMaxDeployLatencyMillis(Long maxDeployLatencyMillis) {
+        this.maxDeployLatencyMillis = maxDeployLatencyMillis;
+    }
+
+    
+
+    @Override
+    public boolean equals(java.lang.Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        WebHookMetrics webHookMetrics = (WebHookMetrics) o;
+        return Objects.equals(this.queueDepth, webHookMetrics.queueDepth) &&
+            Objects.equals(this.receivedPushes, webHookMetrics.receivedPushes) &&
+            Objects.equals(this.coalescedPushes, webHookMetrics.coalescedPushes) &&
+            Objects.equals(this.rejectedPushes, webHookMetrics.rejectedPushes) &&
+            Objects.equals(this.deployments, webHookMetrics.deployments) &&
+            Objects.equals(this.failedDeployments, webHookMetrics.failedDeployments) &&
+            Objects.equals(this.skippedDeployments, webHookMetrics.skippedDeployments) &&
+            Objects.equals(this.averageQueueWaitMillis, webHookMetrics.averageQueueWaitMillis) &&
+            Objects.equals(this.lastDeployLatencyMillis, webHookMetrics.lastDeployLatencyMillis) &&
+            Objects.equals(this.averageDeployLatencyMillis, webHookMetrics.averageDeployLatencyMillis) &&
+            Objects.equals(this.maxDeployLatencyMillis, webHookMetrics.maxDeployLatencyMillis);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(queueDepth, receivedPushes, coalescedPushes, rejectedPushes, deployments, failedDeployments, skippedDeployments, averageQueueWaitMillis, lastDeployLatencyMillis, averageDeployLatencyMillis, maxDeployLatencyMillis);
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("class WebHookMetrics {\n");
+        
+        sb.append("    queueDepth: ").append(toIndentedString(queueDepth)).append("\n");
+        sb.append("    receivedPushes: ").append(toIndentedString(receivedPushes)).append("\n");
+        sb.append("    coalescedPushes: ").append(toIndentedString(coalescedPushes)).append("\n");
+        sb.append("    rejectedPushes: ").append(toIndentedString(rejectedPushes)).append("\n");
+        sb.append("    deployments: ").append(toIndentedString(deployments)).append("\n");
+        sb.append("    failedDeployments: ").append(toIndentedString(failedDeployments)).append("\n");
+        sb.append("    skippedDeployments: ").append(toIndentedString(skippedDeployments)).append("\n");
+        sb.append("    averageQueueWaitMillis: ").append(toIndentedString(averageQueueWaitMillis)).append("\n");
+        sb.append("    lastDeployLatencyMillis: ").append(toIndentedString(lastDeployLatencyMillis)).append("\n");
+        sb.append("    averageDeployLatencyMillis: ").append(toIndentedString(averageDeployLatencyMillis)).append("\n");
+        sb.append("    maxDeployLatencyMillis: ").append(toIndentedString(maxDeployLatencyMillis)).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+    * Convert the given object to string with each line indented by 4 spaces
+    * (except the first line).
+    */
+    private String toIndentedString(java.lang.Object o) {
+
+        if (o == null) {
+            return "null";
+        }
+        return o.toString().replace("\n", "\n");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.fetch.remote.v1.core;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.DEPLOYMENT_LEDGER_MAX_ENTRIES;
+
+/**
+ * Records the content deployed for each repository branch through the web hook, identified by the git tree hash of
+ * the pushed head commit. A push whose head has the same tree as the deployed one, such as a rebase or a force push
+ * which does not change the files, does not need to be deployed again. The content is recorded only once every
+ * deployment revision of the branch succeeded, so that a failed file is deployed again with the next push.
+ *
+ * The deployed tree is trusted only while the pushes are received in sequence, i.e. the push starts from the head
+ * recorded with the tree. Deployments made by other means, such as a triggered or a periodic remote fetch, are not
+ * recorded and must invalidate the deployed tree.
+ */
+public class DeploymentLedger {
+
+    private static final String KEY_SEPARATOR = "\n";
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Check whether the content of a push has already been deployed.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param cloneURL     Clone URL of the repository.
+     * @param branch       Branch of the push.
+     * @param before       Head commit of the branch before the push.
+     * @param treeId       Tree hash of the head commit of the push.
+     * @return True if the tree of the push is the deployed tree of the branch.
+     */
+    public boolean isDeployed(String tenantDomain, String cloneURL, String branch, String before, String treeId) {
+
+        Entry entry = entries.get(getKey(tenantDomain, cloneURL, branch));
+        return entry != null && entry.isDeployed(before, treeId);
+    }
+
+    /**
+     * Record the content deployed for a repository branch. Must be invoked only when every deployment revision of
+     * the branch succeeded.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param cloneURL     Clone URL of the repository.
+     * @param branch       Branch of the push.
+     * @param headCommitId Head commit of the branch after the push.
+     * @param treeId       Tree hash of the head commit.
+     */
+    public void deployed(String tenantDomain, String cloneURL, String branch, String headCommitId, String treeId) {
+
+        Entry entry = getEntry(tenantDomain, cloneURL, branch);
+        if (entry != null) {
+            entry.deployed(headCommitId, treeId);
+        }
+    }
+
+    /**
+     * Record a deployment skipped as its content has already been deployed.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param cloneURL     Clone URL of the repository.
+     * @param branch       Branch of the push.
+     * @param headCommitId Head commit of the branch after the push.
+     * @param fileCount    Number of files which were not deployed.
+     */
+    public void skipped(String tenantDomain, String cloneURL, String branch, String headCommitId, int fileCount) {
+
+        Entry entry = getEntry(tenantDomain, cloneURL, branch);
+        if (entry != null) {
+            entry.skipped(headCommitId, fileCount);
+        }
+    }
+
+    /**
+     * Forget the content deployed for a repository branch, so that the next push is deployed.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param cloneURL     Clone URL of the repository.
+     * @param branch       Branch of the repository.
+     */
+    public void invalidate(String tenantDomain, String cloneURL, String branch) {
+
+        Entry entry = entries.get(getKey(tenantDomain, cloneURL, branch));
+        if (entry != null) {
+            entry.invalidate();
+        }
+    }
+
+    /**
+     * Get the number of deployments of a repository branch of the tenant in the carbon context which were skipped.
+     *
+     * @param cloneURL Clone URL of the repository.
+     * @param branch   Branch of the repository.
+     * @return Number of skipped deployments.
+     */
+    public int getSkippedDeployments(String cloneURL, String branch) {
+
+        Entry entry = entries.get(getKey(getTenantDomain(), cloneURL, branch));
+        return entry != null ? entry.skippedDeployments : 0;
+    }
+
+    /**
+     * Get the number of files of a repository branch of the tenant in the carbon context which were not deployed as
+     * their content has already been deployed.
+     *
+     * @param cloneURL Clone URL of the repository.
+     * @param branch   Branch of the repository.
+     * @return Number of skipped files.
+     */
+    public int getSkippedFiles(String cloneURL, String branch) {
+
+        Entry entry = entries.get(getKey(getTenantDomain(), cloneURL, branch));
+        return entry != null ? entry.skippedFiles : 0;
+    }
+
+    private Entry getEntry(String tenantDomain, String cloneURL, String branch) {
+
+        String key = getKey(tenantDomain, cloneURL, branch);
+        Entry entry = entries.get(key);
+        if (entry == null && entries.size() < DEPLOYMENT_LEDGER_MAX_ENTRIES) {
+            entry = entries.computeIfAbsent(key, newKey -> new Entry());
+        }
+        return entry;
+    }
+
+    private static String getTenantDomain() {
+
+        return PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+    }
+
+    private static String getKey(String tenantDomain, String cloneURL, String branch) {
+
+        return tenantDomain + KEY_SEPARATOR + cloneURL + KEY_SEPARATOR + branch;
+    }
+
+    /**
+     * Deployed content and the skip counts of a repository branch.
+     */
+    private static class Entry {
+
+        private String headCommitId;
+        private String treeId;
+        private volatile int skippedDeployments;
+        private volatile int skippedFiles;
+
+        synchronized boolean isDeployed(String before, String pushedTreeId) {
+
+            return treeId != null && StringUtils.equals(headCommitId, before) && treeId.equals(pushedTreeId);
+        }
+
+        synchronized void deployed(String headCommitId, String treeId) {
+
+            this.headCommitId = headCommitId;
+            this.treeId = treeId;
+        }
+
+        synchronized void skipped(String headCommitId, int fileCount) {
+
+            this.headCommitId = headCommitId;
+            skippedDeployments++;
+            skippedFiles += fileCount;
+        }
+
+        synchronized void invalidate() {
+
+            headCommitId = null;
+            treeId = null;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.fetch.remote.v1.core;
+
+import org.wso2.carbon.identity.remotefetch.common.DeploymentRevision;
+import org.wso2.carbon.identity.remotefetch.common.RemoteFetchConfiguration;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.BRANCH;
+import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.DEPLOYMENT_STATUS_CACHE_TIMEOUT_MILLIS;
+import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.FAIL;
+import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.SUCCESS;
+import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.URI;
+
+/**
+ * Deployment revisions of a remote fetch configuration together with their summary and the repository branch the
+ * configuration is deployed from. The revisions are aggregated in a single pass when the status is loaded.
+ */
+public class DeploymentStatus implements Serializable {
+
+    private static final long serialVersionUID = 4790252683146318467L;
+
+
+    private final long loadedAt = System.currentTimeMillis();
+    private final String repositoryURI;
+    private final String branch;
+    private final List<DeploymentRevision> deploymentRevisions;
+    private final Map<String, List<DeploymentRevision>> deploymentRevisionsByStatus;
+    private final int successfulDeployments;
+    private final int failedDeployments;
+    private final Date lastSynchronizedDate;
+
+    DeploymentStatus(RemoteFetchConfiguration remoteFetchConfiguration,
+                             List<DeploymentRevision> revisions) {
+
+        Map<String, String> repositoryManagerAttributes =
+                remoteFetchConfiguration.getRepositoryManagerAttributes();
+        this.repositoryURI = repositoryManagerAttributes != null ? repositoryManagerAttributes.get(URI) : null;
+        this.branch = repositoryManagerAttributes != null ? repositoryManagerAttributes.get(BRANCH) : null;
+
+        List<DeploymentRevision> allRevisions = new ArrayList<>();
+        Map<String, List<DeploymentRevision>> revisionsByStatus = new HashMap<>();
+        int successful = 0;
+        int failed = 0;
+        Date lastSynchronized = null;
+        if (revisions != null) {
+            for (DeploymentRevision revision : revisions) {
+                if (revision == null) {
+                    continue;
+                }
+                allRevisions.add(revision);
+                if (revision.getDeploymentStatus() != null) {
+                    String status = revision.getDeploymentStatus().name();
+                    revisionsByStatus.computeIfAbsent(status, key -> new ArrayList<>()).add(revision);
+                    if (SUCCESS.equals(status)) {
+                        successful++;
+                    } else if (FAIL.equals(status)) {
+                        failed++;
+                    }
+                }
+                Date synchronizedDate = revision.getLastSynchronizedDate();
+                if (synchronizedDate != null &&
+                        (lastSynchronized == null || synchronizedDate.after(lastSynchronized))) {
+                    lastSynchronized = synchronizedDate;
+                }
+            }
+        }
+        this.deploymentRevisions = Collections.unmodifiableList(allRevisions);
+        this.deploymentRevisionsByStatus = revisionsByStatus;
+        this.successfulDeployments = successful;
+        this.failedDeployments = failed;
+        this.lastSynchronizedDate = lastSynchronized;
+    }
+
+    /**
+     * Get the deployment revisions with the given deployment status.
+     *
+     * @param status Deployment status or null to get all the revisions.
+     * @return Deployment revisions in the order they were recorded.
+     */
+    public List<DeploymentRevision> getDeploymentRevisions(String status) {
+
+        if (status == null) {
+            return deploymentRevisions;
+        }
+        List<DeploymentRevision> revisions = deploymentRevisionsByStatus.get(status);
+        return revisions != null ? Collections.unmodifiableList(revisions) : Collections.emptyList();
+    }
+
+    public String getRepositoryURI() {
+
+        return repositoryURI;
+    }
+
+    public String getBranch() {
+
+        return branch;
+    }
+
+    public int getSuccessfulDeployments() {
+
+        return successfulDeployments;
+    }
+
+    public int getFailedDeployments() {
+
+        return failedDeployments;
+    }
+
+    public Date getLastSynchronizedDate() {
+
+        return lastSynchronizedDate;
+    }
+
+    boolean isExpired() {
+
+        return System.currentTimeMillis() - loadedAt >= DEPLOYMENT_STATUS_CACHE_TIMEOUT_MILLIS;
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.fetch.remote.v1.core;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+
+/**
+ * Cache holding the deployment statuses of the remote fetch configurations of each tenant, keyed by the tenant domain.
+ * Entries are cleared whenever a deployment of the tenant is triggered or processed through the server APIs.
+ */
+public class DeploymentStatusCache extends BaseCache<String, DeploymentStatusCacheEntry> {
+
+    private static final String DEPLOYMENT_STATUS_CACHE_NAME = "APIServerRemoteFetchDeploymentStatusCache";
+    private static final DeploymentStatusCache instance = new DeploymentStatusCache();
+
+    private DeploymentStatusCache() {
+
+        super(DEPLOYMENT_STATUS_CACHE_NAME);
+    }
+
+    public static DeploymentStatusCache getInstance() {
+
+        return instance;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.fetch.remote.v1.core;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Deployment statuses of the remote fetch configurations of a tenant, keyed by the remote fetch configuration id.
+ */
+public class DeploymentStatusCacheEntry implements Serializable {
+
+    private static final long serialVersionUID = -1935287460117294385L;
+
+    private final Map<String, DeploymentStatus> deploymentStatuses;
+
+    public DeploymentStatusCacheEntry(Map<String, DeploymentStatus> deploymentStatuses) {
+
+        this.deploymentStatuses = Collections.unmodifiableMap(new HashMap<>(deploymentStatuses));
+    }
+
+    /**
+     * Get the deployment status of a remote fetch configuration.
+     *
+     * @param remoteFetchConfigurationId Id of the remote fetch configuration.
+     * @return Deployment status or null if the status of the configuration is not cached.
+     */
+    public DeploymentStatus getDeploymentStatus(String remoteFetchConfigurationId) {
+
+        return deploymentStatuses.get(remoteFetchConfigurationId);
+    }
+
+    /**
+     * Get the deployment statuses of the remote fetch configurations of the tenant.
+     *
+     * @return Deployment statuses keyed by the remote fetch configuration id.
+     */
+    public Map<String, DeploymentStatus> getDeploymentStatuses() {
+
+        return deploymentStatuses;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.fetch.remote.v1.core;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchServiceHolder;
+import org.wso2.carbon.identity.remotefetch.common.RemoteFetchConfiguration;
+import org.wso2.carbon.identity.remotefetch.common.RemoteFetchConfigurationService;
+import org.wso2.carbon.identity.remotefetch.common.exceptions.RemoteFetchCoreException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Loads the deployment status of the remote fetch configurations through the deployment status cache. The revisions
+ * are recorded by the remote fetch component, hence a cached status expires after a short timeout. The cached
+ * statuses of a tenant are cleared across the cluster when a deployment is triggered or processed through this API.
+ */
+public class DeploymentStatusLoader {
+
+    private static final Log log = LogFactory.getLog(DeploymentStatusLoader.class);
+
+    /**
+     * Get the deployment status of a remote fetch configuration of the tenant in the carbon context.
+     *
+     * @param remoteFetchConfigurationId Id of the remote fetch configuration.
+     * @return Deployment status or null if there is no remote fetch configuration with the given id.
+     * @throws RemoteFetchCoreException If the configuration or its deployment revisions cannot be retrieved.
+     */
+    public DeploymentStatus getDeploymentStatus(String remoteFetchConfigurationId) throws RemoteFetchCoreException {
+
+        String tenantDomain = getTenantDomain();
+        DeploymentStatusCacheEntry cacheEntry = DeploymentStatusCache.getInstance().getValueFromCache(tenantDomain);
+        DeploymentStatus deploymentStatus = cacheEntry != null ?
+                cacheEntry.getDeploymentStatus(remoteFetchConfigurationId) : null;
+        if (deploymentStatus != null && !deploymentStatus.isExpired()) {
+            return deploymentStatus;
+        }
+        RemoteFetchConfigurationService remoteFetchConfigurationService =
+                RemoteFetchServiceHolder.getRemoteFetchConfigurationService();
+        RemoteFetchConfiguration remoteFetchConfiguration =
+                remoteFetchConfigurationService.getRemoteFetchConfiguration(remoteFetchConfigurationId);
+        if (remoteFetchConfiguration == null) {
+            return null;
+        }
+        deploymentStatus = new DeploymentStatus(remoteFetchConfiguration,
+                remoteFetchConfigurationService.getDeploymentRevisions(remoteFetchConfigurationId));
+
+        Map<String, DeploymentStatus> deploymentStatuses = new HashMap<>();
+        if (cacheEntry != null) {
+            cacheEntry.getDeploymentStatuses().forEach((id, status) -> {
+                if (!status.isExpired()) {
+                    deploymentStatuses.put(id, status);
+                }
+            });
+        }
+        deploymentStatuses.put(remoteFetchConfigurationId, deploymentStatus);
+        DeploymentStatusCache.getInstance().addToCache(tenantDomain, new DeploymentStatusCacheEntry(
+                deploymentStatuses));
+        if (log.isDebugEnabled()) {
+            log.debug("Loaded the deployment status of the remote fetch configuration: " +
+                    remoteFetchConfigurationId + " of the tenant: " + tenantDomain);
+        }
+        return deploymentStatus;
+    }
+
+    /**
+     * Invalidate the deployment statuses of all the remote fetch configurations of the tenant in the carbon context.
+     */
+    public void invalidate() {
+
+        DeploymentStatusCache.getInstance().clearCacheEntry(getTenantDomain());
+    }
+
+    private static String getTenantDomain() {
+
+        return PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+    }
+}
@@ -23,6 +23,7 @@ import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
@@ -39,6 +40,7 @@ import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchConf
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RepositoryManagerAttributes;
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.StatusListItem;
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.StatusListResponse;
+import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.WebHookMetrics;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.remotefetch.common.BasicRemoteFetchConfiguration;
 import org.wso2.carbon.identity.remotefetch.common.DeploymentRevision;
@@ -49,12 +51,11 @@ import org.wso2.carbon.identity.remotefetch.common.exceptions.RemoteFetchServerE
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.OptionalInt;
+import java.util.concurrent.RejectedExecutionException;
 import javax.ws.rs.core.Response;
 import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.ACCESS_TOKEN;
 import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.ACTION_LISTENER;
@@ -62,12 +63,17 @@ import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetc
 import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.BRANCH;
 import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.CONFIGURATION_DEPLOYER;
 import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.CONFIGURATION_DEPLOYER_ATTRIBUTES;
+import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.DEPLOYMENT_STATUS_DEFAULT_LIMIT;
+import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.DEPLOYMENT_STATUS_MAX_LIMIT;
 import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.DIRECTORY;
 import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.FREQUENCY;
 import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.IS_ENABLED;
+import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.LIMIT;
+import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.OFFSET;
 import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.REMOTE_FETCH_NAME;
 import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.REPOSITORY_MANAGER;
 import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.REPOSITORY_MANAGER_ATTRIBUTES;
+import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.STATUS;
 import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.URI;
 import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.USER_NAME;
 import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.WEBHOOK_REQUEST;
@@ -81,6 +87,15 @@ public class ServerRemoteFetchConfigManagementService {
 
     private static final Log log = LogFactory.getLog(ServerRemoteFetchConfigManagementService.class);
 
+    @Autowired
+    private WebHookProcessor webHookProcessor;
+
+    @Autowired
+    private DeploymentStatusLoader deploymentStatusLoader;
+
+    @Autowired
+    private DeploymentLedger deploymentLedger;
+
     /**
      * Get list of remote fetch configurations.
      *
@@ -111,6 +126,7 @@ public class ServerRemoteFetchConfigManagementService {
         try {
             RemoteFetchServiceHolder.getRemoteFetchConfigurationService()
                     .deleteRemoteFetchConfiguration(remoteFetchConfigurationId);
+            deploymentStatusLoader.invalidate();
         } catch (RemoteFetchCoreException e) {
             throw handleRemoteFetchConfigurationException(e, RemoteFetchConfigurationConstants.
                     ErrorMessage.ERROR_CODE_ERROR_DELETING_RF_CONFIGS, remoteFetchConfigurationId);
@@ -189,6 +205,13 @@ public class ServerRemoteFetchConfigManagementService {
             if (remoteFetchConfiguration != null) {
                 RemoteFetchServiceHolder.getRemoteFetchConfigurationService()
                         .triggerRemoteFetch(remoteFetchConfiguration);
+                deploymentStatusLoader.invalidate();
+                // The triggered deployment is not recorded in the ledger, hence the next push must be deployed.
+                if (remoteFetchConfiguration.getRepositoryManagerAttributes() != null) {
+                    deploymentLedger.invalidate(ContextLoader.getTenantDomainFromContext(),
+                            remoteFetchConfiguration.getRepositoryManagerAttributes().get(URI),
+                            remoteFetchConfiguration.getRepositoryManagerAttributes().get(BRANCH));
+                }
             } else {
                 throw handleException(Response.Status.NOT_FOUND, RemoteFetchConfigurationConstants.
                         ErrorMessage.ERROR_CODE_RE_CONFIG_NOT_FOUND, remoteFetchConfigurationId);
@@ -270,22 +293,24 @@ public class ServerRemoteFetchConfigManagementService {
      * Get status of remote fetch.
      *
      * @param remoteFetchConfigurationId RemoteFetchConfigurationId.
+     * @param status                     Deployment status of the revisions to be returned.
+     * @param limit                      Maximum number of revisions to be returned.
+     * @param offset                     Number of revisions to skip.
+     * @return StatusListResponse.
      */
-    public StatusListResponse getStatus(String remoteFetchConfigurationId) {
+    public StatusListResponse getStatus(String remoteFetchConfigurationId, String status, Integer limit,
+                                        Integer offset) {
 
+        validateStatusQuery(status, limit, offset);
         try {
-            RemoteFetchConfiguration remoteFetchConfiguration =
-                    RemoteFetchServiceHolder.getRemoteFetchConfigurationService()
-                            .getRemoteFetchConfiguration(remoteFetchConfigurationId);
-
-            if (remoteFetchConfiguration != null) {
-
-                return createStatusListResponse(RemoteFetchServiceHolder.getRemoteFetchConfigurationService()
-                        .getDeploymentRevisions(remoteFetchConfigurationId));
-            } else {
+            DeploymentStatus deploymentStatus =
+                    deploymentStatusLoader.getDeploymentStatus(remoteFetchConfigurationId);
+            if (deploymentStatus == null) {
                 throw handleException(Response.Status.NOT_FOUND, RemoteFetchConfigurationConstants.
                         ErrorMessage.ERROR_CODE_RE_CONFIG_NOT_FOUND, remoteFetchConfigurationId);
             }
+            return createStatusListResponse(deploymentStatus, status,
+                    limit != null ? limit : DEPLOYMENT_STATUS_DEFAULT_LIMIT, offset != null ? offset : 0);
         } catch (RemoteFetchCoreException e) {
             throw handleException(Response.Status.INTERNAL_SERVER_ERROR, RemoteFetchConfigurationConstants.ErrorMessage
                     .ERROR_CODE_ERROR_STATUS_REMOTE_FETCH, remoteFetchConfigurationId);
@@ -293,43 +318,64 @@ public class ServerRemoteFetchConfigManagementService {
     }
 
     /**
-     * This method is used to create status list from list of deployment revisions.
-     * This method uses java stream api to count successful deployments and failed deployments.
+     * Validate the query of the deployment status.
+     *
+     * @param status Deployment status of the revisions to be returned.
+     * @param limit  Maximum number of revisions to be returned.
+     * @param offset Number of revisions to skip.
+     */
+    private void validateStatusQuery(String status, Integer limit, Integer offset) {
+
+        if (status != null && !RemoteFetchConfigurationConstants.SUCCESS.equals(status) &&
+                !RemoteFetchConfigurationConstants.FAIL.equals(status)) {
+            throw handleException(Response.Status.BAD_REQUEST, RemoteFetchConfigurationConstants.
+                    ErrorMessage.ERROR_CODE_INVALID_STATUS_QUERY, STATUS);
+        }
+        if (limit != null && (limit < 0 || limit > DEPLOYMENT_STATUS_MAX_LIMIT)) {
+            throw handleException(Response.Status.BAD_REQUEST, RemoteFetchConfigurationConstants.
+                    ErrorMessage.ERROR_CODE_INVALID_STATUS_QUERY, LIMIT);
+        }
+        if (offset != null && offset < 0) {
+            throw handleException(Response.Status.BAD_REQUEST, RemoteFetchConfigurationConstants.
+                    ErrorMessage.ERROR_CODE_INVALID_STATUS_QUERY, OFFSET);
+        }
+    }
+
+    /**
+     * This method is used to create status list from the deployment status of a remote fetch configuration.
+     * The summary is aggregated when the deployment status is loaded, hence only the requested page of the
+     * revisions is converted.
      *
-     * @param deploymentRevisions List of deployment revisions.
+     * @param deploymentStatus Deployment status of the remote fetch configuration.
+     * @param status           Deployment status of the revisions to be returned or null to return all.
+     * @param limit            Maximum number of revisions to be returned.
+     * @param offset           Number of revisions to skip.
      * @return StatusListResponse.
      */
-    private StatusListResponse createStatusListResponse(List<DeploymentRevision> deploymentRevisions) {
+    private StatusListResponse createStatusListResponse(DeploymentStatus deploymentStatus,
+                                                        String status, int limit, int offset) {
 
         StatusListResponse statusListResponse = new StatusListResponse();
-        if (CollectionUtils.isNotEmpty(deploymentRevisions)) {
-            List<StatusListItem> statusListItemList = new ArrayList<>();
-            for (DeploymentRevision deploymentRevision : deploymentRevisions) {
-                StatusListItem statusListItem = populateDeploymentRevision(deploymentRevision);
-                statusListItemList.add(statusListItem);
+        statusListResponse.setSuccessfulDeployments(deploymentStatus.getSuccessfulDeployments());
+        statusListResponse.setFailedDeployments(deploymentStatus.getFailedDeployments());
+        statusListResponse.setSkippedDeployments(deploymentLedger.getSkippedDeployments(
+                deploymentStatus.getRepositoryURI(), deploymentStatus.getBranch()));
+        statusListResponse.setSkippedFiles(deploymentLedger.getSkippedFiles(deploymentStatus.getRepositoryURI(),
+                deploymentStatus.getBranch()));
+        convertDateToStringIfNotNull(deploymentStatus.getLastSynchronizedDate(),
+                statusListResponse::setLastSynchronizedTime);
+
+        List<DeploymentRevision> deploymentRevisions = deploymentStatus.getDeploymentRevisions(status);
+        int fromIndex = Math.min(offset, deploymentRevisions.size());
+        int toIndex = (int) Math.min((long) fromIndex + limit, deploymentRevisions.size());
+        statusListResponse.setTotalResults(deploymentRevisions.size());
+        statusListResponse.setCount(toIndex - fromIndex);
+        if (toIndex > fromIndex) {
+            List<StatusListItem> statusListItemList = new ArrayList<>(toIndex - fromIndex);
+            for (DeploymentRevision deploymentRevision : deploymentRevisions.subList(fromIndex, toIndex)) {
+                statusListItemList.add(populateDeploymentRevision(deploymentRevision));
             }
             statusListResponse.setRemoteFetchRevisionStatuses(statusListItemList);
-            statusListResponse.setSuccessfulDeployments(
-                    (int) deploymentRevisions.stream()
-                            .filter(Objects::nonNull)
-                            .filter(deploymentRevision ->
-                                    deploymentRevision.getDeploymentStatus().name()
-                                            .equals(RemoteFetchConfigurationConstants.SUCCESS)).count());
-            statusListResponse.setFailedDeployments(
-                    (int) deploymentRevisions.stream()
-                            .filter(Objects::nonNull)
-                            .filter(deploymentRevision ->
-                                    deploymentRevision.getDeploymentStatus().name()
-                                            .equals(RemoteFetchConfigurationConstants.FAIL)).count());
-            Date date = deploymentRevisions.stream()
-                    .map(DeploymentRevision::getLastSynchronizedDate)
-                    .max(Date::compareTo)
-                    .orElse(null);
-
-            convertDateToStringIfNotNull(date, statusListResponse::setLastSynchronizedTime);
-            return statusListResponse;
-        } else {
-            statusListResponse.setCount(0);
         }
         return statusListResponse;
     }
@@ -343,7 +389,9 @@ public class ServerRemoteFetchConfigManagementService {
     private StatusListItem populateDeploymentRevision(DeploymentRevision deploymentRevision) {
 
         StatusListItem statusListItem = new StatusListItem();
-        statusListItem.setDeployedStatus(deploymentRevision.getDeploymentStatus().name());
+        if (deploymentRevision.getDeploymentStatus() != null) {
+            statusListItem.setDeployedStatus(deploymentRevision.getDeploymentStatus().name());
+        }
         convertDateToStringIfNotNull(deploymentRevision.getDeployedDate(), statusListItem::setDeployedTime);
         statusListItem.setItemName(deploymentRevision.getItemName());
         statusListItem.setDeploymentErrorReport(deploymentRevision.getErrorMessage());
@@ -471,10 +519,12 @@ public class ServerRemoteFetchConfigManagementService {
                 remoteFetchConfigurationGetResponse::setConfigurationDeployerType);
         setIfNotNull(remoteFetchConfiguration.getRepositoryManagerType(),
                 remoteFetchConfigurationGetResponse::setRepositoryManagerType);
-        StatusListResponse statusListResponse = this.createStatusListResponse(RemoteFetchServiceHolder
-                .getRemoteFetchConfigurationService()
-                .getDeploymentRevisions(remoteFetchConfiguration.getRemoteFetchConfigurationId()));
-        remoteFetchConfigurationGetResponse.setStatus(statusListResponse);
+        DeploymentStatus deploymentStatus = deploymentStatusLoader
+                .getDeploymentStatus(remoteFetchConfiguration.getRemoteFetchConfigurationId());
+        if (deploymentStatus != null) {
+            remoteFetchConfigurationGetResponse.setStatus(createStatusListResponse(deploymentStatus, null,
+                    DEPLOYMENT_STATUS_DEFAULT_LIMIT, 0));
+        }
         return remoteFetchConfigurationGetResponse;
     }
 
@@ -582,25 +632,57 @@ public class ServerRemoteFetchConfigManagementService {
     }
 
     /**
-     * This method is used to handle web hook.
+     * This method is used to handle web hook. The push is queued to be deployed asynchronously, together with the
+     * other pushes to the same repository and branch received within the debounce window.
      *
      * @param pushEventWebHookPOSTRequest WebHook Post request
      */
     public void handleWebHook(PushEventWebHookPOSTRequest pushEventWebHookPOSTRequest) {
 
+        validateWebHookRequest(pushEventWebHookPOSTRequest);
+        String cloneURL = pushEventWebHookPOSTRequest.getRepository().getCloneUrl();
+        String branch = populateBranch(pushEventWebHookPOSTRequest.getRef());
+        List<String> modifiedFiles = extractAddedAndModifiedFiles(pushEventWebHookPOSTRequest.getCommits());
+        String treeId = pushEventWebHookPOSTRequest.getHeadCommit() != null ?
+                pushEventWebHookPOSTRequest.getHeadCommit().getTreeId() : null;
         try {
-            validateWebHookRequest(pushEventWebHookPOSTRequest);
-            String cloneURL = pushEventWebHookPOSTRequest.getRepository().getCloneUrl();
-            String branch = populateBranch(pushEventWebHookPOSTRequest.getRef());
-            List<String> modifiedFiles = extractAddedAndModifiedFiles(pushEventWebHookPOSTRequest.getCommits());
-            RemoteFetchServiceHolder
-                    .getRemoteFetchConfigurationService().handleWebHook(cloneURL, branch, modifiedFiles);
-        } catch (RemoteFetchCoreException e) {
-            throw handleException(Response.Status.INTERNAL_SERVER_ERROR, RemoteFetchConfigurationConstants.ErrorMessage
-                    .ERROR_CODE_ERROR_WEB_HOOK_REMOTE_FETCH, null);
+            boolean coalesced = webHookProcessor.submit(cloneURL, branch, modifiedFiles,
+                    pushEventWebHookPOSTRequest.getBefore(), pushEventWebHookPOSTRequest.getAfter(), treeId);
+            if (log.isDebugEnabled()) {
+                log.debug("Queued the push to the branch: " + branch + " of the repository: " + cloneURL +
+                        (coalesced ? " with the pending pushes." : "."));
+            }
+        } catch (RejectedExecutionException e) {
+            webHookProcessor.pushRejected(ContextLoader.getTenantDomainFromContext());
+            throw handleException(Response.Status.SERVICE_UNAVAILABLE, RemoteFetchConfigurationConstants
+                    .ErrorMessage.ERROR_CODE_WEB_HOOK_QUEUE_FULL, null);
         }
     }
 
+    /**
+     * Get the metrics of the web hook processing of the tenant.
+     *
+     * @return WebHookMetrics.
+     */
+    public WebHookMetrics getWebHookMetrics() {
+
+        String tenantDomain = ContextLoader.getTenantDomainFromContext();
+        WebHookProcessor.TenantMetrics metrics = webHookProcessor.getMetrics(tenantDomain);
+        WebHookMetrics webHookMetrics = new WebHookMetrics();
+        webHookMetrics.setQueueDepth(webHookProcessor.getQueueDepth(tenantDomain));
+        webHookMetrics.setReceivedPushes(metrics.getReceivedPushes());
+        webHookMetrics.setCoalescedPushes(metrics.getCoalescedPushes());
+        webHookMetrics.setRejectedPushes(metrics.getRejectedPushes());
+        webHookMetrics.setDeployments(metrics.getDeployments());
+        webHookMetrics.setFailedDeployments(metrics.getFailedDeployments());
+        webHookMetrics.setSkippedDeployments(metrics.getSkippedDeployments());
+        webHookMetrics.setAverageQueueWaitMillis(metrics.getAverageWaitMillis());
+        webHookMetrics.setLastDeployLatencyMillis(metrics.getLastDeployMillis());
+        webHookMetrics.setAverageDeployLatencyMillis(metrics.getAverageDeployMillis());
+        webHookMetrics.setMaxDeployLatencyMillis(metrics.getMaxDeployMillis());
+        return webHookMetrics;
+    }
+
     /**
      * Method used to validate GitHub Web hook request.
      *
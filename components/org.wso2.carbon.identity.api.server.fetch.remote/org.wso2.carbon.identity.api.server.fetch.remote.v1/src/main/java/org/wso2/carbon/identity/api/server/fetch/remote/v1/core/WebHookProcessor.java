@@ -0,0 +1,473 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.fetch.remote.v1.core;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchServiceHolder;
+import org.wso2.carbon.identity.remotefetch.common.BasicRemoteFetchConfiguration;
+import org.wso2.carbon.identity.remotefetch.common.exceptions.RemoteFetchCoreException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.WEBHOOK_DEBOUNCE_MILLIS;
+import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.WEBHOOK_MAX_DELAY_MILLIS;
+import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.WEBHOOK_MAX_PENDING_PUSHES;
+import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.WEBHOOK_MAX_PENDING_PUSHES_PER_TENANT;
+
+/**
+ * Processes the push events of the remote repositories on a dedicated worker, so that the web hook requests are
+ * acknowledged without waiting for the deployment. Pushes to the same repository and branch are coalesced until no
+ * push is received for the debounce window, or until the maximum delay elapses, and deployed once with the union of
+ * the modified files. The deployment is skipped if the pushed content has already been deployed, i.e. if every
+ * revision of the previous deployment of the same content succeeded. The metrics of the processing are kept per
+ * tenant.
+ */
+public class WebHookProcessor {
+
+    private static final Log log = LogFactory.getLog(WebHookProcessor.class);
+    private static final String KEY_SEPARATOR = "\n";
+
+    private final ScheduledThreadPoolExecutor deploymentExecutor;
+    private final Map<String, PendingPush> pendingPushes = new ConcurrentHashMap<>();
+    private final Map<String, TenantMetrics> tenantMetrics = new ConcurrentHashMap<>();
+
+    @Autowired
+    private DeploymentStatusLoader deploymentStatusLoader;
+
+    @Autowired
+    private DeploymentLedger deploymentLedger;
+
+    public WebHookProcessor() {
+
+        deploymentExecutor = new ScheduledThreadPoolExecutor(1, new NamedThreadFactory("remote-fetch-webhook"));
+        deploymentExecutor.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Queue a push to be deployed once the pushes to the same repository and branch settle.
+     *
+     * @param cloneURL      Clone URL of the repository.
+     * @param branch        Branch of the push.
+     * @param modifiedFiles Files added or modified by the push.
+     * @param before        Head commit of the branch before the push.
+     * @param after         Head commit of the branch after the push.
+     * @param treeId        Tree hash of the head commit after the push.
+     * @return True if the push was merged to a push already waiting to be deployed.
+     * @throws RejectedExecutionException If too many pushes, in total or of the tenant, are waiting to be deployed.
+     */
+    public boolean submit(String cloneURL, String branch, List<String> modifiedFiles, String before, String after,
+                          String treeId) {
+
+        PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+        TenantMetrics metrics = getTenantMetrics(carbonContext.getTenantDomain());
+        metrics.receivedPushes.incrementAndGet();
+        String key = carbonContext.getTenantDomain() + KEY_SEPARATOR + cloneURL + KEY_SEPARATOR + branch;
+        PendingPush newPush = new PendingPush(cloneURL, branch, carbonContext.getTenantDomain(),
+                carbonContext.getTenantId(), carbonContext.getUsername());
+        PendingPush pendingPush = pendingPushes.compute(key, (pushKey, existingPush) -> {
+            if (existingPush != null) {
+                existingPush.merge(modifiedFiles, before, after, treeId);
+                return existingPush;
+            }
+            if (pendingPushes.size() >= WEBHOOK_MAX_PENDING_PUSHES) {
+                throw new RejectedExecutionException("Too many pushes are waiting to be deployed.");
+            }
+            // A tenant pushing to many repository branches should not hold back the pushes of the other tenants.
+            if (getQueueDepth(newPush.tenantDomain) >= WEBHOOK_MAX_PENDING_PUSHES_PER_TENANT) {
+                throw new RejectedExecutionException("Too many pushes of the tenant: " + newPush.tenantDomain +
+                        " are waiting to be deployed.");
+            }
+            newPush.merge(modifiedFiles, before, after, treeId);
+            return newPush;
+        });
+        if (pendingPush != newPush) {
+            metrics.coalescedPushes.incrementAndGet();
+            return true;
+        }
+        try {
+            deploymentExecutor.schedule(() -> deploy(key, pendingPush), WEBHOOK_DEBOUNCE_MILLIS,
+                    TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            pendingPushes.remove(key, pendingPush);
+            throw e;
+        }
+        return false;
+    }
+
+    /**
+     * Record a push of the tenant which could not be queued.
+     *
+     * @param tenantDomain Tenant domain of the push.
+     */
+    public void pushRejected(String tenantDomain) {
+
+        getTenantMetrics(tenantDomain).rejectedPushes.incrementAndGet();
+    }
+
+    /**
+     * Get the number of repository branches of the tenant with pushes waiting to be deployed.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Number of pending repository branches.
+     */
+    public int getQueueDepth(String tenantDomain) {
+
+        int queueDepth = 0;
+        for (PendingPush pendingPush : pendingPushes.values()) {
+            if (pendingPush.tenantDomain.equals(tenantDomain)) {
+                queueDepth++;
+            }
+        }
+        return queueDepth;
+    }
+
+    /**
+     * Get the metrics of the web hook processing of the tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Metrics of the tenant.
+     */
+    public TenantMetrics getMetrics(String tenantDomain) {
+
+        TenantMetrics metrics = tenantMetrics.get(tenantDomain);
+        return metrics != null ? metrics : new TenantMetrics();
+    }
+
+    /**
+     * Shutdown the deployment executor. Invoked when the API context is destroyed.
+     */
+    public void shutdown() {
+
+        deploymentExecutor.shutdownNow();
+    }
+
+    private void deploy(String key, PendingPush push) {
+
+        long remainingDelay = push.getRemainingDelay(System.currentTimeMillis());
+        if (remainingDelay > 0) {
+            deploymentExecutor.schedule(() -> deploy(key, push), remainingDelay, TimeUnit.MILLISECONDS);
+            return;
+        }
+        if (!pendingPushes.remove(key, push)) {
+            return;
+        }
+        List<String> modifiedFiles = push.getModifiedFiles();
+        TenantMetrics metrics = getTenantMetrics(push.tenantDomain);
+        if (push.isDeployed(deploymentLedger)) {
+            metrics.skippedDeployments.incrementAndGet();
+            deploymentLedger.skipped(push.tenantDomain, push.cloneURL, push.branch, push.getAfter(),
+                    modifiedFiles.size());
+            if (log.isDebugEnabled()) {
+                log.debug("Skipped the deployment of " + modifiedFiles.size() + " files of the branch: " +
+                        push.branch + " of the repository: " + push.cloneURL + " as the content of the tree: " +
+                        push.getTreeId() + " has already been deployed.");
+            }
+            return;
+        }
+        long startTime = System.currentTimeMillis();
+        boolean deployed = false;
+        metrics.totalWaitMillis.addAndGet(startTime - push.firstReceivedTime);
+        try {
+            PrivilegedCarbonContext.startTenantFlow();
+            PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+            carbonContext.setTenantDomain(push.tenantDomain);
+            carbonContext.setTenantId(push.tenantId);
+            carbonContext.setUsername(push.username);
+            RemoteFetchServiceHolder.getRemoteFetchConfigurationService()
+                    .handleWebHook(push.cloneURL, push.branch, modifiedFiles);
+            deploymentStatusLoader.invalidate();
+            deployed = isDeploymentSuccessful(push.cloneURL, push.branch);
+            if (log.isDebugEnabled()) {
+                log.debug("Deployed " + push.pushCount + " pushes to the branch: " + push.branch + " of the " +
+                        "repository: " + push.cloneURL + " with " + modifiedFiles.size() + " modified files.");
+            }
+        } catch (RemoteFetchCoreException e) {
+            metrics.failedDeployments.incrementAndGet();
+            log.error("Error while deploying the pushes to the branch: " + push.branch + " of the repository: " +
+                    push.cloneURL, e);
+        } catch (RuntimeException e) {
+            metrics.failedDeployments.incrementAndGet();
+            log.error("Unexpected error while deploying the pushes to the branch: " + push.branch + " of the " +
+                    "repository: " + push.cloneURL, e);
+        } finally {
+            if (!deployed) {
+                deploymentStatusLoader.invalidate();
+            }
+            PrivilegedCarbonContext.endTenantFlow();
+            if (deployed && push.getTreeId() != null) {
+                deploymentLedger.deployed(push.tenantDomain, push.cloneURL, push.branch, push.getAfter(),
+                        push.getTreeId());
+            } else {
+                deploymentLedger.invalidate(push.tenantDomain, push.cloneURL, push.branch);
+            }
+            metrics.deploymentCompleted(System.currentTimeMillis() - startTime);
+        }
+    }
+
+    /**
+     * Check whether every deployment revision of the remote fetch configurations of a repository branch succeeded.
+     * Must be invoked within the tenant flow of the deployment.
+     *
+     * @param cloneURL Clone URL of the repository.
+     * @param branch   Branch of the repository.
+     * @return True if there is a configuration of the branch and all of its revisions were deployed successfully.
+     */
+    private boolean isDeploymentSuccessful(String cloneURL, String branch) {
+
+        boolean matched = false;
+        try {
+            List<BasicRemoteFetchConfiguration> configurations = RemoteFetchServiceHolder
+                    .getRemoteFetchConfigurationService()
+                    .getBasicRemoteFetchConfigurationList(OptionalInt.empty(), OptionalInt.empty());
+            if (configurations == null) {
+                return false;
+            }
+            for (BasicRemoteFetchConfiguration configuration : configurations) {
+                DeploymentStatus deploymentStatus = deploymentStatusLoader.getDeploymentStatus(configuration.getId());
+                if (deploymentStatus == null || !StringUtils.equals(cloneURL, deploymentStatus.getRepositoryURI()) ||
+                        !StringUtils.equals(branch, deploymentStatus.getBranch())) {
+                    continue;
+                }
+                if (deploymentStatus.getSuccessfulDeployments() !=
+                        deploymentStatus.getDeploymentRevisions(null).size()) {
+                    return false;
+                }
+                matched = true;
+            }
+        } catch (RemoteFetchCoreException e) {
+            log.warn("Error while retrieving the deployment status of the branch: " + branch + " of the repository: " +
+                    cloneURL + ". The deployed content is not recorded.", e);
+            return false;
+        }
+        return matched;
+    }
+
+    private TenantMetrics getTenantMetrics(String tenantDomain) {
+
+        return tenantMetrics.computeIfAbsent(tenantDomain, domain -> new TenantMetrics());
+    }
+
+    /**
+     * Metrics of the web hook processing of a tenant.
+     */
+    public static class TenantMetrics {
+
+        private final AtomicLong receivedPushes = new AtomicLong();
+        private final AtomicLong coalescedPushes = new AtomicLong();
+        private final AtomicLong rejectedPushes = new AtomicLong();
+        private final AtomicLong deployments = new AtomicLong();
+        private final AtomicLong failedDeployments = new AtomicLong();
+        private final AtomicLong skippedDeployments = new AtomicLong();
+        private final AtomicLong totalDeployMillis = new AtomicLong();
+        private final AtomicLong maxDeployMillis = new AtomicLong();
+        private final AtomicLong totalWaitMillis = new AtomicLong();
+        private volatile long lastDeployMillis;
+
+        private void deploymentCompleted(long deployMillis) {
+
+            lastDeployMillis = deployMillis;
+            totalDeployMillis.addAndGet(deployMillis);
+            maxDeployMillis.accumulateAndGet(deployMillis, Math::max);
+            deployments.incrementAndGet();
+        }
+
+        public long getReceivedPushes() {
+
+            return receivedPushes.get();
+        }
+
+        public long getCoalescedPushes() {
+
+            return coalescedPushes.get();
+        }
+
+        public long getRejectedPushes() {
+
+            return rejectedPushes.get();
+        }
+
+        public long getDeployments() {
+
+            return deployments.get();
+        }
+
+        public long getFailedDeployments() {
+
+            return failedDeployments.get();
+        }
+
+        public long getSkippedDeployments() {
+
+            return skippedDeployments.get();
+        }
+
+        public long getLastDeployMillis() {
+
+            return lastDeployMillis;
+        }
+
+        public long getMaxDeployMillis() {
+
+            return maxDeployMillis.get();
+        }
+
+        /**
+         * Get the average time taken to deploy the coalesced pushes.
+         *
+         * @return Average deployment time in milliseconds.
+         */
+        public long getAverageDeployMillis() {
+
+            long count = deployments.get();
+            return count == 0 ? 0 : totalDeployMillis.get() / count;
+        }
+
+        /**
+         * Get the average time the first push of a deployment waited in the queue before the deployment was started.
+         *
+         * @return Average wait time in milliseconds.
+         */
+        public long getAverageWaitMillis() {
+
+            long count = deployments.get();
+            return count == 0 ? 0 : totalWaitMillis.get() / count;
+        }
+    }
+
+    /**
+     * Pushes to a repository branch waiting to be deployed.
+     */
+    private static class PendingPush {
+
+        private final String cloneURL;
+        private final String branch;
+        private final String tenantDomain;
+        private final int tenantId;
+        private final String username;
+        private final long firstReceivedTime = System.currentTimeMillis();
+        private final Set<String> modifiedFiles = new LinkedHashSet<>();
+        private long lastReceivedTime = firstReceivedTime;
+        private int pushCount;
+        private String before;
+        private String after;
+        private String treeId;
+        private boolean inSequence = true;
+
+        PendingPush(String cloneURL, String branch, String tenantDomain, int tenantId, String username) {
+
+            this.cloneURL = cloneURL;
+            this.branch = branch;
+            this.tenantDomain = tenantDomain;
+            this.tenantId = tenantId;
+            this.username = username;
+        }
+
+        synchronized void merge(Collection<String> files, String pushBefore, String pushAfter, String pushTreeId) {
+
+            if (pushCount == 0) {
+                before = pushBefore;
+            } else if (!StringUtils.equals(after, pushBefore)) {
+                inSequence = false;
+            }
+            after = pushAfter;
+            treeId = pushTreeId;
+            modifiedFiles.addAll(files);
+            lastReceivedTime = System.currentTimeMillis();
+            pushCount++;
+        }
+
+        synchronized List<String> getModifiedFiles() {
+
+            return new ArrayList<>(modifiedFiles);
+        }
+
+        synchronized String getAfter() {
+
+            return after;
+        }
+
+        synchronized String getTreeId() {
+
+            return treeId;
+        }
+
+        /**
+         * Check whether the content of the pushes has already been deployed. The pushes must follow each other, so
+         * that the tree of the last push is the content of the branch.
+         *
+         * @param deploymentLedger Ledger of the deployed content.
+         * @return True if the content of the pushes has already been deployed.
+         */
+        synchronized boolean isDeployed(DeploymentLedger deploymentLedger) {
+
+            return inSequence && treeId != null &&
+                    deploymentLedger.isDeployed(tenantDomain, cloneURL, branch, before, treeId);
+        }
+
+        /**
+         * Get the time to wait for further pushes before the deployment.
+         *
+         * @param currentTime Current time in milliseconds.
+         * @return Remaining delay in milliseconds, or zero if the pushes should be deployed.
+         */
+        synchronized long getRemainingDelay(long currentTime) {
+
+            long debounceDelay = lastReceivedTime + WEBHOOK_DEBOUNCE_MILLIS - currentTime;
+            long maxDelay = firstReceivedTime + WEBHOOK_MAX_DELAY_MILLIS - currentTime;
+            return Math.max(0, Math.min(debounceDelay, maxDelay));
+        }
+    }
+
+    /**
+     * Thread factory creating named daemon threads for the deployment executor.
+     */
+    private static class NamedThreadFactory implements ThreadFactory {
+
+        private final String namePrefix;
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        NamedThreadFactory(String namePrefix) {
+
+            this.namePrefix = namePrefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+
+            Thread thread = new Thread(runnable, namePrefix + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -68,12 +68,19 @@ public class RemoteFetchApiServiceImpl implements RemoteFetchApiService {
     }
 
     @Override
-    public Response getStatus(String id) {
+    public Response getStatus(String id, String status, Integer limit, Integer offset) {
 
-        StatusListResponse statusListResponse = serverRemoteFetchConfigManagementService.getStatus(id);
+        StatusListResponse statusListResponse = serverRemoteFetchConfigManagementService.getStatus(id, status, limit,
+                offset);
         return Response.ok().entity(statusListResponse).build();
     }
 
+    @Override
+    public Response getWebHookMetrics() {
+
+        return Response.ok().entity(serverRemoteFetchConfigManagementService.getWebHookMetrics()).build();
+    }
+
     @Override
     public Response handleWebHook(PushEventWebHookPOSTRequest pushEventWebHookPOSTRequest) {
 
@@ -25,6 +25,7 @@ public class GovernanceConstants {
     public static final String REL_CATEGORY = "category";
     public static final String REL_CONNECTOR = "connector";
     public static final String IDENTITY_GOVERNANCE_PATH_COMPONENT = "/identity-governance";
+    public static final long CONNECTOR_CONFIG_CACHE_TIMEOUT_MILLIS = 60000;
 
     /**
      * Enum for identity governance related errors in the format of
@@ -67,7 +68,24 @@ public class GovernanceConstants {
         ERROR_CODE_INCORRECT_CONNECTOR_NAME("50011", "Invalid connector name",
                 "Unable to find a connector with the name %s."),
         ERROR_CODE_UNSUPPORTED_PROPERTY_NAME("50012", "Unsupported property is requested.",
-                "The property %s is not supported by this API.");
+                "The property %s is not supported by this API."),
+        ERROR_CODE_INVALID_CONNECTOR_ID("50013", "Invalid connector id.",
+                "Unable to find a connector with the id %s."),
+        ERROR_CODE_INVALID_CONNECTOR_PROPERTY("50014", "Invalid connector property.",
+                "The property %s does not belong to the connector %s."),
+        ERROR_CODE_ERROR_RETRIEVING_SNAPSHOT("50015",
+                "Unable to get the identity governance configuration snapshot.",
+                "Server Encountered an error while retrieving identity governance configuration snapshot."),
+        ERROR_CODE_INVALID_SNAPSHOT_PROPERTY("50016", "Invalid snapshot property.",
+                "Unable to find a connector property with the name %s."),
+        ERROR_CODE_ERROR_RESTORING_SNAPSHOT("50017",
+                "Unable to restore the identity governance configuration snapshot.",
+                "Server Encountered an error while restoring identity governance configuration snapshot. The " +
+                        "restore was rolled back."),
+        ERROR_CODE_ERROR_ROLLING_BACK_SNAPSHOT("50018",
+                "Unable to restore the identity governance configuration snapshot.",
+                "Server Encountered an error while restoring identity governance configuration snapshot and the " +
+                        "restore could not be rolled back. The properties may be partially restored.");
 
         private final String code;
         private final String message;
@@ -22,7 +22,11 @@ import org.wso2.carbon.identity.api.server.identity.governance.v1.model.Category
 import org.wso2.carbon.identity.api.server.identity.governance.v1.model.ConnectorRes;
 import org.wso2.carbon.identity.api.server.identity.governance.v1.model.ConnectorsPatchReq;
 import org.wso2.carbon.identity.api.server.identity.governance.v1.model.Error;
+import org.wso2.carbon.identity.api.server.identity.governance.v1.model.GovernanceSnapshot;
+import org.wso2.carbon.identity.api.server.identity.governance.v1.model.GovernanceSnapshotDiff;
+import org.wso2.carbon.identity.api.server.identity.governance.v1.model.GovernanceSnapshotDiffReq;
 import java.util.List;
+import org.wso2.carbon.identity.api.server.identity.governance.v1.model.MultipleConnectorsPatchReq;
 import org.wso2.carbon.identity.api.server.identity.governance.v1.model.PreferenceResp;
 import org.wso2.carbon.identity.api.server.identity.governance.v1.model.PreferenceSearchAttribute;
 import org.wso2.carbon.identity.api.server.identity.governance.v1.IdentityGovernanceApiService;
@@ -42,6 +46,28 @@ public class IdentityGovernanceApi  {
     @Autowired
     private IdentityGovernanceApiService delegate;
 
+    @Valid
+    @POST
+    @Path("/snapshot/diff")
+    @Consumes({ "application/json" })
+    @Produces({ "application/json", "*/*" })
+    @ApiOperation(value = "Compare governance configuration snapshots.", notes = "Compare two governance configuration snapshots. The current snapshot of the tenant is used as the target snapshot if it is not given.<br> <b>Permission required:</b> <br>     * /permission/admin/manage/identity/idpmgt/view <br> <b>Scope required:</b> <br>     * internal_idp_view ", response = GovernanceSnapshotDiff.class, authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "Management", })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "Differences between the snapshots.", response = GovernanceSnapshotDiff.class),
+        @ApiResponse(code = 400, message = "Bad Request.", response = Error.class),
+        @ApiResponse(code = 401, message = "Unauthorized.", response = Void.class),
+        @ApiResponse(code = 500, message = "Internal Server Error.", response = Error.class)
+    })
+    public Response compareSnapshots(@ApiParam(value = "Snapshots to compare." ,required=true) @Valid GovernanceSnapshotDiffReq governanceSnapshotDiffReq) {
+
+        return delegate.compareSnapshots(governanceSnapshotDiffReq );
+    }
+
     @Valid
     @GET
     @Path("/")
@@ -153,6 +179,27 @@ public class IdentityGovernanceApi  {
         return delegate.getPreferenceByPost(preferenceSearchAttribute );
     }
 
+    @Valid
+    @GET
+    @Path("/snapshot")
+    
+    @Produces({ "application/json", "*/*" })
+    @ApiOperation(value = "Retrieve governance configuration snapshot.", notes = "Retrieve a snapshot of the governance connector properties with the version of the snapshot.<br> <b>Permission required:</b> <br>     * /permission/admin/manage/identity/idpmgt/view <br> <b>Scope required:</b> <br>     * internal_idp_view ", response = GovernanceSnapshot.class, authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "Management", })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "Governance configuration snapshot.", response = GovernanceSnapshot.class),
+        @ApiResponse(code = 401, message = "Unauthorized.", response = Void.class),
+        @ApiResponse(code = 500, message = "Internal Server Error.", response = Error.class)
+    })
+    public Response getSnapshot() {
+
+        return delegate.getSnapshot();
+    }
+
     @Valid
     @PATCH
     @Path("/{category-id}/connectors/{connector-id}")
@@ -163,7 +210,7 @@ public class IdentityGovernanceApi  {
         @Authorization(value = "OAuth2", scopes = {
             
         })
-    }, tags={ "Management" })
+    }, tags={ "Management", })
     @ApiResponses(value = { 
         @ApiResponse(code = 200, message = "OK.", response = Void.class),
         @ApiResponse(code = 400, message = "Bad Request.", response = Error.class),
@@ -176,4 +223,48 @@ public class IdentityGovernanceApi  {
         return delegate.patchConnector(categoryId,  connectorId,  connectorsPatchReq );
     }
 
+    @Valid
+    @PATCH
+    @Path("/")
+    @Consumes({ "application/json" })
+    @Produces({ "*/*" })
+    @ApiOperation(value = "Patch multiple governance connectors.", notes = "Patch the properties of multiple governance connectors of any category in a single update.<br> <b>Permission required:</b> <br>     * /permission/admin/manage/identity/idpmgt/update <br> <b>Scope required:</b> <br>     * internal_idp_update ", response = Void.class, authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "Management", })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "OK.", response = Void.class),
+        @ApiResponse(code = 400, message = "Bad Request.", response = Error.class),
+        @ApiResponse(code = 401, message = "Unauthorized.", response = Void.class),
+        @ApiResponse(code = 500, message = "Internal Server Error.", response = Error.class)
+    })
+    public Response patchConnectors(@ApiParam(value = "governance-connectors to update" ,required=true) @Valid MultipleConnectorsPatchReq multipleConnectorsPatchReq) {
+
+        return delegate.patchConnectors(multipleConnectorsPatchReq );
+    }
+
+    @Valid
+    @PUT
+    @Path("/snapshot")
+    @Consumes({ "application/json" })
+    @Produces({ "application/json", "*/*" })
+    @ApiOperation(value = "Restore governance configuration snapshot.", notes = "Restore the governance connector properties from a snapshot in a single update. The properties which are not in the snapshot are not changed.<br> <b>Permission required:</b> <br>     * /permission/admin/manage/identity/idpmgt/update <br> <b>Scope required:</b> <br>     * internal_idp_update ", response = GovernanceSnapshot.class, authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "Management" })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "Governance configuration snapshot after the restore.", response = GovernanceSnapshot.class),
+        @ApiResponse(code = 400, message = "Bad Request.", response = Error.class),
+        @ApiResponse(code = 401, message = "Unauthorized.", response = Void.class),
+        @ApiResponse(code = 500, message = "Internal Server Error.", response = Error.class)
+    })
+    public Response restoreSnapshot(@ApiParam(value = "Snapshot to restore." ,required=true) @Valid GovernanceSnapshot governanceSnapshot) {
+
+        return delegate.restoreSnapshot(governanceSnapshot );
+    }
+
 }
@@ -17,6 +17,9 @@
 package org.wso2.carbon.identity.api.server.identity.governance.v1;
 
 import org.wso2.carbon.identity.api.server.identity.governance.v1.model.ConnectorsPatchReq;
+import org.wso2.carbon.identity.api.server.identity.governance.v1.model.GovernanceSnapshot;
+import org.wso2.carbon.identity.api.server.identity.governance.v1.model.GovernanceSnapshotDiffReq;
+import org.wso2.carbon.identity.api.server.identity.governance.v1.model.MultipleConnectorsPatchReq;
 import org.wso2.carbon.identity.api.server.identity.governance.v1.model.PreferenceSearchAttribute;
 
 import java.util.List;
@@ -26,6 +29,8 @@ import javax.ws.rs.core.Response;
 
 public interface IdentityGovernanceApiService {
 
+      public Response compareSnapshots(GovernanceSnapshotDiffReq governanceSnapshotDiffReq);
+
       public Response getCategories(Integer limit, Integer offset, String filter, String sort);
 
       public Response getConnector(String categoryId, String connectorId);
@@ -36,5 +41,11 @@ public interface IdentityGovernanceApiService {
 
       public Response getPreferenceByPost(List<PreferenceSearchAttribute> preferenceSearchAttribute);
 
+      public Response getSnapshot();
+
       public Response patchConnector(String categoryId, String connectorId, ConnectorsPatchReq connectorsPatchReq);
+
+      public Response patchConnectors(MultipleConnectorsPatchReq multipleConnectorsPatchReq);
+
+      public Response restoreSnapshot(GovernanceSnapshot governanceSnapshot);
 }
@@ -0,0 +1,134 @@
+/*
+* Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package org.wso2.carbon.identity.api.server.identity.governance.v1.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import java.util.ArrayList;
+import java.util.List;
+import org.wso2.carbon.identity.api.server.identity.governance.v1.model.PropertyReq;
+import javax.validation.constraints.*;
+
+/**
+ * Properties of a governance connector to patch.
+ **/
+
+import io.swagger.annotations.*;
+import java.util.Objects;
+import javax.validation.Valid;
+import javax.xml.bind.annotation.*;
+@ApiModel(description = "Properties of a governance connector to patch.")
+public class ConnectorPropertiesPatchReq  {
+  
+    private String id;
+    private List<PropertyReq> properties = new ArrayList<>();
+
+
+    /**
+    * Connector id.
+    **/
+    public ConnectorPropertiesPatchReq id(String id) {
+
+        this.id = id;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "c3VzcGVuc2lvbi5ub3RpZmljYXRpb24", required = true, value = "Connector id.")
+    @JsonProperty("id")
+    @Valid
+    @NotNull(message = "Property id cannot be null.")
+
+    public String getId() {
+        return id;
+    }
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    /**
+    * Governance connector properties to patch.
+    **/
+    public ConnectorPropertiesPatchReq properties(List<PropertyReq> properties) {
+
+        this.properties = properties;
+        return this;
+    }
+    
+    @ApiModelProperty(required = true, value = "Governance connector properties to patch.")
+    @JsonProperty("properties")
+    @Valid
+    @NotNull(message = "Property properties cannot be null.")
+
+    public List<PropertyReq> getProperties() {
+        return properties;
+    }
+    public void setProperties(List<PropertyReq> properties) {
+        this.properties = properties;
+    }
+
+    public ConnectorPropertiesPatchReq addPropertiesItem(PropertyReq propertiesItem) {
+        this.properties.add(propertiesItem);
+        return this;
+    }
+
+    
+
+    @Override
+    public boolean equals(java.lang.Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ConnectorPropertiesPatchReq connectorPropertiesPatchReq = (ConnectorPropertiesPatchReq) o;
+        return Objects.equals(this.id, connectorPropertiesPatchReq.id) &&
+            Objects.equals(this.properties, connectorPropertiesPatchReq.properties);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, properties);
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("class ConnectorPropertiesPatchReq {\n");
+        
+        sb.append("    id: ").append(toIndentedString(id)).append("\n");
+        sb.append("    properties: ").append(toIndentedString(properties)).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+    * Convert the given object to string with each line indented by 4 spaces
+    * (except the first line).
+    */
+    private String toIndentedString(java.lang.Object o) {
+
+        if (o == null) {
+            return "null";
+        }
+        return o.toString().replace("\n", "\n");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,135 @@
+/*
+* Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package org.wso2.carbon.identity.api.server.identity.governance.v1.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import java.util.HashMap;
+import java.util.Map;
+import javax.validation.constraints.*;
+
+/**
+ * Snapshot of the governance connector properties.
+ **/
+
+import io.swagger.annotations.*;
+import java.util.Objects;
+import javax.validation.Valid;
+import javax.xml.bind.annotation.*;
+@ApiModel(description = "Snapshot of the governance connector properties.")
+public class GovernanceSnapshot  {
+  
+    private String version;
+    private Map<String, String> properties;
+
+
+    /**
+    * Hash of the properties of the snapshot, computed by the server.
+    **/
+    public GovernanceSnapshot version(String version) {
+
+        this.version = version;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "dPgGm3Dc8QMt0oH6GiYvwIbOPh3Gc9sGRRCUYHk1b1Y", value = "Hash of the properties of the snapshot, computed by the server.")
+    @JsonProperty("version")
+    @Valid
+
+    public String getVersion() {
+        return version;
+    }
+    public void setVersion(String version) {
+        this.version = version;
+    }
+
+    /**
+    * Governance connector properties by the connector name and the property name, in the format connector.property.
+    **/
+    public GovernanceSnapshot properties(Map<String, String> properties) {
+
+        this.properties = properties;
+        return this;
+    }
+    
+    @ApiModelProperty(required = true, value = "Governance connector properties by the connector name and the property name, in the format connector.property.")
+    @JsonProperty("properties")
+    @Valid
+    @NotNull(message = "Property properties cannot be null.")
+
+    public Map<String, String> getProperties() {
+        return properties;
+    }
+    public void setProperties(Map<String, String> properties) {
+        this.properties = properties;
+    }
+
+    public GovernanceSnapshot putPropertiesItem(String key, String propertiesItem) {
+        if (this.properties == null) {
+            this.properties = new HashMap<>();
+        }
+        this.properties.put(key, propertiesItem);
+        return this;
+    }
+
+    
+
+    @Override
+    public boolean equals(java.lang.Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        GovernanceSnapshot governanceSnapshot = (GovernanceSnapshot) o;
+        return Objects.equals(this.version, governanceSnapshot.version) &&
+            Objects.equals(this.properties, governanceSnapshot.properties);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(version, properties);
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("class GovernanceSnapshot {\n");
+        
+        sb.append("    version: ").append(toIndentedString(version)).append("\n");
+        sb.append("    properties: ").append(toIndentedString(properties)).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+    * Convert the given object to string with each line indented by 4 spaces
+    * (except the first line).
+    */
+    private String toIndentedString(java.lang.Object o) {
+
+        if (o == null) {
+            return "null";
+        }
+        return o.toString().replace("\n", "\n");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,158 @@
+/*
+* Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package org.wso2.carbon.identity.api.server.identity.governance.v1.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import java.util.ArrayList;
+import java.util.List;
+import org.wso2.carbon.identity.api.server.identity.governance.v1.model.PropertyDiff;
+import javax.validation.constraints.*;
+
+/**
+ * Differences between two governance configuration snapshots.
+ **/
+
+import io.swagger.annotations.*;
+import java.util.Objects;
+import javax.validation.Valid;
+import javax.xml.bind.annotation.*;
+@ApiModel(description = "Differences between two governance configuration snapshots.")
+public class GovernanceSnapshotDiff  {
+  
+    private String sourceVersion;
+    private String targetVersion;
+    private List<PropertyDiff> changes = null;
+
+
+    /**
+    * Version of the source snapshot.
+    **/
+    public GovernanceSnapshotDiff sourceVersion(String sourceVersion) {
+
+        this.sourceVersion = sourceVersion;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "dPgGm3Dc8QMt0oH6GiYvwIbOPh3Gc9sGRRCUYHk1b1Y", value = "Version of the source snapshot.")
+    @JsonProperty("sourceVersion")
+    @Valid
+
+    public String getSourceVersion() {
+        return sourceVersion;
+    }
+    public void setSourceVersion(String sourceVersion) {
+        this.sourceVersion = sourceVersion;
+    }
+
+    /**
+    * Version of the target snapshot.
+    **/
+    public GovernanceSnapshotDiff targetVersion(String targetVersion) {
+
+        this.targetVersion = targetVersion;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "Jb0mDkq3eU4Ab6eU3wjw7KkS2vTnQh0p1hSk5UiXo2A", value = "Version of the target snapshot.")
+    @JsonProperty("targetVersion")
+    @Valid
+
+    public String getTargetVersion() {
+        return targetVersion;
+    }
+    public void setTargetVersion(String targetVersion) {
+        this.targetVersion = targetVersion;
+    }
+
+    /**
+    * Properties which differ between the snapshots, ordered by the name.
+    **/
+    public GovernanceSnapshotDiff changes(List<PropertyDiff> changes) {
+
+        this.changes = changes;
+        return this;
+    }
+    
+    @ApiModelProperty(value = "Properties which differ between the snapshots, ordered by the name.")
+    @JsonProperty("changes")
+    @Valid
+
+    public List<PropertyDiff> getChanges() {
+        return changes;
+    }
+    public void setChanges(List<PropertyDiff> changes) {
+        this.changes = changes;
+    }
+
+    public GovernanceSnapshotDiff addChangesItem(PropertyDiff changesItem) {
+        if (this.changes == null) {
+            this.changes = new ArrayList<>();
+        }
+        this.changes.add(changesItem);
+        return this;
+    }
+
+    
+
+    @Override
+    public boolean equals(java.lang.Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        GovernanceSnapshotDiff governanceSnapshotDiff = (GovernanceSnapshotDiff) o;
+        return Objects.equals(this.sourceVersion, governanceSnapshotDiff.sourceVersion) &&
+            Objects.equals(this.targetVersion, governanceSnapshotDiff.targetVersion) &&
+            Objects.equals(this.changes, governanceSnapshotDiff.changes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sourceVersion, targetVersion, changes);
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("class GovernanceSnapshotDiff {\n");
+        
+        sb.append("    sourceVersion: ").append(toIndentedString(sourceVersion)).append("\n");
+        sb.append("    targetVersion: ").append(toIndentedString(targetVersion)).append("\n");
+        sb.append("    changes: ").append(toIndentedString(changes)).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+    * Convert the given object to string with each line indented by 4 spaces
+    * (except the first line).
+    */
+    private String toIndentedString(java.lang.Object o) {
+
+        if (o == null) {
+            return "null";
+        }
+        return o.toString().replace("\n", "\n");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,126 @@
+/*
+* Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package org.wso2.carbon.identity.api.server.identity.governance.v1.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import org.wso2.carbon.identity.api.server.identity.governance.v1.model.GovernanceSnapshot;
+import javax.validation.constraints.*;
+
+/**
+ * Governance configuration snapshots to compare.
+ **/
+
+import io.swagger.annotations.*;
+import java.util.Objects;
+import javax.validation.Valid;
+import javax.xml.bind.annotation.*;
+@ApiModel(description = "Governance configuration snapshots to compare.")
+public class GovernanceSnapshotDiffReq  {
+  
+    private GovernanceSnapshot source;
+    private GovernanceSnapshot target;
+
+
+    /**
+    * Snapshot to compare from.
+    **/
+    public GovernanceSnapshotDiffReq source(GovernanceSnapshot source) {
+
+        this.source = source;
+        return this;
+    }
+    
+    @ApiModelProperty(required = true, value = "Snapshot to compare from.")
+    @JsonProperty("source")
+    @Valid
+    @NotNull(message = "Property source cannot be null.")
+
+    public GovernanceSnapshot getSource() {
+        return source;
+    }
+    public void setSource(GovernanceSnapshot source) {
+        this.source = source;
+    }
+
+    /**
+    * Snapshot to compare to. The current snapshot of the tenant is used if not given.
+    **/
+    public GovernanceSnapshotDiffReq target(GovernanceSnapshot target) {
+
+        this.target = target;
+        return this;
+    }
+    
+    @ApiModelProperty(value = "Snapshot to compare to. The current snapshot of the tenant is used if not given.")
+    @JsonProperty("target")
+    @Valid
+
+    public GovernanceSnapshot getTarget() {
+        return target;
+    }
+    public void setTarget(GovernanceSnapshot target) {
+        this.target = target;
+    }
+
+    
+
+    @Override
+    public boolean equals(java.lang.Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        GovernanceSnapshotDiffReq governanceSnapshotDiffReq = (GovernanceSnapshotDiffReq) o;
+        return Objects.equals(this.source, governanceSnapshotDiffReq.source) &&
+            Objects.equals(this.target, governanceSnapshotDiffReq.target);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(source, target);
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("class GovernanceSnapshotDiffReq {\n");
+        
+        sb.append("    source: ").append(toIndentedString(source)).append("\n");
+        sb.append("    target: ").append(toIndentedString(target)).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+    * Convert the given object to string with each line indented by 4 spaces
+    * (except the first line).
+    */
+    private String toIndentedString(java.lang.Object o) {
+
+        if (o == null) {
+            return "null";
+        }
+        return o.toString().replace("\n", "\n");
+    }
+}
\ No newline at end of file
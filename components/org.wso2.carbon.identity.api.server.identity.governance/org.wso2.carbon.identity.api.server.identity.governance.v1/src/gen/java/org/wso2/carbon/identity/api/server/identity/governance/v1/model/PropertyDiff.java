@@ -0,0 +1,147 @@
+/*
+* Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package org.wso2.carbon.identity.api.server.identity.governance.v1.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import javax.validation.constraints.*;
+
+/**
+ * Governance connector property which differs between two snapshots.
+ **/
+
+import io.swagger.annotations.*;
+import java.util.Objects;
+import javax.validation.Valid;
+import javax.xml.bind.annotation.*;
+@ApiModel(description = "Governance connector property which differs between two snapshots.")
+public class PropertyDiff  {
+  
+    private String name;
+    private String sourceValue;
+    private String targetValue;
+
+
+    /**
+    * Property name in the format connector.property.
+    **/
+    public PropertyDiff name(String name) {
+
+        this.name = name;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "suspension.notification.suspension.notification.enable", value = "Property name in the format connector.property.")
+    @JsonProperty("name")
+    @Valid
+
+    public String getName() {
+        return name;
+    }
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    /**
+    * Value of the property in the source snapshot. Not given if the property is only in the target snapshot.
+    **/
+    public PropertyDiff sourceValue(String sourceValue) {
+
+        this.sourceValue = sourceValue;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "false", value = "Value of the property in the source snapshot. Not given if the property is only in the target snapshot.")
+    @JsonProperty("sourceValue")
+    @Valid
+
+    public String getSourceValue() {
+        return sourceValue;
+    }
+    public void setSourceValue(String sourceValue) {
+        this.sourceValue = sourceValue;
+    }
+
+    /**
+    * Value of the property in the target snapshot. Not given if the property is only in the source snapshot.
+    **/
+    public PropertyDiff targetValue(String targetValue) {
+
+        this.targetValue = targetValue;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "true", value = "Value of the property in the target snapshot. Not given if the property is only in the source snapshot.")
+    @JsonProperty("targetValue")
+    @Valid
+
+    public String getTargetValue() {
+        return targetValue;
+    }
+    public void setTargetValue(String targetValue) {
+        this.targetValue = targetValue;
+    }
+
+    
+
+    @Override
+    public boolean equals(java.lang.Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        PropertyDiff propertyDiff = (PropertyDiff) o;
+        return Objects.equals(this.name, propertyDiff.name) &&
+            Objects.equals(this.sourceValue, propertyDiff.sourceValue) &&
+            Objects.equals(this.targetValue, propertyDiff.targetValue);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, sourceValue, targetValue);
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("class PropertyDiff {\n");
+        
+        sb.append("    name: ").append(toIndentedString(name)).append("\n");
+        sb.append("    sourceValue: ").append(toIndentedString(sourceValue)).append("\n");
+        sb.append("    targetValue: ").append(toIndentedString(targetValue)).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+    * Convert the given object to string with each line indented by 4 spaces
+    * (except the first line).
+    */
+    private String toIndentedString(java.lang.Object o) {
+
+        if (o == null) {
+            return "null";
+        }
+        return o.toString().replace("\n", "\n");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.identity.governance.v1.core;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+
+/**
+ * Cache holding a snapshot of the governance connectors of each tenant, keyed by the tenant domain. Entries are cleared
+ * across the cluster whenever a connector of the tenant is updated through the server APIs.
+ */
+public class ConnectorConfigCache extends BaseCache<String, ConnectorConfigCacheEntry> {
+
+    private static final String CONNECTOR_CONFIG_CACHE_NAME = "APIServerGovernanceConnectorConfigCache";
+    private static final ConnectorConfigCache instance = new ConnectorConfigCache();
+
+    private ConnectorConfigCache() {
+
+        super(CONNECTOR_CONFIG_CACHE_NAME);
+    }
+
+    public static ConnectorConfigCache getInstance() {
+
+        return instance;
+    }
+}
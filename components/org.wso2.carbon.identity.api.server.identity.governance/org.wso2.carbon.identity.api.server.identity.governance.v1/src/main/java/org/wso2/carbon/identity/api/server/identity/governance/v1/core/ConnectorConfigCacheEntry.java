@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.identity.governance.v1.core;
+
+import org.wso2.carbon.identity.governance.bean.ConnectorConfig;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.wso2.carbon.identity.api.server.identity.governance.common.GovernanceConstants.CONNECTOR_CONFIG_CACHE_TIMEOUT_MILLIS;
+
+/**
+ * Governance connectors of a tenant by the connector name, loaded at a point in time with a single read of the tenant
+ * governance properties. The snapshot expires after a short timeout to pick up the updates made through other
+ * channels than the server APIs.
+ */
+public class ConnectorConfigCacheEntry implements Serializable {
+
+    private static final long serialVersionUID = -3017446825126452370L;
+
+    private final long loadedAt = System.currentTimeMillis();
+    private final Map<String, ConnectorConfig> connectorConfigs;
+
+    public ConnectorConfigCacheEntry(Map<String, List<ConnectorConfig>> categorizedConnectorConfigs) {
+
+        Map<String, ConnectorConfig> connectorConfigsByName = new HashMap<>();
+        if (categorizedConnectorConfigs != null) {
+            for (List<ConnectorConfig> categoryConnectorConfigs : categorizedConnectorConfigs.values()) {
+                for (ConnectorConfig connectorConfig : categoryConnectorConfigs) {
+                    connectorConfigsByName.put(connectorConfig.getName(), connectorConfig);
+                }
+            }
+        }
+        this.connectorConfigs = Collections.unmodifiableMap(connectorConfigsByName);
+    }
+
+    /**
+     * Get the governance connectors of the tenant.
+     *
+     * @return Governance connectors by the connector name.
+     */
+    public Map<String, ConnectorConfig> getConnectorConfigs() {
+
+        return connectorConfigs;
+    }
+
+    public boolean isExpired() {
+
+        return System.currentTimeMillis() - loadedAt >= CONNECTOR_CONFIG_CACHE_TIMEOUT_MILLIS;
+    }
+}
@@ -27,10 +27,16 @@ import org.wso2.carbon.identity.api.server.identity.governance.common.Governance
 import org.wso2.carbon.identity.api.server.identity.governance.v1.model.CategoriesRes;
 import org.wso2.carbon.identity.api.server.identity.governance.v1.model.CategoryConnectorsRes;
 import org.wso2.carbon.identity.api.server.identity.governance.v1.model.CategoryRes;
+import org.wso2.carbon.identity.api.server.identity.governance.v1.model.ConnectorPropertiesPatchReq;
 import org.wso2.carbon.identity.api.server.identity.governance.v1.model.ConnectorRes;
 import org.wso2.carbon.identity.api.server.identity.governance.v1.model.ConnectorsPatchReq;
+import org.wso2.carbon.identity.api.server.identity.governance.v1.model.GovernanceSnapshot;
+import org.wso2.carbon.identity.api.server.identity.governance.v1.model.GovernanceSnapshotDiff;
+import org.wso2.carbon.identity.api.server.identity.governance.v1.model.GovernanceSnapshotDiffReq;
+import org.wso2.carbon.identity.api.server.identity.governance.v1.model.MultipleConnectorsPatchReq;
 import org.wso2.carbon.identity.api.server.identity.governance.v1.model.PreferenceResp;
 import org.wso2.carbon.identity.api.server.identity.governance.v1.model.PreferenceSearchAttribute;
+import org.wso2.carbon.identity.api.server.identity.governance.v1.model.PropertyDiff;
 import org.wso2.carbon.identity.api.server.identity.governance.v1.model.PropertyReq;
 import org.wso2.carbon.identity.api.server.identity.governance.v1.model.PropertyRes;
 import org.wso2.carbon.identity.application.common.model.Property;
@@ -40,11 +46,20 @@ import org.wso2.carbon.identity.governance.bean.ConnectorConfig;
 
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import javax.ws.rs.core.Response;
 
 import static org.wso2.carbon.identity.api.server.common.Constants.V1_API_PATH_COMPONENT;
@@ -60,6 +75,7 @@ import static org.wso2.carbon.identity.api.server.identity.governance.common.Gov
 public class ServerIdentityGovernanceService {
 
     private static final Log LOG = LogFactory.getLog(ServerIdentityGovernanceService.class);
+    private static final String SNAPSHOT_VERSION_DIGEST_ALGORITHM = "SHA-256";
 
     /**
      * Get all governance connector categories.
@@ -179,32 +195,32 @@ public class ServerIdentityGovernanceService {
      */
     public List<PreferenceResp> getConfigPreference(List<PreferenceSearchAttribute> preferenceSearchAttribute) {
 
-        IdentityGovernanceService identityGovernanceService = GovernanceDataHolder.getIdentityGovernanceService();
         String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        Map<String, ConnectorConfig> connectorConfigs;
+        try {
+            // All the connectors of the tenant are loaded at once, rather than loading the governance properties of
+            // the tenant for each requested connector.
+            connectorConfigs = getConnectorConfigs(tenantDomain);
+        } catch (IdentityGovernanceException e) {
+            GovernanceConstants.ErrorMessage errorEnum =
+                    GovernanceConstants.ErrorMessage.ERROR_CODE_ERROR_RETRIEVING_CONNECTOR_PREFERENCES;
+            Response.Status status = Response.Status.INTERNAL_SERVER_ERROR;
+            throw handleException(e, errorEnum, status);
+        }
         List<PreferenceResp> preferenceRespList = new ArrayList<>();
         for (PreferenceSearchAttribute prefSearchAttr : preferenceSearchAttribute) {
             String connectorName = prefSearchAttr.getConnectorName();
             List<String> expectedProperties = prefSearchAttr.getProperties();
-            Property[] properties;
-            try {
-                ConnectorConfig connectorConfig = identityGovernanceService.getConnectorWithConfigs(tenantDomain,
-                        connectorName);
-                if (connectorConfig == null) {
-                    Response.Status status = Response.Status.BAD_REQUEST;
-                    throw handleException(new IdentityGovernanceException(GovernanceConstants.ErrorMessage
-                            .ERROR_CODE_INCORRECT_CONNECTOR_NAME.getMessage()), GovernanceConstants.
-                            ErrorMessage.ERROR_CODE_INCORRECT_CONNECTOR_NAME, status, connectorName);
-                }
-                properties = connectorConfig.getProperties();
-                PreferenceResp preferenceResp =
-                        buildPreferenceRespDTO(connectorName, properties, expectedProperties);
-                preferenceRespList.add(preferenceResp);
-            } catch (IdentityGovernanceException e) {
-                GovernanceConstants.ErrorMessage errorEnum =
-                        GovernanceConstants.ErrorMessage.ERROR_CODE_ERROR_RETRIEVING_CONNECTOR_PREFERENCES;
-                Response.Status status = Response.Status.INTERNAL_SERVER_ERROR;
-                throw handleException(e, errorEnum, status);
+            ConnectorConfig connectorConfig = connectorConfigs.get(connectorName);
+            if (connectorConfig == null) {
+                Response.Status status = Response.Status.BAD_REQUEST;
+                throw handleException(new IdentityGovernanceException(GovernanceConstants.ErrorMessage
+                        .ERROR_CODE_INCORRECT_CONNECTOR_NAME.getMessage()), GovernanceConstants.
+                        ErrorMessage.ERROR_CODE_INCORRECT_CONNECTOR_NAME, status, connectorName);
             }
+            PreferenceResp preferenceResp =
+                    buildPreferenceRespDTO(connectorName, connectorConfig.getProperties(), expectedProperties);
+            preferenceRespList.add(preferenceResp);
         }
         return preferenceRespList;
     }
@@ -284,8 +300,16 @@ public class ServerIdentityGovernanceService {
             IdentityGovernanceService identityGovernanceService = GovernanceDataHolder.getIdentityGovernanceService();
             String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
 
-            ConnectorRes connector = getGovernanceConnector(categoryId, connectorId);
-            if (connector == null) {
+            // The connector is looked up in the connectors of the tenant loaded for the preferences, rather than
+            // loading the governance properties of the tenant to build the connector.
+            ConnectorConfig connectorConfig = getConnectorConfig(tenantDomain, connectorId);
+            if (connectorConfig == null) {
+                throw handleNotFoundError(connectorId, GovernanceConstants.ErrorMessage.ERROR_CODE_CONNECTOR_NOT_FOUND);
+            }
+            String categoryIdFound = Base64.getUrlEncoder()
+                    .withoutPadding()
+                    .encodeToString(connectorConfig.getCategory().getBytes(StandardCharsets.UTF_8));
+            if (!categoryId.equals(categoryIdFound)) {
                 throw handleNotFoundError(connectorId, GovernanceConstants.ErrorMessage.ERROR_CODE_CONNECTOR_NOT_FOUND);
             }
 
@@ -294,6 +318,7 @@ public class ServerIdentityGovernanceService {
                 configurationDetails.put(propertyReqDTO.getName(), propertyReqDTO.getValue());
             }
             identityGovernanceService.updateConfiguration(tenantDomain, configurationDetails);
+            ConnectorConfigCache.getInstance().clearCacheEntry(tenantDomain);
 
         } catch (IdentityGovernanceException e) {
             GovernanceConstants.ErrorMessage errorEnum =
@@ -303,6 +328,282 @@ public class ServerIdentityGovernanceService {
         }
     }
 
+    /**
+     * Update the properties of multiple governance connectors, of any category, with a single update of the tenant
+     * governance properties.
+     *
+     * @param governanceConnectors Governance connectors with the properties to update.
+     */
+    public void updateGovernanceConnectorProperties(MultipleConnectorsPatchReq governanceConnectors) {
+
+        IdentityGovernanceService identityGovernanceService = GovernanceDataHolder.getIdentityGovernanceService();
+        String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+
+        Map<String, String> configurationDetails = new HashMap<>();
+        for (ConnectorPropertiesPatchReq governanceConnector : governanceConnectors.getConnectors()) {
+            String connectorId = governanceConnector.getId();
+            ConnectorConfig connectorConfig;
+            try {
+                connectorConfig = getConnectorConfig(tenantDomain, connectorId);
+            } catch (IdentityGovernanceException e) {
+                GovernanceConstants.ErrorMessage errorEnum =
+                        GovernanceConstants.ErrorMessage.ERROR_CODE_ERROR_RETRIEVING_CONNECTOR;
+                Response.Status status = Response.Status.INTERNAL_SERVER_ERROR;
+                throw handleException(e, errorEnum, status);
+            }
+            if (connectorConfig == null) {
+                throw handleException(new IdentityGovernanceException(GovernanceConstants.ErrorMessage
+                        .ERROR_CODE_INVALID_CONNECTOR_ID.getMessage()), GovernanceConstants.ErrorMessage
+                        .ERROR_CODE_INVALID_CONNECTOR_ID, Response.Status.BAD_REQUEST, connectorId);
+            }
+
+            // The properties of all the connectors are applied together, hence each property must belong to the
+            // connector it is given for.
+            Set<String> propertyNames = new HashSet<>();
+            for (Property property : connectorConfig.getProperties()) {
+                propertyNames.add(property.getName());
+            }
+            for (PropertyReq propertyReqDTO : governanceConnector.getProperties()) {
+                if (!propertyNames.contains(propertyReqDTO.getName())) {
+                    throw handleException(new IdentityGovernanceException(GovernanceConstants.ErrorMessage
+                                    .ERROR_CODE_INVALID_CONNECTOR_PROPERTY.getMessage()), GovernanceConstants
+                                    .ErrorMessage.ERROR_CODE_INVALID_CONNECTOR_PROPERTY, Response.Status.BAD_REQUEST,
+                            propertyReqDTO.getName(), connectorConfig.getName());
+                }
+                configurationDetails.put(propertyReqDTO.getName(), propertyReqDTO.getValue());
+            }
+        }
+        if (configurationDetails.isEmpty()) {
+            return;
+        }
+
+        try {
+            identityGovernanceService.updateConfiguration(tenantDomain, configurationDetails);
+        } catch (IdentityGovernanceException e) {
+            GovernanceConstants.ErrorMessage errorEnum =
+                    GovernanceConstants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_CONNECTOR_PROPERTY;
+            Response.Status status = Response.Status.INTERNAL_SERVER_ERROR;
+            throw handleException(e, errorEnum, status);
+        } finally {
+            // Some of the properties may have been stored even if the update fails.
+            ConnectorConfigCache.getInstance().clearCacheEntry(tenantDomain);
+        }
+    }
+
+    /**
+     * Get a snapshot of the governance connector properties of the tenant.
+     *
+     * @return Non confidential properties of all the governance connectors with the version of the snapshot.
+     */
+    public GovernanceSnapshot getGovernanceSnapshot() {
+
+        String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        try {
+            return buildGovernanceSnapshot(getConnectorConfigs(tenantDomain));
+        } catch (IdentityGovernanceException e) {
+            GovernanceConstants.ErrorMessage errorEnum =
+                    GovernanceConstants.ErrorMessage.ERROR_CODE_ERROR_RETRIEVING_SNAPSHOT;
+            Response.Status status = Response.Status.INTERNAL_SERVER_ERROR;
+            throw handleException(e, errorEnum, status);
+        }
+    }
+
+    /**
+     * Compare two governance configuration snapshots.
+     *
+     * @param governanceSnapshotDiffReq Snapshots to compare. The current snapshot of the tenant is compared with the
+     *                                  source snapshot if the target snapshot is not given.
+     * @return Properties which differ between the snapshots.
+     */
+    public GovernanceSnapshotDiff compareGovernanceSnapshots(GovernanceSnapshotDiffReq governanceSnapshotDiffReq) {
+
+        SortedMap<String, String> sourceProperties = new TreeMap<>(governanceSnapshotDiffReq.getSource()
+                .getProperties());
+        SortedMap<String, String> targetProperties;
+        String targetVersion;
+        if (governanceSnapshotDiffReq.getTarget() != null) {
+            targetProperties = new TreeMap<>(governanceSnapshotDiffReq.getTarget().getProperties());
+            targetVersion = computeSnapshotVersion(targetProperties);
+        } else {
+            GovernanceSnapshot currentSnapshot = getGovernanceSnapshot();
+            targetProperties = new TreeMap<>(currentSnapshot.getProperties());
+            targetVersion = currentSnapshot.getVersion();
+        }
+        // The versions given with the snapshots are not trusted, as the snapshots may have been edited by the client.
+        String sourceVersion = computeSnapshotVersion(sourceProperties);
+
+        GovernanceSnapshotDiff governanceSnapshotDiff = new GovernanceSnapshotDiff();
+        governanceSnapshotDiff.setSourceVersion(sourceVersion);
+        governanceSnapshotDiff.setTargetVersion(targetVersion);
+        List<PropertyDiff> changes = new ArrayList<>();
+        if (!sourceVersion.equals(targetVersion)) {
+            SortedSet<String> propertyNames = new TreeSet<>(sourceProperties.keySet());
+            propertyNames.addAll(targetProperties.keySet());
+            for (String propertyName : propertyNames) {
+                String sourceValue = sourceProperties.get(propertyName);
+                String targetValue = targetProperties.get(propertyName);
+                if (!Objects.equals(sourceValue, targetValue)) {
+                    PropertyDiff propertyDiff = new PropertyDiff();
+                    propertyDiff.setName(propertyName);
+                    propertyDiff.setSourceValue(sourceValue);
+                    propertyDiff.setTargetValue(targetValue);
+                    changes.add(propertyDiff);
+                }
+            }
+        }
+        governanceSnapshotDiff.setChanges(changes);
+        return governanceSnapshotDiff;
+    }
+
+    /**
+     * Restore the governance connector properties of the tenant from a snapshot. All the properties of the snapshot
+     * are validated before any of them is updated, and the properties which differ from the current ones are updated
+     * together. The properties which are not in the snapshot are not changed. If the update fails, the updated
+     * properties are written back with their previous values, as the update may have stored some of them.
+     *
+     * @param governanceSnapshot Snapshot to restore.
+     * @return Snapshot of the governance connector properties after the restore.
+     */
+    public GovernanceSnapshot restoreGovernanceSnapshot(GovernanceSnapshot governanceSnapshot) {
+
+        IdentityGovernanceService identityGovernanceService = GovernanceDataHolder.getIdentityGovernanceService();
+        String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+
+        // The snapshot is compared with the stored properties rather than the cached ones, which may be outdated.
+        ConnectorConfigCache.getInstance().clearCacheEntry(tenantDomain);
+        Map<String, Property> currentProperties = new HashMap<>();
+        try {
+            for (ConnectorConfig connectorConfig : getConnectorConfigs(tenantDomain).values()) {
+                for (Property property : connectorConfig.getProperties()) {
+                    if (!property.isConfidential()) {
+                        currentProperties.put(getSnapshotPropertyName(connectorConfig, property), property);
+                    }
+                }
+            }
+        } catch (IdentityGovernanceException e) {
+            GovernanceConstants.ErrorMessage errorEnum =
+                    GovernanceConstants.ErrorMessage.ERROR_CODE_ERROR_RETRIEVING_SNAPSHOT;
+            Response.Status status = Response.Status.INTERNAL_SERVER_ERROR;
+            throw handleException(e, errorEnum, status);
+        }
+
+        Map<String, String> configurationDetails = new HashMap<>();
+        Map<String, String> previousValues = new HashMap<>();
+        for (Map.Entry<String, String> snapshotProperty : governanceSnapshot.getProperties().entrySet()) {
+            Property property = currentProperties.get(snapshotProperty.getKey());
+            if (property == null) {
+                throw handleException(new IdentityGovernanceException(GovernanceConstants.ErrorMessage
+                        .ERROR_CODE_INVALID_SNAPSHOT_PROPERTY.getMessage()), GovernanceConstants.ErrorMessage
+                        .ERROR_CODE_INVALID_SNAPSHOT_PROPERTY, Response.Status.BAD_REQUEST, snapshotProperty.getKey());
+            }
+            if (!Objects.equals(property.getValue(), snapshotProperty.getValue())) {
+                configurationDetails.put(property.getName(), snapshotProperty.getValue());
+                previousValues.put(property.getName(), property.getValue());
+            }
+        }
+
+        if (!configurationDetails.isEmpty()) {
+            try {
+                identityGovernanceService.updateConfiguration(tenantDomain, configurationDetails);
+            } catch (IdentityGovernanceException e) {
+                GovernanceConstants.ErrorMessage errorEnum =
+                        GovernanceConstants.ErrorMessage.ERROR_CODE_ERROR_RESTORING_SNAPSHOT;
+                try {
+                    identityGovernanceService.updateConfiguration(tenantDomain, previousValues);
+                } catch (IdentityGovernanceException rollbackException) {
+                    LOG.error("Error while rolling back the restore of the governance configuration snapshot of " +
+                            "the tenant: " + tenantDomain, rollbackException);
+                    errorEnum = GovernanceConstants.ErrorMessage.ERROR_CODE_ERROR_ROLLING_BACK_SNAPSHOT;
+                }
+                Response.Status status = Response.Status.INTERNAL_SERVER_ERROR;
+                throw handleException(e, errorEnum, status);
+            } finally {
+                ConnectorConfigCache.getInstance().clearCacheEntry(tenantDomain);
+            }
+        }
+        return getGovernanceSnapshot();
+    }
+
+    private GovernanceSnapshot buildGovernanceSnapshot(Map<String, ConnectorConfig> connectorConfigs) {
+
+        SortedMap<String, String> properties = new TreeMap<>();
+        for (ConnectorConfig connectorConfig : connectorConfigs.values()) {
+            for (Property property : connectorConfig.getProperties()) {
+                if (property.isConfidential()) {
+                    continue;
+                }
+                properties.put(getSnapshotPropertyName(connectorConfig, property), property.getValue());
+            }
+        }
+        GovernanceSnapshot governanceSnapshot = new GovernanceSnapshot();
+        governanceSnapshot.setVersion(computeSnapshotVersion(properties));
+        governanceSnapshot.setProperties(properties);
+        return governanceSnapshot;
+    }
+
+    private String getSnapshotPropertyName(ConnectorConfig connectorConfig, Property property) {
+
+        return connectorConfig.getName() + "." + property.getName();
+    }
+
+    private String computeSnapshotVersion(SortedMap<String, String> properties) {
+
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance(SNAPSHOT_VERSION_DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            GovernanceConstants.ErrorMessage errorEnum =
+                    GovernanceConstants.ErrorMessage.ERROR_CODE_ERROR_RETRIEVING_SNAPSHOT;
+            Response.Status status = Response.Status.INTERNAL_SERVER_ERROR;
+            throw handleException(e, errorEnum, status);
+        }
+        for (Map.Entry<String, String> property : properties.entrySet()) {
+            messageDigest.update(property.getKey().getBytes(StandardCharsets.UTF_8));
+            // Each name and value is terminated, and a missing value is marked to tell it apart from an empty value.
+            messageDigest.update((byte) 0);
+            if (property.getValue() != null) {
+                messageDigest.update(property.getValue().getBytes(StandardCharsets.UTF_8));
+                messageDigest.update((byte) 0);
+            } else {
+                messageDigest.update((byte) 1);
+            }
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(messageDigest.digest());
+    }
+
+    /**
+     * Get the governance connectors of a tenant, loaded with a single read of the tenant governance properties.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Governance connectors of the tenant by the connector name.
+     * @throws IdentityGovernanceException If the governance connectors cannot be loaded.
+     */
+    private Map<String, ConnectorConfig> getConnectorConfigs(String tenantDomain) throws IdentityGovernanceException {
+
+        ConnectorConfigCacheEntry cacheEntry = ConnectorConfigCache.getInstance().getValueFromCache(tenantDomain);
+        if (cacheEntry == null || cacheEntry.isExpired()) {
+            cacheEntry = new ConnectorConfigCacheEntry(GovernanceDataHolder.getIdentityGovernanceService()
+                    .getCategorizedConnectorListWithConfigs(tenantDomain));
+            ConnectorConfigCache.getInstance().addToCache(tenantDomain, cacheEntry);
+        }
+        return cacheEntry.getConnectorConfigs();
+    }
+
+    private ConnectorConfig getConnectorConfig(String tenantDomain, String connectorId)
+            throws IdentityGovernanceException {
+
+        if (connectorId == null) {
+            return null;
+        }
+        String connectorName;
+        try {
+            connectorName = new String(Base64.getUrlDecoder().decode(connectorId), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        return getConnectorConfigs(tenantDomain).get(connectorName);
+    }
+
     private APIError handleException(Exception e, GovernanceConstants.ErrorMessage errorEnum, Response.Status status,
                                      String... data) {
 
@@ -20,6 +20,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.wso2.carbon.identity.api.server.identity.governance.v1.IdentityGovernanceApiService;
 import org.wso2.carbon.identity.api.server.identity.governance.v1.core.ServerIdentityGovernanceService;
 import org.wso2.carbon.identity.api.server.identity.governance.v1.model.ConnectorsPatchReq;
+import org.wso2.carbon.identity.api.server.identity.governance.v1.model.GovernanceSnapshot;
+import org.wso2.carbon.identity.api.server.identity.governance.v1.model.GovernanceSnapshotDiffReq;
+import org.wso2.carbon.identity.api.server.identity.governance.v1.model.MultipleConnectorsPatchReq;
 import org.wso2.carbon.identity.api.server.identity.governance.v1.model.PreferenceSearchAttribute;
 import java.util.List;
 
@@ -65,9 +68,35 @@ public class IdentityGovernanceApiServiceImpl implements IdentityGovernanceApiSe
         return Response.ok().build();
     }
 
+    @Override
+    public Response patchConnectors(MultipleConnectorsPatchReq governanceConnectors) {
+
+        identityGovernanceService.updateGovernanceConnectorProperties(governanceConnectors);
+        return Response.ok().build();
+    }
+
     @Override
     public Response getPreferenceByPost(List<PreferenceSearchAttribute> preferenceSearchAttribute) {
 
         return Response.ok().entity(identityGovernanceService.getConfigPreference(preferenceSearchAttribute)).build();
     }
+
+    @Override
+    public Response getSnapshot() {
+
+        return Response.ok().entity(identityGovernanceService.getGovernanceSnapshot()).build();
+    }
+
+    @Override
+    public Response compareSnapshots(GovernanceSnapshotDiffReq governanceSnapshotDiffReq) {
+
+        return Response.ok().entity(identityGovernanceService.compareGovernanceSnapshots(governanceSnapshotDiffReq))
+                .build();
+    }
+
+    @Override
+    public Response restoreSnapshot(GovernanceSnapshot governanceSnapshot) {
+
+        return Response.ok().entity(identityGovernanceService.restoreGovernanceSnapshot(governanceSnapshot)).build();
+    }
 }
@@ -24,9 +24,19 @@ public class KeyStoreConstants {
     public static final String CERTIFICATE_PATH_COMPONENT = "/certs" + "/%s";
     public static final String CLIENT_CERTIFICATE_PATH_COMPONENT = "/client-certs" + "/%s";
 
-    public static final String CERTIFICATE_FILE_EXTENSION = ".cer";
-    public static final String CERTIFICATE_TEMPORARY_DIRECTORY_PATH = "tmp/certs";
-    public static final String PATH_SEPERATOR = "/";
+    public static final String CERTIFICATE_FINGERPRINT_ALGORITHM = "SHA-256";
+    public static final long CERTIFICATE_INDEX_TIMEOUT_MILLIS = 300000;
+
+    public static final String LIMIT = "limit";
+    public static final String OFFSET = "offset";
+    public static final String EXPIRING_WITHIN = "expiring-within";
+    public static final String FILTER_ATTRIBUTE_ALIAS = "alias";
+    public static final String FILTER_ATTRIBUTE_SUBJECT = "subject";
+    public static final String FILTER_ATTRIBUTE_ISSUER = "issuer";
+    public static final String FILTER_OPERATION_STARTS_WITH = "sw";
+    public static final String FILTER_OPERATION_CONTAINS = "co";
+    public static final String FILTER_OPERATION_ENDS_WITH = "ew";
+    public static final String FILTER_OPERATION_EQUALS = "eq";
 
     /**
      * Enum for Keystore management service related errors.
@@ -34,7 +44,8 @@ public class KeyStoreConstants {
     public enum ErrorMessage {
 
         ERROR_CODE_INVALID_ALIAS("KSS-60010", "There exists no certificate with alias: %s."),
-        ERROR_CODE_FILE_WRITE("KSS-65010", "Unable to create file: %s"),
+        ERROR_CODE_INVALID_FILTER("KSS-60011", "Invalid filter: %s."),
+        ERROR_CODE_INVALID_QUERY_PARAMETER("KSS-60012", "Invalid value for the query parameter: %s."),
         ERROR_CODE_ENCODE_CERTIFICATE("KSS-65011", "Unable to encode the certificate with alias: %s.");
 
         private final String code;
@@ -105,9 +105,9 @@ public class KeystoresApi  {
         @ApiResponse(code = 404, message = "Resource Not Found.", response = ErrorResponse.class),
         @ApiResponse(code = 500, message = "Internal Server Error.", response = ErrorResponse.class)
     })
-    public Response getCertificateAliases(    @Valid@ApiParam(value = "Condition to filter the retrival of records. Supports 'sw', 'co', 'ew' and 'eq' operations. E.g. keystores/certs?filter=alias+eq+wso2carbon")  @QueryParam("filter") String filter) {
+    public Response getCertificateAliases(    @Valid@ApiParam(value = "Condition to filter the retrival of records. Supports 'sw', 'co', 'ew' and 'eq' operations. E.g. keystores/certs?filter=alias+eq+wso2carbon")  @QueryParam("filter") String filter,     @Valid@ApiParam(value = "Maximum number of records to return.")  @QueryParam("limit") Integer limit,     @Valid@ApiParam(value = "Number of records to skip for pagination.")  @QueryParam("offset") Integer offset,     @Valid@ApiParam(value = "Return only the certificates which expire within the given number of days, including the expired certificates.")  @QueryParam("expiring-within") Integer expiringWithin) {
 
-        return delegate.getCertificateAliases(filter );
+        return delegate.getCertificateAliases(filter,  limit,  offset,  expiringWithin );
     }
 
     @Valid
@@ -153,9 +153,9 @@ public class KeystoresApi  {
         @ApiResponse(code = 404, message = "Resource Not Found.", response = ErrorResponse.class),
         @ApiResponse(code = 500, message = "Internal Server Error.", response = ErrorResponse.class)
     })
-    public Response getClientCertificateAliases(    @Valid@ApiParam(value = "Condition to filter the retrival of records. Supports 'sw', 'co', 'ew' and 'eq' operations. E.g. keystores/certs?filter=alias+eq+wso2carbon")  @QueryParam("filter") String filter) {
+    public Response getClientCertificateAliases(    @Valid@ApiParam(value = "Condition to filter the retrival of records. Supports 'sw', 'co', 'ew' and 'eq' operations. E.g. keystores/certs?filter=alias+eq+wso2carbon")  @QueryParam("filter") String filter,     @Valid@ApiParam(value = "Maximum number of records to return.")  @QueryParam("limit") Integer limit,     @Valid@ApiParam(value = "Number of records to skip for pagination.")  @QueryParam("offset") Integer offset,     @Valid@ApiParam(value = "Return only the certificates which expire within the given number of days, including the expired certificates.")  @QueryParam("expiring-within") Integer expiringWithin) {
 
-        return delegate.getClientCertificateAliases(filter );
+        return delegate.getClientCertificateAliases(filter,  limit,  offset,  expiringWithin );
     }
 
     @Valid
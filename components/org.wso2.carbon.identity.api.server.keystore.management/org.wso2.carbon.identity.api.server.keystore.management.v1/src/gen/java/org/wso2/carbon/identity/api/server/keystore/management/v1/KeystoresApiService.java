@@ -33,11 +33,11 @@ public interface KeystoresApiService {
 
       public Response getCertificate(String alias, Boolean encodeCert);
 
-      public Response getCertificateAliases(String filter);
+      public Response getCertificateAliases(String filter, Integer limit, Integer offset, Integer expiringWithin);
 
       public Response getClientCertificate(String alias, Boolean encodeCert);
 
-      public Response getClientCertificateAliases(String filter);
+      public Response getClientCertificateAliases(String filter, Integer limit, Integer offset, Integer expiringWithin);
 
       public Response getPublicCertificate(Boolean encodeCert);
 
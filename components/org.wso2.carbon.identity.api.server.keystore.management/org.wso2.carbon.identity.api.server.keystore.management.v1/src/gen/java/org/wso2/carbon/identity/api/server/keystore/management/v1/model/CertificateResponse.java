@@ -33,6 +33,10 @@ public class CertificateResponse  {
   
     private String alias;
     private URI certificate;
+    private String subject;
+    private String issuer;
+    private String notAfter;
+    private String thumbprint;
 
     /**
     **/
@@ -74,6 +78,82 @@ public class CertificateResponse  {
         this.certificate = certificate;
     }
 
+    /**
+    * Subject of the certificate.
+    **/
+    public CertificateResponse subject(String subject) {
+
+        this.subject = subject;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "CN=localhost, O=WSO2, L=Mountain View, ST=CA, C=US", value = "Subject of the certificate.")
+    @JsonProperty("subject")
+    @Valid
+    public String getSubject() {
+        return subject;
+    }
+    public void setSubject(String subject) {
+        this.subject = subject;
+    }
+
+    /**
+    * Issuer of the certificate.
+    **/
+    public CertificateResponse issuer(String issuer) {
+
+        this.issuer = issuer;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "CN=localhost, O=WSO2, L=Mountain View, ST=CA, C=US", value = "Issuer of the certificate.")
+    @JsonProperty("issuer")
+    @Valid
+    public String getIssuer() {
+        return issuer;
+    }
+    public void setIssuer(String issuer) {
+        this.issuer = issuer;
+    }
+
+    /**
+    * End of the validity period of the certificate.
+    **/
+    public CertificateResponse notAfter(String notAfter) {
+
+        this.notAfter = notAfter;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "2030-01-01T00:00:00Z", value = "End of the validity period of the certificate.")
+    @JsonProperty("notAfter")
+    @Valid
+    public String getNotAfter() {
+        return notAfter;
+    }
+    public void setNotAfter(String notAfter) {
+        this.notAfter = notAfter;
+    }
+
+    /**
+    * SHA-256 thumbprint of the certificate.
+    **/
+    public CertificateResponse thumbprint(String thumbprint) {
+
+        this.thumbprint = thumbprint;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "c6a2c4d3bd5b0a2e9a6c7b1c3a1e0d3d8f4f5b6e7a8c9d0e1f2a3b4c5d6e7f80", value = "SHA-256 thumbprint of the certificate.")
+    @JsonProperty("thumbprint")
+    @Valid
+    public String getThumbprint() {
+        return thumbprint;
+    }
+    public void setThumbprint(String thumbprint) {
+        this.thumbprint = thumbprint;
+    }
+
 
 
     @Override
@@ -87,12 +167,16 @@ public class CertificateResponse  {
         }
         CertificateResponse certificateResponse = (CertificateResponse) o;
         return Objects.equals(this.alias, certificateResponse.alias) &&
-            Objects.equals(this.certificate, certificateResponse.certificate);
+            Objects.equals(this.certificate, certificateResponse.certificate) &&
+            Objects.equals(this.subject, certificateResponse.subject) &&
+            Objects.equals(this.issuer, certificateResponse.issuer) &&
+            Objects.equals(this.notAfter, certificateResponse.notAfter) &&
+            Objects.equals(this.thumbprint, certificateResponse.thumbprint);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(alias, certificate);
+        return Objects.hash(alias, certificate, subject, issuer, notAfter, thumbprint);
     }
 
     @Override
@@ -103,6 +187,10 @@ public class CertificateResponse  {
         
         sb.append("    alias: ").append(toIndentedString(alias)).append("\n");
         sb.append("    certificate: ").append(toIndentedString(certificate)).append("\n");
+        sb.append("    subject: ").append(toIndentedString(subject)).append("\n");
+        sb.append("    issuer: ").append(toIndentedString(issuer)).append("\n");
+        sb.append("    notAfter: ").append(toIndentedString(notAfter)).append("\n");
+        sb.append("    thumbprint: ").append(toIndentedString(thumbprint)).append("\n");
         sb.append("}");
         return sb.toString();
     }
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.keystore.management.v1.core;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.security.keystore.KeyStoreManagementException;
+import org.wso2.carbon.security.keystore.KeyStoreManagementService;
+
+import java.io.Serializable;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.CertificateEncodingException;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.CERTIFICATE_FINGERPRINT_ALGORITHM;
+import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreManagamentDataHolder.getKeyStoreManager;
+
+/**
+ * Index of the certificates of the keystore and the client truststore of each tenant, holding the metadata of the
+ * certificates so that they can be listed, filtered and checked for expiry without loading every certificate from the
+ * store. The index is held in the {@link CertificateIndexCache}, hence the index of a store is invalidated across the
+ * cluster when a certificate is added or removed through this API. It also expires after a timeout to pick up the
+ * changes made through other channels.
+ */
+public class CertificateIndex {
+
+    private static final Log LOG = LogFactory.getLog(CertificateIndex.class);
+    private static final String KEY_SEPARATOR = "\n";
+    private static final String KEYSTORE = "keystore";
+    private static final String CLIENT_TRUSTSTORE = "client-truststore";
+
+    /**
+     * Get the certificates of a store of a tenant.
+     *
+     * @param tenantDomain      Tenant domain.
+     * @param clientCertificate Whether the certificates of the client truststore should be returned.
+     * @return Certificates of the store ordered by the alias.
+     * @throws KeyStoreManagementException If the certificates cannot be loaded from the store.
+     */
+    public List<IndexedCertificate> getCertificates(String tenantDomain, boolean clientCertificate)
+            throws KeyStoreManagementException {
+
+        String key = getKey(tenantDomain, clientCertificate);
+        CertificateIndexCacheEntry cacheEntry = CertificateIndexCache.getInstance().getValueFromCache(key);
+        if (cacheEntry != null && !cacheEntry.isExpired()) {
+            return cacheEntry.getCertificates();
+        }
+        cacheEntry = new CertificateIndexCacheEntry(load(tenantDomain, clientCertificate));
+        CertificateIndexCache.getInstance().addToCache(key, cacheEntry);
+        return cacheEntry.getCertificates();
+    }
+
+    /**
+     * Invalidate the index of a store of a tenant across the cluster.
+     *
+     * @param tenantDomain      Tenant domain.
+     * @param clientCertificate Whether the index of the client truststore should be invalidated.
+     */
+    public void invalidate(String tenantDomain, boolean clientCertificate) {
+
+        CertificateIndexCache.getInstance().clearCacheEntry(getKey(tenantDomain, clientCertificate));
+    }
+
+    private List<IndexedCertificate> load(String tenantDomain, boolean clientCertificate)
+            throws KeyStoreManagementException {
+
+        KeyStoreManagementService keyStoreManager = getKeyStoreManager();
+        List<String> aliases = clientCertificate ? keyStoreManager.getClientCertificateAliases(tenantDomain, null) :
+                keyStoreManager.getKeyStoreCertificateAliases(tenantDomain, null);
+        List<IndexedCertificate> certificates = new ArrayList<>();
+        if (aliases != null) {
+            for (String alias : aliases) {
+                X509Certificate certificate = clientCertificate ?
+                        keyStoreManager.getClientCertificate(tenantDomain, alias) :
+                        keyStoreManager.getKeyStoreCertificate(tenantDomain, alias);
+                certificates.add(new IndexedCertificate(alias, certificate));
+            }
+        }
+        certificates.sort((certificate1, certificate2) -> certificate1.alias.compareTo(certificate2.alias));
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Loaded " + certificates.size() + " certificates of the tenant: " + tenantDomain +
+                    " to the certificate index.");
+        }
+        return certificates;
+    }
+
+    /**
+     * Get the fingerprint of a certificate.
+     *
+     * @param encodedCertificate DER encoded certificate.
+     * @return Hex encoded digest of the certificate.
+     * @throws CertificateEncodingException If the digest algorithm is not available.
+     */
+    private static String getFingerprint(byte[] encodedCertificate) throws CertificateEncodingException {
+
+        byte[] digest;
+        try {
+            digest = MessageDigest.getInstance(CERTIFICATE_FINGERPRINT_ALGORITHM).digest(encodedCertificate);
+        } catch (NoSuchAlgorithmException e) {
+            throw new CertificateEncodingException("Unable to compute the fingerprint of the certificate.", e);
+        }
+        StringBuilder fingerprint = new StringBuilder(digest.length * 2);
+        for (byte digestByte : digest) {
+            fingerprint.append(Character.forDigit((digestByte >> 4) & 0xF, 16))
+                    .append(Character.forDigit(digestByte & 0xF, 16));
+        }
+        return fingerprint.toString();
+    }
+
+    private static String getKey(String tenantDomain, boolean clientCertificate) {
+
+        return tenantDomain + KEY_SEPARATOR + (clientCertificate ? CLIENT_TRUSTSTORE : KEYSTORE);
+    }
+
+    /**
+     * Certificate metadata held in the index. The metadata is not available if there is no certificate for the alias.
+     */
+    public static class IndexedCertificate implements Serializable {
+
+        private static final long serialVersionUID = -6273015482139570824L;
+
+        private final String alias;
+        private final String subject;
+        private final String issuer;
+        private final Date notAfter;
+        private final String thumbprint;
+
+        private IndexedCertificate(String alias, X509Certificate certificate) {
+
+            this.alias = alias;
+            if (certificate == null) {
+                this.subject = null;
+                this.issuer = null;
+                this.notAfter = null;
+                this.thumbprint = null;
+                return;
+            }
+            this.subject = certificate.getSubjectX500Principal().getName();
+            this.issuer = certificate.getIssuerX500Principal().getName();
+            this.notAfter = certificate.getNotAfter();
+            String certificateThumbprint = null;
+            try {
+                certificateThumbprint = getFingerprint(certificate.getEncoded());
+            } catch (CertificateEncodingException e) {
+                LOG.warn("Unable to compute the thumbprint of the certificate with alias: " + alias, e);
+            }
+            this.thumbprint = certificateThumbprint;
+        }
+
+        public String getAlias() {
+
+            return alias;
+        }
+
+        public String getSubject() {
+
+            return subject;
+        }
+
+        public String getIssuer() {
+
+            return issuer;
+        }
+
+        public Date getNotAfter() {
+
+            return notAfter;
+        }
+
+        public String getThumbprint() {
+
+            return thumbprint;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.keystore.management.v1.core;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+
+/**
+ * Cache holding the certificate index of the keystore and the client truststore of each tenant, keyed by the tenant
+ * domain and the store. Entries are cleared whenever a certificate of the store is added or removed through the
+ * server APIs.
+ */
+public class CertificateIndexCache extends BaseCache<String, CertificateIndexCacheEntry> {
+
+    private static final String CERTIFICATE_INDEX_CACHE_NAME = "APIServerKeyStoreCertificateIndexCache";
+    private static final CertificateIndexCache instance = new CertificateIndexCache();
+
+    private CertificateIndexCache() {
+
+        super(CERTIFICATE_INDEX_CACHE_NAME);
+    }
+
+    public static CertificateIndexCache getInstance() {
+
+        return instance;
+    }
+}
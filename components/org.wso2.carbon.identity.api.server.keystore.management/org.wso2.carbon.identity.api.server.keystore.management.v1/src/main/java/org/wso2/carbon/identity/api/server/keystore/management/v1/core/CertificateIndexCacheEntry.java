@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.keystore.management.v1.core;
+
+import org.wso2.carbon.identity.api.server.keystore.management.v1.core.CertificateIndex.IndexedCertificate;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.CERTIFICATE_INDEX_TIMEOUT_MILLIS;
+
+/**
+ * Certificates of a store of a tenant loaded at a point in time, ordered by the alias.
+ */
+public class CertificateIndexCacheEntry implements Serializable {
+
+    private static final long serialVersionUID = 4817362095482615307L;
+
+    private final long loadedAt = System.currentTimeMillis();
+    private final List<IndexedCertificate> certificates;
+
+    public CertificateIndexCacheEntry(List<IndexedCertificate> certificates) {
+
+        this.certificates = Collections.unmodifiableList(new ArrayList<>(certificates));
+    }
+
+    /**
+     * Get the certificates of the store.
+     *
+     * @return Certificates of the store ordered by the alias.
+     */
+    public List<IndexedCertificate> getCertificates() {
+
+        return certificates;
+    }
+
+    /**
+     * Check whether the certificates were loaded before the index timeout. Such an entry may miss the changes made
+     * to the store through other channels.
+     *
+     * @return True if the entry is expired.
+     */
+    public boolean isExpired() {
+
+        return System.currentTimeMillis() - loadedAt >= CERTIFICATE_INDEX_TIMEOUT_MILLIS;
+    }
+}
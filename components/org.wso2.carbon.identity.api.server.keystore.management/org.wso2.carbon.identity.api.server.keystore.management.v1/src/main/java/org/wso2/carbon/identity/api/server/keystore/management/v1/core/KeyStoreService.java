@@ -19,41 +19,54 @@ package org.wso2.carbon.identity.api.server.keystore.management.v1.core;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants;
+import org.wso2.carbon.identity.api.server.keystore.management.v1.core.CertificateIndex.IndexedCertificate;
 import org.wso2.carbon.identity.api.server.keystore.management.v1.model.CertificateResponse;
 import org.wso2.carbon.security.keystore.KeyStoreManagementException;
 import org.wso2.carbon.security.keystore.KeyStoreManagementServerException;
 
-import java.io.File;
-import java.io.FileOutputStream;
-import java.io.IOException;
-import java.io.OutputStreamWriter;
-import java.io.Writer;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.security.cert.CertificateEncodingException;
 import java.security.cert.X509Certificate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
+import static java.time.format.DateTimeFormatter.ISO_OFFSET_DATE_TIME;
 import static org.wso2.carbon.identity.api.server.common.Constants.V1_API_PATH_COMPONENT;
 import static org.wso2.carbon.identity.api.server.common.ContextLoader.buildURIForHeader;
-import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.CERTIFICATE_FILE_EXTENSION;
 import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.CERTIFICATE_PATH_COMPONENT;
-import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.CERTIFICATE_TEMPORARY_DIRECTORY_PATH;
 import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.CLIENT_CERTIFICATE_PATH_COMPONENT;
 import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.ErrorMessage.ERROR_CODE_ENCODE_CERTIFICATE;
-import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.ErrorMessage.ERROR_CODE_FILE_WRITE;
 import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.ErrorMessage.ERROR_CODE_INVALID_ALIAS;
+import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.ErrorMessage.ERROR_CODE_INVALID_FILTER;
+import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.ErrorMessage.ERROR_CODE_INVALID_QUERY_PARAMETER;
+import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.EXPIRING_WITHIN;
+import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.FILTER_ATTRIBUTE_ALIAS;
+import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.FILTER_ATTRIBUTE_ISSUER;
+import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.FILTER_ATTRIBUTE_SUBJECT;
+import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.FILTER_OPERATION_CONTAINS;
+import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.FILTER_OPERATION_ENDS_WITH;
+import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.FILTER_OPERATION_EQUALS;
+import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.FILTER_OPERATION_STARTS_WITH;
 import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.KEYSTORES_API_PATH_COMPONENT;
-import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.PATH_SEPERATOR;
+import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.LIMIT;
+import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.OFFSET;
 import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreManagamentDataHolder.getKeyStoreManager;
 
 /**
@@ -63,22 +76,31 @@ public class KeyStoreService {
 
     private static final Log LOG = LogFactory.getLog(KeyStoreService.class);
 
+    @Autowired
+    private CertificateIndex certificateIndex;
+
     /**
      * Retrieves the list of certificates from the keystore.
      *
-     * @param filter used to filter the result.
+     * @param filter         used to filter the result.
+     * @param limit          maximum number of certificates to return.
+     * @param offset         number of certificates to skip.
+     * @param expiringWithin number of days within which the returned certificates expire.
      * @return {@link List} of {@link CertificateResponse}
      */
-    public List<CertificateResponse> listCertificateAliases(String filter) {
+    public List<CertificateResponse> listCertificateAliases(String filter, Integer limit, Integer offset,
+                                                           Integer expiringWithin) {
 
-        List<String> aliasList;
+        Predicate<IndexedCertificate> certificateFilter = buildCertificateFilter(filter, limit, offset,
+                expiringWithin);
+        List<IndexedCertificate> certificates;
         String tenantDomain = ContextLoader.getTenantDomainFromContext();
         try {
-            aliasList = getKeyStoreManager().getKeyStoreCertificateAliases(tenantDomain, filter);
+            certificates = certificateIndex.getCertificates(tenantDomain, false);
         } catch (KeyStoreManagementException e) {
             throw handleException(e, "Unable to list certificates from keystore.");
         }
-        return generateCertificateResponseList(aliasList, false);
+        return generateCertificateResponseList(certificates, false, certificateFilter, limit, offset);
     }
 
     /**
@@ -86,9 +108,9 @@ public class KeyStoreService {
      *
      * @param alias      of the certificate.
      * @param encodeCert boolean value to decide whether the needs to be encoded or not.
-     * @return a {@link File} with the certificate.
+     * @return a {@link StreamingOutput} with the certificate.
      */
-    public File getCertificate(String alias, boolean encodeCert) {
+    public StreamingOutput getCertificate(String alias, boolean encodeCert) {
 
         X509Certificate certificate;
         String tenantDomain = ContextLoader.getTenantDomainFromContext();
@@ -102,7 +124,7 @@ public class KeyStoreService {
             throw handleException(ERROR_CODE_INVALID_ALIAS, alias, "Couldn't find a certificate with alias: " + alias +
                     " from the keystore.", Response.Status.BAD_REQUEST);
         }
-        return generateCertificateFile(alias, certificate, encodeCert);
+        return generateCertificateOutput(alias, certificate, encodeCert);
     }
 
     /**
@@ -118,6 +140,8 @@ public class KeyStoreService {
             getKeyStoreManager().addCertificate(tenantDomain, alias, certificate);
         } catch (KeyStoreManagementException e) {
             throw handleException(e, "Unable to upload the certificate with alias: " + alias + " to the keystore.");
+        } finally {
+            certificateIndex.invalidate(tenantDomain, false);
         }
         String certificateEndPoint = String.format(V1_API_PATH_COMPONENT + KEYSTORES_API_PATH_COMPONENT +
                 CERTIFICATE_PATH_COMPONENT, alias);
@@ -136,25 +160,33 @@ public class KeyStoreService {
             getKeyStoreManager().deleteCertificate(tenantDomain, alias);
         } catch (KeyStoreManagementException e) {
             throw handleException(e, "Unable to remove the certificate with alias: " + alias + " from the keystore.");
+        } finally {
+            certificateIndex.invalidate(tenantDomain, false);
         }
     }
 
     /**
      * Retrieves the list of certificate aliases from the client truststore.
      *
-     * @param filter used to filter the result.
+     * @param filter         used to filter the result.
+     * @param limit          maximum number of certificates to return.
+     * @param offset         number of certificates to skip.
+     * @param expiringWithin number of days within which the returned certificates expire.
      * @return {@link List} of {@link CertificateResponse}
      */
-    public List<CertificateResponse> listClientCertificateAliases(String filter) {
+    public List<CertificateResponse> listClientCertificateAliases(String filter, Integer limit, Integer offset,
+                                                                 Integer expiringWithin) {
 
-        List<String> aliasList;
+        Predicate<IndexedCertificate> certificateFilter = buildCertificateFilter(filter, limit, offset,
+                expiringWithin);
+        List<IndexedCertificate> certificates;
         String tenantDomain = ContextLoader.getTenantDomainFromContext();
         try {
-            aliasList = getKeyStoreManager().getClientCertificateAliases(tenantDomain, filter);
+            certificates = certificateIndex.getCertificates(tenantDomain, true);
         } catch (KeyStoreManagementException e) {
             throw handleException(e, "Unable to retrieve the list of certificates from client truststore.");
         }
-        return generateCertificateResponseList(aliasList, true);
+        return generateCertificateResponseList(certificates, true, certificateFilter, limit, offset);
     }
 
     /**
@@ -162,9 +194,9 @@ public class KeyStoreService {
      *
      * @param alias      of the certificate.
      * @param encodeCert boolean value to decide whether the needs to be encoded or not.
-     * @return a {@link File} with the certificate.
+     * @return a {@link StreamingOutput} with the certificate.
      */
-    public File getClientCertificate(String alias, boolean encodeCert) {
+    public StreamingOutput getClientCertificate(String alias, boolean encodeCert) {
 
         X509Certificate certificate;
         String tenantDomain = ContextLoader.getTenantDomainFromContext();
@@ -179,16 +211,16 @@ public class KeyStoreService {
             throw handleException(ERROR_CODE_INVALID_ALIAS, alias, "Couldn't find a certificate with alias: " + alias +
                     " from the keystore.", Response.Status.BAD_REQUEST);
         }
-        return generateCertificateFile(alias, certificate, encodeCert);
+        return generateCertificateOutput(alias, certificate, encodeCert);
     }
 
     /**
      * Retrieves the public certificate from the keystore.
      *
      * @param encodeCert boolean value to decide whether the needs to be encoded or not.
-     * @return a {@link File} with the certificate.
+     * @return a {@link StreamingOutput} with the certificate.
      */
-    public File getPublicCertificate(boolean encodeCert) {
+    public StreamingOutput getPublicCertificate(boolean encodeCert) {
 
         Map<String, X509Certificate> certificateData;
         String tenantDomain = ContextLoader.getTenantDomainFromContext();
@@ -205,10 +237,13 @@ public class KeyStoreService {
             alias = key;
             certificate = certificateData.get(alias);
         }
-        return generateCertificateFile(alias, certificate, encodeCert);
+        return generateCertificateOutput(alias, certificate, encodeCert);
     }
 
-    private List<CertificateResponse> generateCertificateResponseList(List<String> aliasList, boolean isClientCert) {
+    private List<CertificateResponse> generateCertificateResponseList(List<IndexedCertificate> certificates,
+                                                                      boolean isClientCert,
+                                                                      Predicate<IndexedCertificate> certificateFilter,
+                                                                      Integer limit, Integer offset) {
 
         List<CertificateResponse> certificatesResponses = new ArrayList<>();
         String componentPath;
@@ -218,54 +253,132 @@ public class KeyStoreService {
             componentPath = CLIENT_CERTIFICATE_PATH_COMPONENT;
         }
 
-        for (String alias : aliasList) {
+        int skip = offset != null ? offset : 0;
+        int remaining = limit != null ? limit : Integer.MAX_VALUE;
+        String certificatesEndPoint = null;
+        for (IndexedCertificate certificate : certificates) {
+            if (remaining == 0) {
+                break;
+            }
+            if (!certificateFilter.test(certificate)) {
+                continue;
+            }
+            if (skip > 0) {
+                skip--;
+                continue;
+            }
+            if (certificatesEndPoint == null) {
+                // The URL of the certificates is built once, rather than building a URL for each alias.
+                certificatesEndPoint = StringUtils.removeEnd(buildURIForHeader(String.format(V1_API_PATH_COMPONENT +
+                        KEYSTORES_API_PATH_COMPONENT + componentPath, StringUtils.EMPTY)).toString(), "/");
+            }
             CertificateResponse certificatesResponse = new CertificateResponse();
-            certificatesResponse.setAlias(alias);
-            String certificateEndPoint =
-                    String.format(V1_API_PATH_COMPONENT + KEYSTORES_API_PATH_COMPONENT +
-                            componentPath, alias);
-            certificatesResponse.setCertificate(buildURIForHeader(certificateEndPoint));
+            certificatesResponse.setAlias(certificate.getAlias());
+            certificatesResponse.setCertificate(URI.create(certificatesEndPoint + "/" + certificate.getAlias()));
+            certificatesResponse.setSubject(certificate.getSubject());
+            certificatesResponse.setIssuer(certificate.getIssuer());
+            if (certificate.getNotAfter() != null) {
+                certificatesResponse.setNotAfter(getISOFormatDate(certificate.getNotAfter()));
+            }
+            certificatesResponse.setThumbprint(certificate.getThumbprint());
             certificatesResponses.add(certificatesResponse);
+            remaining--;
         }
         return certificatesResponses;
     }
 
-    private File generateCertificateFile(String alias, X509Certificate certificate, boolean encodeCert) {
+    private Predicate<IndexedCertificate> buildCertificateFilter(String filter, Integer limit, Integer offset,
+                                                                 Integer expiringWithin) {
 
-        String certificateContent;
+        if (limit != null && limit < 0) {
+            throw handleException(ERROR_CODE_INVALID_QUERY_PARAMETER, LIMIT, "Limit should not be negative.",
+                    Response.Status.BAD_REQUEST);
+        }
+        if (offset != null && offset < 0) {
+            throw handleException(ERROR_CODE_INVALID_QUERY_PARAMETER, OFFSET, "Offset should not be negative.",
+                    Response.Status.BAD_REQUEST);
+        }
+        if (expiringWithin != null && expiringWithin < 0) {
+            throw handleException(ERROR_CODE_INVALID_QUERY_PARAMETER, EXPIRING_WITHIN,
+                    "Number of days within which the certificates expire should not be negative.",
+                    Response.Status.BAD_REQUEST);
+        }
+
+        Predicate<IndexedCertificate> certificateFilter = certificate -> true;
+        if (expiringWithin != null) {
+            long expiryTime = System.currentTimeMillis() + TimeUnit.DAYS.toMillis(expiringWithin);
+            certificateFilter = certificate -> certificate.getNotAfter() != null &&
+                    certificate.getNotAfter().getTime() <= expiryTime;
+        }
+        if (StringUtils.isBlank(filter)) {
+            return certificateFilter;
+        }
+
+        String[] filterParts = filter.trim().split("\\s+", 3);
+        if (filterParts.length != 3) {
+            throw handleException(ERROR_CODE_INVALID_FILTER, filter, "Filter should be in the format: " +
+                    "<attribute> <operation> <value>.", Response.Status.BAD_REQUEST);
+        }
+        Function<IndexedCertificate, String> attribute;
+        switch (filterParts[0]) {
+            case FILTER_ATTRIBUTE_ALIAS:
+                attribute = IndexedCertificate::getAlias;
+                break;
+            case FILTER_ATTRIBUTE_SUBJECT:
+                attribute = IndexedCertificate::getSubject;
+                break;
+            case FILTER_ATTRIBUTE_ISSUER:
+                attribute = IndexedCertificate::getIssuer;
+                break;
+            default:
+                throw handleException(ERROR_CODE_INVALID_FILTER, filter, "Unsupported filter attribute: " +
+                        filterParts[0] + ".", Response.Status.BAD_REQUEST);
+        }
+        String value = filterParts[2];
+        Predicate<String> operation;
+        switch (filterParts[1]) {
+            case FILTER_OPERATION_STARTS_WITH:
+                operation = attributeValue -> attributeValue.startsWith(value);
+                break;
+            case FILTER_OPERATION_CONTAINS:
+                operation = attributeValue -> attributeValue.contains(value);
+                break;
+            case FILTER_OPERATION_ENDS_WITH:
+                operation = attributeValue -> attributeValue.endsWith(value);
+                break;
+            case FILTER_OPERATION_EQUALS:
+                operation = attributeValue -> attributeValue.equals(value);
+                break;
+            default:
+                throw handleException(ERROR_CODE_INVALID_FILTER, filter, "Unsupported filter operation: " +
+                        filterParts[1] + ".", Response.Status.BAD_REQUEST);
+        }
+        return certificateFilter.and(certificate -> {
+            String attributeValue = attribute.apply(certificate);
+            return attributeValue != null && operation.test(attributeValue);
+        });
+    }
+
+    private static String getISOFormatDate(Date date) {
+
+        ZonedDateTime zonedDateTime = ZonedDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault())
+                .withZoneSameInstant(ZoneId.of("UTC"));
+        return ISO_OFFSET_DATE_TIME.format(zonedDateTime);
+    }
+
+    private StreamingOutput generateCertificateOutput(String alias, X509Certificate certificate, boolean encodeCert) {
+
+        byte[] certificateContent;
         if (encodeCert) {
             try {
-                certificateContent = Base64.getEncoder().encodeToString(certificate.getEncoded());
+                certificateContent = Base64.getEncoder().encode(certificate.getEncoded());
             } catch (CertificateEncodingException e) {
                 throw handleException(ERROR_CODE_ENCODE_CERTIFICATE, alias, e, Response.Status.INTERNAL_SERVER_ERROR);
             }
         } else {
-            certificateContent = certificate.toString();
-        }
-
-        String fileName = alias + CERTIFICATE_FILE_EXTENSION;
-        File certsDirectory = new File(CERTIFICATE_TEMPORARY_DIRECTORY_PATH).getAbsoluteFile();
-        if (certsDirectory.mkdirs()) {
-            if (LOG.isDebugEnabled()) {
-                LOG.debug(certsDirectory.toString() + " has been created.");
-            }
-        }
-        File certificateFile = new File(CERTIFICATE_TEMPORARY_DIRECTORY_PATH + PATH_SEPERATOR + fileName)
-                .getAbsoluteFile();
-        try {
-            if (certificateFile.createNewFile()) {
-                if (LOG.isDebugEnabled()) {
-                    LOG.debug("A file has been created with name: " + fileName);
-                }
-            }
-            try (Writer fileWriter = new OutputStreamWriter(new FileOutputStream(certificateFile),
-                    StandardCharsets.UTF_8)) {
-                fileWriter.write(certificateContent);
-            }
-        } catch (IOException e) {
-            throw handleException(ERROR_CODE_FILE_WRITE, fileName, e, Response.Status.INTERNAL_SERVER_ERROR);
+            certificateContent = certificate.toString().getBytes(StandardCharsets.UTF_8);
         }
-        return certificateFile;
+        return outputStream -> outputStream.write(certificateContent);
     }
 
     private APIError handleException(KeyStoreManagementException e, String description) {
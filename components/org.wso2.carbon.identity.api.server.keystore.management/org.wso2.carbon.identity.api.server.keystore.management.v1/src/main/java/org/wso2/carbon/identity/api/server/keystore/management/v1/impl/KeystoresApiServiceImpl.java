@@ -17,6 +17,7 @@
 package org.wso2.carbon.identity.api.server.keystore.management.v1.impl;
 
 import org.apache.commons.lang.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.wso2.carbon.base.MultitenantConstants;
 import org.wso2.carbon.identity.api.server.keystore.management.v1.KeystoresApiService;
 import org.wso2.carbon.identity.api.server.keystore.management.v1.core.KeyStoreService;
@@ -33,7 +34,8 @@ import static org.wso2.carbon.identity.api.server.common.ContextLoader.getTenant
  */
 public class KeystoresApiServiceImpl implements KeystoresApiService {
 
-    private KeyStoreService keyStoreService = new KeyStoreService();
+    @Autowired
+    private KeyStoreService keyStoreService;
 
     @Override
     public Response deleteCertificate(String alias) {
@@ -55,9 +57,10 @@ public class KeystoresApiServiceImpl implements KeystoresApiService {
     }
 
     @Override
-    public Response getCertificateAliases(String filter) {
+    public Response getCertificateAliases(String filter, Integer limit, Integer offset, Integer expiringWithin) {
 
-        return Response.ok().entity(keyStoreService.listCertificateAliases(filter)).build();
+        return Response.ok().entity(keyStoreService.listCertificateAliases(filter, limit, offset, expiringWithin))
+                .build();
     }
 
     @Override
@@ -74,12 +77,14 @@ public class KeystoresApiServiceImpl implements KeystoresApiService {
     }
 
     @Override
-    public Response getClientCertificateAliases(String filter) {
+    public Response getClientCertificateAliases(String filter, Integer limit, Integer offset,
+                                                Integer expiringWithin) {
 
         if (!StringUtils.equals(getTenantDomainFromContext(), MultitenantConstants.SUPER_TENANT_DOMAIN_NAME)) {
             return Response.status(Response.Status.NOT_FOUND).build();
         }
-        return Response.ok().entity(keyStoreService.listClientCertificateAliases(filter)).build();
+        return Response.ok().entity(keyStoreService.listClientCertificateAliases(filter, limit, offset,
+                expiringWithin)).build();
     }
 
     @Override
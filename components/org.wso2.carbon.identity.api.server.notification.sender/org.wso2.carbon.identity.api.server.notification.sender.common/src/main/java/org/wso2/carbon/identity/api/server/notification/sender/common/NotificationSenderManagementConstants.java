@@ -138,11 +138,10 @@ public class NotificationSenderManagementConstants {
                 "Error while retrieving %s notification sender resources."),
         ERROR_CODE_ERROR_UPDATING_NOTIFICATION_SENDER("65007", "Unable to update notification sender.",
                 "Error while updating notification sender: %s."),
-        ERROR_CODE_TRANSFORMER_EXCEPTION("65008", "Transformer Exception.", "Transformer Exception: %s ."),
-        ERROR_CODE_PARSER_CONFIG_EXCEPTION("65009", "Parser Configuration Exception.",
-                "Parser Configuration Exception: %s."),
         ERROR_CODE_NO_RESOURCE_EXISTS("65010", "No notification sender found.",
-                "No notification sender found with name: %s.");
+                "No notification sender found with name: %s."),
+        ERROR_CODE_XML_STREAM_EXCEPTION("65011", "XML Stream Exception.",
+                "Error while writing the event publisher configuration: %s.");
 
         private final String code;
         private final String message;
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.notification.sender.v1.core;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+
+/**
+ * Cache holding the notification senders of each tenant, keyed by the tenant domain.
+ */
+public class NotificationSenderCache extends BaseCache<String, NotificationSenderCacheEntry> {
+
+    private static final String NOTIFICATION_SENDER_CACHE_NAME = "APIServerNotificationSenderCache";
+    private static final NotificationSenderCache instance = new NotificationSenderCache();
+
+    private NotificationSenderCache() {
+
+        super(NOTIFICATION_SENDER_CACHE_NAME);
+    }
+
+    public static NotificationSenderCache getInstance() {
+
+        return instance;
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.notification.sender.v1.core;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Notification senders of a tenant indexed by the publisher type and the sender name. The attributes of each sender
+ * are kept decoded, without the properties stored for internal use and without the SMTP password and the SMS secret.
+ */
+public class NotificationSenderCacheEntry implements Serializable {
+
+    private static final long serialVersionUID = 6283417053962481529L;
+
+    private final Map<String, Map<String, String>> emailSenders;
+    private final Map<String, Map<String, String>> smsSenders;
+
+    public NotificationSenderCacheEntry(Map<String, Map<String, String>> emailSenders,
+                                        Map<String, Map<String, String>> smsSenders) {
+
+        this.emailSenders = Collections.unmodifiableMap(new LinkedHashMap<>(emailSenders));
+        this.smsSenders = Collections.unmodifiableMap(new LinkedHashMap<>(smsSenders));
+    }
+
+    /**
+     * Get the email senders of the tenant.
+     *
+     * @return Attributes of the email senders keyed by the sender name.
+     */
+    public Map<String, Map<String, String>> getEmailSenders() {
+
+        return emailSenders;
+    }
+
+    /**
+     * Get the SMS senders of the tenant.
+     *
+     * @return Attributes of the SMS senders keyed by the sender name.
+     */
+    public Map<String, Map<String, String>> getSMSSenders() {
+
+        return smsSenders;
+    }
+}
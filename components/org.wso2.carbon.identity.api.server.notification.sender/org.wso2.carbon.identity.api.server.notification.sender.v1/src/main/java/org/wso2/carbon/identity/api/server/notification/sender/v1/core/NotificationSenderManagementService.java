@@ -25,13 +25,13 @@ import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.email.mgt.SMSProviderPayloadTemplateManager;
 import org.wso2.carbon.email.mgt.model.SMSProviderTemplate;
-import org.wso2.carbon.event.publisher.core.EventPublisherService;
 import org.wso2.carbon.event.publisher.core.config.EventPublisherConfiguration;
 import org.wso2.carbon.event.publisher.core.exception.EventPublisherConfigurationException;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.api.server.notification.sender.common.NotificationSenderManagementConstants;
 import org.wso2.carbon.identity.api.server.notification.sender.common.NotificationSenderServiceHolder;
+import org.wso2.carbon.identity.api.server.notification.sender.v1.core.SuperTenantPublisherTemplates.PublisherTemplate;
 import org.wso2.carbon.identity.api.server.notification.sender.v1.model.EmailSender;
 import org.wso2.carbon.identity.api.server.notification.sender.v1.model.EmailSenderAdd;
 import org.wso2.carbon.identity.api.server.notification.sender.v1.model.EmailSenderUpdateRequest;
@@ -46,19 +46,18 @@ import org.wso2.carbon.identity.configuration.mgt.core.model.Attribute;
 import org.wso2.carbon.identity.configuration.mgt.core.model.Resource;
 import org.wso2.carbon.identity.configuration.mgt.core.model.ResourceFile;
 import org.wso2.carbon.identity.configuration.mgt.core.model.Resources;
-import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 import javax.ws.rs.core.Response;
-import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.transform.TransformerException;
+import javax.xml.stream.XMLStreamException;
 
 import static org.wso2.carbon.identity.api.server.notification.sender.common.NotificationSenderManagementConstants.CONFIG_MGT_ERROR_CODE_DELIMITER;
 import static org.wso2.carbon.identity.api.server.notification.sender.common.NotificationSenderManagementConstants.DEFAULT_EMAIL_PUBLISHER;
@@ -72,13 +71,12 @@ import static org.wso2.carbon.identity.api.server.notification.sender.common.Not
 import static org.wso2.carbon.identity.api.server.notification.sender.common.NotificationSenderManagementConstants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_NOTIFICATION_SENDER;
 import static org.wso2.carbon.identity.api.server.notification.sender.common.NotificationSenderManagementConstants.ErrorMessage.ERROR_CODE_NO_ACTIVE_PUBLISHERS_FOUND;
 import static org.wso2.carbon.identity.api.server.notification.sender.common.NotificationSenderManagementConstants.ErrorMessage.ERROR_CODE_NO_RESOURCE_EXISTS;
-import static org.wso2.carbon.identity.api.server.notification.sender.common.NotificationSenderManagementConstants.ErrorMessage.ERROR_CODE_PARSER_CONFIG_EXCEPTION;
 import static org.wso2.carbon.identity.api.server.notification.sender.common.NotificationSenderManagementConstants.ErrorMessage.ERROR_CODE_PUBLISHER_NOT_EXISTS_IN_SUPER_TENANT;
 import static org.wso2.carbon.identity.api.server.notification.sender.common.NotificationSenderManagementConstants.ErrorMessage.ERROR_CODE_SERVER_ERRORS_GETTING_EVENT_PUBLISHER;
 import static org.wso2.carbon.identity.api.server.notification.sender.common.NotificationSenderManagementConstants.ErrorMessage.ERROR_CODE_SMS_PAYLOAD_NOT_FOUND;
 import static org.wso2.carbon.identity.api.server.notification.sender.common.NotificationSenderManagementConstants.ErrorMessage.ERROR_CODE_SMS_PROVIDER_REQUIRED;
 import static org.wso2.carbon.identity.api.server.notification.sender.common.NotificationSenderManagementConstants.ErrorMessage.ERROR_CODE_SMS_PROVIDER_URL_REQUIRED;
-import static org.wso2.carbon.identity.api.server.notification.sender.common.NotificationSenderManagementConstants.ErrorMessage.ERROR_CODE_TRANSFORMER_EXCEPTION;
+import static org.wso2.carbon.identity.api.server.notification.sender.common.NotificationSenderManagementConstants.ErrorMessage.ERROR_CODE_XML_STREAM_EXCEPTION;
 import static org.wso2.carbon.identity.api.server.notification.sender.common.NotificationSenderManagementConstants.FROM_ADDRESS;
 import static org.wso2.carbon.identity.api.server.notification.sender.common.NotificationSenderManagementConstants.INLINE_BODY_PROPERTY;
 import static org.wso2.carbon.identity.api.server.notification.sender.common.NotificationSenderManagementConstants.INTERNAL_PROPERTIES;
@@ -93,6 +91,7 @@ import static org.wso2.carbon.identity.api.server.notification.sender.common.Not
 import static org.wso2.carbon.identity.api.server.notification.sender.common.NotificationSenderManagementConstants.SECRET;
 import static org.wso2.carbon.identity.api.server.notification.sender.common.NotificationSenderManagementConstants.SENDER;
 import static org.wso2.carbon.identity.api.server.notification.sender.common.NotificationSenderManagementConstants.SMS_PUBLISHER_TYPE;
+import static org.wso2.carbon.identity.api.server.notification.sender.common.NotificationSenderManagementConstants.SMTP_PASSWORD_PROPERTY;
 import static org.wso2.carbon.identity.api.server.notification.sender.common.NotificationSenderManagementConstants.SMTP_PORT;
 import static org.wso2.carbon.identity.api.server.notification.sender.common.NotificationSenderManagementConstants.SMTP_SERVER_HOST;
 import static org.wso2.carbon.identity.api.server.notification.sender.common.NotificationSenderManagementConstants.STREAM_NAME;
@@ -108,6 +107,8 @@ public class NotificationSenderManagementService {
 
     private static final Log log = LogFactory.getLog(NotificationSenderManagementService.class);
 
+    private final SuperTenantPublisherTemplates superTenantPublisherTemplates = new SuperTenantPublisherTemplates();
+
     /**
      * Create an email sender resource with a resource file.
      *
@@ -116,9 +117,7 @@ public class NotificationSenderManagementService {
      */
     public EmailSender addEmailSender(EmailSenderAdd emailSenderAdd) {
 
-        int tenantId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId();
-        EventPublisherConfiguration publisherInSuperTenant =
-                validateEmailSenderAddAndGetPublisherInSuperTenant(emailSenderAdd, tenantId);
+        PublisherTemplate publisherInSuperTenant = validateEmailSenderAddAndGetPublisherInSuperTenant(emailSenderAdd);
         addDefaultProperties(emailSenderAdd, publisherInSuperTenant);
         Resource emailSenderResource = null;
         try {
@@ -132,14 +131,12 @@ public class NotificationSenderManagementService {
              */
             NotificationSenderServiceHolder.getNotificationSenderConfigManager()
                     .addResource(PUBLISHER_RESOURCE_TYPE, emailSenderResource);
+            clearNotificationSenderCache();
         } catch (ConfigurationManagementException e) {
             throw handleConfigurationMgtException(e, ERROR_CODE_ERROR_ADDING_NOTIFICATION_SENDER,
                     emailSenderAdd.getName());
-        } catch (ParserConfigurationException e) {
-            throw handleException(Response.Status.INTERNAL_SERVER_ERROR, ERROR_CODE_PARSER_CONFIG_EXCEPTION,
-                    e.getMessage());
-        } catch (TransformerException e) {
-            throw handleException(Response.Status.INTERNAL_SERVER_ERROR, ERROR_CODE_TRANSFORMER_EXCEPTION,
+        } catch (XMLStreamException e) {
+            throw handleException(Response.Status.INTERNAL_SERVER_ERROR, ERROR_CODE_XML_STREAM_EXCEPTION,
                     e.getMessage());
         }
         return buildEmailSenderFromResource(emailSenderResource);
@@ -153,9 +150,7 @@ public class NotificationSenderManagementService {
      */
     public SMSSender addSMSSender(SMSSenderAdd smsSenderAdd) {
 
-        int tenantId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId();
-        EventPublisherConfiguration publisherInSuperTenant =
-                validateSMSSenderAddAndGetPublisherInSuperTenant(smsSenderAdd, tenantId);
+        PublisherTemplate publisherInSuperTenant = validateSMSSenderAddAndGetPublisherInSuperTenant(smsSenderAdd);
         addDefaultProperties(smsSenderAdd, publisherInSuperTenant);
         Resource smsSenderResource = null;
         try {
@@ -169,14 +164,12 @@ public class NotificationSenderManagementService {
              */
             NotificationSenderServiceHolder.getNotificationSenderConfigManager()
                     .addResource(PUBLISHER_RESOURCE_TYPE, smsSenderResource);
+            clearNotificationSenderCache();
         } catch (ConfigurationManagementException e) {
             throw handleConfigurationMgtException(e, ERROR_CODE_ERROR_ADDING_NOTIFICATION_SENDER,
                     smsSenderAdd.getName());
-        } catch (ParserConfigurationException e) {
-            throw handleException(Response.Status.INTERNAL_SERVER_ERROR, ERROR_CODE_PARSER_CONFIG_EXCEPTION,
-                    e.getMessage());
-        } catch (TransformerException e) {
-            throw handleException(Response.Status.INTERNAL_SERVER_ERROR, ERROR_CODE_TRANSFORMER_EXCEPTION,
+        } catch (XMLStreamException e) {
+            throw handleException(Response.Status.INTERNAL_SERVER_ERROR, ERROR_CODE_XML_STREAM_EXCEPTION,
                     e.getMessage());
         }
         return buildSmsSenderFromResource(smsSenderResource);
@@ -192,6 +185,7 @@ public class NotificationSenderManagementService {
         try {
             NotificationSenderServiceHolder.getNotificationSenderConfigManager()
                     .deleteResource(PUBLISHER_RESOURCE_TYPE, notificationSenderName);
+            clearNotificationSenderCache();
         } catch (ConfigurationManagementException e) {
             throw handleConfigurationMgtException(e, ERROR_CODE_ERROR_DELETING_NOTIFICATION_SENDER,
                     notificationSenderName);
@@ -207,6 +201,17 @@ public class NotificationSenderManagementService {
     public EmailSender getEmailSender(String senderName) {
 
         try {
+            Map<String, String> cachedAttributes = getNotificationSenders().getEmailSenders().get(senderName);
+            EventPublisherConfiguration eventPublisher = NotificationSenderServiceHolder.getEventPublisherService()
+                    .getActiveEventPublisherConfiguration(senderName);
+            // The password is not cached, hence it is taken from the deployed event publisher of the sender.
+            if (cachedAttributes != null && eventPublisher != null &&
+                    eventPublisher.getToAdapterConfiguration() != null) {
+                EmailSender emailSender = buildEmailSender(senderName, cachedAttributes);
+                emailSender.setPassword(eventPublisher.getToAdapterConfiguration().getStaticProperties()
+                        .get(SMTP_PASSWORD_PROPERTY));
+                return emailSender;
+            }
             Resource resource = NotificationSenderServiceHolder.getNotificationSenderConfigManager()
                     .getResource(PUBLISHER_RESOURCE_TYPE, senderName);
             return buildEmailSenderFromResource(resource);
@@ -224,6 +229,8 @@ public class NotificationSenderManagementService {
     public SMSSender getSMSSender(String senderName) {
 
         try {
+            // The secret is not cached and the event publisher only carries it inside the rendered payload, hence
+            // the full SMS sender is read from its resource.
             Resource resource = NotificationSenderServiceHolder.getNotificationSenderConfigManager()
                     .getResource(PUBLISHER_RESOURCE_TYPE, senderName);
             return buildSmsSenderFromResource(resource);
@@ -233,21 +240,16 @@ public class NotificationSenderManagementService {
     }
 
     /**
-     * Retrieve all email senders of the tenant.
+     * Retrieve all email senders of the tenant. The passwords of the senders are not returned.
      *
      * @return Email senders of the tenant.
      */
     public List<EmailSender> getEmailSenders() {
 
         try {
-            Resources publisherResources = NotificationSenderServiceHolder.getNotificationSenderConfigManager()
-                    .getResourcesByType(PUBLISHER_RESOURCE_TYPE);
-            List<Resource> emailPublisherResources = publisherResources.getResources().stream().filter(resource ->
-                    resource.getAttributes().stream().anyMatch(attribute ->
-                            PUBLISHER_TYPE_PROPERTY.equals(attribute.getKey()) &&
-                                    EMAIL_PUBLISHER_TYPE.equals(attribute.getValue()))).collect(Collectors.toList());
-            return emailPublisherResources.stream().map(resource -> buildEmailSenderFromResource(resource)).collect(
-                    Collectors.toList());
+            return getNotificationSenders().getEmailSenders().entrySet().stream()
+                    .map(emailSender -> buildEmailSender(emailSender.getKey(), emailSender.getValue()))
+                    .collect(Collectors.toList());
         } catch (ConfigurationManagementException e) {
             throw handleConfigurationMgtException(e, ERROR_CODE_ERROR_GETTING_NOTIFICATION_SENDERS_BY_TYPE,
                     EMAIL_PUBLISHER_TYPE);
@@ -255,21 +257,16 @@ public class NotificationSenderManagementService {
     }
 
     /**
-     * Retrieve all sms senders of the tenant.
+     * Retrieve all sms senders of the tenant. The secrets of the senders are not returned.
      *
      * @return SMS senders of the tenant.
      */
     public List<SMSSender> getSMSSenders() {
 
         try {
-            Resources publisherResources = NotificationSenderServiceHolder.getNotificationSenderConfigManager()
-                    .getResourcesByType(PUBLISHER_RESOURCE_TYPE);
-            List<Resource> smsPublisherResources = publisherResources.getResources().stream().filter(resource ->
-                    resource.getAttributes().stream().anyMatch(attribute ->
-                            PUBLISHER_TYPE_PROPERTY.equals(attribute.getKey()) &&
-                                    SMS_PUBLISHER_TYPE.equals(attribute.getValue()))).collect(Collectors.toList());
-            return smsPublisherResources.stream().map(resource -> buildSmsSenderFromResource(resource)).collect(
-                    Collectors.toList());
+            return getNotificationSenders().getSMSSenders().entrySet().stream()
+                    .map(smsSender -> buildSmsSender(smsSender.getKey(), smsSender.getValue()))
+                    .collect(Collectors.toList());
         } catch (ConfigurationManagementException e) {
             throw handleConfigurationMgtException(e, ERROR_CODE_ERROR_GETTING_NOTIFICATION_SENDERS_BY_TYPE,
                     SMS_PUBLISHER_TYPE);
@@ -286,9 +283,8 @@ public class NotificationSenderManagementService {
     public EmailSender updateEmailSender(String senderName, EmailSenderUpdateRequest emailSenderUpdateRequest) {
 
         Resource emailSenderResource = null;
-        int tenantId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId();
-        EventPublisherConfiguration publisherInSuperTenant =
-                validateEmailSenderUpdateRequestAndGetPublisherInSuperTenant(senderName, tenantId);
+        PublisherTemplate publisherInSuperTenant =
+                validateEmailSenderUpdateRequestAndGetPublisherInSuperTenant(senderName);
         EmailSenderAdd emailSenderAdd =
                 buildEmailSenderAddFromEmailSenderUpdateRequest(senderName, emailSenderUpdateRequest);
         addDefaultProperties(emailSenderAdd, publisherInSuperTenant);
@@ -297,13 +293,11 @@ public class NotificationSenderManagementService {
             emailSenderResource = buildResourceFromEmailSenderAdd(emailSenderAdd, inputStream);
             NotificationSenderServiceHolder.getNotificationSenderConfigManager()
                     .replaceResource(PUBLISHER_RESOURCE_TYPE, emailSenderResource);
+            clearNotificationSenderCache();
         } catch (ConfigurationManagementException e) {
             throw handleConfigurationMgtException(e, ERROR_CODE_ERROR_UPDATING_NOTIFICATION_SENDER, senderName);
-        } catch (ParserConfigurationException e) {
-            throw handleException(Response.Status.INTERNAL_SERVER_ERROR, ERROR_CODE_PARSER_CONFIG_EXCEPTION,
-                    e.getMessage());
-        } catch (TransformerException e) {
-            throw handleException(Response.Status.INTERNAL_SERVER_ERROR, ERROR_CODE_TRANSFORMER_EXCEPTION,
+        } catch (XMLStreamException e) {
+            throw handleException(Response.Status.INTERNAL_SERVER_ERROR, ERROR_CODE_XML_STREAM_EXCEPTION,
                     e.getMessage());
         }
         return buildEmailSenderFromResource(emailSenderResource);
@@ -319,10 +313,8 @@ public class NotificationSenderManagementService {
     public SMSSender updateSMSSender(String senderName, SMSSenderUpdateRequest smsSenderUpdateRequest) {
 
         Resource smsSenderResource = null;
-        int tenantId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId();
-        EventPublisherConfiguration publisherInSuperTenant =
-                validateSmsSenderUpdateRequestAndGetPublisherInSuperTenant(senderName, smsSenderUpdateRequest,
-                        tenantId);
+        PublisherTemplate publisherInSuperTenant =
+                validateSmsSenderUpdateRequestAndGetPublisherInSuperTenant(senderName, smsSenderUpdateRequest);
         SMSSenderAdd smsSenderAdd = buildSMSSenderAddFromSMSSenderUpdateRequest(senderName, smsSenderUpdateRequest);
         addDefaultProperties(smsSenderAdd, publisherInSuperTenant);
         try {
@@ -330,13 +322,11 @@ public class NotificationSenderManagementService {
             smsSenderResource = buildResourceFromSmsSenderAdd(smsSenderAdd, inputStream);
             NotificationSenderServiceHolder.getNotificationSenderConfigManager()
                     .replaceResource(PUBLISHER_RESOURCE_TYPE, smsSenderResource);
+            clearNotificationSenderCache();
         } catch (ConfigurationManagementException e) {
             throw handleConfigurationMgtException(e, ERROR_CODE_ERROR_UPDATING_NOTIFICATION_SENDER, senderName);
-        } catch (ParserConfigurationException e) {
-            throw handleException(Response.Status.INTERNAL_SERVER_ERROR, ERROR_CODE_PARSER_CONFIG_EXCEPTION,
-                    e.getMessage());
-        } catch (TransformerException e) {
-            throw handleException(Response.Status.INTERNAL_SERVER_ERROR, ERROR_CODE_TRANSFORMER_EXCEPTION,
+        } catch (XMLStreamException e) {
+            throw handleException(Response.Status.INTERNAL_SERVER_ERROR, ERROR_CODE_XML_STREAM_EXCEPTION,
                     e.getMessage());
         }
         return buildSmsSenderFromResource(smsSenderResource);
@@ -346,37 +336,19 @@ public class NotificationSenderManagementService {
      * Validate the email Sender post request and get the corresponding super tenant's event publisher configuration.
      *
      * @param emailSenderAdd Email sender post request.
-     * @param tenantId       Tenant id.
-     * @return Corresponding super tenant's event publisher's configuration.
+     * @return Corresponding super tenant's event publisher template.
      */
-    private EventPublisherConfiguration validateEmailSenderAddAndGetPublisherInSuperTenant(
-            EmailSenderAdd emailSenderAdd, int tenantId) {
+    private PublisherTemplate validateEmailSenderAddAndGetPublisherInSuperTenant(EmailSenderAdd emailSenderAdd) {
 
         String emailSenderAddName = emailSenderAdd.getName();
-        EventPublisherConfiguration publisherInSuperTenant = null;
-        EventPublisherService eventPublisherService = NotificationSenderServiceHolder.getEventPublisherService();
-        List<EventPublisherConfiguration> activeEventPublisherConfigurations = null;
+        PublisherTemplate publisherInSuperTenant = null;
         try {
-            startSuperTenantFlow();
-            activeEventPublisherConfigurations =
-                    eventPublisherService.getAllActiveEventPublisherConfigurations();
-            if (activeEventPublisherConfigurations == null) {
-                throw handleException(Response.Status.NOT_FOUND, ERROR_CODE_NO_ACTIVE_PUBLISHERS_FOUND, "carbon.super");
-            }
-            startTenantFlow(tenantId);
             // Set the default publisher name if name is not defined.
             if (StringUtils.isEmpty(emailSenderAdd.getName())) {
                 emailSenderAddName = DEFAULT_EMAIL_PUBLISHER;
             }
             // Check whether the super tenant has a publisher with the defined name.
-            String finalEmailSenderAddName = emailSenderAddName;
-            publisherInSuperTenant = activeEventPublisherConfigurations.stream()
-                    .filter(publisher -> publisher.getEventPublisherName().equals(finalEmailSenderAddName)).findAny()
-                    .orElse(null);
-            if (publisherInSuperTenant == null) {
-                throw handleException(Response.Status.BAD_REQUEST, ERROR_CODE_PUBLISHER_NOT_EXISTS_IN_SUPER_TENANT,
-                        emailSenderAddName);
-            }
+            publisherInSuperTenant = getPublisherInSuperTenant(emailSenderAddName);
             // Check whether a publisher already exists with the same name in the particular tenant to be added.
             Resource resource =
                     NotificationSenderServiceHolder.getNotificationSenderConfigManager()
@@ -401,33 +373,17 @@ public class NotificationSenderManagementService {
      * Validate the email Sender put request and get the corresponding super tenant's event publisher configuration.
      *
      * @param senderName Email sender's name.
-     * @param tenantId   Tenant id.
-     * @return Corresponding super tenant's event publisher's configuration.
+     * @return Corresponding super tenant's event publisher template.
      */
-    private EventPublisherConfiguration validateEmailSenderUpdateRequestAndGetPublisherInSuperTenant(
-            String senderName, int tenantId) {
+    private PublisherTemplate validateEmailSenderUpdateRequestAndGetPublisherInSuperTenant(String senderName) {
 
-        EventPublisherService eventPublisherService = NotificationSenderServiceHolder.getEventPublisherService();
-        EventPublisherConfiguration publisherInSuperTenant = null;
+        PublisherTemplate publisherInSuperTenant = null;
         try {
             // Check whether a publisher exists to replace.
             NotificationSenderServiceHolder.getNotificationSenderConfigManager()
                     .getResource(PUBLISHER_RESOURCE_TYPE, senderName);
-            startSuperTenantFlow();
-            List<EventPublisherConfiguration> activeEventPublisherConfigurations =
-                    eventPublisherService.getAllActiveEventPublisherConfigurations();
-            if (activeEventPublisherConfigurations == null) {
-                throw handleException(Response.Status.NOT_FOUND, ERROR_CODE_NO_ACTIVE_PUBLISHERS_FOUND, "carbon.super");
-            }
-            startTenantFlow(tenantId);
             // Check whether the super tenant has a publisher with the defined name.
-            publisherInSuperTenant = activeEventPublisherConfigurations.stream()
-                    .filter(publisher -> publisher.getEventPublisherName().equals(senderName)).findAny()
-                    .orElse(null);
-            if (publisherInSuperTenant == null) {
-                throw handleException(Response.Status.BAD_REQUEST, ERROR_CODE_PUBLISHER_NOT_EXISTS_IN_SUPER_TENANT,
-                        senderName);
-            }
+            publisherInSuperTenant = getPublisherInSuperTenant(senderName);
         } catch (EventPublisherConfigurationException e) {
             throw handleException(Response.Status.INTERNAL_SERVER_ERROR,
                     ERROR_CODE_SERVER_ERRORS_GETTING_EVENT_PUBLISHER, e.getMessage());
@@ -445,18 +401,14 @@ public class NotificationSenderManagementService {
      * Validate the SMS Sender post request and get the corresponding super tenant's event publisher configuration.
      *
      * @param smsSenderAdd SMS sender post request.
-     * @param tenantId     Tenant id.
-     * @return Corresponding super tenant's event publisher's configuration.
+     * @return Corresponding super tenant's event publisher template.
      */
-    private EventPublisherConfiguration validateSMSSenderAddAndGetPublisherInSuperTenant(SMSSenderAdd smsSenderAdd,
-                                                                                         int tenantId) {
+    private PublisherTemplate validateSMSSenderAddAndGetPublisherInSuperTenant(SMSSenderAdd smsSenderAdd) {
 
         String smsSenderAddName = smsSenderAdd.getName();
-        EventPublisherConfiguration publisherInSuperTenant = null;
-        EventPublisherService eventPublisherService = NotificationSenderServiceHolder.getEventPublisherService();
+        PublisherTemplate publisherInSuperTenant = null;
         SMSProviderPayloadTemplateManager smsProviderPayloadTemplateManager =
                 NotificationSenderServiceHolder.getSmsProviderPayloadTemplateManager();
-        List<EventPublisherConfiguration> activeEventPublisherConfigurations = null;
         Map<String, String> properties = new HashMap<>();
         if (smsSenderAdd.getProperties() != null) {
             smsSenderAdd.getProperties().stream()
@@ -478,13 +430,6 @@ public class NotificationSenderManagementService {
             if (StringUtils.isEmpty(smsSenderAdd.getProviderURL())) {
                 throw handleException(Response.Status.BAD_REQUEST, ERROR_CODE_SMS_PROVIDER_URL_REQUIRED, null);
             }
-            startSuperTenantFlow();
-            activeEventPublisherConfigurations =
-                    eventPublisherService.getAllActiveEventPublisherConfigurations();
-            if (activeEventPublisherConfigurations == null) {
-                throw handleException(Response.Status.NOT_FOUND, ERROR_CODE_NO_ACTIVE_PUBLISHERS_FOUND, "carbon.super");
-            }
-            startTenantFlow(tenantId);
             // Set the default publisher name if name is not defined.
             if (StringUtils.isEmpty(smsSenderAdd.getName())) {
                 smsSenderAddName = DEFAULT_SMS_PUBLISHER;
@@ -492,14 +437,7 @@ public class NotificationSenderManagementService {
                 smsSenderAddName = smsSenderAdd.getName();
             }
             // Check whether the super tenant has a publisher with the defined name.
-            String finalSmsSenderAddName = smsSenderAddName;
-            publisherInSuperTenant = activeEventPublisherConfigurations.stream()
-                    .filter(publisher -> publisher.getEventPublisherName().equals(finalSmsSenderAddName)).findAny()
-                    .orElse(null);
-            if (publisherInSuperTenant == null) {
-                throw handleException(Response.Status.BAD_REQUEST, ERROR_CODE_PUBLISHER_NOT_EXISTS_IN_SUPER_TENANT,
-                        smsSenderAddName);
-            }
+            publisherInSuperTenant = getPublisherInSuperTenant(smsSenderAddName);
             // Check whether a publisher already exists with the same name in the particular tenant to be added.
             Resource resource =
                     NotificationSenderServiceHolder.getNotificationSenderConfigManager()
@@ -524,15 +462,12 @@ public class NotificationSenderManagementService {
      *
      * @param senderName             SMS sender's name.
      * @param smsSenderUpdateRequest SMS Sender put request.
-     * @param tenantId               Tenant id.
-     * @return Corresponding super tenant's event publisher's configuration.
+     * @return Corresponding super tenant's event publisher template.
      */
-    private EventPublisherConfiguration validateSmsSenderUpdateRequestAndGetPublisherInSuperTenant(String senderName,
-                                                               SMSSenderUpdateRequest smsSenderUpdateRequest,
-                                                               int tenantId) {
+    private PublisherTemplate validateSmsSenderUpdateRequestAndGetPublisherInSuperTenant(String senderName,
+                                                               SMSSenderUpdateRequest smsSenderUpdateRequest) {
 
-        EventPublisherConfiguration publisherInSuperTenant = null;
-        EventPublisherService eventPublisherService = NotificationSenderServiceHolder.getEventPublisherService();
+        PublisherTemplate publisherInSuperTenant = null;
         SMSProviderPayloadTemplateManager smsProviderPayloadTemplateManager =
                 NotificationSenderServiceHolder.getSmsProviderPayloadTemplateManager();
         Map<String, String> properties = new HashMap<>();
@@ -559,21 +494,8 @@ public class NotificationSenderManagementService {
             if (StringUtils.isEmpty(smsSenderUpdateRequest.getProviderURL())) {
                 throw handleException(Response.Status.BAD_REQUEST, ERROR_CODE_SMS_PROVIDER_URL_REQUIRED, null);
             }
-            startSuperTenantFlow();
-            List<EventPublisherConfiguration> activeEventPublisherConfigurations =
-                    eventPublisherService.getAllActiveEventPublisherConfigurations();
-            if (activeEventPublisherConfigurations == null) {
-                throw handleException(Response.Status.NOT_FOUND, ERROR_CODE_NO_ACTIVE_PUBLISHERS_FOUND, "carbon.super");
-            }
-            startTenantFlow(tenantId);
             // Check whether the super tenant has a publisher with the defined name.
-            publisherInSuperTenant = activeEventPublisherConfigurations.stream()
-                    .filter(publisher -> publisher.getEventPublisherName().equals(senderName)).findAny()
-                    .orElse(null);
-            if (publisherInSuperTenant == null) {
-                throw handleException(Response.Status.BAD_REQUEST, ERROR_CODE_PUBLISHER_NOT_EXISTS_IN_SUPER_TENANT,
-                        senderName);
-            }
+            publisherInSuperTenant = getPublisherInSuperTenant(senderName);
         } catch (ConfigurationManagementException e) {
             // If resource not found by id.
             if (RESOURCE_NOT_EXISTS_ERROR_CODE.equals(e.getErrorCode())) {
@@ -591,10 +513,9 @@ public class NotificationSenderManagementService {
      * Set default properties to EmailSenderAdd object.
      *
      * @param emailSenderAdd         Email sender post body.
-     * @param publisherInSuperTenant Corresponding super tenant's event publisher's configuration.
+     * @param publisherInSuperTenant Corresponding super tenant's event publisher template.
      */
-    private void addDefaultProperties(EmailSenderAdd emailSenderAdd,
-                                      EventPublisherConfiguration publisherInSuperTenant) {
+    private void addDefaultProperties(EmailSenderAdd emailSenderAdd, PublisherTemplate publisherInSuperTenant) {
 
         // Set the default publisher name if name is not defined.
         if (StringUtils.isEmpty(emailSenderAdd.getName())) {
@@ -624,9 +545,9 @@ public class NotificationSenderManagementService {
      * Set default properties to SMSSenderAdd object.
      *
      * @param smsSenderAdd           SMS sender post body.
-     * @param publisherInSuperTenant Corresponding super tenant's event publisher's configuration.
+     * @param publisherInSuperTenant Corresponding super tenant's event publisher template.
      */
-    private void addDefaultProperties(SMSSenderAdd smsSenderAdd, EventPublisherConfiguration publisherInSuperTenant) {
+    private void addDefaultProperties(SMSSenderAdd smsSenderAdd, PublisherTemplate publisherInSuperTenant) {
 
         // Set the default publisher name if name is not defined.
         if (StringUtils.isEmpty(smsSenderAdd.getName())) {
@@ -696,14 +617,21 @@ public class NotificationSenderManagementService {
      */
     private EmailSender buildEmailSenderFromResource(Resource resource) {
 
+        return buildEmailSender(resource.getResourceName(), getPublicAttributes(resource));
+    }
+
+    /**
+     * Build an email sender response from the email sender's attributes.
+     *
+     * @param senderName    Email sender's name.
+     * @param attributesMap Email sender's attributes without the internal properties.
+     * @return Email Sender response.
+     */
+    private EmailSender buildEmailSender(String senderName, Map<String, String> attributesMap) {
+
         EmailSender emailSender = new EmailSender();
-        emailSender.setName(resource.getResourceName());
+        emailSender.setName(senderName);
         List<Properties> emailSenderProperties = new ArrayList<>();
-        // Skip STREAM_NAME, STREAM_VERSION and PUBLISHER_TYPE_PROPERTY properties which are stored for internal use.
-        Map<String, String> attributesMap =
-                resource.getAttributes().stream()
-                        .filter(attribute -> !(INTERNAL_PROPERTIES.contains(attribute.getKey())))
-                        .collect(Collectors.toMap(Attribute::getKey, Attribute::getValue));
         attributesMap.entrySet().forEach(attribute -> {
             switch (attribute.getKey()) {
                 case SMTP_SERVER_HOST:
@@ -798,14 +726,21 @@ public class NotificationSenderManagementService {
      */
     private SMSSender buildSmsSenderFromResource(Resource resource) {
 
+        return buildSmsSender(resource.getResourceName(), getPublicAttributes(resource));
+    }
+
+    /**
+     * Build a SMS sender response from the SMS sender's attributes.
+     *
+     * @param senderName    SMS sender's name.
+     * @param attributesMap SMS sender's attributes without the internal properties.
+     * @return SMS sender response.
+     */
+    private SMSSender buildSmsSender(String senderName, Map<String, String> attributesMap) {
+
         SMSSender smsSender = new SMSSender();
-        smsSender.setName(resource.getResourceName());
+        smsSender.setName(senderName);
         List<Properties> smsSenderProperties = new ArrayList<>();
-        // Skip STREAM_NAME, STREAM_VERSION and PUBLISHER_TYPE_PROPERTY properties which are stored for internal use.
-        Map<String, String> attributesMap =
-                resource.getAttributes().stream()
-                        .filter(attribute -> !(INTERNAL_PROPERTIES.contains(attribute.getKey())))
-                        .collect(Collectors.toMap(Attribute::getKey, Attribute::getValue));
         attributesMap.entrySet().forEach(attribute -> {
             switch (attribute.getKey()) {
                 case PROVIDER:
@@ -857,20 +792,97 @@ public class NotificationSenderManagementService {
         return smsSenderAdd;
     }
 
-    private void startSuperTenantFlow() {
+    /**
+     * Get the attributes of a notification sender resource which are returned in the responses.
+     *
+     * @param resource Notification sender resource object.
+     * @return Attributes of the resource without the internal properties.
+     */
+    private Map<String, String> getPublicAttributes(Resource resource) {
 
-        PrivilegedCarbonContext.startTenantFlow();
-        PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
-        carbonContext.setTenantId(MultitenantConstants.SUPER_TENANT_ID);
-        carbonContext.setTenantDomain(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        // Skip STREAM_NAME, STREAM_VERSION and PUBLISHER_TYPE_PROPERTY properties which are stored for internal use.
+        return resource.getAttributes().stream()
+                .filter(attribute -> !(INTERNAL_PROPERTIES.contains(attribute.getKey())))
+                .collect(Collectors.toMap(Attribute::getKey, Attribute::getValue));
     }
 
-    private void startTenantFlow(int tenantId) {
+    /**
+     * Get the notification senders of the tenant indexed by the publisher type and the sender name. The senders are
+     * loaded with a single lookup of the publisher resources and cached until a sender of the tenant is added,
+     * updated or deleted. The SMTP password and the SMS secret are left out of the cached attributes.
+     *
+     * @return Notification senders of the tenant.
+     * @throws ConfigurationManagementException If the publisher resources cannot be retrieved.
+     */
+    private NotificationSenderCacheEntry getNotificationSenders() throws ConfigurationManagementException {
 
-        PrivilegedCarbonContext.startTenantFlow();
-        PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantId(tenantId);
-        PrivilegedCarbonContext.getThreadLocalCarbonContext()
-                .setTenantDomain(IdentityTenantUtil.getTenantDomain(tenantId));
+        String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        NotificationSenderCacheEntry notificationSenders =
+                NotificationSenderCache.getInstance().getValueFromCache(tenantDomain);
+        if (notificationSenders != null) {
+            return notificationSenders;
+        }
+        Resources publisherResources = NotificationSenderServiceHolder.getNotificationSenderConfigManager()
+                .getResourcesByType(PUBLISHER_RESOURCE_TYPE);
+        Map<String, Map<String, String>> emailSenders = new LinkedHashMap<>();
+        Map<String, Map<String, String>> smsSenders = new LinkedHashMap<>();
+        for (Resource resource : publisherResources.getResources()) {
+            String publisherType = null;
+            Map<String, String> attributes = new HashMap<>();
+            for (Attribute attribute : resource.getAttributes()) {
+                if (PUBLISHER_TYPE_PROPERTY.equals(attribute.getKey())) {
+                    publisherType = attribute.getValue();
+                }
+                // Skip STREAM_NAME, STREAM_VERSION and PUBLISHER_TYPE_PROPERTY properties which are stored for
+                // internal use, and the secrets which should not be cached.
+                if (!INTERNAL_PROPERTIES.contains(attribute.getKey()) && !PASSWORD.equals(attribute.getKey()) &&
+                        !SECRET.equals(attribute.getKey())) {
+                    attributes.put(attribute.getKey(), attribute.getValue());
+                }
+            }
+            if (EMAIL_PUBLISHER_TYPE.equals(publisherType)) {
+                emailSenders.put(resource.getResourceName(), attributes);
+            } else if (SMS_PUBLISHER_TYPE.equals(publisherType)) {
+                smsSenders.put(resource.getResourceName(), attributes);
+            }
+        }
+        notificationSenders = new NotificationSenderCacheEntry(emailSenders, smsSenders);
+        NotificationSenderCache.getInstance().addToCache(tenantDomain, notificationSenders);
+        if (log.isDebugEnabled()) {
+            log.debug("Cached " + emailSenders.size() + " email senders and " + smsSenders.size() +
+                    " SMS senders of the tenant: " + tenantDomain);
+        }
+        return notificationSenders;
+    }
+
+    private void clearNotificationSenderCache() {
+
+        NotificationSenderCache.getInstance()
+                .clearCacheEntry(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain());
+    }
+
+    /**
+     * Get the super tenant's event publisher template of the given name.
+     *
+     * @param publisherName Event publisher name.
+     * @return Super tenant's event publisher template.
+     * @throws EventPublisherConfigurationException If the super tenant's event publishers cannot be retrieved.
+     */
+    private PublisherTemplate getPublisherInSuperTenant(String publisherName)
+            throws EventPublisherConfigurationException {
+
+        Map<String, PublisherTemplate> publisherTemplates =
+                superTenantPublisherTemplates.getPublisherTemplates(publisherName);
+        if (publisherTemplates == null) {
+            throw handleException(Response.Status.NOT_FOUND, ERROR_CODE_NO_ACTIVE_PUBLISHERS_FOUND,
+                    MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        }
+        PublisherTemplate publisherInSuperTenant = publisherTemplates.get(publisherName);
+        if (publisherInSuperTenant == null) {
+            throw handleException(Response.Status.BAD_REQUEST, ERROR_CODE_PUBLISHER_NOT_EXISTS_IN_SUPER_TENANT,
+                    publisherName);
+        }
+        return publisherInSuperTenant;
     }
 
     private APIError handleConfigurationMgtException(ConfigurationManagementException e,
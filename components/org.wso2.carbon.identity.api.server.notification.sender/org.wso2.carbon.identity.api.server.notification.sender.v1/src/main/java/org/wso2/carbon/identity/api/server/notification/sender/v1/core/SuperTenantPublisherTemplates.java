@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.notification.sender.v1.core;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.event.publisher.core.config.EventPublisherConfiguration;
+import org.wso2.carbon.event.publisher.core.exception.EventPublisherConfigurationException;
+import org.wso2.carbon.identity.api.server.notification.sender.common.NotificationSenderServiceHolder;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Immutable snapshot of the active event publishers of the super tenant, which are the templates of the tenant
+ * notification senders. The snapshot is loaded in the super tenant flow and reused by the tenant sender operations
+ * until it expires, or until it is refreshed because a requested publisher is not in it.
+ */
+public class SuperTenantPublisherTemplates {
+
+    private static final Log LOG = LogFactory.getLog(SuperTenantPublisherTemplates.class);
+    private static final long SNAPSHOT_TIME_TO_LIVE = TimeUnit.MINUTES.toMillis(5);
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Get the event publisher templates of the super tenant. If the requested publisher is not in the current
+     * snapshot, the templates are loaded again, so that a publisher deployed in the super tenant is available without
+     * waiting for the snapshot to expire.
+     *
+     * @param publisherName Name of the requested event publisher.
+     * @return Event publisher templates keyed by the publisher name or null if the super tenant has no active event
+     * publishers.
+     * @throws EventPublisherConfigurationException If the super tenant's event publishers cannot be retrieved.
+     */
+    public Map<String, PublisherTemplate> getPublisherTemplates(String publisherName)
+            throws EventPublisherConfigurationException {
+
+        Snapshot currentSnapshot = snapshot;
+        if (currentSnapshot == null || currentSnapshot.isExpired() ||
+                !currentSnapshot.containsPublisher(publisherName)) {
+            currentSnapshot = refresh();
+        }
+        return currentSnapshot.publisherTemplates;
+    }
+
+    private synchronized Snapshot refresh() throws EventPublisherConfigurationException {
+
+        List<EventPublisherConfiguration> activeEventPublisherConfigurations;
+        try {
+            PrivilegedCarbonContext.startTenantFlow();
+            PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+            carbonContext.setTenantId(MultitenantConstants.SUPER_TENANT_ID);
+            carbonContext.setTenantDomain(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+            activeEventPublisherConfigurations = NotificationSenderServiceHolder.getEventPublisherService()
+                    .getAllActiveEventPublisherConfigurations();
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+        Snapshot newSnapshot = new Snapshot(activeEventPublisherConfigurations);
+        snapshot = newSnapshot;
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Refreshed the super tenant event publisher templates: " +
+                    (newSnapshot.publisherTemplates == null ? "[]" : newSnapshot.publisherTemplates.keySet()));
+        }
+        return newSnapshot;
+    }
+
+    /**
+     * Event publisher templates loaded at a given time.
+     */
+    private static class Snapshot {
+
+        private final Map<String, PublisherTemplate> publisherTemplates;
+        private final long loadedTime = System.currentTimeMillis();
+
+        Snapshot(List<EventPublisherConfiguration> eventPublisherConfigurations) {
+
+            if (eventPublisherConfigurations == null) {
+                this.publisherTemplates = null;
+                return;
+            }
+            Map<String, PublisherTemplate> templates = new HashMap<>();
+            for (EventPublisherConfiguration eventPublisherConfiguration : eventPublisherConfigurations) {
+                templates.putIfAbsent(eventPublisherConfiguration.getEventPublisherName(),
+                        new PublisherTemplate(eventPublisherConfiguration));
+            }
+            this.publisherTemplates = Collections.unmodifiableMap(templates);
+        }
+
+        boolean isExpired() {
+
+            return System.currentTimeMillis() - loadedTime > SNAPSHOT_TIME_TO_LIVE;
+        }
+
+        boolean containsPublisher(String publisherName) {
+
+            return publisherTemplates != null && publisherTemplates.containsKey(publisherName);
+        }
+    }
+
+    /**
+     * Defaults of a super tenant event publisher copied to the tenant notification senders.
+     */
+    public static class PublisherTemplate {
+
+        private final String name;
+        private final String fromStreamName;
+        private final String fromStreamVersion;
+
+        PublisherTemplate(EventPublisherConfiguration eventPublisherConfiguration) {
+
+            this.name = eventPublisherConfiguration.getEventPublisherName();
+            this.fromStreamName = eventPublisherConfiguration.getFromStreamName();
+            this.fromStreamVersion = eventPublisherConfiguration.getFromStreamVersion();
+        }
+
+        public String getName() {
+
+            return name;
+        }
+
+        public String getFromStreamName() {
+
+            return fromStreamName;
+        }
+
+        public String getFromStreamVersion() {
+
+            return fromStreamVersion;
+        }
+    }
+}
@@ -20,9 +20,6 @@ package org.wso2.carbon.identity.api.server.notification.sender.v1.core.utils;
 
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang.StringUtils;
-import org.w3c.dom.Attr;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
 import org.wso2.carbon.identity.api.server.notification.sender.common.NotificationSenderServiceHolder;
 import org.wso2.carbon.identity.api.server.notification.sender.v1.model.EmailSenderAdd;
 import org.wso2.carbon.identity.api.server.notification.sender.v1.model.SMSSenderAdd;
@@ -30,20 +27,14 @@ import org.wso2.carbon.identity.api.server.notification.sender.v1.model.SMSSende
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.Collectors;
 
-import javax.xml.XMLConstants;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.transform.Result;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
 
 import static org.wso2.carbon.identity.api.server.notification.sender.common.NotificationSenderManagementConstants.ADAPTER_PROPERTY;
 import static org.wso2.carbon.identity.api.server.notification.sender.common.NotificationSenderManagementConstants.ADAPTER_PROPERTY_NAME;
@@ -89,7 +80,6 @@ import static org.wso2.carbon.identity.api.server.notification.sender.common.Not
 import static org.wso2.carbon.identity.api.server.notification.sender.common.NotificationSenderManagementConstants.TEXT;
 import static org.wso2.carbon.identity.api.server.notification.sender.common.NotificationSenderManagementConstants.TO;
 import static org.wso2.carbon.identity.api.server.notification.sender.common.NotificationSenderManagementConstants.TRACE_KEY;
-import static org.wso2.carbon.identity.api.server.notification.sender.common.NotificationSenderManagementConstants.XMLNS_KEY;
 import static org.wso2.carbon.identity.api.server.notification.sender.common.NotificationSenderManagementConstants.XMLNS_VALUE;
 
 /**
@@ -97,41 +87,44 @@ import static org.wso2.carbon.identity.api.server.notification.sender.common.Not
  */
 public class NotificationSenderUtils {
 
+    private static final String XML_VERSION = "1.0";
+    // Looking up the StAX factory is costly, hence it is created once. A configured factory is safe to share.
+    private static final XMLOutputFactory XML_OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+
     /**
      * Generate EmailPublisher.xml input stream.
      *
      * @param emailSenderAdd Email sender post body.
      * @return Input stream of the EmailPublisher.
-     * @throws ParserConfigurationException Parser configuration exception.
-     * @throws TransformerException         Transformer exception.
+     * @throws XMLStreamException XML stream exception.
      */
-    public static InputStream generateEmailPublisher(EmailSenderAdd emailSenderAdd)
-            throws ParserConfigurationException, TransformerException {
+    public static InputStream generateEmailPublisher(EmailSenderAdd emailSenderAdd) throws XMLStreamException {
 
         Map<String, String> properties = new HashMap<>();
         emailSenderAdd.getProperties().stream().map(property -> properties.put(property.getKey(), property.getValue()))
                 .collect(Collectors.toList());
-        DocumentBuilderFactory documentFactory = DocumentBuilderFactory.newInstance();
-        DocumentBuilder documentBuilder = documentFactory.newDocumentBuilder();
-        Document document = documentBuilder.newDocument();
-        // Root element (eventPublisher).
-        Element root = document.createElement(ROOT_ELEMENT);
-        document.appendChild(root);
-        // Collect event publisher attributes to a map and set attributes to root element.
-        addEventPublisherAttributes(emailSenderAdd, document, root);
-        // Add 'From' element (event stream details) to event publisher.
-        addFromElement(properties, document, root);
-        // Add 'Mapping' element (output mapping details) to event publisher.
-        addMappingElementToEmailEventPublisher(document, root);
-        // Add 'To' element (event adapter details) to event publisher.
-        addToElementToEmailEventPublisher(emailSenderAdd, properties, document, root);
-        DOMSource xmlSource = new DOMSource(document);
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        Result outputTarget = new StreamResult(outputStream);
-        TransformerFactory transformerFactory = TransformerFactory.newInstance();
-        transformerFactory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
-        Transformer transformer = transformerFactory.newTransformer();
-        transformer.transform(xmlSource, outputTarget);
+        XMLStreamWriter writer = XML_OUTPUT_FACTORY.createXMLStreamWriter(outputStream, StandardCharsets.UTF_8.name());
+        try {
+            writer.writeStartDocument(StandardCharsets.UTF_8.name(), XML_VERSION);
+            // Root element (eventPublisher) with the event publisher attributes.
+            writer.writeStartElement(ROOT_ELEMENT);
+            writer.writeDefaultNamespace(XMLNS_VALUE);
+            writer.writeAttribute(PUBLISHER_NAME, emailSenderAdd.getName());
+            writer.writeAttribute(STATISTICS_KEY, DISABLE);
+            writer.writeAttribute(TRACE_KEY, DISABLE);
+            // Add 'From' element (event stream details) to event publisher.
+            writeFromElement(properties, writer);
+            // Add 'Mapping' element (output mapping details) to event publisher.
+            writeMappingElement(TEXT, EMAIL_INLINE_BODY, writer);
+            // Add 'To' element (event adapter details) to event publisher.
+            writeToElement(ADAPTER_TYPE_EMAIL_VALUE, getEmailAdapterProperties(emailSenderAdd, properties), writer);
+            writer.writeEndElement();
+            writer.writeEndDocument();
+            writer.flush();
+        } finally {
+            writer.close();
+        }
         return new ByteArrayInputStream(outputStream.toByteArray());
     }
 
@@ -140,138 +133,76 @@ public class NotificationSenderUtils {
      *
      * @param smsSenderAdd SMS sender post body.
      * @return Input stream of the SMSPublisher.
-     * @throws ParserConfigurationException Parser configuration exception.
-     * @throws TransformerException         Transformer exception.
+     * @throws XMLStreamException XML stream exception.
      */
-    public static InputStream generateSMSPublisher(SMSSenderAdd smsSenderAdd)
-            throws ParserConfigurationException, TransformerException {
+    public static InputStream generateSMSPublisher(SMSSenderAdd smsSenderAdd) throws XMLStreamException {
 
         Map<String, String> properties = new HashMap<>();
         smsSenderAdd.getProperties().stream().map(property -> properties.put(property.getKey(), property.getValue()))
                 .collect(Collectors.toList());
-        DocumentBuilderFactory documentFactory = DocumentBuilderFactory.newInstance();
-        DocumentBuilder documentBuilder = documentFactory.newDocumentBuilder();
-        Document document = documentBuilder.newDocument();
-        // Root element (eventPublisher).
-        Element root = document.createElement(ROOT_ELEMENT);
-        document.appendChild(root);
-        // Collect event publisher attributes to a map and set attributes to root element.
-        addEventPublisherAttributes(smsSenderAdd, document, root);
-        // Add 'From' element (event stream details) to event publisher.
-        addFromElement(properties, document, root);
-        // Add 'Mapping' element (output mapping details) to event publisher.
-        addMappingElementToSMSEventPublisher(smsSenderAdd, properties, document, root);
-        // Add 'To' element (event adapter details) to event publisher.
-        addToElementToSMSEventPublisher(smsSenderAdd, properties, document, root);
-        DOMSource xmlSource = new DOMSource(document);
+        // Resolve the inline body before writing, as it may require the SMS provider payload template.
+        String smsSendAPIBody = getSMSInlineBody(smsSenderAdd, properties);
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        Result outputTarget = new StreamResult(outputStream);
-        TransformerFactory transformerFactory = TransformerFactory.newInstance();
-        transformerFactory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
-        Transformer transformer = transformerFactory.newTransformer();
-        transformer.transform(xmlSource, outputTarget);
-        return new ByteArrayInputStream(outputStream.toByteArray());
-    }
-
-    private static void addEventPublisherAttributes(EmailSenderAdd emailSenderAdd, Document document, Element root) {
-
-        Map<String, String> eventPublisherAttributes = new HashMap<>();
-        eventPublisherAttributes.put(PUBLISHER_NAME, emailSenderAdd.getName());
-        eventPublisherAttributes.put(STATISTICS_KEY, DISABLE);
-        eventPublisherAttributes.put(TRACE_KEY, DISABLE);
-        eventPublisherAttributes.put(XMLNS_KEY, XMLNS_VALUE);
-        // Set attributes to root element.
-        for (Map.Entry<String, String> eventPublisherAttribute : eventPublisherAttributes.entrySet()) {
-            Attr publisherAttributes = document.createAttribute(eventPublisherAttribute.getKey());
-            publisherAttributes.setValue(eventPublisherAttribute.getValue());
-            root.setAttributeNode(publisherAttributes);
-        }
-    }
-
-    private static void addEventPublisherAttributes(SMSSenderAdd smsSenderAdd, Document document, Element root) {
-
-        Map<String, String> eventPublisherAttributes = new HashMap<>();
-        eventPublisherAttributes.put(PUBLISHER_NAME, smsSenderAdd.getName());
-        eventPublisherAttributes.put(PROCESSING_KEY, ENABLE);
-        eventPublisherAttributes.put(STATISTICS_KEY, DISABLE);
-        eventPublisherAttributes.put(TRACE_KEY, DISABLE);
-        eventPublisherAttributes.put(XMLNS_KEY, XMLNS_VALUE);
-        // Set attributes to root element.
-        for (Map.Entry<String, String> eventPublisherAttribute : eventPublisherAttributes.entrySet()) {
-            Attr publisherAttributes = document.createAttribute(eventPublisherAttribute.getKey());
-            publisherAttributes.setValue(eventPublisherAttribute.getValue());
-            root.setAttributeNode(publisherAttributes);
+        XMLStreamWriter writer = XML_OUTPUT_FACTORY.createXMLStreamWriter(outputStream, StandardCharsets.UTF_8.name());
+        try {
+            writer.writeStartDocument(StandardCharsets.UTF_8.name(), XML_VERSION);
+            // Root element (eventPublisher) with the event publisher attributes.
+            writer.writeStartElement(ROOT_ELEMENT);
+            writer.writeDefaultNamespace(XMLNS_VALUE);
+            writer.writeAttribute(PUBLISHER_NAME, smsSenderAdd.getName());
+            writer.writeAttribute(PROCESSING_KEY, ENABLE);
+            writer.writeAttribute(STATISTICS_KEY, DISABLE);
+            writer.writeAttribute(TRACE_KEY, DISABLE);
+            // Add 'From' element (event stream details) to event publisher.
+            writeFromElement(properties, writer);
+            // Add 'Mapping' element (output mapping details) to event publisher.
+            writeMappingElement(JSON, smsSendAPIBody, writer);
+            // Add 'To' element (event adapter details) to event publisher.
+            writeToElement(ADAPTER_TYPE_HTTP_VALUE, getSMSAdapterProperties(smsSenderAdd, properties), writer);
+            writer.writeEndElement();
+            writer.writeEndDocument();
+            writer.flush();
+        } finally {
+            writer.close();
         }
+        return new ByteArrayInputStream(outputStream.toByteArray());
     }
 
-    private static void addFromElement(Map<String, String> properties, Document document, Element root) {
+    private static void writeFromElement(Map<String, String> properties, XMLStreamWriter writer)
+            throws XMLStreamException {
 
-        Element from = document.createElement(FROM);
-        root.appendChild(from);
-        // Set attributes to From element.
-        Attr streamNameAttr = document.createAttribute(STREAM_NAME);
-        streamNameAttr.setValue(properties.get(STREAM_NAME));
-        from.setAttributeNode(streamNameAttr);
-        Attr streamVersionAttr = document.createAttribute(STREAM_VERSION);
-        streamVersionAttr.setValue(properties.get(STREAM_VERSION));
-        from.setAttributeNode(streamVersionAttr);
+        writer.writeEmptyElement(FROM);
+        writer.writeAttribute(STREAM_NAME, StringUtils.defaultString(properties.get(STREAM_NAME)));
+        writer.writeAttribute(STREAM_VERSION, StringUtils.defaultString(properties.get(STREAM_VERSION)));
     }
 
-    private static void addMappingElementToEmailEventPublisher(Document document, Element root) {
+    private static void writeMappingElement(String mappingType, String inlineBody, XMLStreamWriter writer)
+            throws XMLStreamException {
 
-        Element mapping = document.createElement(MAPPING);
-        root.appendChild(mapping);
-        // Set attributes to mapping element.
-        Attr customMappingAttr = document.createAttribute(CUSTOM_MAPPING_KEY);
-        customMappingAttr.setValue(ENABLE);
-        mapping.setAttributeNode(customMappingAttr);
-        Attr mappingTypeAttr = document.createAttribute(MAPPING_TYPE_KEY);
-        mappingTypeAttr.setValue(TEXT);
-        mapping.setAttributeNode(mappingTypeAttr);
+        writer.writeStartElement(MAPPING);
+        writer.writeAttribute(CUSTOM_MAPPING_KEY, ENABLE);
+        writer.writeAttribute(MAPPING_TYPE_KEY, mappingType);
         // Inline element.
-        Element inline = document.createElement(INLINE);
-        inline.appendChild(document.createTextNode(EMAIL_INLINE_BODY));
-        mapping.appendChild(inline);
+        writer.writeStartElement(INLINE);
+        writer.writeCharacters(StringUtils.defaultString(inlineBody));
+        writer.writeEndElement();
+        writer.writeEndElement();
     }
 
-    private static void addMappingElementToSMSEventPublisher(SMSSenderAdd smsSenderAdd, Map<String, String> properties,
-                                                             Document document,
-                                                             Element root) {
+    private static String getSMSInlineBody(SMSSenderAdd smsSenderAdd, Map<String, String> properties) {
 
-        Element mapping = document.createElement(MAPPING);
-        root.appendChild(mapping);
-        // Set attributes to mapping element.
-        Attr customMappingAttr = document.createAttribute(CUSTOM_MAPPING_KEY);
-        customMappingAttr.setValue(ENABLE);
-        mapping.setAttributeNode(customMappingAttr);
-        Attr mappingTypeAttr = document.createAttribute(MAPPING_TYPE_KEY);
-        mappingTypeAttr.setValue(JSON);
-        mapping.setAttributeNode(mappingTypeAttr);
-        // Inline element.
-        Element inline = document.createElement(INLINE);
-        String smsSendAPIBody;
         // If body is given as an input we expect that contains all required attributes with values.
         if (StringUtils.isNotEmpty(properties.get(INLINE_BODY_PROPERTY))) {
-            smsSendAPIBody = properties.get(INLINE_BODY_PROPERTY);
-        } else {
-            String smsSendAPIBodyTemplate = NotificationSenderServiceHolder.getSmsProviderPayloadTemplateManager()
-                    .getSMSProviderPayloadTemplateByProvider(smsSenderAdd.getProvider()).getBody();
-            smsSendAPIBody = generateSmsSendAPIBody(smsSendAPIBodyTemplate, smsSenderAdd);
+            return properties.get(INLINE_BODY_PROPERTY);
         }
-        inline.appendChild(document.createTextNode(smsSendAPIBody));
-        mapping.appendChild(inline);
+        String smsSendAPIBodyTemplate = NotificationSenderServiceHolder.getSmsProviderPayloadTemplateManager()
+                .getSMSProviderPayloadTemplateByProvider(smsSenderAdd.getProvider()).getBody();
+        return generateSmsSendAPIBody(smsSendAPIBodyTemplate, smsSenderAdd);
     }
 
-    private static void addToElementToEmailEventPublisher(EmailSenderAdd emailSenderAdd, Map<String, String> properties,
-                                                          Document document,
-                                                          Element root) {
+    private static Map<String, String> getEmailAdapterProperties(EmailSenderAdd emailSenderAdd,
+                                                                 Map<String, String> properties) {
 
-        Element to = document.createElement(TO);
-        root.appendChild(to);
-        // Set attributes to to element.
-        Attr eventAdapterTypeAttr = document.createAttribute(ADAPTER_TYPE_KEY);
-        eventAdapterTypeAttr.setValue(ADAPTER_TYPE_EMAIL_VALUE);
-        to.setAttributeNode(eventAdapterTypeAttr);
         // Take adapter properties to a map.
         Map<String, String> adapterProperties = new HashMap<>();
         adapterProperties.put(EMAIL_ADDRESS_PROPERTY, EMAIL_ADDRESS_VALUE);
@@ -298,27 +229,12 @@ public class NotificationSenderUtils {
                 adapterProperties.put(property.getKey(), property.getValue());
             }
         }
-        // Add properties.
-        for (Map.Entry<String, String> property : adapterProperties.entrySet()) {
-            Element adapterProperty = document.createElement(ADAPTER_PROPERTY);
-            Attr attribute = document.createAttribute(ADAPTER_PROPERTY_NAME);
-            attribute.setValue(property.getKey());
-            adapterProperty.setAttributeNode(attribute);
-            adapterProperty.appendChild(document.createTextNode(property.getValue()));
-            to.appendChild(adapterProperty);
-        }
+        return adapterProperties;
     }
 
-    private static void addToElementToSMSEventPublisher(SMSSenderAdd smsSenderAdd, Map<String, String> properties,
-                                                        Document document,
-                                                        Element root) {
+    private static Map<String, String> getSMSAdapterProperties(SMSSenderAdd smsSenderAdd,
+                                                               Map<String, String> properties) {
 
-        Element to = document.createElement(TO);
-        root.appendChild(to);
-        // Set attributes to to element.
-        Attr eventAdapterTypeAttr = document.createAttribute(ADAPTER_TYPE_KEY);
-        eventAdapterTypeAttr.setValue(ADAPTER_TYPE_HTTP_VALUE);
-        to.setAttributeNode(eventAdapterTypeAttr);
         // Take adapter properties to a map.
         Map<String, String> adapterProperties = new HashMap<>();
         adapterProperties.put(HTTP_URL_PROPERTY, smsSenderAdd.getProviderURL());
@@ -330,15 +246,22 @@ public class NotificationSenderUtils {
                 adapterProperties.put(property.getKey(), property.getValue());
             }
         }
+        return adapterProperties;
+    }
+
+    private static void writeToElement(String eventAdapterType, Map<String, String> adapterProperties,
+                                       XMLStreamWriter writer) throws XMLStreamException {
+
+        writer.writeStartElement(TO);
+        writer.writeAttribute(ADAPTER_TYPE_KEY, eventAdapterType);
         // Add properties.
         for (Map.Entry<String, String> property : adapterProperties.entrySet()) {
-            Element adapterProperty = document.createElement(ADAPTER_PROPERTY);
-            Attr attribute = document.createAttribute(ADAPTER_PROPERTY_NAME);
-            attribute.setValue(property.getKey());
-            adapterProperty.setAttributeNode(attribute);
-            adapterProperty.appendChild(document.createTextNode(property.getValue()));
-            to.appendChild(adapterProperty);
+            writer.writeStartElement(ADAPTER_PROPERTY);
+            writer.writeAttribute(ADAPTER_PROPERTY_NAME, property.getKey());
+            writer.writeCharacters(StringUtils.defaultString(property.getValue()));
+            writer.writeEndElement();
         }
+        writer.writeEndElement();
     }
 
     /**
@@ -25,12 +25,53 @@ public class TenantManagementConstants {
     }
 
     public static final String TENANT_MANAGEMENT_PATH_COMPONENT = "/tenants";
+    public static final String TENANT_PROVISIONING_JOB_PATH_COMPONENT = "/provisioning-jobs";
+    public static final String BULK_PROVISIONING_OPERATION_PATH_COMPONENT = "/bulk-operations";
+
+    // Tenant provisioning job constants.
+    public static final int TENANT_PROVISIONING_POOL_SIZE = 5;
+    public static final int TENANT_PROVISIONING_QUEUE_SIZE = 100;
+    public static final long TENANT_PROVISIONING_JOB_RETENTION_MINUTES = 60;
+    public static final int TENANT_PROVISIONING_MAX_WAIT_SECONDS = 60;
+
+    // Bulk tenant provisioning constants.
+    public static final int BULK_PROVISIONING_POOL_SIZE = 10;
+    public static final int BULK_PROVISIONING_QUEUE_SIZE = 100;
+    public static final int BULK_PROVISIONING_DEFAULT_PARALLELISM = 4;
+    public static final int BULK_PROVISIONING_MAX_PARALLELISM = 10;
+    public static final int BULK_PROVISIONING_MAX_TENANTS = 10000;
 
     // Tenant pagination constants.
     public static final String PAGINATION_LINK_FORMAT = "?offset=%d&limit=%d";
     public static final String PAGINATION_WITH_FILTER_LINK_FORMAT = "?offset=%d&limit=%d&filter=%s";
     public static final String PAGE_LINK_REL_NEXT = "next";
     public static final String PAGE_LINK_REL_PREVIOUS = "previous";
+    public static final String CURSOR_PAGINATION_LINK_FORMAT = "?limit=%d&%s=%s";
+    public static final String PAGE_CURSOR_AFTER = "after";
+    public static final String PAGE_CURSOR_BEFORE = "before";
+    public static final String SORT_ORDER_LINK_PARAM = "&sortOrder=";
+    public static final String FILTER_LINK_PARAM = "&filter=";
+    public static final String REQUIRED_ATTRIBUTES_LINK_PARAM = "&requiredAttributes=";
+    public static final int DEFAULT_TENANT_LIST_LIMIT = 15;
+
+    // Tenant search constants.
+    public static final String DOMAIN_ATTRIBUTE = "domain";
+    public static final String OWNER_EMAIL_ATTRIBUTE = "owner.email";
+    public static final String LIFECYCLE_STATUS_ATTRIBUTE = "lifecycleStatus";
+    public static final String LIFECYCLE_STATUS_ACTIVE = "active";
+    public static final String LIFECYCLE_STATUS_INACTIVE = "inactive";
+    public static final String SORT_BY_DOMAIN_NAME = "domainName";
+    public static final String SORT_ORDER_ASCENDING = "asc";
+    public static final String SORT_ORDER_DESCENDING = "desc";
+    public static final String FILTER_EQUALS = "eq";
+    public static final String FILTER_STARTS_WITH = "sw";
+    public static final String FILTER_ENDS_WITH = "ew";
+    public static final String FILTER_CONTAINS = "co";
+    public static final String FILTER_AND = "and";
+    public static final String FILTER_OR = "or";
+
+    // Tenant list required attributes.
+    public static final String OWNER_EMAIL_REQUIRED_ATTRIBUTE = "owners.email";
 
     /**
      * Enum for error messages.
@@ -43,6 +84,35 @@ public class TenantManagementConstants {
         ERROR_CODE_TENANT_LIMIT_REACHED("TM-60019",
                 "Unable to create a tenant.",
                 "Maximum number of allowed tenants have been reached."),
+        ERROR_CODE_INVALID_FILTER("TM-60020", "Invalid filter.",
+                "Filter %s is invalid."),
+        ERROR_CODE_UNSUPPORTED_FILTER_ATTRIBUTE("TM-60021", "Unsupported filter attribute.",
+                "Filtering the tenants by the attribute %s is not supported."),
+        ERROR_CODE_UNSUPPORTED_FILTER_OPERATION("TM-60022", "Unsupported filter operation.",
+                "Filter operation %s is not supported."),
+        ERROR_CODE_INVALID_CURSOR("TM-60023", "Invalid cursor.",
+                "Pagination cursor %s is invalid."),
+        ERROR_CODE_INVALID_PAGINATION_PARAMETERS("TM-60024", "Invalid pagination parameters.",
+                "%s"),
+        ERROR_CODE_UNSUPPORTED_SORT_ATTRIBUTE("TM-60025", "Unsupported sort attribute.",
+                "Sorting the tenants by the attribute %s is not supported."),
+        ERROR_CODE_PROVISIONING_JOB_NOT_FOUND("TM-60026", "Tenant provisioning job not found.",
+                "Unable to find a tenant provisioning job with the id %s."),
+        ERROR_CODE_TENANT_PROVISIONING_IN_PROGRESS("TM-60027", "Tenant provisioning in progress.",
+                "A provisioning job of the tenant domain %s is already in progress."),
+        ERROR_CODE_INVALID_BULK_TENANTS("TM-60028", "Invalid tenants.",
+                "Unable to read the tenants. %s"),
+        ERROR_CODE_BULK_TENANT_LIMIT_EXCEEDED("TM-60029", "Too many tenants.",
+                "A bulk provisioning operation cannot have more than %s tenants."),
+        ERROR_CODE_BULK_OPERATION_NOT_FOUND("TM-60030", "Bulk provisioning operation not found.",
+                "Unable to find a bulk provisioning operation with the id %s."),
+        ERROR_CODE_DUPLICATE_BULK_TENANT("TM-60031", "Duplicate tenant.",
+                "Tenant domain %s is repeated in the request."),
+        ERROR_CODE_UNSUPPORTED_REQUIRED_ATTRIBUTE("TM-60032", "Unsupported required attribute.",
+                "Attribute %s cannot be requested for the listed tenants."),
+        ERROR_CODE_PROVISIONING_JOB_OF_ANOTHER_NODE("TM-60033", "Tenant provisioning job not found.",
+                "Tenant provisioning job %s was not accepted by this node. Provisioning jobs are tracked by the node " +
+                        "which accepted them, hence the requests of a job must be routed to the same node."),
         ERROR_CODE_ERROR_LISTING_TENANTS("TM-65001",
                 "Unable to list existing tenants.",
                 "Server encountered an error while listing the tenants."),
@@ -56,15 +126,17 @@ public class TenantManagementConstants {
 
         ERROR_CODE_BUILDING_LINKS("TM-65005", "Error building page links", "Error occurred during building page links. "
                 + "%s"),
-        ERROR_CODE_FILTER_NOT_IMPLEMENTED("TM-65006", "Filtering not supported.", "Filtering capability is not " +
-                "supported in this version of the API."),
         ERROR_CODE_ERROR_VALIDATING_TENANT_CODE("TM-65007",
                                                "Unable to add tenant.", "Error occurred in validating the code."),
         ERROR_CODE_ERROR_CHECKING_TENANT_AVAILABILITY("TM-65008",
                                                         "Unable to check availability of domain.",
                 "Server encountered an error while checking for tenant domain"),
         ERROR_CODE_DELETE_TENANT_METADATA("TM-65008", "Error while deleting the tenant metadata.",
-                "Server encountered an error while deleting the tenant metadata identified by %s .");
+                "Server encountered an error while deleting the tenant metadata identified by %s ."),
+        ERROR_CODE_TENANT_PROVISIONING_REJECTED("TM-65009", "Unable to provision tenant.",
+                "Server is too busy to accept more tenant provisioning jobs. Retry later."),
+        ERROR_CODE_BULK_PROVISIONING_REJECTED("TM-65010", "Unable to provision tenants.",
+                "Server is too busy to accept more bulk provisioning operations. Retry later.");
 
         private final String code;
         private final String message;
@@ -24,10 +24,11 @@ import java.io.InputStream;
 import java.util.List;
 import org.wso2.carbon.identity.api.server.tenant.management.v1.model.ChannelVerifiedTenantModel;
 import org.wso2.carbon.identity.api.server.tenant.management.v1.model.Error;
+import org.wso2.carbon.identity.api.server.tenant.management.v1.model.TenantProvisioningJob;
 import javax.ws.rs.core.Response;
 
 
 public interface ChannelVerifiedTenantsApiService {
 
-      public Response addChannelVerifiedTenant(ChannelVerifiedTenantModel channelVerifiedTenantModel);
+      public Response addChannelVerifiedTenant(ChannelVerifiedTenantModel channelVerifiedTenantModel, Boolean async);
 }
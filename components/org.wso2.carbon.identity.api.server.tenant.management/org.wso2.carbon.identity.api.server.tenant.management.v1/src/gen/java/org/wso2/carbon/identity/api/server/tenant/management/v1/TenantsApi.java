@@ -24,7 +24,9 @@ import java.util.List;
 
 import org.wso2.carbon.identity.api.server.tenant.management.v1.model.Error;
 import org.wso2.carbon.identity.api.server.tenant.management.v1.model.OwnerResponse;
+import org.wso2.carbon.identity.api.server.tenant.management.v1.model.TenantBulkOperation;
 import org.wso2.carbon.identity.api.server.tenant.management.v1.model.TenantModel;
+import org.wso2.carbon.identity.api.server.tenant.management.v1.model.TenantProvisioningJob;
 import org.wso2.carbon.identity.api.server.tenant.management.v1.model.TenantPutModel;
 import org.wso2.carbon.identity.api.server.tenant.management.v1.model.TenantResponseModel;
 import org.wso2.carbon.identity.api.server.tenant.management.v1.model.TenantsListResponse;
@@ -32,6 +34,8 @@ import org.wso2.carbon.identity.api.server.tenant.management.v1.TenantsApiServic
 
 import javax.validation.Valid;
 import javax.ws.rs.*;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Response;
 import io.swagger.annotations.*;
 
@@ -50,7 +54,7 @@ public class TenantsApi  {
     
     @Consumes({ "application/json" })
     @Produces({ "application/json" })
-    @ApiOperation(value = "Add tenant.", notes = "This API provides the capability to create new tenants.  <b>Permission required:</b> * /permission/protected/manage/monitor/tenants/list  <b>scope required:</b> * internal_list_tenants ", response = Void.class, authorizations = {
+    @ApiOperation(value = "Add tenant.", notes = "This API provides the capability to create new tenants. Tenants can be provisioned asynchronously with the async query parameter.  <b>Permission required:</b> * /permission/protected/manage/monitor/tenants/list  <b>scope required:</b> * internal_list_tenants ", response = Void.class, authorizations = {
         @Authorization(value = "BasicAuth"),
         @Authorization(value = "OAuth2", scopes = {
             
@@ -58,15 +62,41 @@ public class TenantsApi  {
     }, tags={ "Tenants", })
     @ApiResponses(value = { 
         @ApiResponse(code = 201, message = "Item Created", response = Void.class),
+        @ApiResponse(code = 202, message = "Provisioning Job Accepted", response = TenantProvisioningJob.class),
         @ApiResponse(code = 400, message = "Invalid Input Request", response = Error.class),
         @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
         @ApiResponse(code = 403, message = "Resource Forbidden", response = Void.class),
         @ApiResponse(code = 409, message = "Element Already Exists", response = Error.class),
-        @ApiResponse(code = 500, message = "Internal Server Error", response = Error.class)
+        @ApiResponse(code = 500, message = "Internal Server Error", response = Error.class),
+        @ApiResponse(code = 503, message = "Service Unavailable", response = Error.class)
+    })
+    public Response addTenant(@ApiParam(value = "This represents the tenant to be created." ,required=true) @Valid TenantModel tenantModel,     @Valid@ApiParam(value = "Provision the tenant asynchronously. If true, the tenant is validated, a provisioning job is returned with the 202 status and the tenant is provisioned in the background. The job can be polled through its location.", defaultValue="false") @DefaultValue("false")  @QueryParam("async") Boolean async) {
+
+        return delegate.addTenant(tenantModel,  async );
+    }
+
+    @Valid
+    @POST
+    @Path("/bulk")
+    @Consumes({ "application/json", "application/x-ndjson" })
+    @Produces({ "application/json" })
+    @ApiOperation(value = "Add tenants in bulk.", notes = "This API provides the capability to create a large number of tenants with a single request. The tenants are read as a JSON array or as newline delimited JSON, validated and provisioned in the background with bounded parallelism. A tenant that fails is reported in the bulk operation without affecting the other tenants. The progress of the operation can be polled through its location.  <b>Permission required:</b> * /permission/protected/manage/monitor/tenants/list  <b>scope required:</b> * internal_list_tenants ", response = TenantBulkOperation.class, authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "Tenants", })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 202, message = "Bulk Operation Accepted", response = TenantBulkOperation.class),
+        @ApiResponse(code = 400, message = "Invalid Input Request", response = Error.class),
+        @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
+        @ApiResponse(code = 403, message = "Resource Forbidden", response = Void.class),
+        @ApiResponse(code = 500, message = "Internal Server Error", response = Error.class),
+        @ApiResponse(code = 503, message = "Service Unavailable", response = Error.class)
     })
-    public Response addTenant(@ApiParam(value = "This represents the tenant to be created." ,required=true) @Valid TenantModel tenantModel) {
+    public Response addTenants(@ApiParam(value = "Tenants to be created, as a JSON array of tenant models or as newline delimited tenant models." ,required=true) @Valid InputStream body,     @Valid @Min(1) @Max(10)@ApiParam(value = "Number of tenants to be provisioned in parallel.", defaultValue="4") @DefaultValue("4")  @QueryParam("parallelism") Integer parallelism) {
 
-        return delegate.addTenant(tenantModel );
+        return delegate.addTenants(body,  parallelism );
     }
 
     @Valid
@@ -93,6 +123,30 @@ public class TenantsApi  {
         return delegate.deleteTenantMetadata(tenantId );
     }
 
+    @Valid
+    @GET
+    @Path("/bulk-operations/{operation-id}")
+    
+    @Produces({ "application/json" })
+    @ApiOperation(value = "Retrieve bulk tenant provisioning operation.", notes = "Retrieve the progress, the throughput and the failed tenants of a bulk tenant provisioning operation.  <b>Permission required:</b> * /permission/protected/manage/monitor/tenants/list  <b>scope required:</b> * internal_list_tenants ", response = TenantBulkOperation.class, authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "Tenants", })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "OK", response = TenantBulkOperation.class),
+        @ApiResponse(code = 400, message = "Invalid Input Request", response = Error.class),
+        @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
+        @ApiResponse(code = 403, message = "Resource Forbidden", response = Void.class),
+        @ApiResponse(code = 404, message = "The specified resource is not found", response = Error.class),
+        @ApiResponse(code = 500, message = "Internal Server Error", response = Error.class)
+    })
+    public Response getBulkProvisioningOperation(@ApiParam(value = "Id of the bulk tenant provisioning operation.",required=true) @PathParam("operation-id") String operationId) {
+
+        return delegate.getBulkProvisioningOperation(operationId );
+    }
+
     @Valid
     @GET
     @Path("/{tenant-id}/owners")
@@ -117,6 +171,30 @@ public class TenantsApi  {
         return delegate.getOwners(tenantId );
     }
 
+    @Valid
+    @GET
+    @Path("/provisioning-jobs/{job-id}")
+    
+    @Produces({ "application/json" })
+    @ApiOperation(value = "Retrieve tenant provisioning job.", notes = "Retrieve the status and the step timings of an asynchronous tenant provisioning job. The request waits for the completion of the job up to the given number of seconds, without holding a request thread.  Provisioning jobs are tracked by the node which accepted them, hence the requests of a job must be routed to the same node.  <b>Permission required:</b> * /permission/protected/manage/monitor/tenants/list  <b>scope required:</b> * internal_list_tenants ", response = TenantProvisioningJob.class, authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "Tenants", })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "OK", response = TenantProvisioningJob.class),
+        @ApiResponse(code = 400, message = "Invalid Input Request", response = Error.class),
+        @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
+        @ApiResponse(code = 403, message = "Resource Forbidden", response = Void.class),
+        @ApiResponse(code = 404, message = "The specified resource is not found", response = Error.class),
+        @ApiResponse(code = 500, message = "Internal Server Error", response = Error.class)
+    })
+    public void getProvisioningJob(@ApiParam(value = "Id of the tenant provisioning job.",required=true) @PathParam("job-id") String jobId,     @Valid @Min(0) @Max(60)@ApiParam(value = "Maximum number of seconds to wait for the completion of the job.", defaultValue="0") @DefaultValue("0")  @QueryParam("wait") Integer wait, @Suspended AsyncResponse asyncResponse) {
+
+        delegate.getProvisioningJob(jobId,  wait , asyncResponse);
+    }
+
     @Valid
     @GET
     @Path("/{tenant-id}")
@@ -202,15 +280,15 @@ public class TenantsApi  {
     }, tags={ "Tenants", })
     @ApiResponses(value = { 
         @ApiResponse(code = 200, message = "OK", response = TenantsListResponse.class),
+        @ApiResponse(code = 400, message = "Invalid Input Request", response = Error.class),
         @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
         @ApiResponse(code = 403, message = "Resource Forbidden", response = Void.class),
         @ApiResponse(code = 404, message = "The specified resource is not found", response = Error.class),
-        @ApiResponse(code = 500, message = "Internal Server Error", response = Error.class),
-        @ApiResponse(code = 501, message = "Not Implemented", response = Error.class)
+        @ApiResponse(code = 500, message = "Internal Server Error", response = Error.class)
     })
-    public Response retrieveTenants(    @Valid @Min(0)@ApiParam(value = "Maximum number of records to return.")  @QueryParam("limit") Integer limit,     @Valid @Min(0)@ApiParam(value = "Number of records to skip for pagination.")  @QueryParam("offset") Integer offset,     @Valid@ApiParam(value = "Define the order in which the retrieved tenants should be sorted.", allowableValues="asc, desc")  @QueryParam("sortOrder") String sortOrder,     @Valid@ApiParam(value = "Attribute by which the retrieved records should be sorted. Currently sorting through _<b>domainName<b>_ only supported.")  @QueryParam("sortBy") String sortBy,     @Valid@ApiParam(value = "Condition to filter the retrival of records. Supports 'sw', 'co', 'ew' and 'eq' operations and also complex queries with 'and' operations. E.g. /tenants?filter=domain+sw+\"wso2\". _<b>This option is not yet supported.<b>_ ")  @QueryParam("filter") String filter) {
+    public Response retrieveTenants(    @Valid @Min(0)@ApiParam(value = "Maximum number of records to return.")  @QueryParam("limit") Integer limit,     @Valid @Min(0)@ApiParam(value = "Number of records to skip for pagination.")  @QueryParam("offset") Integer offset,     @Valid@ApiParam(value = "Define the order in which the retrieved tenants should be sorted.", allowableValues="asc, desc")  @QueryParam("sortOrder") String sortOrder,     @Valid@ApiParam(value = "Attribute by which the retrieved records should be sorted. Currently sorting through _<b>domainName<b>_ only supported.")  @QueryParam("sortBy") String sortBy,     @Valid@ApiParam(value = "Condition to filter the retrival of records. Supports filtering by the 'domain' and 'owner.email' attributes with 'sw', 'co', 'ew' and 'eq' operations, by the 'lifecycleStatus' attribute with the 'eq' operation and the values 'active' and 'inactive', and also complex queries with 'and' and 'or' operations. E.g. /tenants?filter=domain+sw+\"wso2\"+and+lifecycleStatus+eq+active ")  @QueryParam("filter") String filter,     @Valid@ApiParam(value = "Cursor of the tenant after which the tenants should be returned. The cursors are returned in the pagination links and cannot be used with the offset.")  @QueryParam("after") String after,     @Valid@ApiParam(value = "Cursor of the tenant before which the tenants should be returned. The cursors are returned in the pagination links and cannot be used with the offset.")  @QueryParam("before") String before,     @Valid@ApiParam(value = "Comma separated owner attributes to be included in the listed tenants. Supports 'owners.email'. The attributes are resolved with the page of tenants, without a request per tenant. E.g. /tenants?requiredAttributes=owners.email ")  @QueryParam("requiredAttributes") String requiredAttributes) {
 
-        return delegate.retrieveTenants(limit,  offset,  sortOrder,  sortBy,  filter );
+        return delegate.retrieveTenants(limit,  offset,  sortOrder,  sortBy,  filter,  after,  before,  requiredAttributes );
     }
 
     @Valid
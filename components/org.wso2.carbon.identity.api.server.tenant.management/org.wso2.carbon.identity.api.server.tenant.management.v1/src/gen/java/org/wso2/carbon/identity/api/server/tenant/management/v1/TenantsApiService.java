@@ -24,28 +24,37 @@ import java.io.InputStream;
 import java.util.List;
 import org.wso2.carbon.identity.api.server.tenant.management.v1.model.Error;
 import org.wso2.carbon.identity.api.server.tenant.management.v1.model.OwnerResponse;
+import org.wso2.carbon.identity.api.server.tenant.management.v1.model.TenantBulkOperation;
 import org.wso2.carbon.identity.api.server.tenant.management.v1.model.TenantModel;
+import org.wso2.carbon.identity.api.server.tenant.management.v1.model.TenantProvisioningJob;
 import org.wso2.carbon.identity.api.server.tenant.management.v1.model.TenantPutModel;
 import org.wso2.carbon.identity.api.server.tenant.management.v1.model.TenantResponseModel;
 import org.wso2.carbon.identity.api.server.tenant.management.v1.model.TenantsListResponse;
+import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.core.Response;
 
 
 public interface TenantsApiService {
 
-      public Response addTenant(TenantModel tenantModel);
+      public Response addTenant(TenantModel tenantModel, Boolean async);
+
+      public Response addTenants(InputStream body, Integer parallelism);
 
       public Response deleteTenantMetadata(String tenantId);
 
+      public Response getBulkProvisioningOperation(String operationId);
+
       public Response getOwners(String tenantId);
 
+      public void getProvisioningJob(String jobId, Integer wait, AsyncResponse asyncResponse);
+
       public Response getTenant(String tenantId);
 
       public Response getTenantByDomain(String tenantDomain);
 
       public Response isDomainExist(String tenantDomain);
 
-      public Response retrieveTenants(Integer limit, Integer offset, String sortOrder, String sortBy, String filter);
+      public Response retrieveTenants(Integer limit, Integer offset, String sortOrder, String sortBy, String filter, String after, String before, String requiredAttributes);
 
       public Response updateTenantStatus(String tenantId, TenantPutModel tenantPutModel);
 }
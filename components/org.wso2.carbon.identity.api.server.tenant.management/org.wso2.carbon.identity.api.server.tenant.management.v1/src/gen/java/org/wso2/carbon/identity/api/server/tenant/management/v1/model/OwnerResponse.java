@@ -32,6 +32,7 @@ public class OwnerResponse  {
   
     private String id;
     private String username;
+    private String email;
 
     /**
     * id of the tenant owner.
@@ -71,6 +72,25 @@ public class OwnerResponse  {
         this.username = username;
     }
 
+    /**
+    * email address of the tenant owner. Returned when requested through the required attributes.
+    **/
+    public OwnerResponse email(String email) {
+
+        this.email = email;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "kim@wso2.com", value = "email address of the tenant owner. Returned when requested through the required attributes.")
+    @JsonProperty("email")
+    @Valid
+    public String getEmail() {
+        return email;
+    }
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
 
 
     @Override
@@ -84,12 +104,13 @@ public class OwnerResponse  {
         }
         OwnerResponse ownerResponse = (OwnerResponse) o;
         return Objects.equals(this.id, ownerResponse.id) &&
-            Objects.equals(this.username, ownerResponse.username);
+            Objects.equals(this.username, ownerResponse.username) &&
+            Objects.equals(this.email, ownerResponse.email);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, username);
+        return Objects.hash(id, username, email);
     }
 
     @Override
@@ -100,6 +121,7 @@ public class OwnerResponse  {
         
         sb.append("    id: ").append(toIndentedString(id)).append("\n");
         sb.append("    username: ").append(toIndentedString(username)).append("\n");
+        sb.append("    email: ").append(toIndentedString(email)).append("\n");
         sb.append("}");
         return sb.toString();
     }
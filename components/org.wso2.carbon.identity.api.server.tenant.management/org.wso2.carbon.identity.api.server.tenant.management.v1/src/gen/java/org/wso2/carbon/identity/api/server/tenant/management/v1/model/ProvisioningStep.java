@@ -0,0 +1,123 @@
+/*
+* Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package org.wso2.carbon.identity.api.server.tenant.management.v1.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import javax.validation.constraints.*;
+
+
+import io.swagger.annotations.*;
+import java.util.Objects;
+import javax.validation.Valid;
+import javax.xml.bind.annotation.*;
+
+public class ProvisioningStep  {
+  
+    private String name;
+    private Long durationMillis;
+
+
+    /**
+    * Name of the provisioning step.
+    **/
+    public ProvisioningStep name(String name) {
+
+        this.name = name;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "provisioning", required = true, value = "Name of the provisioning step.")
+    @JsonProperty("name")
+    @Valid
+    @NotNull(message = "Property name cannot be null.")
+
+    public String getName() {
+        return name;
+    }
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    /**
+    * Time taken by the provisioning step in milliseconds.
+    **/
+    public ProvisioningStep durationMillis(Long durationMillis) {
+
+        this.durationMillis = durationMillis;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "4230", required = true, value = "Time taken by the provisioning step in milliseconds.")
+    @JsonProperty("durationMillis")
+    @Valid
+    @NotNull(message = "Property durationMillis cannot be null.")
+
+    public Long getDurationMillis() {
+        return durationMillis;
+    }
+    public void setDurationMillis(Long durationMillis) {
+        this.durationMillis = durationMillis;
+    }
+
+    
+
+    @Override
+    public boolean equals(java.lang.Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ProvisioningStep provisioningStep = (ProvisioningStep) o;
+        return Objects.equals(this.name, provisioningStep.name) &&
+            Objects.equals(this.durationMillis, provisioningStep.durationMillis);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, durationMillis);
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("class ProvisioningStep {\n");
+        
+        sb.append("    name: ").append(toIndentedString(name)).append("\n");
+        sb.append("    durationMillis: ").append(toIndentedString(durationMillis)).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+    * Convert the given object to string with each line indented by 4 spaces
+    * (except the first line).
+    */
+    private String toIndentedString(java.lang.Object o) {
+
+        if (o == null) {
+            return "null";
+        }
+        return o.toString().replace("\n", "\n");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,146 @@
+/*
+* Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package org.wso2.carbon.identity.api.server.tenant.management.v1.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import org.wso2.carbon.identity.api.server.tenant.management.v1.model.Error;
+import javax.validation.constraints.*;
+
+
+import io.swagger.annotations.*;
+import java.util.Objects;
+import javax.validation.Valid;
+import javax.xml.bind.annotation.*;
+
+public class TenantBulkFailure  {
+  
+    private Integer index;
+    private String domain;
+    private Error error;
+
+
+    /**
+    * Position of the tenant in the request, starting from 0.
+    **/
+    public TenantBulkFailure index(Integer index) {
+
+        this.index = index;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "12", required = true, value = "Position of the tenant in the request, starting from 0.")
+    @JsonProperty("index")
+    @Valid
+    @NotNull(message = "Property index cannot be null.")
+
+    public Integer getIndex() {
+        return index;
+    }
+    public void setIndex(Integer index) {
+        this.index = index;
+    }
+
+    /**
+    * Domain of the tenant.
+    **/
+    public TenantBulkFailure domain(String domain) {
+
+        this.domain = domain;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "abc.com", value = "Domain of the tenant.")
+    @JsonProperty("domain")
+    @Valid
+
+    public String getDomain() {
+        return domain;
+    }
+    public void setDomain(String domain) {
+        this.domain = domain;
+    }
+
+    /**
+    **/
+    public TenantBulkFailure error(Error error) {
+
+        this.error = error;
+        return this;
+    }
+    
+    @ApiModelProperty(required = true, value = "")
+    @JsonProperty("error")
+    @Valid
+    @NotNull(message = "Property error cannot be null.")
+
+    public Error getError() {
+        return error;
+    }
+    public void setError(Error error) {
+        this.error = error;
+    }
+
+    
+
+    @Override
+    public boolean equals(java.lang.Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        TenantBulkFailure tenantBulkFailure = (TenantBulkFailure) o;
+        return Objects.equals(this.index, tenantBulkFailure.index) &&
+            Objects.equals(this.domain, tenantBulkFailure.domain) &&
+            Objects.equals(this.error, tenantBulkFailure.error);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, domain, error);
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("class TenantBulkFailure {\n");
+        
+        sb.append("    index: ").append(toIndentedString(index)).append("\n");
+        sb.append("    domain: ").append(toIndentedString(domain)).append("\n");
+        sb.append("    error: ").append(toIndentedString(error)).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+    * Convert the given object to string with each line indented by 4 spaces
+    * (except the first line).
+    */
+    private String toIndentedString(java.lang.Object o) {
+
+        if (o == null) {
+            return "null";
+        }
+        return o.toString().replace("\n", "\n");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,402 @@
+/*
+* Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package org.wso2.carbon.identity.api.server.tenant.management.v1.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import java.util.ArrayList;
+import java.util.List;
+import org.wso2.carbon.identity.api.server.tenant.management.v1.model.TenantBulkFailure;
+import javax.validation.constraints.*;
+
+
+import io.swagger.annotations.*;
+import java.util.Objects;
+import javax.validation.Valid;
+import javax.xml.bind.annotation.*;
+
+public class TenantBulkOperation  {
+  
+    private String id;
+
+@XmlType(name="StatusEnum")
+@XmlEnum(String.class)
+public enum StatusEnum {
+
+    @XmlEnumValue("QUEUED") QUEUED(String.valueOf("QUEUED")), @XmlEnumValue("RUNNING") RUNNING(String.valueOf("RUNNING")), @XmlEnumValue("COMPLETED") COMPLETED(String.valueOf("COMPLETED"));
+
+
+    private String value;
+
+    StatusEnum(String v) {
+        value = v;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+
+    public static StatusEnum fromValue(String value) {
+        for (StatusEnum b : StatusEnum.values()) {
+            if (b.value.equals(value)) {
+                return b;
+            }
+        }
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+}
+
+    private StatusEnum status;
+    private Integer total;
+    private Integer processed;
+    private Integer succeeded;
+    private Integer failed;
+    private Integer parallelism;
+    private String createdTime;
+    private String startedTime;
+    private String completedTime;
+    private Double throughput;
+    private List<TenantBulkFailure> failures = null;
+
+
+    /**
+    * Id of the bulk provisioning operation.
+    **/
+    public TenantBulkOperation id(String id) {
+
+        this.id = id;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "3f2c7a1e-5b6d-4c8e-9f0a-1b2c3d4e5f6a", required = true, value = "Id of the bulk provisioning operation.")
+    @JsonProperty("id")
+    @Valid
+    @NotNull(message = "Property id cannot be null.")
+
+    public String getId() {
+        return id;
+    }
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    /**
+    * Status of the bulk provisioning operation.
+    **/
+    public TenantBulkOperation status(StatusEnum status) {
+
+        this.status = status;
+        return this;
+    }
+    
+    @ApiModelProperty(required = true, value = "Status of the bulk provisioning operation.")
+    @JsonProperty("status")
+    @Valid
+    @NotNull(message = "Property status cannot be null.")
+
+    public StatusEnum getStatus() {
+        return status;
+    }
+    public void setStatus(StatusEnum status) {
+        this.status = status;
+    }
+
+    /**
+    * Number of tenants in the request.
+    **/
+    public TenantBulkOperation total(Integer total) {
+
+        this.total = total;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "1000", required = true, value = "Number of tenants in the request.")
+    @JsonProperty("total")
+    @Valid
+    @NotNull(message = "Property total cannot be null.")
+
+    public Integer getTotal() {
+        return total;
+    }
+    public void setTotal(Integer total) {
+        this.total = total;
+    }
+
+    /**
+    * Number of tenants processed so far.
+    **/
+    public TenantBulkOperation processed(Integer processed) {
+
+        this.processed = processed;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "420", required = true, value = "Number of tenants processed so far.")
+    @JsonProperty("processed")
+    @Valid
+    @NotNull(message = "Property processed cannot be null.")
+
+    public Integer getProcessed() {
+        return processed;
+    }
+    public void setProcessed(Integer processed) {
+        this.processed = processed;
+    }
+
+    /**
+    * Number of tenants provisioned.
+    **/
+    public TenantBulkOperation succeeded(Integer succeeded) {
+
+        this.succeeded = succeeded;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "415", required = true, value = "Number of tenants provisioned.")
+    @JsonProperty("succeeded")
+    @Valid
+    @NotNull(message = "Property succeeded cannot be null.")
+
+    public Integer getSucceeded() {
+        return succeeded;
+    }
+    public void setSucceeded(Integer succeeded) {
+        this.succeeded = succeeded;
+    }
+
+    /**
+    * Number of tenants that could not be provisioned.
+    **/
+    public TenantBulkOperation failed(Integer failed) {
+
+        this.failed = failed;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "5", required = true, value = "Number of tenants that could not be provisioned.")
+    @JsonProperty("failed")
+    @Valid
+    @NotNull(message = "Property failed cannot be null.")
+
+    public Integer getFailed() {
+        return failed;
+    }
+    public void setFailed(Integer failed) {
+        this.failed = failed;
+    }
+
+    /**
+    * Number of tenants provisioned in parallel.
+    **/
+    public TenantBulkOperation parallelism(Integer parallelism) {
+
+        this.parallelism = parallelism;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "4", required = true, value = "Number of tenants provisioned in parallel.")
+    @JsonProperty("parallelism")
+    @Valid
+    @NotNull(message = "Property parallelism cannot be null.")
+
+    public Integer getParallelism() {
+        return parallelism;
+    }
+    public void setParallelism(Integer parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+    * Time the operation was accepted in ISO-8601 format.
+    **/
+    public TenantBulkOperation createdTime(String createdTime) {
+
+        this.createdTime = createdTime;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "2021-10-20T10:15:30.000Z", value = "Time the operation was accepted in ISO-8601 format.")
+    @JsonProperty("createdTime")
+    @Valid
+
+    public String getCreatedTime() {
+        return createdTime;
+    }
+    public void setCreatedTime(String createdTime) {
+        this.createdTime = createdTime;
+    }
+
+    /**
+    * Time the provisioning was started in ISO-8601 format.
+    **/
+    public TenantBulkOperation startedTime(String startedTime) {
+
+        this.startedTime = startedTime;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "2021-10-20T10:15:30.120Z", value = "Time the provisioning was started in ISO-8601 format.")
+    @JsonProperty("startedTime")
+    @Valid
+
+    public String getStartedTime() {
+        return startedTime;
+    }
+    public void setStartedTime(String startedTime) {
+        this.startedTime = startedTime;
+    }
+
+    /**
+    * Time the provisioning was completed in ISO-8601 format.
+    **/
+    public TenantBulkOperation completedTime(String completedTime) {
+
+        this.completedTime = completedTime;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "2021-10-20T10:22:41.800Z", value = "Time the provisioning was completed in ISO-8601 format.")
+    @JsonProperty("completedTime")
+    @Valid
+
+    public String getCompletedTime() {
+        return completedTime;
+    }
+    public void setCompletedTime(String completedTime) {
+        this.completedTime = completedTime;
+    }
+
+    /**
+    * Tenants processed per second since the provisioning was started.
+    **/
+    public TenantBulkOperation throughput(Double throughput) {
+
+        this.throughput = throughput;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "0.97", value = "Tenants processed per second since the provisioning was started.")
+    @JsonProperty("throughput")
+    @Valid
+
+    public Double getThroughput() {
+        return throughput;
+    }
+    public void setThroughput(Double throughput) {
+        this.throughput = throughput;
+    }
+
+    /**
+    * Tenants that could not be provisioned, ordered by their position in the request.
+    **/
+    public TenantBulkOperation failures(List<TenantBulkFailure> failures) {
+
+        this.failures = failures;
+        return this;
+    }
+    
+    @ApiModelProperty(value = "Tenants that could not be provisioned, ordered by their position in the request.")
+    @JsonProperty("failures")
+    @Valid
+
+    public List<TenantBulkFailure> getFailures() {
+        return failures;
+    }
+    public void setFailures(List<TenantBulkFailure> failures) {
+        this.failures = failures;
+    }
+
+    public TenantBulkOperation addFailuresItem(TenantBulkFailure failuresItem) {
+        if (this.failures == null) {
+            this.failures = new ArrayList<>();
+        }
+        this.failures.add(failuresItem);
+        return this;
+    }
+
+    
+
+    @Override
+    public boolean equals(java.lang.Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        TenantBulkOperation tenantBulkOperation = (TenantBulkOperation) o;
+        return Objects.equals(this.id, tenantBulkOperation.id) &&
+            Objects.equals(this.status, tenantBulkOperation.status) &&
+            Objects.equals(this.total, tenantBulkOperation.total) &&
+            Objects.equals(this.processed, tenantBulkOperation.processed) &&
+            Objects.equals(this.succeeded, tenantBulkOperation.succeeded) &&
+            Objects.equals(this.failed, tenantBulkOperation.failed) &&
+            Objects.equals(this.parallelism, tenantBulkOperation.parallelism) &&
+            Objects.equals(this.createdTime, tenantBulkOperation.createdTime) &&
+            Objects.equals(this.startedTime, tenantBulkOperation.startedTime) &&
+            Objects.equals(this.completedTime, tenantBulkOperation.completedTime) &&
+            Objects.equals(this.throughput, tenantBulkOperation.throughput) &&
+            Objects.equals(this.failures, tenantBulkOperation.failures);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, status, total, processed, succeeded, failed, parallelism, createdTime, startedTime, completedTime, throughput, failures);
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("class TenantBulkOperation {\n");
+        
+        sb.append("    id: ").append(toIndentedString(id)).append("\n");
+        sb.append("    status: ").append(toIndentedString(status)).append("\n");
+        sb.append("    total: ").append(toIndentedString(total)).append("\n");
+        sb.append("    processed: ").append(toIndentedString(processed)).append("\n");
+        sb.append("    succeeded: ").append(toIndentedString(succeeded)).append("\n");
+        sb.append("    failed: ").append(toIndentedString(failed)).append("\n");
+        sb.append("    parallelism: ").append(toIndentedString(parallelism)).append("\n");
+        sb.append("    createdTime: ").append(toIndentedString(createdTime)).append("\n");
+        sb.append("    startedTime: ").append(toIndentedString(startedTime)).append("\n");
+        sb.append("    completedTime: ").append(toIndentedString(completedTime)).append("\n");
+        sb.append("    throughput: ").append(toIndentedString(throughput)).append("\n");
+        sb.append("    failures: ").append(toIndentedString(failures)).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+    * Convert the given object to string with each line indented by 4 spaces
+    * (except the first line).
+    */
+    private String toIndentedString(java.lang.Object o) {
+
+        if (o == null) {
+            return "null";
+        }
+        return o.toString().replace("\n", "\n");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,331 @@
+/*
+* Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package org.wso2.carbon.identity.api.server.tenant.management.v1.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import java.util.ArrayList;
+import java.util.List;
+import org.wso2.carbon.identity.api.server.tenant.management.v1.model.Error;
+import org.wso2.carbon.identity.api.server.tenant.management.v1.model.ProvisioningStep;
+import javax.validation.constraints.*;
+
+
+import io.swagger.annotations.*;
+import java.util.Objects;
+import javax.validation.Valid;
+import javax.xml.bind.annotation.*;
+
+public class TenantProvisioningJob  {
+  
+    private String id;
+
+@XmlType(name="StatusEnum")
+@XmlEnum(String.class)
+public enum StatusEnum {
+
+    @XmlEnumValue("QUEUED") QUEUED(String.valueOf("QUEUED")), @XmlEnumValue("RUNNING") RUNNING(String.valueOf("RUNNING")), @XmlEnumValue("SUCCEEDED") SUCCEEDED(String.valueOf("SUCCEEDED")), @XmlEnumValue("FAILED") FAILED(String.valueOf("FAILED"));
+
+
+    private String value;
+
+    StatusEnum(String v) {
+        value = v;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+
+    public static StatusEnum fromValue(String value) {
+        for (StatusEnum b : StatusEnum.values()) {
+            if (b.value.equals(value)) {
+                return b;
+            }
+        }
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+}
+
+    private StatusEnum status;
+    private String domain;
+    private String tenantId;
+    private String createdTime;
+    private String startedTime;
+    private String completedTime;
+    private List<ProvisioningStep> steps = null;
+    private Error error;
+
+
+    /**
+    * Id of the provisioning job.
+    **/
+    public TenantProvisioningJob id(String id) {
+
+        this.id = id;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "7a1b2c3d-4e5f-4a6b-8c7d-9e0f1a2b3c4d", required = true, value = "Id of the provisioning job.")
+    @JsonProperty("id")
+    @Valid
+    @NotNull(message = "Property id cannot be null.")
+
+    public String getId() {
+        return id;
+    }
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    /**
+    * Status of the provisioning job.
+    **/
+    public TenantProvisioningJob status(StatusEnum status) {
+
+        this.status = status;
+        return this;
+    }
+    
+    @ApiModelProperty(required = true, value = "Status of the provisioning job.")
+    @JsonProperty("status")
+    @Valid
+    @NotNull(message = "Property status cannot be null.")
+
+    public StatusEnum getStatus() {
+        return status;
+    }
+    public void setStatus(StatusEnum status) {
+        this.status = status;
+    }
+
+    /**
+    * Tenant domain of the tenant being provisioned.
+    **/
+    public TenantProvisioningJob domain(String domain) {
+
+        this.domain = domain;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "abc.com", required = true, value = "Tenant domain of the tenant being provisioned.")
+    @JsonProperty("domain")
+    @Valid
+    @NotNull(message = "Property domain cannot be null.")
+
+    public String getDomain() {
+        return domain;
+    }
+    public void setDomain(String domain) {
+        this.domain = domain;
+    }
+
+    /**
+    * Id of the provisioned tenant. Available once the job has succeeded.
+    **/
+    public TenantProvisioningJob tenantId(String tenantId) {
+
+        this.tenantId = tenantId;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "123e4567-e89b-12d3-a456-556642440000", value = "Id of the provisioned tenant. Available once the job has succeeded.")
+    @JsonProperty("tenantId")
+    @Valid
+
+    public String getTenantId() {
+        return tenantId;
+    }
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    /**
+    * Time the job was accepted in ISO-8601 format.
+    **/
+    public TenantProvisioningJob createdTime(String createdTime) {
+
+        this.createdTime = createdTime;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "2021-06-19T17:36:46.271Z", required = true, value = "Time the job was accepted in ISO-8601 format.")
+    @JsonProperty("createdTime")
+    @Valid
+    @NotNull(message = "Property createdTime cannot be null.")
+
+    public String getCreatedTime() {
+        return createdTime;
+    }
+    public void setCreatedTime(String createdTime) {
+        this.createdTime = createdTime;
+    }
+
+    /**
+    * Time the job was started in ISO-8601 format.
+    **/
+    public TenantProvisioningJob startedTime(String startedTime) {
+
+        this.startedTime = startedTime;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "2021-06-19T17:36:46.302Z", value = "Time the job was started in ISO-8601 format.")
+    @JsonProperty("startedTime")
+    @Valid
+
+    public String getStartedTime() {
+        return startedTime;
+    }
+    public void setStartedTime(String startedTime) {
+        this.startedTime = startedTime;
+    }
+
+    /**
+    * Time the job was completed in ISO-8601 format.
+    **/
+    public TenantProvisioningJob completedTime(String completedTime) {
+
+        this.completedTime = completedTime;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "2021-06-19T17:36:52.118Z", value = "Time the job was completed in ISO-8601 format.")
+    @JsonProperty("completedTime")
+    @Valid
+
+    public String getCompletedTime() {
+        return completedTime;
+    }
+    public void setCompletedTime(String completedTime) {
+        this.completedTime = completedTime;
+    }
+
+    /**
+    * Completed steps of the job with the time taken by each.
+    **/
+    public TenantProvisioningJob steps(List<ProvisioningStep> steps) {
+
+        this.steps = steps;
+        return this;
+    }
+    
+    @ApiModelProperty(value = "Completed steps of the job with the time taken by each.")
+    @JsonProperty("steps")
+    @Valid
+
+    public List<ProvisioningStep> getSteps() {
+        return steps;
+    }
+    public void setSteps(List<ProvisioningStep> steps) {
+        this.steps = steps;
+    }
+
+    public TenantProvisioningJob addStepsItem(ProvisioningStep stepsItem) {
+        if (this.steps == null) {
+            this.steps = new ArrayList<>();
+        }
+        this.steps.add(stepsItem);
+        return this;
+    }
+
+    /**
+    * Error of the job. Available if the job has failed.
+    **/
+    public TenantProvisioningJob error(Error error) {
+
+        this.error = error;
+        return this;
+    }
+    
+    @ApiModelProperty(value = "Error of the job. Available if the job has failed.")
+    @JsonProperty("error")
+    @Valid
+
+    public Error getError() {
+        return error;
+    }
+    public void setError(Error error) {
+        this.error = error;
+    }
+
+    
+
+    @Override
+    public boolean equals(java.lang.Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        TenantProvisioningJob tenantProvisioningJob = (TenantProvisioningJob) o;
+        return Objects.equals(this.id, tenantProvisioningJob.id) &&
+            Objects.equals(this.status, tenantProvisioningJob.status) &&
+            Objects.equals(this.domain, tenantProvisioningJob.domain) &&
+            Objects.equals(this.tenantId, tenantProvisioningJob.tenantId) &&
+            Objects.equals(this.createdTime, tenantProvisioningJob.createdTime) &&
+            Objects.equals(this.startedTime, tenantProvisioningJob.startedTime) &&
+            Objects.equals(this.completedTime, tenantProvisioningJob.completedTime) &&
+            Objects.equals(this.steps, tenantProvisioningJob.steps) &&
+            Objects.equals(this.error, tenantProvisioningJob.error);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, status, domain, tenantId, createdTime, startedTime, completedTime, steps, error);
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("class TenantProvisioningJob {\n");
+        
+        sb.append("    id: ").append(toIndentedString(id)).append("\n");
+        sb.append("    status: ").append(toIndentedString(status)).append("\n");
+        sb.append("    domain: ").append(toIndentedString(domain)).append("\n");
+        sb.append("    tenantId: ").append(toIndentedString(tenantId)).append("\n");
+        sb.append("    createdTime: ").append(toIndentedString(createdTime)).append("\n");
+        sb.append("    startedTime: ").append(toIndentedString(startedTime)).append("\n");
+        sb.append("    completedTime: ").append(toIndentedString(completedTime)).append("\n");
+        sb.append("    steps: ").append(toIndentedString(steps)).append("\n");
+        sb.append("    error: ").append(toIndentedString(error)).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+    * Convert the given object to string with each line indented by 4 spaces
+    * (except the first line).
+    */
+    private String toIndentedString(java.lang.Object o) {
+
+        if (o == null) {
+            return "null";
+        }
+        return o.toString().replace("\n", "\n");
+    }
+}
\ No newline at end of file
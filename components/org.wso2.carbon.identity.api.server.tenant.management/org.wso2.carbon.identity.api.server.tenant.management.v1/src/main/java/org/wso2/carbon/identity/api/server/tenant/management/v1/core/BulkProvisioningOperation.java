@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wso2.carbon.identity.api.server.tenant.management.v1.core;
+
+import org.wso2.carbon.identity.api.server.tenant.management.v1.model.TenantBulkOperation.StatusEnum;
+import org.wso2.carbon.user.core.tenant.Tenant;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * State of a bulk tenant provisioning operation. The tenants are taken by the provisioning workers in the order they
+ * were received and each tenant succeeds or fails independently of the others.
+ */
+public class BulkProvisioningOperation {
+
+    private final String id = UUID.randomUUID().toString();
+    private final Date createdTime = new Date();
+    private final int parallelism;
+    private final AtomicReferenceArray<Tenant> tenants;
+    private final AtomicInteger nextTenant = new AtomicInteger();
+    private final AtomicInteger succeeded = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicInteger runningWorkers;
+    private final ConcurrentLinkedQueue<Failure> failures = new ConcurrentLinkedQueue<>();
+    private volatile long startTime;
+    private volatile long endTime;
+    private volatile Date startedTime;
+    private volatile Date completedTime;
+
+    /**
+     * Create a bulk provisioning operation.
+     *
+     * @param tenants     Tenants to be provisioned. The tenants which failed the validation are null.
+     * @param failures    Failures of the tenants which failed the validation.
+     * @param parallelism Number of tenants to be provisioned in parallel.
+     */
+    BulkProvisioningOperation(List<Tenant> tenants, List<Failure> failures, int parallelism) {
+
+        this.tenants = new AtomicReferenceArray<>(tenants.toArray(new Tenant[0]));
+        this.parallelism = Math.max(1, Math.min(parallelism, tenants.size()));
+        this.runningWorkers = new AtomicInteger(this.parallelism);
+        this.failures.addAll(failures);
+        this.failed.set(failures.size());
+    }
+
+    public String getId() {
+
+        return id;
+    }
+
+    public StatusEnum getStatus() {
+
+        if (completedTime != null) {
+            return StatusEnum.COMPLETED;
+        }
+        return startedTime != null ? StatusEnum.RUNNING : StatusEnum.QUEUED;
+    }
+
+    public int getTotal() {
+
+        return tenants.length();
+    }
+
+    public int getSucceeded() {
+
+        return succeeded.get();
+    }
+
+    public int getFailed() {
+
+        return failed.get();
+    }
+
+    public int getParallelism() {
+
+        return parallelism;
+    }
+
+    public Date getCreatedTime() {
+
+        return createdTime;
+    }
+
+    public Date getStartedTime() {
+
+        return startedTime;
+    }
+
+    public Date getCompletedTime() {
+
+        return completedTime;
+    }
+
+    public boolean isCompleted() {
+
+        return completedTime != null;
+    }
+
+    /**
+     * Get the time the tenants have been provisioned for.
+     *
+     * @return Elapsed time in milliseconds.
+     */
+    public long getElapsedMillis() {
+
+        if (startedTime == null) {
+            return 0;
+        }
+        long end = completedTime != null ? endTime : System.nanoTime();
+        return (end - startTime) / 1_000_000;
+    }
+
+    /**
+     * Get the failures of the operation ordered by the position of the tenant in the request.
+     *
+     * @return Failures of the operation.
+     */
+    public List<Failure> getFailures() {
+
+        List<Failure> orderedFailures = new ArrayList<>(failures);
+        orderedFailures.sort(Comparator.comparingInt(Failure::getIndex));
+        return Collections.unmodifiableList(orderedFailures);
+    }
+
+    synchronized void started() {
+
+        if (startedTime == null) {
+            startTime = System.nanoTime();
+            startedTime = new Date();
+        }
+    }
+
+    /**
+     * Take the next tenant to be provisioned. The tenant is released from the operation, so that the credentials of
+     * the owner are not retained once the tenant is provisioned.
+     *
+     * @return Index of the next tenant or -1 if all the tenants have been taken.
+     */
+    int nextTenant() {
+
+        int index;
+        while ((index = nextTenant.getAndIncrement()) < tenants.length()) {
+            if (tenants.get(index) != null) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    Tenant takeTenant(int index) {
+
+        return tenants.getAndSet(index, null);
+    }
+
+    void tenantSucceeded() {
+
+        succeeded.incrementAndGet();
+    }
+
+    void tenantFailed(int index, String domain, Exception error) {
+
+        failures.add(new Failure(index, domain, error));
+        failed.incrementAndGet();
+    }
+
+    /**
+     * Mark a worker of the operation as completed. The operation is completed with its last worker.
+     */
+    void workerCompleted() {
+
+        if (runningWorkers.decrementAndGet() == 0) {
+            started();
+            endTime = System.nanoTime();
+            completedTime = new Date();
+        }
+    }
+
+    /**
+     * Failure to provision a tenant of the operation.
+     */
+    public static class Failure {
+
+        private final int index;
+        private final String domain;
+        private final Exception error;
+
+        Failure(int index, String domain, Exception error) {
+
+            this.index = index;
+            this.domain = domain;
+            this.error = error;
+        }
+
+        /**
+         * Get the position of the tenant in the request, starting from 0.
+         *
+         * @return Position of the tenant.
+         */
+        public int getIndex() {
+
+            return index;
+        }
+
+        public String getDomain() {
+
+            return domain;
+        }
+
+        public Exception getError() {
+
+            return error;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wso2.carbon.identity.api.server.tenant.management.v1.core;
+
+import org.wso2.carbon.identity.api.server.tenant.management.v1.model.ProvisioningStep;
+import org.wso2.carbon.identity.api.server.tenant.management.v1.model.TenantProvisioningJob.StatusEnum;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * State of an asynchronous tenant provisioning job. The state is updated by the provisioning worker and read by the
+ * requests polling the job. The state is held in the memory of the node which accepted the job.
+ */
+public class ProvisioningJob {
+
+    private final String id;
+    private final String domain;
+    private final Date createdTime = new Date();
+    private final List<ProvisioningStep> steps = new CopyOnWriteArrayList<>();
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+    private volatile StatusEnum status = StatusEnum.QUEUED;
+    private volatile Date startedTime;
+    private volatile Date completedTime;
+    private volatile String tenantId;
+    private volatile Exception error;
+
+    ProvisioningJob(String id, String domain) {
+
+        this.id = id;
+        this.domain = domain;
+    }
+
+    public String getId() {
+
+        return id;
+    }
+
+    public String getDomain() {
+
+        return domain;
+    }
+
+    public StatusEnum getStatus() {
+
+        return status;
+    }
+
+    public Date getCreatedTime() {
+
+        return createdTime;
+    }
+
+    public Date getStartedTime() {
+
+        return startedTime;
+    }
+
+    public Date getCompletedTime() {
+
+        return completedTime;
+    }
+
+    /**
+     * Get the unique id of the provisioned tenant.
+     *
+     * @return Tenant unique id or null if the job has not succeeded.
+     */
+    public String getTenantId() {
+
+        return tenantId;
+    }
+
+    /**
+     * Get the error the job has failed with.
+     *
+     * @return Error or null if the job has not failed.
+     */
+    public Exception getError() {
+
+        return error;
+    }
+
+    public List<ProvisioningStep> getSteps() {
+
+        return new ArrayList<>(steps);
+    }
+
+    public boolean isCompleted() {
+
+        return completion.isDone();
+    }
+
+    /**
+     * Get the future completed once the job is completed.
+     *
+     * @return Completion of the job.
+     */
+    CompletableFuture<Void> getCompletion() {
+
+        return completion;
+    }
+
+    void addStep(String name, long durationMillis) {
+
+        steps.add(new ProvisioningStep().name(name).durationMillis(durationMillis));
+    }
+
+    void started() {
+
+        startedTime = new Date();
+        status = StatusEnum.RUNNING;
+    }
+
+    void succeeded(String tenantId) {
+
+        this.tenantId = tenantId;
+        complete(StatusEnum.SUCCEEDED);
+    }
+
+    void failed(Exception error) {
+
+        this.error = error;
+        complete(StatusEnum.FAILED);
+    }
+
+    private void complete(StatusEnum status) {
+
+        completedTime = new Date();
+        this.status = status;
+        completion.complete(null);
+    }
+}
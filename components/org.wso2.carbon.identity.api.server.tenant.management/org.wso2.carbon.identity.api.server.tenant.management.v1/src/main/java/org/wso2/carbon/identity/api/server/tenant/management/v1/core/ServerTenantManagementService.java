@@ -15,25 +15,39 @@
  */
 package org.wso2.carbon.identity.api.server.tenant.management.v1.core;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.api.server.tenant.management.common.TenantManagementConstants;
 import org.wso2.carbon.identity.api.server.tenant.management.common.TenantManagementServiceHolder;
+import org.wso2.carbon.identity.api.server.tenant.management.v1.core.TenantIndex.IndexedTenant;
 import org.wso2.carbon.identity.api.server.tenant.management.v1.model.AdditionalClaims;
 import org.wso2.carbon.identity.api.server.tenant.management.v1.model.ChannelVerifiedTenantModel;
+import org.wso2.carbon.identity.api.server.tenant.management.v1.model.Error;
 import org.wso2.carbon.identity.api.server.tenant.management.v1.model.LifeCycleStatus;
 import org.wso2.carbon.identity.api.server.tenant.management.v1.model.Link;
 import org.wso2.carbon.identity.api.server.tenant.management.v1.model.OwnerResponse;
+import org.wso2.carbon.identity.api.server.tenant.management.v1.model.TenantBulkFailure;
+import org.wso2.carbon.identity.api.server.tenant.management.v1.model.TenantBulkOperation;
 import org.wso2.carbon.identity.api.server.tenant.management.v1.model.TenantListItem;
 import org.wso2.carbon.identity.api.server.tenant.management.v1.model.TenantModel;
+import org.wso2.carbon.identity.api.server.tenant.management.v1.model.TenantProvisioningJob;
 import org.wso2.carbon.identity.api.server.tenant.management.v1.model.TenantPutModel;
 import org.wso2.carbon.identity.api.server.tenant.management.v1.model.TenantResponseModel;
 import org.wso2.carbon.identity.api.server.tenant.management.v1.model.TenantsListResponse;
+import org.wso2.carbon.identity.base.IdentityException;
+import org.wso2.carbon.identity.core.model.ExpressionNode;
+import org.wso2.carbon.identity.core.model.FilterTreeBuilder;
+import org.wso2.carbon.identity.core.model.Node;
+import org.wso2.carbon.identity.core.model.OperationNode;
 import org.wso2.carbon.identity.recovery.IdentityRecoveryException;
 import org.wso2.carbon.identity.recovery.model.UserRecoveryData;
 import org.wso2.carbon.identity.recovery.store.JDBCRecoveryDataStore;
@@ -47,20 +61,36 @@ import org.wso2.carbon.user.core.common.User;
 import org.wso2.carbon.user.core.tenant.Tenant;
 import org.wso2.carbon.user.core.tenant.TenantSearchResult;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 import javax.ws.rs.core.Response;
 
 import static org.wso2.carbon.identity.api.server.common.Constants.ERROR_CODE_RESOURCE_LIMIT_REACHED;
+import static org.wso2.carbon.identity.api.server.common.Constants.REGEX_COMMA;
 import static org.wso2.carbon.identity.api.server.common.Constants.V1_API_PATH_COMPONENT;
 import static org.wso2.carbon.identity.api.server.tenant.management.common.TenantManagementConstants.ErrorMessage.ERROR_CODE_TENANT_LIMIT_REACHED;
 import static org.wso2.carbon.identity.api.server.tenant.management.common.TenantManagementConstants.TENANT_MANAGEMENT_PATH_COMPONENT;
@@ -79,6 +109,16 @@ public class ServerTenantManagementService {
     private static final String INLINE_PASSWORD = "inline-password";
     private static final String CODE = "code";
     private static final String PURPOSE = "purpose";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Autowired
+    private TenantDomainFilter tenantDomainFilter;
+
+    @Autowired
+    private TenantIndex tenantIndex;
+
+    @Autowired
+    private TenantProvisioner tenantProvisioner;
 
     /**
      * Add a tenant.
@@ -90,36 +130,191 @@ public class ServerTenantManagementService {
 
         String resourceId;
         TenantMgtService tenantMgtService = TenantManagementServiceHolder.getTenantMgtService();
+        Tenant tenant;
         try {
-            Tenant tenant = createTenantInfoBean(tenantModel);
+            tenant = createTenantInfoBean(tenantModel);
             resourceId = tenantMgtService.addTenant(tenant);
         } catch (TenantMgtException e) {
             throw handleTenantManagementException(e, TenantManagementConstants.ErrorMessage
                     .ERROR_CODE_ERROR_ADDING_TENANT, null);
         }
+        tenantAdded(resourceId, tenant.getDomain());
         return resourceId;
     }
 
     /**
-     * Get tenant list.
+     * Submit a job to add a tenant. The tenant is validated before the job is submitted.
+     *
+     * @param tenantModel tenantModel.
+     * @return TenantProvisioningJob.
+     */
+    public TenantProvisioningJob addTenantAsync(TenantModel tenantModel) {
+
+        long startTime = System.nanoTime();
+        Tenant tenant;
+        try {
+            tenant = createTenantInfoBean(tenantModel);
+        } catch (TenantMgtException e) {
+            throw handleTenantManagementException(e, TenantManagementConstants.ErrorMessage
+                    .ERROR_CODE_ERROR_ADDING_TENANT, null);
+        }
+        return submitProvisioningJob(tenant, startTime);
+    }
+
+    /**
+     * Submit a job to add a channel verified tenant. The tenant and the verification code are validated before the
+     * job is submitted.
+     *
+     * @param channelVerifiedTenantModel channelVerifiedTenantModel.
+     * @return TenantProvisioningJob.
+     */
+    public TenantProvisioningJob addTenantAsync(ChannelVerifiedTenantModel channelVerifiedTenantModel) {
+
+        long startTime = System.nanoTime();
+        Tenant tenant;
+        try {
+            validateInputAgainstCode(channelVerifiedTenantModel);
+            tenant = createTenantInfoBean(channelVerifiedTenantModel);
+        } catch (TenantMgtException e) {
+            throw handleTenantManagementException(e, TenantManagementConstants.ErrorMessage
+                    .ERROR_CODE_ERROR_ADDING_TENANT, null);
+        }
+        return submitProvisioningJob(tenant, startTime);
+    }
+
+    /**
+     * Submit a bulk operation to add the tenants read from the given stream. The tenants are read as a JSON array or
+     * as a sequence of JSON objects and validated before the operation is submitted. A tenant which fails the
+     * validation is reported as a failure of the operation, while a malformed stream rejects the whole request.
+     *
+     * @param tenantsStream Stream of the tenant models.
+     * @param parallelism   Number of tenants to be provisioned in parallel.
+     * @return TenantBulkOperation.
+     */
+    public TenantBulkOperation addTenants(InputStream tenantsStream, Integer parallelism) {
+
+        if (tenantsStream == null) {
+            throw handleException(Response.Status.BAD_REQUEST, TenantManagementConstants.ErrorMessage.
+                    ERROR_CODE_INVALID_BULK_TENANTS, "The request does not contain any tenants.");
+        }
+        List<Tenant> tenants = new ArrayList<>();
+        List<BulkProvisioningOperation.Failure> failures = new ArrayList<>();
+        Set<String> domains = new HashSet<>();
+        try (MappingIterator<TenantModel> tenantModels = OBJECT_MAPPER.readerFor(TenantModel.class)
+                .readValues(tenantsStream)) {
+            while (tenantModels.hasNextValue()) {
+                if (tenants.size() == TenantManagementConstants.BULK_PROVISIONING_MAX_TENANTS) {
+                    throw handleException(Response.Status.BAD_REQUEST, TenantManagementConstants.ErrorMessage.
+                            ERROR_CODE_BULK_TENANT_LIMIT_EXCEEDED,
+                            String.valueOf(TenantManagementConstants.BULK_PROVISIONING_MAX_TENANTS));
+                }
+                TenantModel tenantModel = tenantModels.nextValue();
+                String domain = tenantModel != null ? tenantModel.getDomain() : null;
+                try {
+                    tenants.add(createBulkTenantInfoBean(tenantModel, domains));
+                } catch (TenantMgtException e) {
+                    failures.add(new BulkProvisioningOperation.Failure(tenants.size(), domain, e));
+                    tenants.add(null);
+                }
+            }
+        } catch (JsonProcessingException e) {
+            throw handleException(Response.Status.BAD_REQUEST, TenantManagementConstants.ErrorMessage.
+                    ERROR_CODE_INVALID_BULK_TENANTS, e.getOriginalMessage());
+        } catch (IOException e) {
+            throw handleException(Response.Status.BAD_REQUEST, TenantManagementConstants.ErrorMessage.
+                    ERROR_CODE_INVALID_BULK_TENANTS, e.getMessage());
+        }
+        if (tenants.isEmpty()) {
+            throw handleException(Response.Status.BAD_REQUEST, TenantManagementConstants.ErrorMessage.
+                    ERROR_CODE_INVALID_BULK_TENANTS, "The request does not contain any tenants.");
+        }
+
+        int workers = parallelism == null ? TenantManagementConstants.BULK_PROVISIONING_DEFAULT_PARALLELISM :
+                Math.min(Math.max(parallelism, 1), TenantManagementConstants.BULK_PROVISIONING_MAX_PARALLELISM);
+        BulkProvisioningOperation operation;
+        try {
+            operation = tenantProvisioner.submitBulk(tenants, failures, workers, this::tenantAdded);
+        } catch (RejectedExecutionException e) {
+            TenantManagementConstants.ErrorMessage errorEnum =
+                    TenantManagementConstants.ErrorMessage.ERROR_CODE_BULK_PROVISIONING_REJECTED;
+            ErrorResponse errorResponse = getErrorBuilder(errorEnum, null).build(log, e, errorEnum.getDescription());
+            throw new APIError(Response.Status.SERVICE_UNAVAILABLE, errorResponse);
+        }
+        return createBulkOperationResponse(operation);
+    }
+
+    /**
+     * Get the progress of a bulk tenant provisioning operation.
      *
-     * @param limit     Items per page.
-     * @param offset    Offset.
-     * @param filter    Filter string. E.g. filter="domainName" sw "wso2.com"
-     * @param sortBy    Attribute to sort the tenants by. E.g. domainName
-     * @param sortOrder Order in which tenants should be sorted. Can be either ASC or DESC.
+     * @param operationId Id of the bulk provisioning operation.
+     * @return TenantBulkOperation.
+     */
+    public TenantBulkOperation getBulkProvisioningOperation(String operationId) {
+
+        BulkProvisioningOperation operation = tenantProvisioner.getBulkOperation(operationId);
+        if (operation == null) {
+            throw handleException(Response.Status.NOT_FOUND, TenantManagementConstants.ErrorMessage.
+                    ERROR_CODE_BULK_OPERATION_NOT_FOUND, operationId);
+        }
+        return createBulkOperationResponse(operation);
+    }
+
+    /**
+     * Get a tenant provisioning job, waiting for its completion if requested. The wait does not hold the request
+     * thread.
+     *
+     * @param jobId       Id of the provisioning job.
+     * @param waitSeconds Maximum time in seconds to wait for the job to be completed.
+     * @return Future of the TenantProvisioningJob.
+     */
+    public CompletableFuture<TenantProvisioningJob> getProvisioningJob(String jobId, Integer waitSeconds) {
+
+        ProvisioningJob job = tenantProvisioner.getJob(jobId);
+        if (job == null) {
+            if (!tenantProvisioner.isLocalJob(jobId)) {
+                throw handleException(Response.Status.NOT_FOUND, TenantManagementConstants.ErrorMessage.
+                        ERROR_CODE_PROVISIONING_JOB_OF_ANOTHER_NODE, jobId);
+            }
+            throw handleException(Response.Status.NOT_FOUND, TenantManagementConstants.ErrorMessage.
+                    ERROR_CODE_PROVISIONING_JOB_NOT_FOUND, jobId);
+        }
+        int wait = 0;
+        if (waitSeconds != null) {
+            wait = Math.min(Math.max(waitSeconds, 0), TenantManagementConstants.TENANT_PROVISIONING_MAX_WAIT_SECONDS);
+        }
+        return tenantProvisioner.awaitJob(job, TimeUnit.SECONDS.toMillis(wait))
+                .thenApply(this::createProvisioningJobResponse);
+    }
+
+    /**
+     * Get tenant list. Filtered and cursor paginated lists are served from the tenant index.
+     *
+     * @param limit              Items per page.
+     * @param offset             Offset.
+     * @param filter             Filter string. E.g. filter=domain sw "wso2" and lifecycleStatus eq active
+     * @param sortBy             Attribute to sort the tenants by. E.g. domainName
+     * @param sortOrder          Order in which tenants should be sorted. Can be either ASC or DESC.
+     * @param after              Cursor of the tenant after which the tenants should be listed.
+     * @param before             Cursor of the tenant before which the tenants should be listed.
+     * @param requiredAttributes Comma separated owner attributes to be included in the listed tenants. The
+     *                           attributes are taken from the tenant records of the page, without loading the owner
+     *                           of each tenant.
      * @return TenantsListResponse.
      */
     public TenantsListResponse listTenants(Integer limit, Integer offset, String sortOrder, String sortBy,
-                                           String filter) {
+                                           String filter, String after, String before, String requiredAttributes) {
 
-        handleNotImplementedCapabilities(filter);
+        Set<String> requestedAttributes = getRequestedAttributes(requiredAttributes);
+        if (StringUtils.isNotBlank(filter) || after != null || before != null) {
+            return searchTenants(limit, offset, sortOrder, sortBy, filter, after, before, requiredAttributes,
+                    requestedAttributes);
+        }
         TenantMgtService tenantMgtService = TenantManagementServiceHolder.getTenantMgtService();
 
         try {
             TenantSearchResult tenantSearchResult = tenantMgtService.listTenants(limit, offset, sortOrder, sortBy,
-                    filter);
-            return createTenantListResponse(tenantSearchResult);
+                    null);
+            return createTenantListResponse(tenantSearchResult, requiredAttributes, requestedAttributes);
         } catch (TenantMgtException e) {
             throw handleTenantManagementException(e, TenantManagementConstants.ErrorMessage
                     .ERROR_CODE_ERROR_LISTING_TENANTS, null);
@@ -169,7 +364,7 @@ public class ServerTenantManagementService {
     public boolean isDomainAvailable(String tenantDomain) {
 
         try {
-            return TenantManagementServiceHolder.getTenantMgtService().isDomainAvailable(tenantDomain);
+            return tenantDomainFilter.isDomainAvailable(tenantDomain);
         } catch (TenantMgtException e) {
             throw handleTenantManagementException(e, TenantManagementConstants.ErrorMessage.
                     ERROR_CODE_ERROR_RETRIEVING_TENANT, tenantDomain);
@@ -206,6 +401,8 @@ public class ServerTenantManagementService {
             throw handleTenantManagementException(e, TenantManagementConstants.ErrorMessage.
                     ERROR_CODE_DELETE_TENANT_METADATA, tenantUniqueID);
         }
+        tenantIndex.tenantRemoved(tenantUniqueID);
+        tenantDomainFilter.domainRemoved();
     }
 
     /**
@@ -228,9 +425,386 @@ public class ServerTenantManagementService {
             throw handleTenantManagementException(e, TenantManagementConstants.ErrorMessage.
                     ERROR_CODE_UPDATE_LIFECYCLE_STATUS, String.valueOf(activated));
         }
+        tenantIndex.tenantStatusUpdated(tenantUniqueID, activated);
         return tenantUniqueID;
     }
 
+    /**
+     * Update the in-memory tenant structures with a newly added tenant.
+     *
+     * @param tenantUniqueId Unique id of the tenant.
+     * @param tenantDomain   Domain of the tenant.
+     */
+    private void tenantAdded(String tenantUniqueId, String tenantDomain) {
+
+        tenantDomainFilter.domainAdded(tenantDomain);
+        tenantIndex.tenantAdded(tenantUniqueId);
+    }
+
+    private TenantProvisioningJob submitProvisioningJob(Tenant tenant, long validationStartTime) {
+
+        long validationTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - validationStartTime);
+        ProvisioningJob job;
+        try {
+            job = tenantProvisioner.submit(tenant, validationTime,
+                    tenantUniqueId -> tenantAdded(tenantUniqueId, tenant.getDomain()));
+        } catch (RejectedExecutionException e) {
+            TenantManagementConstants.ErrorMessage errorEnum =
+                    TenantManagementConstants.ErrorMessage.ERROR_CODE_TENANT_PROVISIONING_REJECTED;
+            ErrorResponse errorResponse = getErrorBuilder(errorEnum, null).build(log, e, errorEnum.getDescription());
+            throw new APIError(Response.Status.SERVICE_UNAVAILABLE, errorResponse);
+        }
+        if (job == null) {
+            throw handleException(Response.Status.CONFLICT, TenantManagementConstants.ErrorMessage.
+                    ERROR_CODE_TENANT_PROVISIONING_IN_PROGRESS, tenant.getDomain());
+        }
+        return createProvisioningJobResponse(job);
+    }
+
+    private TenantProvisioningJob createProvisioningJobResponse(ProvisioningJob job) {
+
+        TenantProvisioningJob provisioningJob = new TenantProvisioningJob()
+                .id(job.getId())
+                .status(job.getStatus())
+                .domain(job.getDomain())
+                .tenantId(job.getTenantId())
+                .createdTime(getISOFormatDate(job.getCreatedTime()))
+                .steps(job.getSteps());
+        if (job.getStartedTime() != null) {
+            provisioningJob.setStartedTime(getISOFormatDate(job.getStartedTime()));
+        }
+        if (job.getCompletedTime() != null) {
+            provisioningJob.setCompletedTime(getISOFormatDate(job.getCompletedTime()));
+        }
+        if (job.getError() != null) {
+            provisioningJob.setError(createTenantAdditionError(job.getError()));
+        }
+        return provisioningJob;
+    }
+
+    private Tenant createBulkTenantInfoBean(TenantModel tenantModel, Set<String> domains)
+            throws TenantMgtException {
+
+        if (tenantModel == null || StringUtils.isBlank(tenantModel.getDomain())) {
+            throw new TenantManagementClientException(ERROR_CODE_MISSING_REQUIRED_PARAMETER.getCode(),
+                    String.format(ERROR_CODE_MISSING_REQUIRED_PARAMETER.getMessage(), "domain"));
+        }
+        if (!domains.add(tenantModel.getDomain().toLowerCase(Locale.ENGLISH))) {
+            TenantManagementConstants.ErrorMessage errorEnum =
+                    TenantManagementConstants.ErrorMessage.ERROR_CODE_DUPLICATE_BULK_TENANT;
+            throw new TenantManagementClientException(errorEnum.getCode(), includeData(errorEnum,
+                    tenantModel.getDomain()));
+        }
+        return createTenantInfoBean(tenantModel);
+    }
+
+    private TenantBulkOperation createBulkOperationResponse(BulkProvisioningOperation operation) {
+
+        int processed = operation.getSucceeded() + operation.getFailed();
+        TenantBulkOperation bulkOperation = new TenantBulkOperation()
+                .id(operation.getId())
+                .status(operation.getStatus())
+                .total(operation.getTotal())
+                .processed(processed)
+                .succeeded(operation.getSucceeded())
+                .failed(operation.getFailed())
+                .parallelism(operation.getParallelism())
+                .createdTime(getISOFormatDate(operation.getCreatedTime()));
+        if (operation.getStartedTime() != null) {
+            bulkOperation.setStartedTime(getISOFormatDate(operation.getStartedTime()));
+        }
+        if (operation.getCompletedTime() != null) {
+            bulkOperation.setCompletedTime(getISOFormatDate(operation.getCompletedTime()));
+        }
+        long elapsedMillis = operation.getElapsedMillis();
+        if (elapsedMillis > 0) {
+            bulkOperation.setThroughput(Math.round(processed * 100_000d / elapsedMillis) / 100d);
+        }
+        List<TenantBulkFailure> failures = new ArrayList<>();
+        for (BulkProvisioningOperation.Failure failure : operation.getFailures()) {
+            failures.add(new TenantBulkFailure().index(failure.getIndex()).domain(failure.getDomain())
+                    .error(createTenantAdditionError(failure.getError())));
+        }
+        bulkOperation.setFailures(failures);
+        return bulkOperation;
+    }
+
+    /**
+     * Build the error of a tenant added in the background, the same way the error of a synchronous tenant addition is
+     * built.
+     *
+     * @param e Error the tenant addition has failed with.
+     * @return Error.
+     */
+    private Error createTenantAdditionError(Exception e) {
+
+        TenantManagementConstants.ErrorMessage errorEnum =
+                TenantManagementConstants.ErrorMessage.ERROR_CODE_ERROR_ADDING_TENANT;
+        Error error = new Error().code(errorEnum.getCode()).message(errorEnum.getMessage())
+                .description(errorEnum.getDescription());
+        if (e instanceof TenantMgtException) {
+            TenantMgtException tenantMgtException = (TenantMgtException) e;
+            if (ERROR_CODE_RESOURCE_LIMIT_REACHED.equals(tenantMgtException.getErrorCode())) {
+                return error.code(ERROR_CODE_TENANT_LIMIT_REACHED.getCode())
+                        .message(ERROR_CODE_TENANT_LIMIT_REACHED.getMessage())
+                        .description(ERROR_CODE_TENANT_LIMIT_REACHED.getDescription());
+            }
+            if (tenantMgtException.getErrorCode() != null) {
+                error.setCode(tenantMgtException.getErrorCode());
+            }
+            if (e instanceof TenantManagementClientException || e instanceof TenantManagementServerException) {
+                error.setDescription(e.getMessage());
+            }
+        }
+        return error;
+    }
+
+    private TenantsListResponse searchTenants(Integer limit, Integer offset, String sortOrder, String sortBy,
+                                              String filter, String after, String before, String requiredAttributes,
+                                              Set<String> requestedAttributes) {
+
+        if (after != null && before != null) {
+            throw handleException(Response.Status.BAD_REQUEST, TenantManagementConstants.ErrorMessage.
+                    ERROR_CODE_INVALID_PAGINATION_PARAMETERS, "Only one of the after and before cursors can be used.");
+        }
+        if ((after != null || before != null) && offset != null) {
+            throw handleException(Response.Status.BAD_REQUEST, TenantManagementConstants.ErrorMessage.
+                    ERROR_CODE_INVALID_PAGINATION_PARAMETERS, "The offset cannot be used with a cursor.");
+        }
+        if (sortBy != null && !TenantManagementConstants.SORT_BY_DOMAIN_NAME.equals(sortBy)) {
+            throw handleException(Response.Status.BAD_REQUEST, TenantManagementConstants.ErrorMessage.
+                    ERROR_CODE_UNSUPPORTED_SORT_ATTRIBUTE, sortBy);
+        }
+        boolean descending = TenantManagementConstants.SORT_ORDER_DESCENDING.equalsIgnoreCase(sortOrder);
+        int pageSize = limit != null ? limit : TenantManagementConstants.DEFAULT_TENANT_LIST_LIMIT;
+
+        List<IndexedTenant> tenants;
+        try {
+            tenants = tenantIndex.find(buildTenantQuery(filter), descending);
+        } catch (TenantMgtException e) {
+            throw handleTenantManagementException(e, TenantManagementConstants.ErrorMessage
+                    .ERROR_CODE_ERROR_LISTING_TENANTS, null);
+        }
+
+        Comparator<String> domainOrder = descending ? Comparator.reverseOrder() : Comparator.naturalOrder();
+        int start;
+        int end;
+        if (after != null) {
+            start = getCursorPosition(tenants, decodeCursor(after), domainOrder, true);
+            end = Math.min(start + pageSize, tenants.size());
+        } else if (before != null) {
+            end = getCursorPosition(tenants, decodeCursor(before), domainOrder, false);
+            start = Math.max(end - pageSize, 0);
+        } else {
+            start = Math.min(offset != null ? offset : 0, tenants.size());
+            end = Math.min(start + pageSize, tenants.size());
+        }
+
+        List<IndexedTenant> page = tenants.subList(start, end);
+        TenantsListResponse listResponse = new TenantsListResponse();
+        if (!page.isEmpty()) {
+            List<TenantListItem> tenantListItems = new ArrayList<>();
+            for (IndexedTenant tenant : page) {
+                tenantListItems.add(createTenantListItem(tenant, requestedAttributes));
+            }
+            listResponse.setTenants(tenantListItems);
+        }
+        listResponse.setCount(page.size());
+        listResponse.setTotalResults(tenants.size());
+        listResponse.setStartIndex(start + 1);
+
+        String url = V1_API_PATH_COMPONENT + TENANT_MANAGEMENT_PATH_COMPONENT;
+        if (after == null && before == null) {
+            listResponse.setLinks(createLinks(url, pageSize, start, tenants.size(), filter, requiredAttributes));
+            return listResponse;
+        }
+        List<Link> links = new ArrayList<>();
+        if (!page.isEmpty() && end < tenants.size()) {
+            links.add(buildCursorLink(new StringBuilder(url), TenantManagementConstants.PAGE_LINK_REL_NEXT,
+                    TenantManagementConstants.PAGE_CURSOR_AFTER, page.get(page.size() - 1), pageSize, sortOrder,
+                    filter, requiredAttributes));
+        }
+        if (!page.isEmpty() && start > 0) {
+            links.add(buildCursorLink(new StringBuilder(url), TenantManagementConstants.PAGE_LINK_REL_PREVIOUS,
+                    TenantManagementConstants.PAGE_CURSOR_BEFORE, page.get(0), pageSize, sortOrder, filter,
+                    requiredAttributes));
+        }
+        listResponse.setLinks(links);
+        return listResponse;
+    }
+
+    /**
+     * Find the position of a cursor in the tenants ordered by the domain.
+     *
+     * @param tenants     Tenants ordered by the domain.
+     * @param cursor      Domain of the cursor.
+     * @param domainOrder Order of the tenant domains.
+     * @param after       Whether to return the position after the cursor tenant, if it is in the list.
+     * @return Position of the first tenant ordered after the cursor.
+     */
+    private int getCursorPosition(List<IndexedTenant> tenants, String cursor, Comparator<String> domainOrder,
+                                  boolean after) {
+
+        int low = 0;
+        int high = tenants.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int comparison = domainOrder.compare(getCursor(tenants.get(mid)), cursor);
+            if (comparison < 0 || (after && comparison == 0)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private String getCursor(IndexedTenant tenant) {
+
+        return tenant.getDomain().toLowerCase(Locale.ENGLISH);
+    }
+
+    private String encodeCursor(IndexedTenant tenant) {
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(getCursor(tenant)
+                .getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String decodeCursor(String cursor) {
+
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw handleException(Response.Status.BAD_REQUEST, TenantManagementConstants.ErrorMessage.
+                    ERROR_CODE_INVALID_CURSOR, cursor);
+        }
+    }
+
+    /**
+     * Build the query of the tenant index from the given filter string.
+     *
+     * @param filter filter string.
+     * @return Query of the tenants to be returned.
+     */
+    private TenantIndex.Query buildTenantQuery(String filter) {
+
+        if (StringUtils.isBlank(filter)) {
+            return new TenantIndex.Query(tenant -> true);
+        }
+        Node rootNode;
+        try {
+            FilterTreeBuilder filterTreeBuilder = new FilterTreeBuilder(filter);
+            rootNode = filterTreeBuilder.buildTree();
+        } catch (IOException | IdentityException e) {
+            throw handleException(Response.Status.BAD_REQUEST,
+                    TenantManagementConstants.ErrorMessage.ERROR_CODE_INVALID_FILTER, filter);
+        }
+        TenantIndex.Query query = new TenantIndex.Query(buildTenantFilter(rootNode));
+        addIndexConditions(rootNode, query);
+        return query;
+    }
+
+    private Predicate<IndexedTenant> buildTenantFilter(Node node) {
+
+        if (node instanceof ExpressionNode) {
+            ExpressionNode expressionNode = (ExpressionNode) node;
+            String attribute = expressionNode.getAttributeValue();
+            if (TenantManagementConstants.LIFECYCLE_STATUS_ATTRIBUTE.equals(attribute)) {
+                return buildLifecycleStatusFilter(expressionNode.getOperation(), expressionNode.getValue());
+            }
+            Function<IndexedTenant, String> attributeValue;
+            if (TenantManagementConstants.DOMAIN_ATTRIBUTE.equals(attribute)) {
+                attributeValue = IndexedTenant::getDomain;
+            } else if (TenantManagementConstants.OWNER_EMAIL_ATTRIBUTE.equals(attribute)) {
+                attributeValue = IndexedTenant::getOwnerEmail;
+            } else {
+                throw handleException(Response.Status.BAD_REQUEST,
+                        TenantManagementConstants.ErrorMessage.ERROR_CODE_UNSUPPORTED_FILTER_ATTRIBUTE, attribute);
+            }
+            BiPredicate<String, String> operation = getFilterOperation(expressionNode.getOperation());
+            String value = expressionNode.getValue().toLowerCase(Locale.ENGLISH);
+            return tenant -> {
+                String actualValue = attributeValue.apply(tenant);
+                return actualValue != null && operation.test(actualValue.toLowerCase(Locale.ENGLISH), value);
+            };
+        }
+        if (node instanceof OperationNode) {
+            Predicate<IndexedTenant> left = buildTenantFilter(node.getLeftNode());
+            Predicate<IndexedTenant> right = buildTenantFilter(node.getRightNode());
+            String operation = ((OperationNode) node).getOperation();
+            if (TenantManagementConstants.FILTER_AND.equalsIgnoreCase(operation)) {
+                return left.and(right);
+            }
+            if (TenantManagementConstants.FILTER_OR.equalsIgnoreCase(operation)) {
+                return left.or(right);
+            }
+        }
+        throw handleException(Response.Status.BAD_REQUEST,
+                TenantManagementConstants.ErrorMessage.ERROR_CODE_INVALID_FILTER, String.valueOf(node));
+    }
+
+    private Predicate<IndexedTenant> buildLifecycleStatusFilter(String operation, String value) {
+
+        if (!TenantManagementConstants.FILTER_EQUALS.equals(operation)) {
+            throw handleException(Response.Status.BAD_REQUEST,
+                    TenantManagementConstants.ErrorMessage.ERROR_CODE_UNSUPPORTED_FILTER_OPERATION, operation);
+        }
+        if (TenantManagementConstants.LIFECYCLE_STATUS_ACTIVE.equalsIgnoreCase(value)) {
+            return IndexedTenant::isActive;
+        }
+        if (TenantManagementConstants.LIFECYCLE_STATUS_INACTIVE.equalsIgnoreCase(value)) {
+            return tenant -> !tenant.isActive();
+        }
+        throw handleException(Response.Status.BAD_REQUEST, TenantManagementConstants.ErrorMessage.
+                ERROR_CODE_INVALID_FILTER, TenantManagementConstants.LIFECYCLE_STATUS_ATTRIBUTE + " " + operation +
+                " " + value);
+    }
+
+    private BiPredicate<String, String> getFilterOperation(String operation) {
+
+        switch (operation) {
+            case TenantManagementConstants.FILTER_EQUALS:
+                return String::equals;
+            case TenantManagementConstants.FILTER_STARTS_WITH:
+                return String::startsWith;
+            case TenantManagementConstants.FILTER_ENDS_WITH:
+                return String::endsWith;
+            case TenantManagementConstants.FILTER_CONTAINS:
+                return String::contains;
+            default:
+                throw handleException(Response.Status.BAD_REQUEST,
+                        TenantManagementConstants.ErrorMessage.ERROR_CODE_UNSUPPORTED_FILTER_OPERATION, operation);
+        }
+    }
+
+    /**
+     * Narrow down the tenants to be tested against the filter using the conditions every matching tenant satisfies,
+     * i.e. the domain and owner email conditions which are not part of an 'or' operation.
+     *
+     * @param node  Node of the filter tree.
+     * @param query Query of the tenant index.
+     */
+    private void addIndexConditions(Node node, TenantIndex.Query query) {
+
+        if (node instanceof ExpressionNode) {
+            ExpressionNode expressionNode = (ExpressionNode) node;
+            String attribute = expressionNode.getAttributeValue();
+            String operation = expressionNode.getOperation();
+            if (TenantManagementConstants.OWNER_EMAIL_ATTRIBUTE.equals(attribute) &&
+                    TenantManagementConstants.FILTER_EQUALS.equals(operation)) {
+                query.setOwnerEmail(expressionNode.getValue());
+            } else if (TenantManagementConstants.DOMAIN_ATTRIBUTE.equals(attribute) &&
+                    (TenantManagementConstants.FILTER_EQUALS.equals(operation) ||
+                            TenantManagementConstants.FILTER_STARTS_WITH.equals(operation))) {
+                query.setDomainPrefix(expressionNode.getValue());
+            }
+        } else if (node instanceof OperationNode &&
+                TenantManagementConstants.FILTER_AND.equalsIgnoreCase(((OperationNode) node).getOperation())) {
+            addIndexConditions(node.getLeftNode(), query);
+            addIndexConditions(node.getRightNode(), query);
+        }
+    }
+
     private List<OwnerResponse> createOwnerResponse(User user) {
 
         List<OwnerResponse> ownerResponseList = new ArrayList<>();
@@ -294,12 +868,13 @@ public class ServerTenantManagementService {
         return claimsMapping;
     }
 
-    private TenantsListResponse createTenantListResponse(TenantSearchResult tenantSearchResult) {
+    private TenantsListResponse createTenantListResponse(TenantSearchResult tenantSearchResult,
+                                                         String requiredAttributes, Set<String> requestedAttributes) {
 
         List<Tenant> tenants = tenantSearchResult.getTenantList();
         TenantsListResponse listResponse = new TenantsListResponse();
         if (CollectionUtils.isNotEmpty(tenants)) {
-            List<TenantListItem> tenantListItems = getTenantListItems(tenants);
+            List<TenantListItem> tenantListItems = getTenantListItems(tenants, requestedAttributes);
             listResponse.setTenants(tenantListItems);
             listResponse.setCount(tenantListItems.size());
         } else {
@@ -310,11 +885,11 @@ public class ServerTenantManagementService {
         listResponse.setStartIndex(tenantSearchResult.getOffSet() + 1);
         listResponse.setLinks(createLinks(V1_API_PATH_COMPONENT + TENANT_MANAGEMENT_PATH_COMPONENT,
                 tenantSearchResult.getLimit(), tenantSearchResult.getOffSet(), tenantSearchResult.getTotalTenantCount(),
-                tenantSearchResult.getFilter()));
+                tenantSearchResult.getFilter(), requiredAttributes));
         return listResponse;
     }
 
-    private List<TenantListItem> getTenantListItems(List<Tenant> tenants) {
+    private List<TenantListItem> getTenantListItems(List<Tenant> tenants, Set<String> requestedAttributes) {
 
         List<TenantListItem> tenantListItems = new ArrayList<>();
         for (Tenant tenant : tenants) {
@@ -323,13 +898,66 @@ public class ServerTenantManagementService {
             listItem.setCreatedDate(getISOFormatDate(tenant.getCreatedDate()));
             listItem.setDomain(tenant.getDomain());
             listItem.setId(tenant.getTenantUniqueID());
-            listItem.setOwners(getOwnerResponses(tenant));
+            List<OwnerResponse> ownerResponses = getOwnerResponses(tenant);
+            addOwnerAttributes(ownerResponses.get(0), tenant.getEmail(), requestedAttributes);
+            listItem.setOwners(ownerResponses);
 
             tenantListItems.add(listItem);
         }
         return tenantListItems;
     }
 
+    private TenantListItem createTenantListItem(IndexedTenant tenant, Set<String> requestedAttributes) {
+
+        TenantListItem listItem = new TenantListItem();
+        listItem.setLifecycleStatus(getLifeCycleStatus(tenant.isActive()));
+        listItem.setCreatedDate(getISOFormatDate(tenant.getCreatedDate()));
+        listItem.setDomain(tenant.getDomain());
+        listItem.setId(tenant.getId());
+
+        List<OwnerResponse> ownerResponseList = new ArrayList<>();
+        OwnerResponse ownerResponse = new OwnerResponse();
+        ownerResponse.setUsername(tenant.getOwnerName());
+        ownerResponse.setId(tenant.getOwnerId());
+        addOwnerAttributes(ownerResponse, tenant.getOwnerEmail(), requestedAttributes);
+        ownerResponseList.add(ownerResponse);
+        listItem.setOwners(ownerResponseList);
+        return listItem;
+    }
+
+    /**
+     * Parse the comma separated owner attributes requested for the listed tenants.
+     *
+     * @param requiredAttributes Comma separated attributes.
+     * @return Requested attributes.
+     */
+    private Set<String> getRequestedAttributes(String requiredAttributes) {
+
+        if (StringUtils.isBlank(requiredAttributes)) {
+            return Collections.emptySet();
+        }
+        Set<String> requestedAttributes = new HashSet<>();
+        for (String attribute : Arrays.asList(requiredAttributes.split(REGEX_COMMA))) {
+            String requestedAttribute = attribute.trim();
+            if (StringUtils.isEmpty(requestedAttribute)) {
+                continue;
+            }
+            if (!TenantManagementConstants.OWNER_EMAIL_REQUIRED_ATTRIBUTE.equals(requestedAttribute)) {
+                throw handleException(Response.Status.BAD_REQUEST, TenantManagementConstants.ErrorMessage.
+                        ERROR_CODE_UNSUPPORTED_REQUIRED_ATTRIBUTE, requestedAttribute);
+            }
+            requestedAttributes.add(requestedAttribute);
+        }
+        return requestedAttributes;
+    }
+
+    private void addOwnerAttributes(OwnerResponse ownerResponse, String email, Set<String> requestedAttributes) {
+
+        if (requestedAttributes.contains(TenantManagementConstants.OWNER_EMAIL_REQUIRED_ATTRIBUTE)) {
+            ownerResponse.setEmail(email);
+        }
+    }
+
     private LifeCycleStatus getLifeCycleStatus(boolean isActive) {
 
         LifeCycleStatus lifeCycleStatus = new LifeCycleStatus();
@@ -347,14 +975,15 @@ public class ServerTenantManagementService {
         return ownerResponseList;
     }
 
-    private List<Link> createLinks(String url, int limit, int offset, int total, String filter) {
+    private List<Link> createLinks(String url, int limit, int offset, int total, String filter,
+                                   String requiredAttributes) {
 
         List<Link> links = new ArrayList<>();
 
         // Next Link
         if (limit > 0 && offset >= 0 && (offset + limit) < total) {
             links.add(buildPageLink(new StringBuilder(url), TenantManagementConstants.PAGE_LINK_REL_NEXT, (offset +
-                    limit), limit, filter));
+                    limit), limit, filter, requiredAttributes));
         }
 
         // Previous Link
@@ -362,32 +991,60 @@ public class ServerTenantManagementService {
         if (offset > 0 && limit > 0) {
             if ((offset - limit) >= 0) { // A previous page of size 'limit' exists
                 links.add(buildPageLink(new StringBuilder(url), TenantManagementConstants.PAGE_LINK_REL_PREVIOUS,
-                        calculateOffsetForPreviousLink(offset, limit, total), limit, filter));
+                        calculateOffsetForPreviousLink(offset, limit, total), limit, filter, requiredAttributes));
             } else { // A previous page exists but it's size is less than the specified limit
                 links.add(buildPageLink(new StringBuilder(url), TenantManagementConstants.PAGE_LINK_REL_PREVIOUS,
-                        0, offset, filter));
+                        0, offset, filter, requiredAttributes));
             }
         }
 
         return links;
     }
 
-    private Link buildPageLink(StringBuilder url, String rel, int offset, int limit, String filter) {
+    private Link buildPageLink(StringBuilder url, String rel, int offset, int limit, String filter,
+                               String requiredAttributes) {
 
         if (StringUtils.isNotBlank(filter)) {
-            try {
-                url.append(String.format(TenantManagementConstants.PAGINATION_WITH_FILTER_LINK_FORMAT, offset, limit,
-                        URLEncoder.encode(filter, StandardCharsets.UTF_8.name())));
-            } catch (UnsupportedEncodingException e) {
-                throw handleException(Response.Status.INTERNAL_SERVER_ERROR, TenantManagementConstants.
-                        ErrorMessage.ERROR_CODE_BUILDING_LINKS, "Unable to url-encode filter: " + filter);
-            }
+            url.append(String.format(TenantManagementConstants.PAGINATION_WITH_FILTER_LINK_FORMAT, offset, limit,
+                    encodeLinkParameter(filter)));
         } else {
             url.append(String.format(TenantManagementConstants.PAGINATION_LINK_FORMAT, offset, limit));
         }
+        if (StringUtils.isNotBlank(requiredAttributes)) {
+            url.append(TenantManagementConstants.REQUIRED_ATTRIBUTES_LINK_PARAM)
+                    .append(encodeLinkParameter(requiredAttributes));
+        }
+        return new Link().rel(rel).href(ContextLoader.buildURIForBody((url.toString())).toString());
+    }
+
+    private Link buildCursorLink(StringBuilder url, String rel, String cursorParameter, IndexedTenant cursorTenant,
+                                 int limit, String sortOrder, String filter, String requiredAttributes) {
+
+        url.append(String.format(TenantManagementConstants.CURSOR_PAGINATION_LINK_FORMAT, limit, cursorParameter,
+                encodeCursor(cursorTenant)));
+        if (StringUtils.isNotBlank(sortOrder)) {
+            url.append(TenantManagementConstants.SORT_ORDER_LINK_PARAM).append(encodeLinkParameter(sortOrder));
+        }
+        if (StringUtils.isNotBlank(filter)) {
+            url.append(TenantManagementConstants.FILTER_LINK_PARAM).append(encodeLinkParameter(filter));
+        }
+        if (StringUtils.isNotBlank(requiredAttributes)) {
+            url.append(TenantManagementConstants.REQUIRED_ATTRIBUTES_LINK_PARAM)
+                    .append(encodeLinkParameter(requiredAttributes));
+        }
         return new Link().rel(rel).href(ContextLoader.buildURIForBody((url.toString())).toString());
     }
 
+    private String encodeLinkParameter(String value) {
+
+        try {
+            return URLEncoder.encode(value, StandardCharsets.UTF_8.name());
+        } catch (UnsupportedEncodingException e) {
+            throw handleException(Response.Status.INTERNAL_SERVER_ERROR, TenantManagementConstants.
+                    ErrorMessage.ERROR_CODE_BUILDING_LINKS, "Unable to url-encode: " + value);
+        }
+    }
+
     private int calculateOffsetForPreviousLink(int offset, int limit, int total) {
 
         int newOffset = (offset - limit);
@@ -491,37 +1148,19 @@ public class ServerTenantManagementService {
         return message;
     }
 
-    /**
-     * Return Not Implemented error response for tenant List filtering which are not yet supported by the server.
-     *
-     * @param filter Filter string.
-     */
-    private void handleNotImplementedCapabilities(String filter) {
-
-        TenantManagementConstants.ErrorMessage errorEnum = null;
-
-        if (filter != null) {
-            errorEnum = TenantManagementConstants.ErrorMessage.ERROR_CODE_FILTER_NOT_IMPLEMENTED;
-        }
-
-        if (errorEnum != null) {
-            ErrorResponse errorResponse = getErrorBuilder(errorEnum, null).build(log, errorEnum.getDescription());
-            Response.Status status = Response.Status.NOT_IMPLEMENTED;
-            throw new APIError(status, errorResponse);
-        }
-    }
-
     public String addTenant(ChannelVerifiedTenantModel channelVerifiedTenantModel) {
         String resourceId;
         TenantMgtService tenantMgtService = TenantManagementServiceHolder.getTenantMgtService();
+        Tenant tenant;
         try {
             validateInputAgainstCode(channelVerifiedTenantModel);
-            Tenant tenant = createTenantInfoBean(channelVerifiedTenantModel);
+            tenant = createTenantInfoBean(channelVerifiedTenantModel);
             resourceId = tenantMgtService.addTenant(tenant);
         } catch (TenantMgtException e) {
             throw handleTenantManagementException(e, TenantManagementConstants.ErrorMessage
                     .ERROR_CODE_ERROR_ADDING_TENANT, null);
         }
+        tenantAdded(resourceId, tenant.getDomain());
         return resourceId;
     }
 
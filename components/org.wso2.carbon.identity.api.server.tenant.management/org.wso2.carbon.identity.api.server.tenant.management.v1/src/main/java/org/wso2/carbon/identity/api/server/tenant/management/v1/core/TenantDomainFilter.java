@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wso2.carbon.identity.api.server.tenant.management.v1.core;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.server.tenant.management.common.TenantManagementServiceHolder;
+import org.wso2.carbon.stratos.common.exception.TenantMgtException;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Answers tenant domain availability checks from memory where possible. A Bloom filter of the existing tenant domains
+ * answers that a domain is available without querying the tenant management service, while the domains confirmed to
+ * be taken answer the repeated checks of existing domains. Only the domains the Bloom filter may contain and which
+ * are not confirmed yet are checked against the tenant management service.
+ *
+ * The filter is loaded on the first check, kept up to date as the tenants are added through this API and rebuilt
+ * periodically to pick up the tenants added through other nodes or channels. A stale filter is rebuilt in the
+ * background while the checks are served from the previous one. Availability checks are advisory, the uniqueness of
+ * the domain is still enforced when the tenant is added.
+ */
+public class TenantDomainFilter {
+
+    private static final Log log = LogFactory.getLog(TenantDomainFilter.class);
+    private static final long REFRESH_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    private static final long REFRESH_RETRY_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    private static final long TAKEN_DOMAIN_EXPIRY_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    private static final int MIN_EXPECTED_DOMAINS = 1024;
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "tenant-domain-filter-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Domains confirmed to be taken, with the time they were confirmed at.
+    private final Map<String, Long> takenDomains = new ConcurrentHashMap<>();
+    private volatile Snapshot snapshot;
+    // Domains added while the filter is rebuilt, to be added to the rebuilt filter. Guarded by the filter.
+    private List<String> pendingDomains;
+    private volatile long refreshFailedAt;
+
+    /**
+     * Check whether the given tenant domain is available.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return True if there is no tenant with the given domain.
+     * @throws TenantMgtException If the availability cannot be checked with the tenant management service.
+     */
+    public boolean isDomainAvailable(String tenantDomain) throws TenantMgtException {
+
+        String domain = normalize(tenantDomain);
+        Long confirmedAt = takenDomains.get(domain);
+        if (confirmedAt != null) {
+            if (System.currentTimeMillis() - confirmedAt < TAKEN_DOMAIN_EXPIRY_MILLIS) {
+                return false;
+            }
+            takenDomains.remove(domain, confirmedAt);
+        }
+        Snapshot current = getSnapshot();
+        if (current != null && !current.existingDomains.mightContain(domain)) {
+            return true;
+        }
+        boolean available = TenantManagementServiceHolder.getTenantMgtService().isDomainAvailable(tenantDomain);
+        if (!available) {
+            takenDomains.put(domain, System.currentTimeMillis());
+        }
+        return available;
+    }
+
+    /**
+     * Add the domain of a newly created tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public synchronized void domainAdded(String tenantDomain) {
+
+        String domain = normalize(tenantDomain);
+        takenDomains.put(domain, System.currentTimeMillis());
+        if (snapshot != null) {
+            snapshot.existingDomains.put(domain);
+        }
+        if (pendingDomains != null) {
+            pendingDomains.add(domain);
+        }
+    }
+
+    /**
+     * Forget the confirmed domains once a tenant is deleted, as the domain of the deleted tenant is not known. The
+     * Bloom filter still contains the domain until it is rebuilt, hence it is checked against the tenant management
+     * service.
+     */
+    public void domainRemoved() {
+
+        takenDomains.clear();
+    }
+
+    /**
+     * Shutdown the refresh executor. Invoked when the API context is destroyed.
+     */
+    public void shutdown() {
+
+        refreshExecutor.shutdownNow();
+    }
+
+    private Snapshot getSnapshot() {
+
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                // Nothing to serve until the filter is loaded for the first time.
+                if (snapshot == null &&
+                        System.currentTimeMillis() - refreshFailedAt >= REFRESH_RETRY_INTERVAL_MILLIS) {
+                    try {
+                        snapshot = load();
+                    } catch (TenantMgtException | RuntimeException e) {
+                        log.warn("Error while loading the tenant domain filter. Domain availability is checked " +
+                                "with the tenant management service until the filter is loaded.", e);
+                        refreshFailedAt = System.currentTimeMillis();
+                    }
+                }
+                return snapshot;
+            }
+        }
+        if (System.currentTimeMillis() - current.loadedAt >= REFRESH_INTERVAL_MILLIS) {
+            scheduleRefresh();
+        }
+        return current;
+    }
+
+    private synchronized void scheduleRefresh() {
+
+        if (pendingDomains != null || snapshot == null ||
+                System.currentTimeMillis() - snapshot.loadedAt < REFRESH_INTERVAL_MILLIS ||
+                System.currentTimeMillis() - refreshFailedAt < REFRESH_RETRY_INTERVAL_MILLIS) {
+            return;
+        }
+        pendingDomains = new ArrayList<>();
+        try {
+            refreshExecutor.execute(this::refresh);
+        } catch (RejectedExecutionException e) {
+            // The API context is being destroyed.
+            pendingDomains = null;
+        }
+    }
+
+    private void refresh() {
+
+        Snapshot loaded = null;
+        try {
+            PrivilegedCarbonContext.startTenantFlow();
+            PrivilegedCarbonContext.getThreadLocalCarbonContext()
+                    .setTenantDomain(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME, true);
+            loaded = load();
+        } catch (TenantMgtException | RuntimeException e) {
+            log.warn("Error while rebuilding the tenant domain filter. The checks are served from the previous " +
+                    "filter.", e);
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+        synchronized (this) {
+            if (loaded == null) {
+                refreshFailedAt = System.currentTimeMillis();
+            } else if (pendingDomains != null) {
+                for (String pendingDomain : pendingDomains) {
+                    loaded.existingDomains.put(pendingDomain);
+                }
+                snapshot = loaded;
+            }
+            pendingDomains = null;
+        }
+    }
+
+    private Snapshot load() throws TenantMgtException {
+
+        List<String> domains = new ArrayList<>();
+        TenantIndex.loadTenants(tenant -> domains.add(normalize(tenant.getDomain())));
+        if (log.isDebugEnabled()) {
+            log.debug("Loaded " + domains.size() + " tenant domains to the tenant domain filter.");
+        }
+        return new Snapshot(domains);
+    }
+
+    private static String normalize(String domain) {
+
+        return domain.toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * Existing tenant domains loaded at a point in time.
+     */
+    private static class Snapshot {
+
+        private final long loadedAt = System.currentTimeMillis();
+        private final BloomFilter existingDomains;
+
+        private Snapshot(List<String> domains) {
+
+            // Leave room for the tenants added until the next refresh.
+            existingDomains = new BloomFilter(Math.max(domains.size() * 2, MIN_EXPECTED_DOMAINS),
+                    FALSE_POSITIVE_PROBABILITY);
+            for (String domain : domains) {
+                existingDomains.put(domain);
+            }
+        }
+    }
+
+    /**
+     * Bloom filter of strings, safe for concurrent additions and lookups.
+     */
+    private static class BloomFilter {
+
+        private final AtomicLongArray bits;
+        private final int bitCount;
+        private final int hashCount;
+
+        private BloomFilter(int expectedInsertions, double falsePositiveProbability) {
+
+            long optimalBitCount = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) /
+                    (Math.log(2) * Math.log(2)));
+            bitCount = (int) Math.min(Math.max(optimalBitCount, Long.SIZE), Integer.MAX_VALUE - Long.SIZE);
+            hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+            bits = new AtomicLongArray((bitCount + Long.SIZE - 1) / Long.SIZE);
+        }
+
+        private void put(String value) {
+
+            long hash = hash(value);
+            for (int i = 0; i < hashCount; i++) {
+                int bit = getBit(hash, i);
+                long mask = 1L << bit;
+                bits.accumulateAndGet(bit >>> 6, mask, (word, bitMask) -> word | bitMask);
+            }
+        }
+
+        private boolean mightContain(String value) {
+
+            long hash = hash(value);
+            for (int i = 0; i < hashCount; i++) {
+                int bit = getBit(hash, i);
+                if ((bits.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Derive the i-th bit from the two halves of the hash, i.e. double hashing.
+         */
+        private int getBit(long hash, int i) {
+
+            int combinedHash = (int) hash + i * (int) (hash >>> 32);
+            return (combinedHash & Integer.MAX_VALUE) % bitCount;
+        }
+
+        /**
+         * 64 bit FNV-1a hash of the characters of the value, with the final mix of MurmurHash3 to spread the bits
+         * over both halves of the hash.
+         */
+        private static long hash(String value) {
+
+            long hash = 0xcbf29ce484222325L;
+            for (int i = 0; i < value.length(); i++) {
+                char ch = value.charAt(i);
+                hash ^= ch & 0xff;
+                hash *= 0x100000001b3L;
+                hash ^= ch >>> 8;
+                hash *= 0x100000001b3L;
+            }
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            hash *= 0xc4ceb9fe1a85ec53L;
+            hash ^= hash >>> 33;
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,428 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wso2.carbon.identity.api.server.tenant.management.v1.core;
+
+import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.server.tenant.management.common.TenantManagementServiceHolder;
+import org.wso2.carbon.stratos.common.exception.TenantMgtException;
+import org.wso2.carbon.tenant.mgt.services.TenantMgtService;
+import org.wso2.carbon.user.core.tenant.Tenant;
+import org.wso2.carbon.user.core.tenant.TenantSearchResult;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * In-memory index of the tenants, ordered by the tenant domain and indexed by the tenant id and the owner email, to
+ * search the tenants without paging through all of them in the tenant management service. The index is loaded on
+ * the first search, kept up to date as the tenants are added, activated, deactivated and deleted through this API and
+ * reloaded periodically to pick up the changes made through other nodes or channels. A stale index is reloaded in
+ * the background while the searches are served from the previous snapshot.
+ */
+public class TenantIndex {
+
+    private static final Log log = LogFactory.getLog(TenantIndex.class);
+    private static final long REFRESH_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    private static final long REFRESH_RETRY_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    private static final int LOAD_PAGE_SIZE = 500;
+
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "tenant-index-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile Snapshot snapshot;
+    // Updates made while the index is reloaded, to be applied to the reloaded snapshot. Guarded by the index.
+    private List<Consumer<Snapshot>> pendingUpdates;
+    private volatile long refreshFailedAt;
+
+    /**
+     * Find the tenants matching the given query.
+     *
+     * @param query      Query of the tenants.
+     * @param descending Whether the tenants should be ordered by the domain in the descending order.
+     * @return Matching tenants ordered by the domain.
+     * @throws TenantMgtException If the index cannot be loaded.
+     */
+    public List<IndexedTenant> find(Query query, boolean descending) throws TenantMgtException {
+
+        Snapshot current = getSnapshot();
+        NavigableMap<String, IndexedTenant> candidates;
+        if (query.ownerEmail != null) {
+            candidates = new TreeMap<>();
+            Set<String> domains = current.domainsByOwnerEmail.get(normalize(query.ownerEmail));
+            if (domains != null) {
+                for (String domain : domains) {
+                    IndexedTenant tenant = current.tenantsByDomain.get(domain);
+                    if (tenant != null) {
+                        candidates.put(domain, tenant);
+                    }
+                }
+            }
+        } else if (query.domainPrefix != null) {
+            String domainPrefix = normalize(query.domainPrefix);
+            candidates = current.tenantsByDomain.subMap(domainPrefix, true, domainPrefix + Character.MAX_VALUE,
+                    true);
+        } else {
+            candidates = current.tenantsByDomain;
+        }
+
+        List<IndexedTenant> tenants = new ArrayList<>();
+        for (IndexedTenant tenant : descending ? candidates.descendingMap().values() : candidates.values()) {
+            if (query.predicate.test(tenant)) {
+                tenants.add(tenant);
+            }
+        }
+        return tenants;
+    }
+
+    /**
+     * Add a newly created tenant to the index.
+     *
+     * @param tenantUniqueId Unique id of the tenant.
+     */
+    public synchronized void tenantAdded(String tenantUniqueId) {
+
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            Tenant tenant = TenantManagementServiceHolder.getTenantMgtService().getTenant(tenantUniqueId);
+            if (tenant != null) {
+                IndexedTenant indexedTenant = new IndexedTenant(tenant);
+                update(current -> current.put(indexedTenant));
+            }
+        } catch (TenantMgtException e) {
+            log.warn("Error while retrieving the added tenant: " + tenantUniqueId + ". The tenant index will be " +
+                    "reloaded on the next search.", e);
+            snapshot = null;
+        }
+    }
+
+    /**
+     * Update the lifecycle status of a tenant in the index.
+     *
+     * @param tenantUniqueId Unique id of the tenant.
+     * @param active         Whether the tenant is active.
+     */
+    public synchronized void tenantStatusUpdated(String tenantUniqueId, boolean active) {
+
+        if (snapshot == null) {
+            return;
+        }
+        update(current -> {
+            IndexedTenant tenant = current.tenantsById.get(tenantUniqueId);
+            if (tenant != null) {
+                current.put(tenant.withActive(active));
+            }
+        });
+    }
+
+    /**
+     * Remove a deleted tenant from the index.
+     *
+     * @param tenantUniqueId Unique id of the tenant.
+     */
+    public synchronized void tenantRemoved(String tenantUniqueId) {
+
+        if (snapshot == null) {
+            return;
+        }
+        update(current -> {
+            IndexedTenant tenant = current.tenantsById.get(tenantUniqueId);
+            if (tenant != null) {
+                current.remove(tenant);
+            }
+        });
+    }
+
+    /**
+     * Shutdown the refresh executor. Invoked when the API context is destroyed.
+     */
+    public void shutdown() {
+
+        refreshExecutor.shutdownNow();
+    }
+
+    private Snapshot getSnapshot() throws TenantMgtException {
+
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                // Nothing to serve until the index is loaded for the first time.
+                if (snapshot == null) {
+                    snapshot = load();
+                }
+                return snapshot;
+            }
+        }
+        if (System.currentTimeMillis() - current.loadedAt >= REFRESH_INTERVAL_MILLIS) {
+            scheduleRefresh();
+        }
+        return current;
+    }
+
+    private synchronized void scheduleRefresh() {
+
+        if (pendingUpdates != null || snapshot == null ||
+                System.currentTimeMillis() - snapshot.loadedAt < REFRESH_INTERVAL_MILLIS ||
+                System.currentTimeMillis() - refreshFailedAt < REFRESH_RETRY_INTERVAL_MILLIS) {
+            return;
+        }
+        pendingUpdates = new ArrayList<>();
+        try {
+            refreshExecutor.execute(this::refresh);
+        } catch (RejectedExecutionException e) {
+            // The API context is being destroyed.
+            pendingUpdates = null;
+        }
+    }
+
+    private void refresh() {
+
+        Snapshot loaded = null;
+        try {
+            PrivilegedCarbonContext.startTenantFlow();
+            PrivilegedCarbonContext.getThreadLocalCarbonContext()
+                    .setTenantDomain(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME, true);
+            loaded = load();
+        } catch (TenantMgtException | RuntimeException e) {
+            log.warn("Error while reloading the tenant index. The searches are served from the previous snapshot " +
+                    "of the index.", e);
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+        synchronized (this) {
+            if (loaded == null) {
+                refreshFailedAt = System.currentTimeMillis();
+            } else if (pendingUpdates != null && snapshot != null) {
+                for (Consumer<Snapshot> pendingUpdate : pendingUpdates) {
+                    pendingUpdate.accept(loaded);
+                }
+                snapshot = loaded;
+            }
+            pendingUpdates = null;
+        }
+    }
+
+    /**
+     * Apply an update to the current snapshot, and to the snapshot being reloaded if a reload is in progress.
+     */
+    private void update(Consumer<Snapshot> snapshotUpdate) {
+
+        snapshotUpdate.accept(snapshot);
+        if (pendingUpdates != null) {
+            pendingUpdates.add(snapshotUpdate);
+        }
+    }
+
+    /**
+     * Page through all the tenants of the tenant management service.
+     *
+     * @param tenantConsumer Consumer of the tenants.
+     * @throws TenantMgtException If the tenants cannot be listed.
+     */
+    static void loadTenants(Consumer<Tenant> tenantConsumer) throws TenantMgtException {
+
+        TenantMgtService tenantMgtService = TenantManagementServiceHolder.getTenantMgtService();
+        int offset = 0;
+        while (true) {
+            TenantSearchResult searchResult = tenantMgtService.listTenants(LOAD_PAGE_SIZE, offset, null, null, null);
+            List<Tenant> tenants = searchResult.getTenantList();
+            if (CollectionUtils.isEmpty(tenants)) {
+                break;
+            }
+            tenants.forEach(tenantConsumer);
+            offset += tenants.size();
+            if (offset >= searchResult.getTotalTenantCount()) {
+                break;
+            }
+        }
+    }
+
+    private Snapshot load() throws TenantMgtException {
+
+        Snapshot loaded = new Snapshot();
+        loadTenants(tenant -> loaded.put(new IndexedTenant(tenant)));
+        if (log.isDebugEnabled()) {
+            log.debug("Loaded " + loaded.tenantsByDomain.size() + " tenants to the tenant index.");
+        }
+        return loaded;
+    }
+
+    private static String normalize(String value) {
+
+        return value == null ? null : value.toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * Tenants of the index. Lookups are lock free, while the updates are serialized by the index.
+     */
+    private static class Snapshot {
+
+        private final long loadedAt = System.currentTimeMillis();
+        private final NavigableMap<String, IndexedTenant> tenantsByDomain = new ConcurrentSkipListMap<>();
+        private final Map<String, IndexedTenant> tenantsById = new ConcurrentHashMap<>();
+        private final Map<String, Set<String>> domainsByOwnerEmail = new ConcurrentHashMap<>();
+
+        private void put(IndexedTenant tenant) {
+
+            IndexedTenant existing = tenantsById.get(tenant.getId());
+            if (existing != null) {
+                remove(existing);
+            }
+            tenantsByDomain.put(normalize(tenant.getDomain()), tenant);
+            tenantsById.put(tenant.getId(), tenant);
+            if (tenant.getOwnerEmail() != null) {
+                domainsByOwnerEmail.computeIfAbsent(normalize(tenant.getOwnerEmail()),
+                        email -> ConcurrentHashMap.newKeySet()).add(normalize(tenant.getDomain()));
+            }
+        }
+
+        private void remove(IndexedTenant tenant) {
+
+            tenantsByDomain.remove(normalize(tenant.getDomain()));
+            tenantsById.remove(tenant.getId());
+            if (tenant.getOwnerEmail() != null) {
+                domainsByOwnerEmail.computeIfPresent(normalize(tenant.getOwnerEmail()), (email, domains) -> {
+                    domains.remove(normalize(tenant.getDomain()));
+                    return domains.isEmpty() ? null : domains;
+                });
+            }
+        }
+    }
+
+    /**
+     * Query of the tenant index. The domain prefix and the owner email narrow down the tenants to be tested against
+     * the predicate, hence they must be implied by the predicate.
+     */
+    public static class Query {
+
+        private final Predicate<IndexedTenant> predicate;
+        private String domainPrefix;
+        private String ownerEmail;
+
+        public Query(Predicate<IndexedTenant> predicate) {
+
+            this.predicate = predicate;
+        }
+
+        public void setDomainPrefix(String domainPrefix) {
+
+            this.domainPrefix = domainPrefix;
+        }
+
+        public void setOwnerEmail(String ownerEmail) {
+
+            this.ownerEmail = ownerEmail;
+        }
+    }
+
+    /**
+     * Tenant attributes held in the index.
+     */
+    public static class IndexedTenant {
+
+        private final String id;
+        private final String domain;
+        private final String ownerEmail;
+        private final String ownerName;
+        private final String ownerId;
+        private final Date createdDate;
+        private final boolean active;
+
+        private IndexedTenant(Tenant tenant) {
+
+            this.id = tenant.getTenantUniqueID();
+            this.domain = tenant.getDomain();
+            this.ownerEmail = StringUtils.defaultIfBlank(tenant.getEmail(), null);
+            this.ownerName = tenant.getAdminName();
+            this.ownerId = tenant.getAdminUserId();
+            this.createdDate = tenant.getCreatedDate();
+            this.active = tenant.isActive();
+        }
+
+        private IndexedTenant(IndexedTenant tenant, boolean active) {
+
+            this.id = tenant.id;
+            this.domain = tenant.domain;
+            this.ownerEmail = tenant.ownerEmail;
+            this.ownerName = tenant.ownerName;
+            this.ownerId = tenant.ownerId;
+            this.createdDate = tenant.createdDate;
+            this.active = active;
+        }
+
+        private IndexedTenant withActive(boolean active) {
+
+            return new IndexedTenant(this, active);
+        }
+
+        public String getId() {
+
+            return id;
+        }
+
+        public String getDomain() {
+
+            return domain;
+        }
+
+        public String getOwnerEmail() {
+
+            return ownerEmail;
+        }
+
+        public String getOwnerName() {
+
+            return ownerName;
+        }
+
+        public String getOwnerId() {
+
+            return ownerId;
+        }
+
+        public Date getCreatedDate() {
+
+            return createdDate;
+        }
+
+        public boolean isActive() {
+
+            return active;
+        }
+    }
+}
@@ -0,0 +1,341 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wso2.carbon.identity.api.server.tenant.management.v1.core;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.server.tenant.management.common.TenantManagementServiceHolder;
+import org.wso2.carbon.stratos.common.exception.TenantMgtException;
+import org.wso2.carbon.user.core.tenant.Tenant;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import static org.wso2.carbon.identity.api.server.tenant.management.common.TenantManagementConstants.BULK_PROVISIONING_POOL_SIZE;
+import static org.wso2.carbon.identity.api.server.tenant.management.common.TenantManagementConstants.BULK_PROVISIONING_QUEUE_SIZE;
+import static org.wso2.carbon.identity.api.server.tenant.management.common.TenantManagementConstants.TENANT_PROVISIONING_JOB_RETENTION_MINUTES;
+import static org.wso2.carbon.identity.api.server.tenant.management.common.TenantManagementConstants.TENANT_PROVISIONING_POOL_SIZE;
+import static org.wso2.carbon.identity.api.server.tenant.management.common.TenantManagementConstants.TENANT_PROVISIONING_QUEUE_SIZE;
+
+/**
+ * Runs tenant provisioning jobs on a bounded worker pool, so that seeding the realm, user stores, keystores and the
+ * default configurations of a new tenant does not hold a request thread. The jobs are kept in memory of the node
+ * that accepted them until they have been completed for the retention period. The job ids are prefixed with an id of
+ * the node, so that a request of a job routed to another node is told apart from a request of an unknown job.
+ *
+ * Bulk provisioning operations run on a separate pool, so that a large migration does not starve the individual
+ * provisioning jobs.
+ */
+public class TenantProvisioner {
+
+    private static final Log log = LogFactory.getLog(TenantProvisioner.class);
+    public static final String VALIDATION_STEP = "validation";
+    public static final String PROVISIONING_STEP = "provisioning";
+    public static final String INDEXING_STEP = "indexing";
+
+    private final String nodeId = UUID.randomUUID().toString().substring(0, 8);
+    private final ThreadPoolExecutor provisioningExecutor;
+    private final ThreadPoolExecutor bulkProvisioningExecutor;
+    private final ScheduledThreadPoolExecutor waitTimer;
+    private final Map<String, ProvisioningJob> jobs = new ConcurrentHashMap<>();
+    private final Map<String, ProvisioningJob> activeJobsByDomain = new ConcurrentHashMap<>();
+    private final Map<String, BulkProvisioningOperation> bulkOperations = new ConcurrentHashMap<>();
+
+    public TenantProvisioner() {
+
+        provisioningExecutor = new ThreadPoolExecutor(TENANT_PROVISIONING_POOL_SIZE, TENANT_PROVISIONING_POOL_SIZE,
+                60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(TENANT_PROVISIONING_QUEUE_SIZE),
+                new NamedThreadFactory("tenant-provisioning"));
+        provisioningExecutor.allowCoreThreadTimeOut(true);
+        bulkProvisioningExecutor = new ThreadPoolExecutor(BULK_PROVISIONING_POOL_SIZE, BULK_PROVISIONING_POOL_SIZE,
+                60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(BULK_PROVISIONING_QUEUE_SIZE),
+                new NamedThreadFactory("bulk-tenant-provisioning"));
+        bulkProvisioningExecutor.allowCoreThreadTimeOut(true);
+        waitTimer = new ScheduledThreadPoolExecutor(1, new NamedThreadFactory("tenant-provisioning-wait"));
+        waitTimer.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Submit a job to provision the given tenant.
+     *
+     * @param tenant         Validated tenant to be provisioned.
+     * @param validationTime Time taken to validate the tenant in milliseconds.
+     * @param tenantListener Listener notified with the unique id of the tenant once it is provisioned.
+     * @return Submitted job or null if a provisioning job of the tenant domain is already in progress.
+     * @throws RejectedExecutionException If the worker pool cannot accept any more jobs.
+     */
+    public ProvisioningJob submit(Tenant tenant, long validationTime, Consumer<String> tenantListener) {
+
+        removeExpiredJobs();
+        String domain = tenant.getDomain().toLowerCase(Locale.ENGLISH);
+        ProvisioningJob job = new ProvisioningJob(nodeId + "-" + UUID.randomUUID(), tenant.getDomain());
+        job.addStep(VALIDATION_STEP, validationTime);
+        if (activeJobsByDomain.putIfAbsent(domain, job) != null) {
+            return null;
+        }
+        jobs.put(job.getId(), job);
+
+        try {
+            provisioningExecutor.execute(withCarbonContext(() -> {
+                try {
+                    provision(job, tenant, tenantListener);
+                } finally {
+                    activeJobsByDomain.remove(domain, job);
+                }
+            }));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            activeJobsByDomain.remove(domain, job);
+            throw e;
+        }
+        return job;
+    }
+
+    /**
+     * Submit a bulk operation to provision the given tenants. The tenants are provisioned by the given number of
+     * workers, each taking the next tenant once it is done with the previous one, so that a slow tenant does not hold
+     * back the others. A tenant which fails is recorded in the operation and does not affect the other tenants.
+     *
+     * @param tenants        Validated tenants to be provisioned, in the order they were received. The tenants which
+     *                       failed the validation are null.
+     * @param failures       Failures of the tenants which failed the validation.
+     * @param parallelism    Number of tenants to be provisioned in parallel.
+     * @param tenantListener Listener notified with the unique id and the domain of each provisioned tenant.
+     * @return Submitted bulk provisioning operation.
+     * @throws RejectedExecutionException If the worker pool cannot accept any of the workers of the operation.
+     */
+    public BulkProvisioningOperation submitBulk(List<Tenant> tenants, List<BulkProvisioningOperation.Failure> failures,
+                                                int parallelism, BiConsumer<String, String> tenantListener) {
+
+        removeExpiredJobs();
+        BulkProvisioningOperation operation = new BulkProvisioningOperation(tenants, failures, parallelism);
+        bulkOperations.put(operation.getId(), operation);
+
+        Runnable worker = withCarbonContext(() -> {
+            try {
+                provision(operation, tenantListener);
+            } finally {
+                operation.workerCompleted();
+            }
+        });
+        for (int i = 0; i < operation.getParallelism(); i++) {
+            try {
+                bulkProvisioningExecutor.execute(worker);
+            } catch (RejectedExecutionException e) {
+                if (i == 0) {
+                    bulkOperations.remove(operation.getId());
+                    throw e;
+                }
+                // The accepted workers provision all the tenants, at a lower parallelism.
+                if (log.isDebugEnabled()) {
+                    log.debug("Bulk provisioning operation: " + operation.getId() + " is running with " + i +
+                            " workers out of " + operation.getParallelism() + ".");
+                }
+                for (int j = i; j < operation.getParallelism(); j++) {
+                    operation.workerCompleted();
+                }
+                break;
+            }
+        }
+        return operation;
+    }
+
+    /**
+     * Get the bulk provisioning operation with the given id.
+     *
+     * @param operationId Id of the operation.
+     * @return Bulk provisioning operation or null if there is no such operation.
+     */
+    public BulkProvisioningOperation getBulkOperation(String operationId) {
+
+        removeExpiredJobs();
+        return bulkOperations.get(operationId);
+    }
+
+    /**
+     * Get the provisioning job with the given id.
+     *
+     * @param jobId Id of the job.
+     * @return Provisioning job or null if there is no such job.
+     */
+    public ProvisioningJob getJob(String jobId) {
+
+        removeExpiredJobs();
+        return jobs.get(jobId);
+    }
+
+    /**
+     * Check whether the job with the given id was accepted by this node.
+     *
+     * @param jobId Id of the job.
+     * @return True if the job was accepted by this node, whether or not it is retained anymore.
+     */
+    public boolean isLocalJob(String jobId) {
+
+        return jobId != null && jobId.startsWith(nodeId + "-");
+    }
+
+    /**
+     * Wait for the completion of the given job without holding a thread.
+     *
+     * @param job     Provisioning job.
+     * @param timeout Maximum time to wait in milliseconds.
+     * @return Future completed once the job is completed or the given time elapses.
+     */
+    public CompletableFuture<ProvisioningJob> awaitJob(ProvisioningJob job, long timeout) {
+
+        CompletableFuture<ProvisioningJob> result = new CompletableFuture<>();
+        if (timeout <= 0 || job.isCompleted()) {
+            result.complete(job);
+            return result;
+        }
+        job.getCompletion().thenAccept(completed -> result.complete(job));
+        try {
+            ScheduledFuture<?> timeoutTask = waitTimer.schedule(() -> result.complete(job), timeout,
+                    TimeUnit.MILLISECONDS);
+            result.whenComplete((completed, error) -> timeoutTask.cancel(false));
+        } catch (RejectedExecutionException e) {
+            // The API context is being destroyed, hence the current state of the job is returned.
+            result.complete(job);
+        }
+        return result;
+    }
+
+    /**
+     * Shutdown the provisioning executors. Invoked when the API context is destroyed.
+     */
+    public void shutdown() {
+
+        provisioningExecutor.shutdownNow();
+        bulkProvisioningExecutor.shutdownNow();
+        waitTimer.shutdownNow();
+    }
+
+    /**
+     * Wrap the given task to run in the carbon context of the submitting request.
+     */
+    private static Runnable withCarbonContext(Runnable task) {
+
+        String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        int tenantId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId();
+        String username = PrivilegedCarbonContext.getThreadLocalCarbonContext().getUsername();
+        return () -> {
+            try {
+                PrivilegedCarbonContext.startTenantFlow();
+                PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+                carbonContext.setTenantDomain(tenantDomain);
+                carbonContext.setTenantId(tenantId);
+                carbonContext.setUsername(username);
+                task.run();
+            } finally {
+                PrivilegedCarbonContext.endTenantFlow();
+            }
+        };
+    }
+
+    private void provision(ProvisioningJob job, Tenant tenant, Consumer<String> tenantListener) {
+
+        job.started();
+        try {
+            long startTime = System.nanoTime();
+            String tenantUniqueId = TenantManagementServiceHolder.getTenantMgtService().addTenant(tenant);
+            job.addStep(PROVISIONING_STEP, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+
+            startTime = System.nanoTime();
+            tenantListener.accept(tenantUniqueId);
+            job.addStep(INDEXING_STEP, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+            job.succeeded(tenantUniqueId);
+        } catch (TenantMgtException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Error while provisioning the tenant: " + tenant.getDomain(), e);
+            }
+            job.failed(e);
+        } catch (RuntimeException e) {
+            log.error("Unexpected error while provisioning the tenant: " + tenant.getDomain(), e);
+            job.failed(e);
+        }
+    }
+
+    private void provision(BulkProvisioningOperation operation, BiConsumer<String, String> tenantListener) {
+
+        operation.started();
+        int index;
+        while ((index = operation.nextTenant()) >= 0 && !Thread.currentThread().isInterrupted()) {
+            Tenant tenant = operation.takeTenant(index);
+            try {
+                String tenantUniqueId = TenantManagementServiceHolder.getTenantMgtService().addTenant(tenant);
+                tenantListener.accept(tenantUniqueId, tenant.getDomain());
+                operation.tenantSucceeded();
+            } catch (TenantMgtException e) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Error while provisioning the tenant: " + tenant.getDomain() + " of the bulk " +
+                            "provisioning operation: " + operation.getId(), e);
+                }
+                operation.tenantFailed(index, tenant.getDomain(), e);
+            } catch (RuntimeException e) {
+                log.error("Unexpected error while provisioning the tenant: " + tenant.getDomain() + " of the bulk " +
+                        "provisioning operation: " + operation.getId(), e);
+                operation.tenantFailed(index, tenant.getDomain(), e);
+            }
+        }
+    }
+
+    private void removeExpiredJobs() {
+
+        long expiryTime = System.currentTimeMillis() -
+                TimeUnit.MINUTES.toMillis(TENANT_PROVISIONING_JOB_RETENTION_MINUTES);
+        jobs.values().removeIf(job -> job.isCompleted() && job.getCompletedTime().getTime() < expiryTime);
+        bulkOperations.values().removeIf(operation -> operation.isCompleted() &&
+                operation.getCompletedTime().getTime() < expiryTime);
+    }
+
+    /**
+     * Thread factory creating named daemon threads for the provisioning executors.
+     */
+    private static class NamedThreadFactory implements ThreadFactory {
+
+        private final String namePrefix;
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        NamedThreadFactory(String namePrefix) {
+
+            this.namePrefix = namePrefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+
+            Thread thread = new Thread(runnable, namePrefix + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
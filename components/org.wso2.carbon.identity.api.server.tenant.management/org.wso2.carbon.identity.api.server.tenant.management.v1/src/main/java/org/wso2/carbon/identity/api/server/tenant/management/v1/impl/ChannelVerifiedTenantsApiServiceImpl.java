@@ -23,6 +23,7 @@ import org.wso2.carbon.identity.api.server.tenant.management.common.TenantManage
 import org.wso2.carbon.identity.api.server.tenant.management.v1.ChannelVerifiedTenantsApiService;
 import org.wso2.carbon.identity.api.server.tenant.management.v1.core.ServerTenantManagementService;
 import org.wso2.carbon.identity.api.server.tenant.management.v1.model.ChannelVerifiedTenantModel;
+import org.wso2.carbon.identity.api.server.tenant.management.v1.model.TenantProvisioningJob;
 
 import java.net.URI;
 import javax.ws.rs.core.Response;
@@ -36,8 +37,13 @@ public class ChannelVerifiedTenantsApiServiceImpl implements ChannelVerifiedTena
     private ServerTenantManagementService tenantManagementService;
 
     @Override
-    public Response addChannelVerifiedTenant(ChannelVerifiedTenantModel channelVerifiedTenantModel) {
+    public Response addChannelVerifiedTenant(ChannelVerifiedTenantModel channelVerifiedTenantModel, Boolean async) {
 
+        if (Boolean.TRUE.equals(async)) {
+            TenantProvisioningJob provisioningJob = tenantManagementService.addTenantAsync(channelVerifiedTenantModel);
+            return Response.accepted().location(getProvisioningJobLocation(provisioningJob.getId()))
+                    .entity(provisioningJob).build();
+        }
         String resourceId = tenantManagementService.addTenant(channelVerifiedTenantModel);
         return Response.created(getResourceLocation(resourceId)).build();
     }
@@ -47,4 +53,11 @@ public class ChannelVerifiedTenantsApiServiceImpl implements ChannelVerifiedTena
         return ContextLoader.buildURIForHeader(Constants.V1_API_PATH_COMPONENT +
                 TenantManagementConstants.TENANT_MANAGEMENT_PATH_COMPONENT + "/" + resourceId);
     }
+
+    private URI getProvisioningJobLocation(String jobId) {
+
+        return ContextLoader.buildURIForHeader(Constants.V1_API_PATH_COMPONENT +
+                TenantManagementConstants.TENANT_MANAGEMENT_PATH_COMPONENT +
+                TenantManagementConstants.TENANT_PROVISIONING_JOB_PATH_COMPONENT + "/" + jobId);
+    }
 }
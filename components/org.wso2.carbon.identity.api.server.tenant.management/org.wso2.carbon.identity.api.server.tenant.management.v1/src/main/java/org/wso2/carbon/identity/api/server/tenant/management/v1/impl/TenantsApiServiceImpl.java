@@ -21,11 +21,16 @@ import org.wso2.carbon.identity.api.server.common.ContextLoader;
 import org.wso2.carbon.identity.api.server.tenant.management.common.TenantManagementConstants;
 import org.wso2.carbon.identity.api.server.tenant.management.v1.TenantsApiService;
 import org.wso2.carbon.identity.api.server.tenant.management.v1.core.ServerTenantManagementService;
+import org.wso2.carbon.identity.api.server.tenant.management.v1.model.TenantBulkOperation;
 import org.wso2.carbon.identity.api.server.tenant.management.v1.model.TenantModel;
+import org.wso2.carbon.identity.api.server.tenant.management.v1.model.TenantProvisioningJob;
 import org.wso2.carbon.identity.api.server.tenant.management.v1.model.TenantPutModel;
 
+import java.io.InputStream;
 import java.net.URI;
+import java.util.concurrent.CompletionException;
 
+import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.core.Response;
 
 /**
@@ -37,12 +42,25 @@ public class TenantsApiServiceImpl implements TenantsApiService {
     private ServerTenantManagementService tenantManagementService;
 
     @Override
-    public Response addTenant(TenantModel tenantModel) {
+    public Response addTenant(TenantModel tenantModel, Boolean async) {
 
+        if (Boolean.TRUE.equals(async)) {
+            TenantProvisioningJob provisioningJob = tenantManagementService.addTenantAsync(tenantModel);
+            return Response.accepted().location(getProvisioningJobLocation(provisioningJob.getId()))
+                    .entity(provisioningJob).build();
+        }
         String resourceId = tenantManagementService.addTenant(tenantModel);
         return Response.created(getResourceLocation(resourceId)).build();
     }
 
+    @Override
+    public Response addTenants(InputStream body, Integer parallelism) {
+
+        TenantBulkOperation bulkOperation = tenantManagementService.addTenants(body, parallelism);
+        return Response.accepted().location(getBulkProvisioningOperationLocation(bulkOperation.getId()))
+                .entity(bulkOperation).build();
+    }
+
     @Override
     public Response deleteTenantMetadata(String tenantId) {
 
@@ -50,12 +68,25 @@ public class TenantsApiServiceImpl implements TenantsApiService {
         return Response.noContent().build();
     }
 
+    @Override
+    public Response getBulkProvisioningOperation(String operationId) {
+
+        return Response.ok().entity(tenantManagementService.getBulkProvisioningOperation(operationId)).build();
+    }
+
     @Override
     public Response getOwners(String tenantUniqueIdentifier) {
 
         return Response.ok().entity(tenantManagementService.getOwners(tenantUniqueIdentifier)).build();
     }
 
+    @Override
+    public void getProvisioningJob(String jobId, Integer wait, AsyncResponse asyncResponse) {
+
+        tenantManagementService.getProvisioningJob(jobId, wait).whenComplete(
+                (response, error) -> resume(asyncResponse, response, error));
+    }
+
     @Override
     public Response getTenant(String tenantId) {
 
@@ -63,10 +94,11 @@ public class TenantsApiServiceImpl implements TenantsApiService {
     }
 
     @Override
-    public Response retrieveTenants(Integer limit, Integer offset, String sortOrder, String sortBy, String filter) {
+    public Response retrieveTenants(Integer limit, Integer offset, String sortOrder, String sortBy, String filter,
+                                    String after, String before, String requiredAttributes) {
 
-        return Response.ok().entity(tenantManagementService.listTenants(limit, offset, sortOrder, sortBy, filter)).
-                build();
+        return Response.ok().entity(tenantManagementService.listTenants(limit, offset, sortOrder, sortBy, filter,
+                after, before, requiredAttributes)).build();
     }
 
     @Override
@@ -76,12 +108,35 @@ public class TenantsApiServiceImpl implements TenantsApiService {
         return Response.ok().entity(getResourceLocation(resourceId)).build();
     }
 
+    private void resume(AsyncResponse asyncResponse, Object entity, Throwable error) {
+
+        if (error != null) {
+            asyncResponse.resume(error instanceof CompletionException ? error.getCause() : error);
+        } else {
+            asyncResponse.resume(Response.ok().entity(entity).build());
+        }
+    }
+
     private URI getResourceLocation(String resourceId) {
 
         return ContextLoader.buildURIForHeader(Constants.V1_API_PATH_COMPONENT +
                 TenantManagementConstants.TENANT_MANAGEMENT_PATH_COMPONENT + "/" + resourceId);
     }
 
+    private URI getProvisioningJobLocation(String jobId) {
+
+        return ContextLoader.buildURIForHeader(Constants.V1_API_PATH_COMPONENT +
+                TenantManagementConstants.TENANT_MANAGEMENT_PATH_COMPONENT +
+                TenantManagementConstants.TENANT_PROVISIONING_JOB_PATH_COMPONENT + "/" + jobId);
+    }
+
+    private URI getBulkProvisioningOperationLocation(String operationId) {
+
+        return ContextLoader.buildURIForHeader(Constants.V1_API_PATH_COMPONENT +
+                TenantManagementConstants.TENANT_MANAGEMENT_PATH_COMPONENT +
+                TenantManagementConstants.BULK_PROVISIONING_OPERATION_PATH_COMPONENT + "/" + operationId);
+    }
+
     @Override
     public Response getTenantByDomain(String tenantDomain) {
 
@@ -30,6 +30,36 @@ public class UserStoreConstants {
     public static final String USER_STORE_PROPERTIES = "/properties/";
     public static final String USER_STORE_PROPERTY_MASK = "************";
 
+    // User store list filtering and sorting.
+    public static final String USER_STORE_NAME_ATTRIBUTE = "name";
+    public static final String USER_STORE_TYPE_NAME_ATTRIBUTE = "typeName";
+    public static final String FILTER_EQUALS = "eq";
+    public static final String FILTER_STARTS_WITH = "sw";
+    public static final String FILTER_ENDS_WITH = "ew";
+    public static final String FILTER_CONTAINS = "co";
+    public static final String FILTER_AND = "and";
+    public static final String FILTER_OR = "or";
+    public static final String SORT_DESCENDING_PREFIX = "-";
+
+    // RDBMS connection test configurations. Timeouts are in milliseconds.
+    public static final int RDBMS_CONNECTION_TEST_DEFAULT_TIMEOUT = 10000;
+    public static final int RDBMS_CONNECTION_TEST_MAX_TIMEOUT = 60000;
+    public static final int RDBMS_CONNECTION_TEST_POOL_SIZE = 10;
+    public static final int RDBMS_CONNECTION_TEST_QUEUE_SIZE = 100;
+    public static final int RDBMS_CONNECTION_TEST_MAX_BATCH_SIZE = 20;
+
+    // Undeployment tracking of deleted user stores. Intervals are in milliseconds.
+    public static final int USER_STORE_UNDEPLOYMENT_POLL_INTERVAL = 1000;
+    public static final int USER_STORE_UNDEPLOYMENT_MAX_POLLS = 60;
+
+    // Interval in milliseconds to check the registered user store managers for the user store type registry.
+    public static final int USER_STORE_TYPE_REGISTRY_REFRESH_INTERVAL = 30000;
+
+    // User store export and import.
+    public static final String USER_STORE_ENCRYPTED_PROPERTY_SUFFIX = "#encrypt";
+    public static final int USER_STORE_SECRET_KEY_MIN_LENGTH = 8;
+    public static final int USER_STORE_IMPORT_MAX_BATCH_SIZE = 50;
+
     /**
      * Enum for user store related errors in the format of
      * Error Code - code to identify the error
@@ -55,15 +85,6 @@ public class UserStoreConstants {
                 "Unable to update the secondary user store configurations.",
                 "Server Encountered an error while updating the secondary user store configurations.",
                 Response.Status.INTERNAL_SERVER_ERROR),
-        ERROR_CODE_PAGINATION_NOT_IMPLEMENTED("65005",
-                "Pagination not supported.",
-                "Pagination capabilities are not supported in this version of the API."),
-        ERROR_CODE_FILTERING_NOT_IMPLEMENTED("65006",
-                "Filtering not supported.",
-                "Filtering capability is not supported in this version of the API."),
-        ERROR_CODE_SORTING_NOT_IMPLEMENTED("65007",
-                "Sorting not supported.",
-                "Sorting capability is not supported in this version of the API."),
         ERROR_CODE_DATASOURCE_CONNECTION("65008",
                 "Unable to check RDBMS connection Health",
                 "Server Encountered an error while checking the data source connection.",
@@ -84,6 +105,23 @@ public class UserStoreConstants {
                 "Unable to get the realm configurations",
                 "Server Encountered an error while retrieving realm configuration for tenant: %s",
                 Response.Status.INTERNAL_SERVER_ERROR),
+        ERROR_CODE_CONNECTION_TEST_REJECTED("65013",
+                "Unable to test the RDBMS connection.",
+                "Server is busy with other connection tests. Retry after the ongoing tests are completed.",
+                Response.Status.SERVICE_UNAVAILABLE),
+        ERROR_CODE_ERROR_EXPORTING_USER_STORES("65014",
+                "Unable to export the secondary user stores.",
+                "Server Encountered an error while exporting the secondary user stores.",
+                Response.Status.INTERNAL_SERVER_ERROR),
+        ERROR_CODE_ERROR_IMPORTING_USER_STORES("65015",
+                "Unable to import the secondary user stores.",
+                "Server Encountered an error while importing the secondary user stores.",
+                Response.Status.INTERNAL_SERVER_ERROR),
+        ERROR_CODE_ERROR_IMPORTING_USER_STORE("65016",
+                "Unable to import the secondary user stores.",
+                "Server Encountered an error while importing the user store: %s. The user stores added from the " +
+                        "batch are removed.",
+                Response.Status.INTERNAL_SERVER_ERROR),
 
         // Client Errors - 600xx
         ERROR_CODE_DOMAIN_ID_NOT_FOUND("60001",
@@ -105,7 +143,35 @@ public class UserStoreConstants {
         ERROR_CODE_REQUEST_BODY_NOT_FOUND("60010", "Invalid userstore update request",
                 "Userstore update request is either NULL or empty"),
         ERROR_CODE_USER_STORE_LIMIT_REACHED("60011", "Unable to create a user store.",
-                "Maximum number of allowed user stores have been reached.");
+                "Maximum number of allowed user stores have been reached."),
+        ERROR_CODE_INVALID_CONNECTION_TEST_TIMEOUT("60012", "Invalid connection test timeout.",
+                "Connection test timeout should be a positive value not greater than %s milliseconds.",
+                Response.Status.BAD_REQUEST),
+        ERROR_CODE_INVALID_CONNECTION_TEST_BATCH("60013", "Invalid connection test request.",
+                "Number of connections to be tested should be between 1 and %s.",
+                Response.Status.BAD_REQUEST),
+        ERROR_CODE_INVALID_PAGINATION_PARAMETERS("60014", "Invalid pagination parameters.",
+                "Limit and offset should not be negative values.", Response.Status.BAD_REQUEST),
+        ERROR_CODE_INVALID_FILTER("60015", "Invalid filter.",
+                "Provided filter: %s is not valid.", Response.Status.BAD_REQUEST),
+        ERROR_CODE_UNSUPPORTED_FILTER_ATTRIBUTE("60016", "Unsupported filter attribute.",
+                "Filtering using the attribute: %s is not supported. Supported attributes are name and typeName.",
+                Response.Status.BAD_REQUEST),
+        ERROR_CODE_UNSUPPORTED_FILTER_OPERATION("60017", "Unsupported filter operation.",
+                "Filter operation: %s is not supported. Supported operations are eq, sw, ew and co.",
+                Response.Status.BAD_REQUEST),
+        ERROR_CODE_UNSUPPORTED_SORT_ATTRIBUTE("60018", "Unsupported sort attribute.",
+                "Sorting using the attribute: %s is not supported. Supported attributes are name and typeName.",
+                Response.Status.BAD_REQUEST),
+        ERROR_CODE_INVALID_SECRET_KEY("60019", "Invalid secret key.",
+                "Secret key should contain at least %s characters.", Response.Status.BAD_REQUEST),
+        ERROR_CODE_INVALID_USER_STORE_IMPORT_BATCH("60020", "Invalid user store import request.",
+                "Number of user stores to be imported should be between 1 and %s.", Response.Status.BAD_REQUEST),
+        ERROR_CODE_INVALID_USER_STORE_IMPORT("60021", "Invalid user store import request.",
+                "Unable to import the user stores. %s", Response.Status.BAD_REQUEST),
+        ERROR_CODE_INVALID_USER_STORE_IMPORT_SALT("60022", "Invalid user store import request.",
+                "Provided salt is not the one returned with the exported user stores.",
+                Response.Status.BAD_REQUEST);
 
         private final String code;
         private final String message;
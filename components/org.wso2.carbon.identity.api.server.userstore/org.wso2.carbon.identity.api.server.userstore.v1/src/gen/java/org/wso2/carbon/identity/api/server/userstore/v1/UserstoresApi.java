@@ -30,6 +30,9 @@ import org.wso2.carbon.identity.api.server.userstore.v1.model.MetaUserStoreType;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.PatchDocument;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.RDBMSConnectionReq;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreConfigurationsRes;
+import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreExportReq;
+import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreExportRes;
+import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreImportReq;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreListResponse;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreReq;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreResponse;
@@ -37,6 +40,8 @@ import org.wso2.carbon.identity.api.server.userstore.v1.UserstoresApiService;
 
 import javax.validation.Valid;
 import javax.ws.rs.*;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Response;
 import io.swagger.annotations.*;
 
@@ -96,6 +101,29 @@ public class UserstoresApi  {
         return delegate.deleteUserStore(userstoreDomainId );
     }
 
+    @Valid
+    @POST
+    @Path("/export")
+    @Consumes({ "application/json" })
+    @Produces({ "application/json" })
+    @ApiOperation(value = "Export the secondary user stores.", notes = "This API provides the capability to export the configurations of all the secondary user stores of the tenant. Secret properties such as the connection password are encrypted with a key derived from the provided secret key, so that the exported user stores can be imported to another environment with the same secret key. Secret properties of disabled user stores are exported without a value.   <b>Permission required:</b>   *_/permission/admin ", response = UserStoreExportRes.class, authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "User Store", })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "Successful response.", response = UserStoreExportRes.class),
+        @ApiResponse(code = 400, message = "Invalid input request.", response = Error.class),
+        @ApiResponse(code = 401, message = "Unauthorized.", response = Void.class),
+        @ApiResponse(code = 403, message = "Resource Forbidden.", response = Void.class),
+        @ApiResponse(code = 500, message = "Internal Server Error.", response = Error.class)
+    })
+    public Response exportUserStores(@ApiParam(value = "Secret key used to encrypt the secret properties of the user stores." ,required=true) @Valid UserStoreExportReq userStoreExportReq) {
+
+        return delegate.exportUserStores(userStoreExportReq );
+    }
+
     @Valid
     @GET
     @Path("/meta/types")
@@ -152,6 +180,7 @@ public class UserstoresApi  {
     }, tags={ "User Store", })
     @ApiResponses(value = { 
         @ApiResponse(code = 200, message = "Successful response.", response = UserStoreListResponse.class, responseContainer = "List"),
+        @ApiResponse(code = 400, message = "Invalid input request.", response = Error.class),
         @ApiResponse(code = 401, message = "Unauthorized.", response = Void.class),
         @ApiResponse(code = 404, message = "The specified resource is not found.", response = Error.class),
         @ApiResponse(code = 500, message = "Internal Server Error.", response = Error.class),
@@ -208,6 +237,29 @@ public class UserstoresApi  {
         return delegate.getUserStoreManagerProperties(typeId );
     }
 
+    @Valid
+    @POST
+    @Path("/import")
+    @Consumes({ "application/json" })
+    @Produces({ "application/json" })
+    @ApiOperation(value = "Import secondary user stores.", notes = "This API provides the capability to import secondary user stores exported using the **api/server/v1/userstores/export** API. All the user stores are validated and their secret properties are decrypted before any of them is added. If a user store cannot be added, the user stores already added from the request are removed. Secret properties are masked in the response.   <b>Permission required:</b>   *_/permission/admin ", response = UserStoreResponse.class, responseContainer = "List", authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "User Store", })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "Successful response.", response = UserStoreResponse.class, responseContainer = "List"),
+        @ApiResponse(code = 400, message = "Invalid input request.", response = Error.class),
+        @ApiResponse(code = 401, message = "Unauthorized.", response = Void.class),
+        @ApiResponse(code = 403, message = "Resource Forbidden.", response = Void.class),
+        @ApiResponse(code = 500, message = "Internal Server Error.", response = Error.class)
+    })
+    public Response importUserStores(@ApiParam(value = "Exported secondary user stores along with the secret key used to export them." ,required=true) @Valid UserStoreImportReq userStoreImportReq) {
+
+        return delegate.importUserStores(userStoreImportReq );
+    }
+
     @Valid
     @PATCH
     @Path("/{userstore-domain-id}")
@@ -249,9 +301,32 @@ public class UserstoresApi  {
         @ApiResponse(code = 401, message = "Unauthorized.", response = Void.class),
         @ApiResponse(code = 500, message = "Internal Server Error.", response = Error.class)
     })
-    public Response testRDBMSConnection(@ApiParam(value = "RDBMS connection properties used to connect to the datasource used by a JDBC user store manager." ) @Valid RDBMSConnectionReq rdBMSConnectionReq) {
+    public void testRDBMSConnection(@ApiParam(value = "RDBMS connection properties used to connect to the datasource used by a JDBC user store manager." ) @Valid RDBMSConnectionReq rdBMSConnectionReq, @Suspended AsyncResponse asyncResponse) {
+
+        delegate.testRDBMSConnection(rdBMSConnectionReq, asyncResponse );
+    }
+
+    @Valid
+    @POST
+    @Path("/test-connections")
+    @Consumes({ "application/json" })
+    @Produces({ "application/json" })
+    @ApiOperation(value = "Test the connections to multiple datasources used by JDBC user store managers.", notes = "This API provides the capability to test the connections to multiple datasources used by JDBC user store managers concurrently. The results are returned in the order of the requested connections.    <b>Permission required:</b>   *_/permission/admin ", response = ConnectionEstablishedResponse.class, responseContainer = "List", authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "User Store", })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "Successful response.", response = ConnectionEstablishedResponse.class, responseContainer = "List"),
+        @ApiResponse(code = 400, message = "Invalid input request.", response = Error.class),
+        @ApiResponse(code = 401, message = "Unauthorized.", response = Void.class),
+        @ApiResponse(code = 500, message = "Internal Server Error.", response = Error.class),
+        @ApiResponse(code = 503, message = "Service Unavailable.", response = Error.class)
+    })
+    public void testRDBMSConnections(@ApiParam(value = "List of RDBMS connection properties used to connect to the datasources used by JDBC user store managers." ,required=true) @Valid List<RDBMSConnectionReq> rdBMSConnectionReq, @Suspended AsyncResponse asyncResponse) {
 
-        return delegate.testRDBMSConnection(rdBMSConnectionReq );
+        delegate.testRDBMSConnections(rdBMSConnectionReq, asyncResponse );
     }
 
     @Valid
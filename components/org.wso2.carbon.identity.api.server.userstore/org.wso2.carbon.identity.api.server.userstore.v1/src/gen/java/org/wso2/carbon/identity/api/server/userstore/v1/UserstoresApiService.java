@@ -30,9 +30,12 @@ import org.wso2.carbon.identity.api.server.userstore.v1.model.MetaUserStoreType;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.PatchDocument;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.RDBMSConnectionReq;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreConfigurationsRes;
+import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreExportReq;
+import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreImportReq;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreListResponse;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreReq;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreResponse;
+import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.core.Response;
 
 
@@ -42,6 +45,8 @@ public interface UserstoresApiService {
 
       public Response deleteUserStore(String userstoreDomainId);
 
+      public Response exportUserStores(UserStoreExportReq userStoreExportReq);
+
       public Response getAvailableUserStoreTypes();
 
       public Response getPrimaryUserStore();
@@ -52,9 +57,13 @@ public interface UserstoresApiService {
 
       public Response getUserStoreManagerProperties(String typeId);
 
+      public Response importUserStores(UserStoreImportReq userStoreImportReq);
+
       public Response patchUserStore(String userstoreDomainId, List<PatchDocument> patchDocument);
 
-      public Response testRDBMSConnection(RDBMSConnectionReq rdBMSConnectionReq);
+      public void testRDBMSConnection(RDBMSConnectionReq rdBMSConnectionReq, AsyncResponse asyncResponse);
+
+      public void testRDBMSConnections(List<RDBMSConnectionReq> rdBMSConnectionReq, AsyncResponse asyncResponse);
 
       public Response updateUserStore(String userstoreDomainId, UserStoreReq userStoreReq);
 }
@@ -31,6 +31,10 @@ import javax.xml.bind.annotation.*;
 public class ConnectionEstablishedResponse  {
   
     private Boolean connection;
+    private String domain;
+    private Long connectionLatency;
+    private Boolean timedOut;
+    private String error;
 
     /**
     **/
@@ -50,6 +54,82 @@ public class ConnectionEstablishedResponse  {
         this.connection = connection;
     }
 
+    /**
+    * User store domain name of the tested connection.
+    **/
+    public ConnectionEstablishedResponse domain(String domain) {
+
+        this.domain = domain;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "JDBC-SECONDARY", value = "User store domain name of the tested connection.")
+    @JsonProperty("domain")
+    @Valid
+    public String getDomain() {
+        return domain;
+    }
+    public void setDomain(String domain) {
+        this.domain = domain;
+    }
+
+    /**
+    * Time taken in milliseconds to complete the connection attempt.
+    **/
+    public ConnectionEstablishedResponse connectionLatency(Long connectionLatency) {
+
+        this.connectionLatency = connectionLatency;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "125", value = "Time taken in milliseconds to complete the connection attempt.")
+    @JsonProperty("connectionLatency")
+    @Valid
+    public Long getConnectionLatency() {
+        return connectionLatency;
+    }
+    public void setConnectionLatency(Long connectionLatency) {
+        this.connectionLatency = connectionLatency;
+    }
+
+    /**
+    * Whether the connection attempt was abandoned after the timeout elapsed.
+    **/
+    public ConnectionEstablishedResponse timedOut(Boolean timedOut) {
+
+        this.timedOut = timedOut;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "false", value = "Whether the connection attempt was abandoned after the timeout elapsed.")
+    @JsonProperty("timedOut")
+    @Valid
+    public Boolean getTimedOut() {
+        return timedOut;
+    }
+    public void setTimedOut(Boolean timedOut) {
+        this.timedOut = timedOut;
+    }
+
+    /**
+    * Reason for the connection failure.
+    **/
+    public ConnectionEstablishedResponse error(String error) {
+
+        this.error = error;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "Communications link failure", value = "Reason for the connection failure.")
+    @JsonProperty("error")
+    @Valid
+    public String getError() {
+        return error;
+    }
+    public void setError(String error) {
+        this.error = error;
+    }
+
 
 
     @Override
@@ -62,12 +142,16 @@ public class ConnectionEstablishedResponse  {
             return false;
         }
         ConnectionEstablishedResponse connectionEstablishedResponse = (ConnectionEstablishedResponse) o;
-        return Objects.equals(this.connection, connectionEstablishedResponse.connection);
+        return Objects.equals(this.connection, connectionEstablishedResponse.connection) &&
+            Objects.equals(this.domain, connectionEstablishedResponse.domain) &&
+            Objects.equals(this.connectionLatency, connectionEstablishedResponse.connectionLatency) &&
+            Objects.equals(this.timedOut, connectionEstablishedResponse.timedOut) &&
+            Objects.equals(this.error, connectionEstablishedResponse.error);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(connection);
+        return Objects.hash(connection, domain, connectionLatency, timedOut, error);
     }
 
     @Override
@@ -77,6 +161,10 @@ public class ConnectionEstablishedResponse  {
         sb.append("class ConnectionEstablishedResponse {\n");
         
         sb.append("    connection: ").append(toIndentedString(connection)).append("\n");
+        sb.append("    domain: ").append(toIndentedString(domain)).append("\n");
+        sb.append("    connectionLatency: ").append(toIndentedString(connectionLatency)).append("\n");
+        sb.append("    timedOut: ").append(toIndentedString(timedOut)).append("\n");
+        sb.append("    error: ").append(toIndentedString(error)).append("\n");
         sb.append("}");
         return sb.toString();
     }
@@ -38,6 +38,7 @@ public class RDBMSConnectionReq  {
     private String connectionURL;
     private String username;
     private String connectionPassword;
+    private Integer timeout;
 
     /**
     * User store domain name.
@@ -142,6 +143,25 @@ public class RDBMSConnectionReq  {
         this.connectionPassword = connectionPassword;
     }
 
+    /**
+    * Maximum time in milliseconds to wait for the connection to be established.
+    **/
+    public RDBMSConnectionReq timeout(Integer timeout) {
+
+        this.timeout = timeout;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "5000", value = "Maximum time in milliseconds to wait for the connection to be established.")
+    @JsonProperty("timeout")
+    @Valid
+    public Integer getTimeout() {
+        return timeout;
+    }
+    public void setTimeout(Integer timeout) {
+        this.timeout = timeout;
+    }
+
 
 
     @Override
@@ -158,12 +178,13 @@ public class RDBMSConnectionReq  {
             Objects.equals(this.driverName, rdBMSConnectionReq.driverName) &&
             Objects.equals(this.connectionURL, rdBMSConnectionReq.connectionURL) &&
             Objects.equals(this.username, rdBMSConnectionReq.username) &&
-            Objects.equals(this.connectionPassword, rdBMSConnectionReq.connectionPassword);
+            Objects.equals(this.connectionPassword, rdBMSConnectionReq.connectionPassword) &&
+            Objects.equals(this.timeout, rdBMSConnectionReq.timeout);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(domain, driverName, connectionURL, username, connectionPassword);
+        return Objects.hash(domain, driverName, connectionURL, username, connectionPassword, timeout);
     }
 
     @Override
@@ -177,6 +198,7 @@ public class RDBMSConnectionReq  {
         sb.append("    connectionURL: ").append(toIndentedString(connectionURL)).append("\n");
         sb.append("    username: ").append(toIndentedString(username)).append("\n");
         sb.append("    connectionPassword: ").append(toIndentedString(connectionPassword)).append("\n");
+        sb.append("    timeout: ").append(toIndentedString(timeout)).append("\n");
         sb.append("}");
         return sb.toString();
     }
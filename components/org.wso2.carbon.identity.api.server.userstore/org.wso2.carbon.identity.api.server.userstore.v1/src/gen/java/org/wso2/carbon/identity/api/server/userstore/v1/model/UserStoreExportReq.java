@@ -0,0 +1,102 @@
+/*
+* Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package org.wso2.carbon.identity.api.server.userstore.v1.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import javax.validation.constraints.*;
+
+/**
+ * User store export request.
+ **/
+
+import io.swagger.annotations.*;
+import java.util.Objects;
+import javax.validation.Valid;
+import javax.xml.bind.annotation.*;
+@ApiModel(description = "User store export request.")
+public class UserStoreExportReq  {
+  
+    private String secretKey;
+
+
+    /**
+    * Key used to encrypt the secret properties of the exported user stores. The same key should be provided to import them.
+    **/
+    public UserStoreExportReq secretKey(String secretKey) {
+
+        this.secretKey = secretKey;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "my-secret-passphrase", required = true, value = "Key used to encrypt the secret properties of the exported user stores. The same key should be provided to import them.")
+    @JsonProperty("secretKey")
+    @Valid
+    @NotNull(message = "Property secretKey cannot be null.")
+
+    public String getSecretKey() {
+        return secretKey;
+    }
+    public void setSecretKey(String secretKey) {
+        this.secretKey = secretKey;
+    }
+
+    
+
+    @Override
+    public boolean equals(java.lang.Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        UserStoreExportReq userStoreExportReq = (UserStoreExportReq) o;
+        return Objects.equals(this.secretKey, userStoreExportReq.secretKey);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(secretKey);
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("class UserStoreExportReq {\n");
+        
+        sb.append("    secretKey: ").append("*****").append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+    * Convert the given object to string with each line indented by 4 spaces
+    * (except the first line).
+    */
+    private String toIndentedString(java.lang.Object o) {
+
+        if (o == null) {
+            return "null";
+        }
+        return o.toString().replace("\n", "\n");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,135 @@
+/*
+* Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package org.wso2.carbon.identity.api.server.userstore.v1.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import java.util.ArrayList;
+import java.util.List;
+import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreReq;
+import javax.validation.constraints.*;
+
+/**
+ * Exported secondary user stores.
+ **/
+
+import io.swagger.annotations.*;
+import java.util.Objects;
+import javax.validation.Valid;
+import javax.xml.bind.annotation.*;
+@ApiModel(description = "Exported secondary user stores.")
+public class UserStoreExportRes  {
+  
+    private String salt;
+    private List<UserStoreReq> userStores = null;
+
+
+    /**
+    * Salt used to derive the encryption key of the secret properties from the secret key.
+    **/
+    public UserStoreExportRes salt(String salt) {
+
+        this.salt = salt;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "q2Jm7kV0bN3xY1fA8sWc9g", value = "Salt used to derive the encryption key of the secret properties from the secret key.")
+    @JsonProperty("salt")
+    @Valid
+
+    public String getSalt() {
+        return salt;
+    }
+    public void setSalt(String salt) {
+        this.salt = salt;
+    }
+
+    /**
+    * Secondary user stores of the tenant. Secret properties are encrypted with the secret key.
+    **/
+    public UserStoreExportRes userStores(List<UserStoreReq> userStores) {
+
+        this.userStores = userStores;
+        return this;
+    }
+    
+    @ApiModelProperty(value = "Secondary user stores of the tenant. Secret properties are encrypted with the secret key.")
+    @JsonProperty("userStores")
+    @Valid
+
+    public List<UserStoreReq> getUserStores() {
+        return userStores;
+    }
+    public void setUserStores(List<UserStoreReq> userStores) {
+        this.userStores = userStores;
+    }
+
+    public UserStoreExportRes addUserStoresItem(UserStoreReq userStoresItem) {
+        if (this.userStores == null) {
+            this.userStores = new ArrayList<>();
+        }
+        this.userStores.add(userStoresItem);
+        return this;
+    }
+
+    
+
+    @Override
+    public boolean equals(java.lang.Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        UserStoreExportRes userStoreExportRes = (UserStoreExportRes) o;
+        return Objects.equals(this.salt, userStoreExportRes.salt) &&
+            Objects.equals(this.userStores, userStoreExportRes.userStores);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(salt, userStores);
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("class UserStoreExportRes {\n");
+        
+        sb.append("    salt: ").append(toIndentedString(salt)).append("\n");
+        sb.append("    userStores: ").append(toIndentedString(userStores)).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+    * Convert the given object to string with each line indented by 4 spaces
+    * (except the first line).
+    */
+    private String toIndentedString(java.lang.Object o) {
+
+        if (o == null) {
+            return "null";
+        }
+        return o.toString().replace("\n", "\n");
+    }
+}
\ No newline at end of file
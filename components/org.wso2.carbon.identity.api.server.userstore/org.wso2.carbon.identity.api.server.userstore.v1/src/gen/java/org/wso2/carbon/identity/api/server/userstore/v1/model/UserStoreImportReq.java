@@ -0,0 +1,158 @@
+/*
+* Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package org.wso2.carbon.identity.api.server.userstore.v1.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import java.util.ArrayList;
+import java.util.List;
+import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreReq;
+import javax.validation.constraints.*;
+
+/**
+ * User store import request.
+ **/
+
+import io.swagger.annotations.*;
+import java.util.Objects;
+import javax.validation.Valid;
+import javax.xml.bind.annotation.*;
+@ApiModel(description = "User store import request.")
+public class UserStoreImportReq  {
+  
+    private String secretKey;
+    private String salt;
+    private List<UserStoreReq> userStores = new ArrayList<>();
+
+
+    /**
+    * Key used to encrypt the secret properties of the user stores when they were exported.
+    **/
+    public UserStoreImportReq secretKey(String secretKey) {
+
+        this.secretKey = secretKey;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "my-secret-passphrase", required = true, value = "Key used to encrypt the secret properties of the user stores when they were exported.")
+    @JsonProperty("secretKey")
+    @Valid
+    @NotNull(message = "Property secretKey cannot be null.")
+
+    public String getSecretKey() {
+        return secretKey;
+    }
+    public void setSecretKey(String secretKey) {
+        this.secretKey = secretKey;
+    }
+
+    /**
+    * Salt returned with the exported user stores.
+    **/
+    public UserStoreImportReq salt(String salt) {
+
+        this.salt = salt;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "q2Jm7kV0bN3xY1fA8sWc9g", required = true, value = "Salt returned with the exported user stores.")
+    @JsonProperty("salt")
+    @Valid
+    @NotNull(message = "Property salt cannot be null.")
+
+    public String getSalt() {
+        return salt;
+    }
+    public void setSalt(String salt) {
+        this.salt = salt;
+    }
+
+    /**
+    * Secondary user stores to be imported as returned by the export.
+    **/
+    public UserStoreImportReq userStores(List<UserStoreReq> userStores) {
+
+        this.userStores = userStores;
+        return this;
+    }
+    
+    @ApiModelProperty(required = true, value = "Secondary user stores to be imported as returned by the export.")
+    @JsonProperty("userStores")
+    @Valid
+    @NotNull(message = "Property userStores cannot be null.")
+
+    public List<UserStoreReq> getUserStores() {
+        return userStores;
+    }
+    public void setUserStores(List<UserStoreReq> userStores) {
+        this.userStores = userStores;
+    }
+
+    public UserStoreImportReq addUserStoresItem(UserStoreReq userStoresItem) {
+        this.userStores.add(userStoresItem);
+        return this;
+    }
+
+    
+
+    @Override
+    public boolean equals(java.lang.Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        UserStoreImportReq userStoreImportReq = (UserStoreImportReq) o;
+        return Objects.equals(this.secretKey, userStoreImportReq.secretKey) &&
+            Objects.equals(this.salt, userStoreImportReq.salt) &&
+            Objects.equals(this.userStores, userStoreImportReq.userStores);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(secretKey, salt, userStores);
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("class UserStoreImportReq {\n");
+        
+        sb.append("    secretKey: ").append("*****").append("\n");
+        sb.append("    salt: ").append(toIndentedString(salt)).append("\n");
+        sb.append("    userStores: ").append(toIndentedString(userStores)).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+    * Convert the given object to string with each line indented by 4 spaces
+    * (except the first line).
+    */
+    private String toIndentedString(java.lang.Object o) {
+
+        if (o == null) {
+            return "null";
+        }
+        return o.toString().replace("\n", "\n");
+    }
+}
\ No newline at end of file
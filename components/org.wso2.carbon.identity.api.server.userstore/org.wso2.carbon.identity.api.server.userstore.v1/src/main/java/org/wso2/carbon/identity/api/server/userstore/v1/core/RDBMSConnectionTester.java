@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.userstore.v1.core;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.server.userstore.v1.model.ConnectionEstablishedResponse;
+import org.wso2.carbon.identity.api.server.userstore.v1.model.RDBMSConnectionReq;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Properties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.wso2.carbon.identity.api.server.userstore.common.UserStoreConstants.RDBMS_CONNECTION_TEST_POOL_SIZE;
+import static org.wso2.carbon.identity.api.server.userstore.common.UserStoreConstants.RDBMS_CONNECTION_TEST_QUEUE_SIZE;
+
+/**
+ * Runs RDBMS connection tests of JDBC user stores on a bounded worker pool, so that a slow or unreachable datasource
+ * does not hold a request thread for the JDBC driver's default connect timeout.
+ * <p>
+ * A blocking JDBC connect does not respond to interrupts, hence a timed out test is only reported to the client and
+ * its worker is released when the connect attempt gives up. The test timeout is passed to the driver through the
+ * connect and login timeout properties of the connection, so that the drivers honouring them give up the attempt of
+ * that connection alone, without changing the login timeout of the other datasources of the server.
+ */
+public class RDBMSConnectionTester {
+
+    private static final Log LOG = LogFactory.getLog(RDBMSConnectionTester.class);
+    private static final String USER_PROPERTY = "user";
+    private static final String PASSWORD_PROPERTY = "password";
+    // Connect timeout in milliseconds, honoured by the MySQL and MariaDB drivers.
+    private static final String CONNECT_TIMEOUT_PROPERTY = "connectTimeout";
+    // Login timeout in seconds, honoured by the PostgreSQL and MSSQL drivers.
+    private static final String LOGIN_TIMEOUT_PROPERTY = "loginTimeout";
+    // Connect timeout in milliseconds, honoured by the Oracle driver.
+    private static final String ORACLE_CONNECT_TIMEOUT_PROPERTY = "oracle.net.CONNECT_TIMEOUT";
+    private static final String CONNECTION_TIMED_OUT_MESSAGE = "Connection was not established within %d ms.";
+
+    private final ThreadPoolExecutor connectionTestExecutor;
+    private final ScheduledThreadPoolExecutor timeoutScheduler;
+
+    public RDBMSConnectionTester() {
+
+        connectionTestExecutor = new ThreadPoolExecutor(RDBMS_CONNECTION_TEST_POOL_SIZE,
+                RDBMS_CONNECTION_TEST_POOL_SIZE, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(RDBMS_CONNECTION_TEST_QUEUE_SIZE),
+                new NamedThreadFactory("userstore-connection-test"));
+        connectionTestExecutor.allowCoreThreadTimeOut(true);
+        timeoutScheduler = new ScheduledThreadPoolExecutor(1,
+                new NamedThreadFactory("userstore-connection-test-timeout"));
+        // Timeouts of the completed tests are cancelled, hence they should not be retained until they are due.
+        timeoutScheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Test the given RDBMS connection asynchronously. Failures and timeouts of the attempt are reported through the
+     * response. The returned future is completed exceptionally with a {@link RejectedExecutionException} only if the
+     * worker pool cannot accept any more connection tests.
+     *
+     * @param rdBMSConnectionReq {@link RDBMSConnectionReq}.
+     * @param timeout            Maximum time in milliseconds to wait for the connection.
+     * @return Future of the ConnectionEstablishedResponse.
+     */
+    public CompletableFuture<ConnectionEstablishedResponse> test(RDBMSConnectionReq rdBMSConnectionReq, long timeout) {
+
+        CompletableFuture<ConnectionEstablishedResponse> result = new CompletableFuture<>();
+        String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        int tenantId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId();
+        String username = PrivilegedCarbonContext.getThreadLocalCarbonContext().getUsername();
+        long startTime = System.nanoTime();
+
+        Future<?> connectionTest;
+        try {
+            connectionTest = connectionTestExecutor.submit(() -> {
+                try {
+                    PrivilegedCarbonContext.startTenantFlow();
+                    PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+                    carbonContext.setTenantDomain(tenantDomain);
+                    carbonContext.setTenantId(tenantId);
+                    carbonContext.setUsername(username);
+                    result.complete(testConnection(rdBMSConnectionReq, timeout, startTime));
+                } finally {
+                    PrivilegedCarbonContext.endTenantFlow();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+            return result;
+        }
+        ScheduledFuture<?> connectionTestTimeout = timeoutScheduler.schedule(() -> {
+            ConnectionEstablishedResponse timedOutResponse = buildResponse(rdBMSConnectionReq, startTime, false)
+                    .timedOut(true)
+                    .error(String.format(CONNECTION_TIMED_OUT_MESSAGE, timeout));
+            if (result.complete(timedOutResponse)) {
+                // The worker is released once the driver gives up the connect attempt on its timeout.
+                connectionTest.cancel(true);
+            }
+        }, timeout, TimeUnit.MILLISECONDS);
+        result.whenComplete((response, error) -> connectionTestTimeout.cancel(false));
+        return result;
+    }
+
+    /**
+     * Shutdown the connection test executors. Invoked when the API context is destroyed.
+     */
+    public void shutdown() {
+
+        connectionTestExecutor.shutdownNow();
+        timeoutScheduler.shutdownNow();
+    }
+
+    private ConnectionEstablishedResponse testConnection(RDBMSConnectionReq rdBMSConnectionReq, long timeout,
+                                                         long startTime) {
+
+        try {
+            Class.forName(rdBMSConnectionReq.getDriverName());
+        } catch (ClassNotFoundException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("JDBC driver: " + rdBMSConnectionReq.getDriverName() + " is not available.", e);
+            }
+            return buildResponse(rdBMSConnectionReq, startTime, false)
+                    .error("Invalid JDBC driver: " + rdBMSConnectionReq.getDriverName());
+        }
+        try (Connection connection = DriverManager.getConnection(rdBMSConnectionReq.getConnectionURL(),
+                buildConnectionProperties(rdBMSConnectionReq, timeout))) {
+            return buildResponse(rdBMSConnectionReq, startTime, connection != null);
+        } catch (SQLException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Error while testing the connection to: " + rdBMSConnectionReq.getConnectionURL(), e);
+            }
+            return buildResponse(rdBMSConnectionReq, startTime, false).error(e.getMessage());
+        }
+    }
+
+    /**
+     * Build the properties of the test connection. The connect and login timeouts bound the attempt of this
+     * connection only, unlike {@link DriverManager#setLoginTimeout(int)} which applies to every driver of the JVM.
+     *
+     * @param rdBMSConnectionReq {@link RDBMSConnectionReq}.
+     * @param timeout            Maximum time in milliseconds to wait for the connection.
+     * @return Properties of the test connection.
+     */
+    private Properties buildConnectionProperties(RDBMSConnectionReq rdBMSConnectionReq, long timeout) {
+
+        Properties connectionProperties = new Properties();
+        if (StringUtils.isNotEmpty(rdBMSConnectionReq.getUsername())) {
+            connectionProperties.setProperty(USER_PROPERTY, rdBMSConnectionReq.getUsername());
+        }
+        if (StringUtils.isNotEmpty(rdBMSConnectionReq.getConnectionPassword())) {
+            connectionProperties.setProperty(PASSWORD_PROPERTY, rdBMSConnectionReq.getConnectionPassword());
+        }
+        String timeoutSeconds = String.valueOf(Math.max(1, TimeUnit.MILLISECONDS.toSeconds(timeout)));
+        connectionProperties.setProperty(CONNECT_TIMEOUT_PROPERTY, String.valueOf(timeout));
+        connectionProperties.setProperty(LOGIN_TIMEOUT_PROPERTY, timeoutSeconds);
+        connectionProperties.setProperty(ORACLE_CONNECT_TIMEOUT_PROPERTY, String.valueOf(timeout));
+        return connectionProperties;
+    }
+
+    private ConnectionEstablishedResponse buildResponse(RDBMSConnectionReq rdBMSConnectionReq, long startTime,
+                                                        boolean isConnectionEstablished) {
+
+        return new ConnectionEstablishedResponse()
+                .connection(isConnectionEstablished)
+                .domain(rdBMSConnectionReq.getDomain())
+                .connectionLatency(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime))
+                .timedOut(false);
+    }
+
+    /**
+     * Thread factory creating named daemon threads for the connection test executors.
+     */
+    private static class NamedThreadFactory implements ThreadFactory {
+
+        private final String namePrefix;
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        NamedThreadFactory(String namePrefix) {
+
+            this.namePrefix = namePrefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+
+            Thread thread = new Thread(runnable, namePrefix + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
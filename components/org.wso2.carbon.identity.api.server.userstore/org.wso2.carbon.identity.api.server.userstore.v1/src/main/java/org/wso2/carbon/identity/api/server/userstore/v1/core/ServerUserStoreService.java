@@ -16,14 +16,18 @@
 
 package org.wso2.carbon.identity.api.server.userstore.v1.core;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang.ArrayUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.cache.UserStoreDomainCache;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.api.server.userstore.common.UserStoreConfigServiceHolder;
@@ -37,10 +41,18 @@ import org.wso2.carbon.identity.api.server.userstore.v1.model.PatchDocument;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.PropertiesRes;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.RDBMSConnectionReq;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreConfigurationsRes;
+import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreExportReq;
+import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreExportRes;
+import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreImportReq;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreListResponse;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStorePropertiesRes;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreReq;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreResponse;
+import org.wso2.carbon.identity.base.IdentityException;
+import org.wso2.carbon.identity.core.model.ExpressionNode;
+import org.wso2.carbon.identity.core.model.FilterTreeBuilder;
+import org.wso2.carbon.identity.core.model.Node;
+import org.wso2.carbon.identity.core.model.OperationNode;
 import org.wso2.carbon.identity.user.store.configuration.UserStoreConfigService;
 import org.wso2.carbon.identity.user.store.configuration.dto.PropertyDTO;
 import org.wso2.carbon.identity.user.store.configuration.dto.UserStoreDTO;
@@ -54,20 +66,33 @@ import org.wso2.carbon.user.api.UserStoreException;
 import org.wso2.carbon.user.core.UserCoreConstants;
 import org.wso2.carbon.user.core.UserStoreConfigConstants;
 import org.wso2.carbon.user.core.service.RealmService;
-import org.wso2.carbon.user.core.tracker.UserStoreManagerRegistry;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 import static org.wso2.carbon.identity.api.server.common.Constants.ERROR_CODE_RESOURCE_LIMIT_REACHED;
 import static org.wso2.carbon.identity.api.server.common.Constants.REGEX_COMMA;
@@ -80,8 +105,18 @@ import static org.wso2.carbon.identity.api.server.userstore.common.UserStoreCons
 public class ServerUserStoreService {
 
     private static final Log LOG = LogFactory.getLog(ServerUserStoreService.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String EXPORT_SALT_FIELD = "salt";
+    private static final String EXPORT_USER_STORES_FIELD = "userStores";
 
-    private static final String DUMMY_MESSAGE_ID = "DUMMY-MESSAGE-ID";
+    @Autowired
+    private RDBMSConnectionTester rdbmsConnectionTester;
+
+    @Autowired
+    private UserStoreTypeRegistry userStoreTypeRegistry;
+
+    @Autowired
+    private UserStoreUndeploymentTracker userStoreUndeploymentTracker;
 
     /**
      * Add a userStore {@link UserStoreReq}.
@@ -96,6 +131,7 @@ public class ServerUserStoreService {
             UserStoreConfigService userStoreConfigService = UserStoreConfigServiceHolder.getInstance()
                     .getUserStoreConfigService();
             userStoreConfigService.addUserStore(createUserStoreDTO(userStoreReq));
+            clearUserStoreDomainCache();
             return buildUserStoreResponseDTO(userStoreReq);
         } catch (IdentityUserStoreMgtException e) {
             UserStoreConstants.ErrorMessage errorEnum =
@@ -114,7 +150,11 @@ public class ServerUserStoreService {
         try {
             UserStoreConfigService userStoreConfigService = UserStoreConfigServiceHolder.getInstance().
                     getUserStoreConfigService();
-            userStoreConfigService.deleteUserStore(base64URLDecodeId(userstoreDomainId));
+            String domainName = base64URLDecodeId(userstoreDomainId);
+            userStoreConfigService.deleteUserStore(domainName);
+            clearUserStoreDomainCache();
+            userStoreUndeploymentTracker.track(ContextLoader.getTenantDomainFromContext(),
+                    PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId(), domainName);
         } catch (IdentityUserStoreClientException e) {
             if (LOG.isDebugEnabled()) {
                 LOG.debug(e);
@@ -145,6 +185,7 @@ public class ServerUserStoreService {
         try {
             validateUserstoreUpdateRequest(domainId, userStoreReq);
             userStoreConfigService.updateUserStore(createUserStoreDTO(userStoreReq), false);
+            clearUserStoreDomainCache();
             return buildUserStoreResponseDTO(userStoreReq);
         } catch (IdentityUserStoreMgtException e) {
             UserStoreConstants.ErrorMessage errorEnum =
@@ -160,51 +201,58 @@ public class ServerUserStoreService {
      */
     public List<AvailableUserStoreClassesRes> getAvailableUserStoreTypes() {
 
-        UserStoreConfigService userStoreConfigService = UserStoreConfigServiceHolder.getInstance().
-                getUserStoreConfigService();
-        Set<String> classNames;
-        try {
-            classNames = userStoreConfigService.getAvailableUserStoreClasses();
-            List<AvailableUserStoreClassesRes> propertiesToAdd = new ArrayList<>();
-            for (String className : classNames) {
-                AvailableUserStoreClassesRes availableUserStoreClassesResDTO = new AvailableUserStoreClassesRes();
-                String typeId = base64URLEncodeId(Objects.
-                        requireNonNull(getUserStoreTypeName(className)));
-                availableUserStoreClassesResDTO.setClassName(className);
-                availableUserStoreClassesResDTO.setTypeName(getUserStoreTypeName(className));
-                availableUserStoreClassesResDTO.setTypeId(typeId);
-                availableUserStoreClassesResDTO.setSelf(
-                        ContextLoader.buildURIForBody(String.format(V1_API_PATH_COMPONENT +
-                        UserStoreConstants.USER_STORE_PATH_COMPONENT + "/meta/types/%s", typeId)).toString());
-                propertiesToAdd.add(availableUserStoreClassesResDTO);
-            }
-            return propertiesToAdd;
-        } catch (IdentityUserStoreMgtException e) {
-            UserStoreConstants.ErrorMessage errorEnum =
-                    UserStoreConstants.ErrorMessage.ERROR_CODE_RETRIEVING_USER_STORE_TYPE;
-            throw handleIdentityUserStoreMgtException(e, errorEnum);
+        List<AvailableUserStoreClassesRes> propertiesToAdd = new ArrayList<>();
+        for (UserStoreTypeRegistry.UserStoreType userStoreType : getUserStoreTypes()) {
+            AvailableUserStoreClassesRes availableUserStoreClassesResDTO = new AvailableUserStoreClassesRes();
+            availableUserStoreClassesResDTO.setClassName(userStoreType.getClassName());
+            availableUserStoreClassesResDTO.setTypeName(userStoreType.getTypeName());
+            availableUserStoreClassesResDTO.setTypeId(userStoreType.getTypeId());
+            availableUserStoreClassesResDTO.setSelf(
+                    ContextLoader.buildURIForBody(String.format(V1_API_PATH_COMPONENT +
+                    UserStoreConstants.USER_STORE_PATH_COMPONENT + "/meta/types/%s", userStoreType.getTypeId()))
+                            .toString());
+            propertiesToAdd.add(availableUserStoreClassesResDTO);
         }
+        return propertiesToAdd;
     }
 
     /**
      * To retrieve the configured user store lists.
      *
-     * @param limit  items per page.
-     * @param offset 0 based index to get the results starting from this index + 1.
-     * @param filter to specify the filtering capabilities.
-     * @param sort   to specify the sorting order.
+     * @param limit              items per page.
+     * @param offset             0 based index to get the results starting from this index + 1.
+     * @param filter             to specify the filtering capabilities. Supports the name and typeName attributes
+     *                           with the eq, sw, ew and co operations, combined with and/or.
+     * @param sort               to specify the sorting order. Either name or typeName, prefixed with '-' to sort in
+     *                           the descending order.
+     * @param requiredAttributes comma separated user store properties to be returned.
      * @return List<UserStoreListResponse>.
      */
     public List<UserStoreListResponse> getUserStoreList(Integer limit, Integer offset, String filter, String sort,
                                                         String requiredAttributes) {
 
-        handleNotImplementedBehaviour(limit, offset, filter, sort);
+        validatePaginationParameters(limit, offset);
+        Predicate<UserStoreDTO> userStoreFilter = buildUserStoreFilter(filter);
+        Comparator<UserStoreDTO> userStoreComparator = buildUserStoreComparator(sort);
 
         UserStoreConfigService userStoreConfigService = UserStoreConfigServiceHolder.getInstance()
                 .getUserStoreConfigService();
         try {
             UserStoreDTO[] userStoreDTOS = userStoreConfigService.getUserStores();
-            return buildUserStoreListResponse(userStoreDTOS, requiredAttributes);
+            if (ArrayUtils.isEmpty(userStoreDTOS)) {
+                return new ArrayList<>();
+            }
+            Stream<UserStoreDTO> userStores = Arrays.stream(userStoreDTOS).filter(userStoreFilter);
+            if (userStoreComparator != null) {
+                userStores = userStores.sorted(userStoreComparator);
+            }
+            if (offset != null) {
+                userStores = userStores.skip(offset);
+            }
+            if (limit != null) {
+                userStores = userStores.limit(limit);
+            }
+            return buildUserStoreListResponse(userStores.collect(Collectors.toList()), requiredAttributes);
 
         } catch (IdentityUserStoreMgtException e) {
             UserStoreConstants.ErrorMessage errorEnum =
@@ -241,9 +289,10 @@ public class ServerUserStoreService {
         primaryUserstoreConfigs.setClassName(realmConfiguration.getUserStoreClass());
         primaryUserstoreConfigs.setDescription(realmConfiguration.getDescription());
         primaryUserstoreConfigs.setName(UserCoreConstants.PRIMARY_DEFAULT_DOMAIN_NAME);
-        primaryUserstoreConfigs.setTypeId(base64URLEncodeId(Objects.requireNonNull
-                (getUserStoreTypeName(realmConfiguration.getUserStoreClass()))));
-        primaryUserstoreConfigs.setTypeName(getUserStoreTypeName(realmConfiguration.getUserStoreClass()));
+        UserStoreTypeRegistry.UserStoreType userStoreType = getUserStoreTypeOfClass(
+                realmConfiguration.getUserStoreClass());
+        primaryUserstoreConfigs.setTypeId(userStoreType.getTypeId());
+        primaryUserstoreConfigs.setTypeName(userStoreType.getTypeName());
         Map<String, String> userstoreProps = realmConfiguration.getUserStoreProperties();
         if (MapUtils.isNotEmpty(userstoreProps)) {
             for (Map.Entry<String, String> entry : userstoreProps.entrySet()) {
@@ -283,9 +332,10 @@ public class ServerUserStoreService {
             userStoreConfigurations.setClassName(userStoreDTO.getClassName());
             userStoreConfigurations.setDescription(userStoreDTO.getDescription());
             userStoreConfigurations.setName(userStoreDTO.getDomainId());
-            userStoreConfigurations.setTypeId(base64URLEncodeId(Objects.requireNonNull
-                    (getUserStoreTypeName(userStoreDTO.getClassName()))));
-            userStoreConfigurations.setTypeName(getUserStoreTypeName(userStoreDTO.getClassName()));
+            UserStoreTypeRegistry.UserStoreType userStoreType = getUserStoreTypeOfClass(
+                    userStoreDTO.getClassName());
+            userStoreConfigurations.setTypeId(userStoreType.getTypeId());
+            userStoreConfigurations.setTypeName(userStoreType.getTypeName());
             PropertyDTO[] dtoProperties = userStoreDTO.getProperties();
             for (PropertyDTO propertyDTO : dtoProperties) {
                 AddUserStorePropertiesRes userStorePropertiesRes = new AddUserStorePropertiesRes();
@@ -312,49 +362,255 @@ public class ServerUserStoreService {
 
     public MetaUserStoreType getUserStoreManagerProperties(String typeId) {
 
+        UserStoreTypeRegistry.UserStoreType userStoreType = getUserStoreTypeById(typeId);
+        if (userStoreType == null) {
+            throw handleException(Response.Status.NOT_FOUND, UserStoreConstants.ErrorMessage.ERROR_CODE_NOT_FOUND);
+        }
+        return buildUserStoreMetaResponse(userStoreType);
+    }
+
+    /**
+     * Export the secondary user stores of the tenant. Secret properties are encrypted with a key derived from the
+     * secret key of the request. All the user stores are resolved and encrypted before the response is returned, so
+     * that a failure is reported as an error response instead of a truncated export, and the returned output only
+     * serialises them.
+     *
+     * @param userStoreExportReq {@link UserStoreExportReq}.
+     * @return StreamingOutput writing the {@link UserStoreExportRes}.
+     */
+    public StreamingOutput exportUserStores(UserStoreExportReq userStoreExportReq) {
+
+        validateSecretKey(userStoreExportReq.getSecretKey());
         UserStoreConfigService userStoreConfigService = UserStoreConfigServiceHolder.getInstance()
                 .getUserStoreConfigService();
-        Set<String> classNames;
+        UserStoreDTO[] userStoreDTOS;
         try {
-            classNames = userStoreConfigService.getAvailableUserStoreClasses();
-            if (CollectionUtils.isNotEmpty(classNames) &&
-                    classNames.contains(getUserStoreType(base64URLDecodeId(typeId)))) {
-                return buildUserStoreMetaResponse(typeId);
-            } else {
-                throw handleException(Response.Status.NOT_FOUND, UserStoreConstants.ErrorMessage.
-                        ERROR_CODE_NOT_FOUND);
-            }
+            userStoreDTOS = userStoreConfigService.getUserStores();
         } catch (IdentityUserStoreMgtException e) {
-            UserStoreConstants.ErrorMessage errorEnum =
-                    UserStoreConstants.ErrorMessage.ERROR_CODE_ERROR_RETRIEVING_USER_STORE;
-            throw handleIdentityUserStoreMgtException(e, errorEnum);
+            throw handleIdentityUserStoreMgtException(e,
+                    UserStoreConstants.ErrorMessage.ERROR_CODE_ERROR_EXPORTING_USER_STORES);
+        }
+        UserStoreSecretCipher secretCipher = createSecretCipher(userStoreExportReq.getSecretKey(),
+                UserStoreConstants.ErrorMessage.ERROR_CODE_ERROR_EXPORTING_USER_STORES);
+        Map<String, RealmConfiguration> secondaryRealmConfigurations = getSecondaryRealmConfigurations();
+        List<UserStoreReq> exportedUserStores = new ArrayList<>();
+        if (userStoreDTOS != null) {
+            for (UserStoreDTO userStoreDTO : userStoreDTOS) {
+                RealmConfiguration realmConfiguration = secondaryRealmConfigurations.get(
+                        userStoreDTO.getDomainId().toUpperCase(Locale.ENGLISH));
+                exportedUserStores.add(buildUserStoreExport(userStoreDTO, realmConfiguration, secretCipher));
+            }
         }
+
+        return outputStream -> {
+            try (JsonGenerator jsonGenerator = OBJECT_MAPPER.getFactory().createGenerator(outputStream)) {
+                jsonGenerator.writeStartObject();
+                jsonGenerator.writeStringField(EXPORT_SALT_FIELD, secretCipher.getSalt());
+                jsonGenerator.writeArrayFieldStart(EXPORT_USER_STORES_FIELD);
+                for (UserStoreReq exportedUserStore : exportedUserStores) {
+                    OBJECT_MAPPER.writeValue(jsonGenerator, exportedUserStore);
+                }
+                jsonGenerator.writeEndArray();
+                jsonGenerator.writeEndObject();
+            }
+        };
     }
 
     /**
-     * Check the connection heath for JDBC userstores.
+     * Import the given secondary user stores. All the user stores are validated in parallel and their secret
+     * properties are decrypted before any of them is added, so an invalid batch does not add any user store. If a
+     * user store cannot be added, the user stores already added from the batch are deleted.
      *
-     * @param rdBMSConnectionReq {@link RDBMSConnectionReq}.
-     * @return ConnectionEstablishedResponse.
+     * @param userStoreImportReq {@link UserStoreImportReq}.
+     * @return List of UserStoreResponse of the imported user stores, with the secret properties masked.
      */
-    public ConnectionEstablishedResponse testRDBMSConnection(RDBMSConnectionReq rdBMSConnectionReq) {
+    public List<UserStoreResponse> importUserStores(UserStoreImportReq userStoreImportReq) {
+
+        validateSecretKey(userStoreImportReq.getSecretKey());
+        List<UserStoreReq> userStoreReqs = userStoreImportReq.getUserStores();
+        if (CollectionUtils.isEmpty(userStoreReqs) ||
+                userStoreReqs.size() > UserStoreConstants.USER_STORE_IMPORT_MAX_BATCH_SIZE) {
+            throw handleException(Response.Status.BAD_REQUEST,
+                    UserStoreConstants.ErrorMessage.ERROR_CODE_INVALID_USER_STORE_IMPORT_BATCH,
+                    String.valueOf(UserStoreConstants.USER_STORE_IMPORT_MAX_BATCH_SIZE));
+        }
+        UserStoreSecretCipher secretCipher;
+        try {
+            secretCipher = UserStoreSecretCipher.create(userStoreImportReq.getSecretKey(),
+                    userStoreImportReq.getSalt());
+        } catch (IllegalArgumentException | GeneralSecurityException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Unable to derive the key from the provided secret key and salt.", e);
+            }
+            throw handleException(Response.Status.BAD_REQUEST,
+                    UserStoreConstants.ErrorMessage.ERROR_CODE_INVALID_USER_STORE_IMPORT_SALT);
+        }
 
         UserStoreConfigService userStoreConfigService = UserStoreConfigServiceHolder.getInstance()
                 .getUserStoreConfigService();
-        ConnectionEstablishedResponse connectionEstablishedResponse = new ConnectionEstablishedResponse();
-        boolean isConnectionEstablished;
-        connectionEstablishedResponse.setConnection(false);
+        Set<String> existingDomains = new HashSet<>();
+        existingDomains.add(UserCoreConstants.PRIMARY_DEFAULT_DOMAIN_NAME);
         try {
-            isConnectionEstablished = userStoreConfigService.testRDBMSConnection(rdBMSConnectionReq.getDomain(),
-                    rdBMSConnectionReq.getDriverName(), rdBMSConnectionReq.getConnectionURL(),
-                    rdBMSConnectionReq.getUsername(), rdBMSConnectionReq.getConnectionPassword(), DUMMY_MESSAGE_ID);
-            if (isConnectionEstablished) {
-                connectionEstablishedResponse.setConnection(true);
+            UserStoreDTO[] userStoreDTOS = userStoreConfigService.getUserStores();
+            if (userStoreDTOS != null) {
+                for (UserStoreDTO userStoreDTO : userStoreDTOS) {
+                    existingDomains.add(userStoreDTO.getDomainId().toUpperCase(Locale.ENGLISH));
+                }
             }
         } catch (IdentityUserStoreMgtException e) {
-            connectionEstablishedResponse.setConnection(false);
+            throw handleIdentityUserStoreMgtException(e,
+                    UserStoreConstants.ErrorMessage.ERROR_CODE_ERROR_IMPORTING_USER_STORES);
+        }
+        Set<String> requestedDomains = new HashSet<>();
+        Set<String> duplicatedDomains = new HashSet<>();
+        for (UserStoreReq userStoreReq : userStoreReqs) {
+            if (userStoreReq.getName() != null &&
+                    !requestedDomains.add(userStoreReq.getName().toUpperCase(Locale.ENGLISH))) {
+                duplicatedDomains.add(userStoreReq.getName().toUpperCase(Locale.ENGLISH));
+            }
+        }
+
+        // Validation does not depend on the carbon context, hence the user stores are validated in parallel.
+        List<String> validationErrors = userStoreReqs.parallelStream()
+                .map(userStoreReq -> prepareUserStoreImport(userStoreReq, existingDomains, duplicatedDomains,
+                        secretCipher))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        if (!validationErrors.isEmpty()) {
+            throw handleException(Response.Status.BAD_REQUEST,
+                    UserStoreConstants.ErrorMessage.ERROR_CODE_INVALID_USER_STORE_IMPORT,
+                    String.join(" ", validationErrors));
+        }
+
+        List<UserStoreResponse> userStoreResponses = new ArrayList<>();
+        List<String> importedDomains = new ArrayList<>();
+        String importingDomain = null;
+        try {
+            for (UserStoreReq userStoreReq : userStoreReqs) {
+                importingDomain = userStoreReq.getName();
+                userStoreConfigService.addUserStore(createUserStoreDTO(userStoreReq));
+                importedDomains.add(importingDomain);
+                userStoreResponses.add(maskSecretProperties(buildUserStoreResponseDTO(userStoreReq),
+                        getUserStoreTypeById(userStoreReq.getTypeId())));
+            }
+        } catch (IdentityUserStoreMgtException e) {
+            rollbackUserStoreImport(importedDomains);
+            if (e instanceof IdentityUserStoreClientException) {
+                throw handleIdentityUserStoreMgtException(e,
+                        UserStoreConstants.ErrorMessage.ERROR_CODE_ERROR_IMPORTING_USER_STORES);
+            }
+            UserStoreConstants.ErrorMessage errorEnum =
+                    UserStoreConstants.ErrorMessage.ERROR_CODE_ERROR_IMPORTING_USER_STORE;
+            ErrorResponse errorResponse = getErrorBuilder(errorEnum, importingDomain)
+                    .build(LOG, e, buildErrorDescription(errorEnum, importingDomain));
+            throw new APIError(errorEnum.getHttpStatus(), errorResponse);
+        } finally {
+            clearUserStoreDomainCache();
+        }
+        return userStoreResponses;
+    }
+
+    /**
+     * Delete the user stores added by a failed import, so that the import does not leave a partial batch behind.
+     *
+     * @param importedDomains domain names of the user stores added by the import, in the order they were added.
+     */
+    private void rollbackUserStoreImport(List<String> importedDomains) {
+
+        UserStoreConfigService userStoreConfigService = UserStoreConfigServiceHolder.getInstance()
+                .getUserStoreConfigService();
+        String tenantDomain = ContextLoader.getTenantDomainFromContext();
+        int tenantId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId();
+        for (int i = importedDomains.size() - 1; i >= 0; i--) {
+            String domainName = importedDomains.get(i);
+            try {
+                userStoreConfigService.deleteUserStore(domainName);
+                userStoreUndeploymentTracker.track(tenantDomain, tenantId, domainName);
+            } catch (IdentityUserStoreMgtException e) {
+                LOG.error("Error while deleting the user store: " + domainName + " added by a failed import.", e);
+            }
+        }
+    }
+
+    /**
+     * Check the connection heath for JDBC userstores. The connection is attempted on the connection test worker pool
+     * and is abandoned once the requested timeout elapses.
+     *
+     * @param rdBMSConnectionReq {@link RDBMSConnectionReq}.
+     * @return Future of the ConnectionEstablishedResponse.
+     */
+    public CompletableFuture<ConnectionEstablishedResponse> testRDBMSConnection(RDBMSConnectionReq rdBMSConnectionReq) {
+
+        long timeout = resolveConnectionTestTimeout(rdBMSConnectionReq);
+        return submitConnectionTest(rdBMSConnectionReq, timeout);
+    }
+
+    /**
+     * Check the connection heath for multiple JDBC userstore configurations concurrently.
+     *
+     * @param rdBMSConnectionReqs List of {@link RDBMSConnectionReq}.
+     * @return Future of the ConnectionEstablishedResponse list, in the order of the requested connections.
+     */
+    public CompletableFuture<List<ConnectionEstablishedResponse>> testRDBMSConnections(
+            List<RDBMSConnectionReq> rdBMSConnectionReqs) {
+
+        if (CollectionUtils.isEmpty(rdBMSConnectionReqs) ||
+                rdBMSConnectionReqs.size() > UserStoreConstants.RDBMS_CONNECTION_TEST_MAX_BATCH_SIZE) {
+            throw handleException(Response.Status.BAD_REQUEST,
+                    UserStoreConstants.ErrorMessage.ERROR_CODE_INVALID_CONNECTION_TEST_BATCH,
+                    String.valueOf(UserStoreConstants.RDBMS_CONNECTION_TEST_MAX_BATCH_SIZE));
+        }
+        // Validate all the timeouts before any connection attempt is started.
+        List<Long> timeouts = new ArrayList<>();
+        for (RDBMSConnectionReq rdBMSConnectionReq : rdBMSConnectionReqs) {
+            timeouts.add(resolveConnectionTestTimeout(rdBMSConnectionReq));
         }
-        return connectionEstablishedResponse;
+
+        List<CompletableFuture<ConnectionEstablishedResponse>> connectionTests = new ArrayList<>();
+        for (int i = 0; i < rdBMSConnectionReqs.size(); i++) {
+            connectionTests.add(submitConnectionTest(rdBMSConnectionReqs.get(i), timeouts.get(i)));
+        }
+        return CompletableFuture.allOf(connectionTests.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> connectionTests.stream()
+                        .map(CompletableFuture::join)
+                        .collect(Collectors.toList()));
+    }
+
+    private CompletableFuture<ConnectionEstablishedResponse> submitConnectionTest(
+            RDBMSConnectionReq rdBMSConnectionReq, long timeout) {
+
+        return rdbmsConnectionTester.test(rdBMSConnectionReq, timeout).exceptionally(e -> {
+            // Only a connection test rejected by the saturated worker pool completes exceptionally.
+            UserStoreConstants.ErrorMessage errorEnum =
+                    UserStoreConstants.ErrorMessage.ERROR_CODE_CONNECTION_TEST_REJECTED;
+            ErrorResponse errorResponse = getErrorBuilder(errorEnum).build(LOG, errorEnum.getDescription());
+            throw new APIError(errorEnum.getHttpStatus(), errorResponse);
+        });
+    }
+
+    /**
+     * Resolve the timeout of a connection test. Defaults to the server configured timeout when the request does not
+     * specify one.
+     *
+     * @param rdBMSConnectionReq {@link RDBMSConnectionReq}.
+     * @return Timeout in milliseconds.
+     */
+    private long resolveConnectionTestTimeout(RDBMSConnectionReq rdBMSConnectionReq) {
+
+        if (rdBMSConnectionReq == null) {
+            throw handleException(Response.Status.BAD_REQUEST,
+                    UserStoreConstants.ErrorMessage.ERROR_CODE_INVALID_INPUT);
+        }
+        Integer timeout = rdBMSConnectionReq.getTimeout();
+        if (timeout == null) {
+            return UserStoreConstants.RDBMS_CONNECTION_TEST_DEFAULT_TIMEOUT;
+        }
+        if (timeout <= 0 || timeout > UserStoreConstants.RDBMS_CONNECTION_TEST_MAX_TIMEOUT) {
+            throw handleException(Response.Status.BAD_REQUEST,
+                    UserStoreConstants.ErrorMessage.ERROR_CODE_INVALID_CONNECTION_TEST_TIMEOUT,
+                    String.valueOf(UserStoreConstants.RDBMS_CONNECTION_TEST_MAX_TIMEOUT));
+        }
+        return timeout;
     }
 
     /**
@@ -394,6 +650,7 @@ public class ServerUserStoreService {
                 .getUserStoreConfigService();
         try {
             userStoreConfigService.updateUserStore(userStoreDTO, false);
+            clearUserStoreDomainCache();
             return buildResponseForPatchReplace(userStoreDTO, userStoreDTO.getProperties());
         } catch (IdentityUserStoreMgtException e) {
             UserStoreConstants.ErrorMessage errorEnum =
@@ -459,9 +716,9 @@ public class ServerUserStoreService {
         UserStoreResponse userStoreResponseDTO = new UserStoreResponse();
         userStoreResponseDTO.setId((base64URLEncodeId(userStoreDTO.getDomainId())));
         userStoreResponseDTO.setName(userStoreDTO.getDomainId());
-        userStoreResponseDTO.setTypeId(base64URLEncodeId(Objects.requireNonNull(getUserStoreTypeName
-                (userStoreDTO.getClassName()))));
-        userStoreResponseDTO.setTypeName(getUserStoreTypeName(userStoreDTO.getClassName()));
+        UserStoreTypeRegistry.UserStoreType userStoreType = getUserStoreTypeOfClass(userStoreDTO.getClassName());
+        userStoreResponseDTO.setTypeId(userStoreType.getTypeId());
+        userStoreResponseDTO.setTypeName(userStoreType.getTypeName());
         userStoreResponseDTO.setDescription(userStoreDTO.getDescription());
         userStoreResponseDTO.setProperties(patchUserStoreProperties(propertyDTOS));
         return userStoreResponseDTO;
@@ -515,7 +772,7 @@ public class ServerUserStoreService {
 
         UserStoreDTO userStoreDTO = new UserStoreDTO();
         userStoreDTO.setDomainId(userStoreReq.getName());
-        userStoreDTO.setClassName(getUserStoreType(base64URLDecodeId(userStoreReq.getTypeId())));
+        userStoreDTO.setClassName(getUserStoreClassName(userStoreReq.getTypeId()));
         userStoreDTO.setDescription(userStoreReq.getDescription());
         userStoreDTO.setProperties(createPropertyListDTO(userStoreReq));
         return userStoreDTO;
@@ -524,30 +781,32 @@ public class ServerUserStoreService {
     /**
      * Construct response list with configured user stores details.
      *
-     * @param userStoreDTOS array of UserStoreDTO object.
+     * @param userStoreDTOS      list of UserStoreDTO objects of the requested page.
+     * @param requiredAttributes comma separated user store properties to be returned.
      * @return List<UserStoreListResponse>.
      */
-    private List<UserStoreListResponse> buildUserStoreListResponse(UserStoreDTO[] userStoreDTOS,
+    private List<UserStoreListResponse> buildUserStoreListResponse(List<UserStoreDTO> userStoreDTOS,
                                                                    String requiredAttributes) {
 
+        Set<String> requestedAttributes = null;
+        if (StringUtils.isNotBlank(requiredAttributes)) {
+            requestedAttributes = new HashSet<>(Arrays.asList(requiredAttributes.split(REGEX_COMMA)));
+        }
         List<UserStoreListResponse> userStoreListResponseToAdd = new ArrayList<>();
-        if (ArrayUtils.isNotEmpty(userStoreDTOS)) {
-            for (UserStoreDTO jsonObject : userStoreDTOS) {
-                UserStoreListResponse userStoreList = new UserStoreListResponse();
-                userStoreList.setDescription(jsonObject.getDescription());
-                userStoreList.setName(jsonObject.getDomainId());
-                userStoreList.setId(base64URLEncodeId(jsonObject.getDomainId()));
-                userStoreList.setSelf(ContextLoader.buildURIForBody(String.format(V1_API_PATH_COMPONENT +
-                                UserStoreConstants.USER_STORE_PATH_COMPONENT + "/%s",
-                        base64URLEncodeId(jsonObject.getDomainId()))).toString());
-                userStoreList.setEnabled(jsonObject.getDisabled() != null && !jsonObject.getDisabled());
-
-                if (StringUtils.isNotBlank(requiredAttributes)) {
-                    String[] requiredAttributesArray = requiredAttributes.split(REGEX_COMMA);
-                    addUserstoreProperties(jsonObject, userStoreList, Arrays.asList(requiredAttributesArray));
-                }
-                userStoreListResponseToAdd.add(userStoreList);
+        for (UserStoreDTO jsonObject : userStoreDTOS) {
+            UserStoreListResponse userStoreList = new UserStoreListResponse();
+            String userStoreId = base64URLEncodeId(jsonObject.getDomainId());
+            userStoreList.setDescription(jsonObject.getDescription());
+            userStoreList.setName(jsonObject.getDomainId());
+            userStoreList.setId(userStoreId);
+            userStoreList.setSelf(ContextLoader.buildURIForBody(String.format(V1_API_PATH_COMPONENT +
+                    UserStoreConstants.USER_STORE_PATH_COMPONENT + "/%s", userStoreId)).toString());
+            userStoreList.setEnabled(jsonObject.getDisabled() != null && !jsonObject.getDisabled());
+
+            if (requestedAttributes != null) {
+                addUserstoreProperties(jsonObject, userStoreList, requestedAttributes);
             }
+            userStoreListResponseToAdd.add(userStoreList);
         }
         return userStoreListResponseToAdd;
     }
@@ -555,15 +814,18 @@ public class ServerUserStoreService {
     /**
      * Add requested user store properties to the response.
      *
-     * @param userStoreDTO            userStoreDTO object.
-     * @param userStoreListResponse   userStoreListResponse object.
-     * @param requestedAttributesList Requested user store properties name list.
+     * @param userStoreDTO           userStoreDTO object.
+     * @param userStoreListResponse  userStoreListResponse object.
+     * @param requestedAttributesSet Requested user store properties name set.
      */
     private void addUserstoreProperties(UserStoreDTO userStoreDTO, UserStoreListResponse userStoreListResponse,
-                                        List<String> requestedAttributesList) {
+                                        Set<String> requestedAttributesSet) {
 
+        if (ArrayUtils.isEmpty(userStoreDTO.getProperties())) {
+            return;
+        }
         for (PropertyDTO propertyDTO : userStoreDTO.getProperties()) {
-            if (requestedAttributesList.contains(propertyDTO.getName()) &&
+            if (requestedAttributesSet.contains(propertyDTO.getName()) &&
                     StringUtils.isNotBlank(propertyDTO.getValue())) {
                 AddUserStorePropertiesRes addUserStorePropertiesRes = new AddUserStorePropertiesRes();
                 addUserStorePropertiesRes.setName(propertyDTO.getName());
@@ -573,17 +835,129 @@ public class ServerUserStoreService {
         }
     }
 
+    /**
+     * Validate the pagination parameters of the user store list request.
+     *
+     * @param limit  items per page.
+     * @param offset 0 based index to get the results starting from this index + 1.
+     */
+    private void validatePaginationParameters(Integer limit, Integer offset) {
+
+        if ((limit != null && limit < 0) || (offset != null && offset < 0)) {
+            throw handleException(Response.Status.BAD_REQUEST,
+                    UserStoreConstants.ErrorMessage.ERROR_CODE_INVALID_PAGINATION_PARAMETERS);
+        }
+    }
+
+    /**
+     * Build the predicate to filter the user stores from the given filter string.
+     *
+     * @param filter filter string.
+     * @return Predicate matching the user stores to be returned.
+     */
+    private Predicate<UserStoreDTO> buildUserStoreFilter(String filter) {
+
+        if (StringUtils.isBlank(filter)) {
+            return userStore -> true;
+        }
+        try {
+            FilterTreeBuilder filterTreeBuilder = new FilterTreeBuilder(filter);
+            return buildUserStoreFilter(filterTreeBuilder.buildTree());
+        } catch (IOException | IdentityException e) {
+            throw handleException(Response.Status.BAD_REQUEST,
+                    UserStoreConstants.ErrorMessage.ERROR_CODE_INVALID_FILTER, filter);
+        }
+    }
+
+    private Predicate<UserStoreDTO> buildUserStoreFilter(Node node) {
+
+        if (node instanceof ExpressionNode) {
+            ExpressionNode expressionNode = (ExpressionNode) node;
+            String attribute = expressionNode.getAttributeValue();
+            Function<UserStoreDTO, String> attributeValue;
+            if (UserStoreConstants.USER_STORE_NAME_ATTRIBUTE.equals(attribute)) {
+                attributeValue = UserStoreDTO::getDomainId;
+            } else if (UserStoreConstants.USER_STORE_TYPE_NAME_ATTRIBUTE.equals(attribute)) {
+                attributeValue = userStore -> getUserStoreTypeName(userStore.getClassName());
+            } else {
+                throw handleException(Response.Status.BAD_REQUEST,
+                        UserStoreConstants.ErrorMessage.ERROR_CODE_UNSUPPORTED_FILTER_ATTRIBUTE, attribute);
+            }
+            BiPredicate<String, String> operation = getFilterOperation(expressionNode.getOperation());
+            String value = expressionNode.getValue();
+            return userStore -> {
+                String actualValue = attributeValue.apply(userStore);
+                return actualValue != null && operation.test(actualValue.toLowerCase(Locale.ENGLISH),
+                        value.toLowerCase(Locale.ENGLISH));
+            };
+        }
+        if (node instanceof OperationNode) {
+            Predicate<UserStoreDTO> left = buildUserStoreFilter(node.getLeftNode());
+            Predicate<UserStoreDTO> right = buildUserStoreFilter(node.getRightNode());
+            String operation = ((OperationNode) node).getOperation();
+            if (UserStoreConstants.FILTER_AND.equalsIgnoreCase(operation)) {
+                return left.and(right);
+            }
+            if (UserStoreConstants.FILTER_OR.equalsIgnoreCase(operation)) {
+                return left.or(right);
+            }
+        }
+        throw handleException(Response.Status.BAD_REQUEST,
+                UserStoreConstants.ErrorMessage.ERROR_CODE_INVALID_FILTER, String.valueOf(node));
+    }
+
+    private BiPredicate<String, String> getFilterOperation(String operation) {
+
+        switch (operation) {
+            case UserStoreConstants.FILTER_EQUALS:
+                return String::equals;
+            case UserStoreConstants.FILTER_STARTS_WITH:
+                return String::startsWith;
+            case UserStoreConstants.FILTER_ENDS_WITH:
+                return String::endsWith;
+            case UserStoreConstants.FILTER_CONTAINS:
+                return String::contains;
+            default:
+                throw handleException(Response.Status.BAD_REQUEST,
+                        UserStoreConstants.ErrorMessage.ERROR_CODE_UNSUPPORTED_FILTER_OPERATION, operation);
+        }
+    }
+
+    /**
+     * Build the comparator to sort the user stores from the given sort string.
+     *
+     * @param sort sort attribute, prefixed with '-' to sort in the descending order.
+     * @return Comparator of the user stores or null if sorting is not requested.
+     */
+    private Comparator<UserStoreDTO> buildUserStoreComparator(String sort) {
+
+        if (StringUtils.isBlank(sort)) {
+            return null;
+        }
+        boolean descending = sort.startsWith(UserStoreConstants.SORT_DESCENDING_PREFIX);
+        String sortAttribute = descending ? sort.substring(1) : sort;
+        Comparator<UserStoreDTO> comparator;
+        if (UserStoreConstants.USER_STORE_NAME_ATTRIBUTE.equals(sortAttribute)) {
+            comparator = Comparator.comparing(UserStoreDTO::getDomainId, String.CASE_INSENSITIVE_ORDER);
+        } else if (UserStoreConstants.USER_STORE_TYPE_NAME_ATTRIBUTE.equals(sortAttribute)) {
+            comparator = Comparator.comparing(userStore -> getUserStoreTypeName(userStore.getClassName()),
+                    Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER));
+        } else {
+            throw handleException(Response.Status.BAD_REQUEST,
+                    UserStoreConstants.ErrorMessage.ERROR_CODE_UNSUPPORTED_SORT_ATTRIBUTE, sortAttribute);
+        }
+        return descending ? comparator.reversed() : comparator;
+    }
+
     /**
      * Construct the user store type's meta.
      *
-     * @param typeId        the type id of the user store.
+     * @param userStoreType the user store type.
      * @return MetaUserStoreType.
      */
-    private MetaUserStoreType buildUserStoreMetaResponse(String typeId) {
+    private MetaUserStoreType buildUserStoreMetaResponse(UserStoreTypeRegistry.UserStoreType userStoreType) {
 
-        String typeName = base64URLDecodeId(typeId);
-        Properties properties = UserStoreManagerRegistry.getUserStoreProperties(
-                getUserStoreType(typeName));
+        Properties properties = userStoreType.getProperties();
         MetaUserStoreType metaUserStore = new MetaUserStoreType();
         UserStorePropertiesRes userStorePropertiesRes = new UserStorePropertiesRes();
         if ((properties != null)) {
@@ -592,9 +966,9 @@ public class ServerUserStoreService {
             userStorePropertiesRes.advanced(buildPropertiesRes(properties.getAdvancedProperties()));
         }
         metaUserStore.setProperties(userStorePropertiesRes);
-        metaUserStore.setTypeId(typeId);
-        metaUserStore.setTypeName(typeName);
-        metaUserStore.setClassName(getUserStoreType(typeName));
+        metaUserStore.setTypeId(userStoreType.getTypeId());
+        metaUserStore.setTypeName(userStoreType.getTypeName());
+        metaUserStore.setClassName(userStoreType.getClassName());
 
         return metaUserStore;
     }
@@ -643,53 +1017,269 @@ public class ServerUserStoreService {
     }
 
     /**
-     * Retrieve the className for a given type.
+     * Retrieve the available user store types.
      *
-     * @param typeName user store type name.
-     * @return user store class name.
+     * @return Available user store types ordered by the class name.
      */
-    private String getUserStoreType(String typeName) {
+    private Collection<UserStoreTypeRegistry.UserStoreType> getUserStoreTypes() {
 
-        HashMap<String, String> userStoreMap = getHashMap();
-        for (Map.Entry<String, String> stringEntry : userStoreMap.entrySet()) {
-            if (typeName.equals(((Map.Entry) stringEntry).getValue())) {
-                return (String) ((Map.Entry) stringEntry).getKey();
-            }
+        try {
+            return userStoreTypeRegistry.getUserStoreTypes();
+        } catch (IdentityUserStoreMgtException e) {
+            throw handleIdentityUserStoreMgtException(e,
+                    UserStoreConstants.ErrorMessage.ERROR_CODE_RETRIEVING_USER_STORE_TYPE);
         }
-        return null;
+    }
+
+    /**
+     * Retrieve the available user store type of a given type id.
+     *
+     * @param typeId user store type id.
+     * @return user store type or null if there is no such type.
+     */
+    private UserStoreTypeRegistry.UserStoreType getUserStoreTypeById(String typeId) {
+
+        try {
+            return userStoreTypeRegistry.getByTypeId(typeId);
+        } catch (IdentityUserStoreMgtException e) {
+            throw handleIdentityUserStoreMgtException(e,
+                    UserStoreConstants.ErrorMessage.ERROR_CODE_RETRIEVING_USER_STORE_TYPE);
+        }
+    }
+
+    /**
+     * Retrieve the available user store type of a given class name.
+     *
+     * @param className user store class name.
+     * @return user store type or null if the class is not an available user store manager.
+     */
+    private UserStoreTypeRegistry.UserStoreType getUserStoreTypeByClassName(String className) {
+
+        try {
+            return userStoreTypeRegistry.getByClassName(className);
+        } catch (IdentityUserStoreMgtException e) {
+            throw handleIdentityUserStoreMgtException(e,
+                    UserStoreConstants.ErrorMessage.ERROR_CODE_RETRIEVING_USER_STORE_TYPE);
+        }
+    }
+
+    /**
+     * Retrieve the className for a given type id.
+     *
+     * @param typeId user store type id.
+     * @return user store class name or null if there is no such type.
+     */
+    private String getUserStoreClassName(String typeId) {
+
+        UserStoreTypeRegistry.UserStoreType userStoreType = getUserStoreTypeById(typeId);
+        return userStoreType == null ? null : userStoreType.getClassName();
     }
 
     /**
      * Retrieve the user store type name for a given class name.
      *
      * @param className user store class name.
-     * @return user store type name.
+     * @return user store type name or null if the class is not an available user store manager.
      */
     private String getUserStoreTypeName(String className) {
 
-        HashMap<String, String> userStoreMap = getHashMap();
-        for (Map.Entry<String, String> stringEntry : userStoreMap.entrySet()) {
-            if (className.equals(((Map.Entry) stringEntry).getKey())) {
-                return (String) ((Map.Entry) stringEntry).getValue();
+        UserStoreTypeRegistry.UserStoreType userStoreType = getUserStoreTypeByClassName(className);
+        return userStoreType == null ? null : userStoreType.getTypeName();
+    }
+
+    /**
+     * Retrieve the user store type of a configured user store.
+     *
+     * @param className user store class name.
+     * @return UserStoreType.
+     */
+    private UserStoreTypeRegistry.UserStoreType getUserStoreTypeOfClass(String className) {
+
+        return Objects.requireNonNull(getUserStoreTypeByClassName(className));
+    }
+
+    /**
+     * Validate the secret key used to encrypt the secrets of the exported user stores.
+     *
+     * @param secretKey secret key of the request.
+     */
+    private void validateSecretKey(String secretKey) {
+
+        if (StringUtils.isBlank(secretKey) ||
+                secretKey.length() < UserStoreConstants.USER_STORE_SECRET_KEY_MIN_LENGTH) {
+            throw handleException(Response.Status.BAD_REQUEST,
+                    UserStoreConstants.ErrorMessage.ERROR_CODE_INVALID_SECRET_KEY,
+                    String.valueOf(UserStoreConstants.USER_STORE_SECRET_KEY_MIN_LENGTH));
+        }
+    }
+
+    private UserStoreSecretCipher createSecretCipher(String secretKey, UserStoreConstants.ErrorMessage errorEnum) {
+
+        try {
+            return UserStoreSecretCipher.create(secretKey);
+        } catch (GeneralSecurityException e) {
+            ErrorResponse errorResponse = getErrorBuilder(errorEnum).build(LOG, e, errorEnum.getDescription());
+            throw new APIError(errorEnum.getHttpStatus(), errorResponse);
+        }
+    }
+
+    /**
+     * Retrieve the realm configurations of the secondary user stores of the tenant. These hold the decrypted values
+     * of the secret properties which are masked in the user store configurations.
+     *
+     * @return Map of upper case domain names to the realm configurations.
+     */
+    private Map<String, RealmConfiguration> getSecondaryRealmConfigurations() {
+
+        RealmService realmService = UserStoreConfigServiceHolder.getInstance().getRealmService();
+        int tenantId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId();
+        Map<String, RealmConfiguration> secondaryRealmConfigurations = new HashMap<>();
+        try {
+            RealmConfiguration realmConfiguration = realmService.getTenantUserRealm(tenantId).getRealmConfiguration()
+                    .getSecondaryRealmConfig();
+            while (realmConfiguration != null) {
+                String domain = realmConfiguration.getUserStoreProperty(
+                        UserCoreConstants.RealmConfig.PROPERTY_DOMAIN_NAME);
+                if (domain != null) {
+                    secondaryRealmConfigurations.put(domain.toUpperCase(Locale.ENGLISH), realmConfiguration);
+                }
+                realmConfiguration = realmConfiguration.getSecondaryRealmConfig();
             }
+        } catch (UserStoreException exception) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Error occurred while getting the RealmConfiguration for tenant: " + tenantId, exception);
+            }
+            throw handleException(Response.Status.INTERNAL_SERVER_ERROR, UserStoreConstants.ErrorMessage.
+                    ERROR_CODE_ERROR_RETRIEVING_REALM_CONFIG, Integer.toString(tenantId));
         }
-        return null;
+        return secondaryRealmConfigurations;
+    }
+
+    /**
+     * Build the exported user store. Secret properties are taken from the realm configuration of the user store and
+     * encrypted, as they are masked in the user store configurations. A secret property of a disabled user store
+     * cannot be resolved and is exported without a value.
+     *
+     * @param userStoreDTO       {@link UserStoreDTO} to be exported.
+     * @param realmConfiguration realm configuration of the user store, if it is active.
+     * @param secretCipher       cipher to encrypt the secret properties.
+     * @return UserStoreReq.
+     */
+    private UserStoreReq buildUserStoreExport(UserStoreDTO userStoreDTO, RealmConfiguration realmConfiguration,
+                                              UserStoreSecretCipher secretCipher) {
+
+        UserStoreTypeRegistry.UserStoreType userStoreType =
+                getUserStoreTypeByClassName(userStoreDTO.getClassName());
+        Set<String> secretPropertyNames = userStoreType != null ? userStoreType.getSecretPropertyNames() :
+                Collections.singleton(UserStoreConfigConstants.connectionPassword);
+        UserStoreReq userStoreReq = new UserStoreReq()
+                .typeId(userStoreType != null ? userStoreType.getTypeId() :
+                        base64URLEncodeId(StringUtils.substringAfterLast(userStoreDTO.getClassName(), ".")))
+                .name(userStoreDTO.getDomainId())
+                .description(userStoreDTO.getDescription());
+        if (ArrayUtils.isEmpty(userStoreDTO.getProperties())) {
+            return userStoreReq;
+        }
+        for (PropertyDTO propertyDTO : userStoreDTO.getProperties()) {
+            String value = propertyDTO.getValue();
+            if (secretPropertyNames.contains(propertyDTO.getName())) {
+                value = realmConfiguration != null ? realmConfiguration.getUserStoreProperty(propertyDTO.getName()) :
+                        null;
+                if (StringUtils.isNotEmpty(value)) {
+                    try {
+                        value = secretCipher.encrypt(value);
+                    } catch (GeneralSecurityException e) {
+                        UserStoreConstants.ErrorMessage errorEnum =
+                                UserStoreConstants.ErrorMessage.ERROR_CODE_ERROR_EXPORTING_USER_STORES;
+                        ErrorResponse errorResponse = getErrorBuilder(errorEnum).build(LOG, e,
+                                "Error while encrypting the property: " + propertyDTO.getName() +
+                                        " of the user store: " + userStoreDTO.getDomainId());
+                        throw new APIError(errorEnum.getHttpStatus(), errorResponse);
+                    }
+                }
+            }
+            userStoreReq.addPropertiesItem(new org.wso2.carbon.identity.api.server.userstore.v1.model.Property()
+                    .name(propertyDTO.getName())
+                    .value(value));
+        }
+        return userStoreReq;
     }
 
     /**
-     * Construct a map with class name and with the corresponding type name.
+     * Validate a user store to be imported and decrypt its secret properties.
      *
-     * @return HashMap.
+     * @param userStoreReq      {@link UserStoreReq} to be imported.
+     * @param existingDomains   upper case domain names of the existing user stores.
+     * @param duplicatedDomains upper case domain names specified more than once in the import request.
+     * @param secretCipher      cipher to decrypt the secret properties.
+     * @return Validation error or null if the user store is valid.
      */
-    private HashMap<String, String> getHashMap() {
+    private String prepareUserStoreImport(UserStoreReq userStoreReq, Set<String> existingDomains,
+                                          Set<String> duplicatedDomains, UserStoreSecretCipher secretCipher) {
 
-        Set<String> classNames = UserStoreManagerRegistry.getUserStoreManagerClasses();
-        HashMap<String, String> userStoreMap = new HashMap<>();
+        String name = userStoreReq.getName();
+        if (StringUtils.isBlank(name)) {
+            return "User store name is not specified.";
+        }
+        String domain = name.toUpperCase(Locale.ENGLISH);
+        if (existingDomains.contains(domain)) {
+            return String.format("User store: %s already exists.", name);
+        }
+        if (duplicatedDomains.contains(domain)) {
+            return String.format("User store: %s is specified more than once.", name);
+        }
+        UserStoreTypeRegistry.UserStoreType userStoreType =
+                getUserStoreTypeById(userStoreReq.getTypeId());
+        if (userStoreType == null) {
+            return String.format("User store: %s has an unavailable type: %s.", name, userStoreReq.getTypeId());
+        }
 
-        for (String className : classNames) {
-            userStoreMap.put(className, className.substring(className.lastIndexOf('.') + 1));
+        Map<String, String> properties = new HashMap<>();
+        if (userStoreReq.getProperties() != null) {
+            for (org.wso2.carbon.identity.api.server.userstore.v1.model.Property property :
+                    userStoreReq.getProperties()) {
+                if (userStoreType.getSecretPropertyNames().contains(property.getName()) &&
+                        StringUtils.isNotEmpty(property.getValue())) {
+                    try {
+                        property.setValue(secretCipher.decrypt(property.getValue()));
+                    } catch (IllegalArgumentException | GeneralSecurityException e) {
+                        return String.format("Property: %s of the user store: %s cannot be decrypted with the " +
+                                "provided secret key and salt.", property.getName(), name);
+                    }
+                }
+                properties.put(property.getName(), property.getValue());
+            }
         }
-        return userStoreMap;
+        Properties userStoreProperties = userStoreType.getProperties();
+        if (userStoreProperties != null && userStoreProperties.getMandatoryProperties() != null) {
+            for (Property mandatoryProperty : userStoreProperties.getMandatoryProperties()) {
+                if (StringUtils.isEmpty(properties.get(mandatoryProperty.getName()))) {
+                    return String.format("Mandatory property: %s of the user store: %s is missing.",
+                            mandatoryProperty.getName(), name);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Mask the secret properties of an imported user store in the response.
+     *
+     * @param userStoreResponse {@link UserStoreResponse} of the imported user store.
+     * @param userStoreType     type of the imported user store.
+     * @return UserStoreResponse.
+     */
+    private UserStoreResponse maskSecretProperties(UserStoreResponse userStoreResponse,
+                                                   UserStoreTypeRegistry.UserStoreType userStoreType) {
+
+        if (userStoreResponse.getProperties() != null) {
+            for (AddUserStorePropertiesRes property : userStoreResponse.getProperties()) {
+                if (userStoreType.getSecretPropertyNames().contains(property.getName())) {
+                    property.setValue(UserStoreConstants.USER_STORE_PROPERTY_MASK);
+                }
+            }
+        }
+        return userStoreResponse;
     }
 
     /**
@@ -818,47 +1408,13 @@ public class ServerUserStoreService {
         String errorDescription;
 
         if (ArrayUtils.isNotEmpty(data)) {
-            if (data.length == 1) {
-                errorDescription = String.format(errorEnum.getDescription(), (Object) data);
-            } else {
-                errorDescription = String.format(errorEnum.getDescription(), (Object[]) data);
-            }
+            errorDescription = String.format(errorEnum.getDescription(), (Object[]) data);
         } else {
             errorDescription = errorEnum.getDescription();
         }
         return errorDescription;
     }
 
-    /**
-     * To return error responses for the input params for the get request which are not yet supported by the server.
-     *
-     * @param limit  items per page.
-     * @param offset to specify the offset param.
-     * @param filter to specify the filtering capabilities.
-     * @param sort   to specify the sorting order.
-     */
-    private void handleNotImplementedBehaviour(Integer limit, Integer offset, String filter, String sort) {
-
-        UserStoreConstants.ErrorMessage errorEnum = null;
-
-        if (limit != null) {
-            errorEnum = UserStoreConstants.ErrorMessage.ERROR_CODE_PAGINATION_NOT_IMPLEMENTED;
-        } else if (offset != null) {
-            errorEnum = UserStoreConstants.ErrorMessage.ERROR_CODE_PAGINATION_NOT_IMPLEMENTED;
-        } else if (filter != null) {
-            errorEnum = UserStoreConstants.ErrorMessage.ERROR_CODE_FILTERING_NOT_IMPLEMENTED;
-        } else if (sort != null) {
-            errorEnum = UserStoreConstants.ErrorMessage.ERROR_CODE_SORTING_NOT_IMPLEMENTED;
-        }
-
-        if (errorEnum != null) {
-            ErrorResponse errorResponse = getErrorBuilder(errorEnum).build(LOG, errorEnum.getDescription());
-            Response.Status status = Response.Status.NOT_IMPLEMENTED;
-
-            throw new APIError(status, errorResponse);
-        }
-    }
-
     /**
      * To check whether API request has all user store mandatory properties or not.
      *
@@ -866,14 +1422,14 @@ public class ServerUserStoreService {
      */
     private void validateMandatoryProperties(UserStoreReq userStoreReq) {
 
-        String userStoreType = getUserStoreType(base64URLDecodeId(userStoreReq.getTypeId()));
-        if (StringUtils.isBlank(userStoreType)) {
+        UserStoreTypeRegistry.UserStoreType userStoreType =
+                getUserStoreTypeById(userStoreReq.getTypeId());
+        if (userStoreType == null) {
             throw handleException(Response.Status.BAD_REQUEST,
                     UserStoreConstants.ErrorMessage.ERROR_CODE_INVALID_INPUT);
         }
         HashMap<String, String> hashMap = new HashMap<String, String>();
-        Property[] mandatoryProperties = UserStoreManagerRegistry.
-                getUserStoreProperties(userStoreType).getMandatoryProperties();
+        Property[] mandatoryProperties = userStoreType.getProperties().getMandatoryProperties();
         for (org.wso2.carbon.identity.api.server.userstore.v1.model.Property property : userStoreReq.getProperties()) {
             hashMap.put(property.getName(), property.getValue());
         }
@@ -978,6 +1534,15 @@ public class ServerUserStoreService {
         }
     }
 
+    /**
+     * Clear the cached userstore domains of the tenant, so that the claim attribute mapping validations pick up
+     * the userstore changes.
+     */
+    private void clearUserStoreDomainCache() {
+
+        UserStoreDomainCache.getInstance().clearCacheEntry(ContextLoader.getTenantDomainFromContext());
+    }
+
     private String extractPropertyName(String pathProp) {
 
         String name = null;
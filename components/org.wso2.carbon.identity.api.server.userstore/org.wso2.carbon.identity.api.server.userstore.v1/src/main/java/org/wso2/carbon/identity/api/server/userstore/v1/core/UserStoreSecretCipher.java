@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.userstore.v1.core;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Encrypts and decrypts the secret properties of exported user stores with a key derived from a caller supplied
+ * secret key. The key is derived once per export or import, and each property value is encrypted with AES-GCM
+ * under its own random IV, so the encrypted values are self contained apart from the salt.
+ */
+public class UserStoreSecretCipher {
+
+    private static final String KEY_DERIVATION_ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final String KEY_ALGORITHM = "AES";
+    private static final String CIPHER_TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final int KEY_DERIVATION_ITERATIONS = 100000;
+    private static final int KEY_LENGTH = 256;
+    private static final int SALT_LENGTH = 16;
+    private static final int IV_LENGTH = 12;
+    private static final int AUTHENTICATION_TAG_LENGTH = 128;
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+    private final SecretKey key;
+    private final byte[] salt;
+
+    private UserStoreSecretCipher(String secretKey, byte[] salt) throws GeneralSecurityException {
+
+        PBEKeySpec keySpec = new PBEKeySpec(secretKey.toCharArray(), salt, KEY_DERIVATION_ITERATIONS, KEY_LENGTH);
+        try {
+            byte[] derivedKey = SecretKeyFactory.getInstance(KEY_DERIVATION_ALGORITHM).generateSecret(keySpec)
+                    .getEncoded();
+            this.key = new SecretKeySpec(derivedKey, KEY_ALGORITHM);
+            this.salt = salt;
+        } finally {
+            keySpec.clearPassword();
+        }
+    }
+
+    /**
+     * Create a cipher to encrypt secrets with a key derived from the given secret key and a new random salt.
+     *
+     * @param secretKey Caller supplied secret key.
+     * @return UserStoreSecretCipher.
+     * @throws GeneralSecurityException If the key cannot be derived.
+     */
+    public static UserStoreSecretCipher create(String secretKey) throws GeneralSecurityException {
+
+        byte[] salt = new byte[SALT_LENGTH];
+        SECURE_RANDOM.nextBytes(salt);
+        return new UserStoreSecretCipher(secretKey, salt);
+    }
+
+    /**
+     * Create a cipher to decrypt secrets encrypted with the given secret key and salt.
+     *
+     * @param secretKey Caller supplied secret key.
+     * @param salt      Base64 URL encoded salt returned with the exported user stores.
+     * @return UserStoreSecretCipher.
+     * @throws GeneralSecurityException If the key cannot be derived.
+     * @throws IllegalArgumentException If the salt is not a valid salt.
+     */
+    public static UserStoreSecretCipher create(String secretKey, String salt) throws GeneralSecurityException {
+
+        byte[] decodedSalt = Base64.getUrlDecoder().decode(salt);
+        if (decodedSalt.length != SALT_LENGTH) {
+            throw new IllegalArgumentException("Invalid salt length: " + decodedSalt.length);
+        }
+        return new UserStoreSecretCipher(secretKey, decodedSalt);
+    }
+
+    /**
+     * Get the salt used to derive the key.
+     *
+     * @return Base64 URL encoded salt.
+     */
+    public String getSalt() {
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(salt);
+    }
+
+    /**
+     * Encrypt the given secret.
+     *
+     * @param plainText Secret to be encrypted.
+     * @return Base64 encoded IV and cipher text.
+     * @throws GeneralSecurityException If the secret cannot be encrypted.
+     */
+    public String encrypt(String plainText) throws GeneralSecurityException {
+
+        byte[] iv = new byte[IV_LENGTH];
+        SECURE_RANDOM.nextBytes(iv);
+        Cipher cipher = Cipher.getInstance(CIPHER_TRANSFORMATION);
+        cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(AUTHENTICATION_TAG_LENGTH, iv));
+        byte[] cipherText = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(
+                ByteBuffer.allocate(iv.length + cipherText.length).put(iv).put(cipherText).array());
+    }
+
+    /**
+     * Decrypt the given secret.
+     *
+     * @param encryptedText Base64 encoded IV and cipher text.
+     * @return Decrypted secret.
+     * @throws GeneralSecurityException If the secret was not encrypted with the same key and salt.
+     * @throws IllegalArgumentException If the encrypted text is not a valid base64 value.
+     */
+    public String decrypt(String encryptedText) throws GeneralSecurityException {
+
+        byte[] encrypted = Base64.getDecoder().decode(encryptedText);
+        if (encrypted.length <= IV_LENGTH) {
+            throw new GeneralSecurityException("Invalid encrypted value length: " + encrypted.length);
+        }
+        Cipher cipher = Cipher.getInstance(CIPHER_TRANSFORMATION);
+        cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(AUTHENTICATION_TAG_LENGTH, encrypted, 0,
+                IV_LENGTH));
+        return new String(cipher.doFinal(encrypted, IV_LENGTH, encrypted.length - IV_LENGTH),
+                StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.userstore.v1.core;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.commons.lang.ArrayUtils;
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.api.server.userstore.common.UserStoreConfigServiceHolder;
+import org.wso2.carbon.identity.user.store.configuration.utils.IdentityUserStoreMgtException;
+import org.wso2.carbon.user.api.Properties;
+import org.wso2.carbon.user.api.Property;
+import org.wso2.carbon.user.core.UserStoreConfigConstants;
+import org.wso2.carbon.user.core.tracker.UserStoreManagerRegistry;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.wso2.carbon.identity.api.server.userstore.common.UserStoreConstants.USER_STORE_ENCRYPTED_PROPERTY_SUFFIX;
+import static org.wso2.carbon.identity.api.server.userstore.common.UserStoreConstants.USER_STORE_TYPE_REGISTRY_REFRESH_INTERVAL;
+
+/**
+ * In-memory registry of the available user store types. The registry is built from the user store manager classes
+ * of the user store configuration service on its first use, and lookups are plain map reads afterwards. The property
+ * metadata of each type is read once from the {@link UserStoreManagerRegistry} when the registry is built.
+ * <p>
+ * A user store manager is registered or unregistered when its bundle is deployed, which the API context is not
+ * notified of. Hence the registered user store manager classes are checked in the background, and the registry is
+ * rebuilt only when they have changed or when it is explicitly invalidated.
+ */
+public class UserStoreTypeRegistry {
+
+    private static final Log LOG = LogFactory.getLog(UserStoreTypeRegistry.class);
+
+    private final ScheduledExecutorService refreshScheduler = Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+                Thread thread = new Thread(runnable, "userstore-type-registry-refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+    private volatile UserStoreTypes userStoreTypes;
+
+    public UserStoreTypeRegistry() {
+
+        refreshScheduler.scheduleWithFixedDelay(this::refresh, USER_STORE_TYPE_REGISTRY_REFRESH_INTERVAL,
+                USER_STORE_TYPE_REGISTRY_REFRESH_INTERVAL, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Get all the available user store types.
+     *
+     * @return Available user store types ordered by the class name.
+     * @throws IdentityUserStoreMgtException If the available user store classes cannot be retrieved.
+     */
+    public Collection<UserStoreType> getUserStoreTypes() throws IdentityUserStoreMgtException {
+
+        return getCurrentUserStoreTypes().byClassName.values();
+    }
+
+    /**
+     * Get the user store type of the given user store manager class.
+     *
+     * @param className User store manager class name.
+     * @return UserStoreType or null if the class is not a registered user store manager.
+     * @throws IdentityUserStoreMgtException If the available user store classes cannot be retrieved.
+     */
+    public UserStoreType getByClassName(String className) throws IdentityUserStoreMgtException {
+
+        return className == null ? null : getCurrentUserStoreTypes().byClassName.get(className);
+    }
+
+    /**
+     * Get the user store type of the given type name.
+     *
+     * @param typeName User store type name.
+     * @return UserStoreType or null if there is no such type.
+     * @throws IdentityUserStoreMgtException If the available user store classes cannot be retrieved.
+     */
+    public UserStoreType getByTypeName(String typeName) throws IdentityUserStoreMgtException {
+
+        return typeName == null ? null : getCurrentUserStoreTypes().byTypeName.get(typeName);
+    }
+
+    /**
+     * Get the user store type of the given type id.
+     *
+     * @param typeId Base64 URL encoded user store type name.
+     * @return UserStoreType or null if there is no such type.
+     * @throws IdentityUserStoreMgtException If the available user store classes cannot be retrieved.
+     */
+    public UserStoreType getByTypeId(String typeId) throws IdentityUserStoreMgtException {
+
+        if (typeId == null) {
+            return null;
+        }
+        UserStoreTypes currentUserStoreTypes = getCurrentUserStoreTypes();
+        UserStoreType userStoreType = currentUserStoreTypes.byTypeId.get(typeId);
+        if (userStoreType == null) {
+            // The type id could have been encoded with padding.
+            try {
+                userStoreType = currentUserStoreTypes.byTypeName.get(
+                        new String(Base64.getUrlDecoder().decode(typeId), StandardCharsets.UTF_8));
+            } catch (IllegalArgumentException e) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Invalid user store type id: " + typeId, e);
+                }
+            }
+        }
+        return userStoreType;
+    }
+
+    /**
+     * Invalidate the registry, so that it is rebuilt from the registered user store managers on its next use.
+     */
+    public void invalidate() {
+
+        userStoreTypes = null;
+    }
+
+    /**
+     * Shutdown the registry refresh. Invoked when the API context is destroyed.
+     */
+    public void shutdown() {
+
+        refreshScheduler.shutdownNow();
+    }
+
+    private UserStoreTypes getCurrentUserStoreTypes() throws IdentityUserStoreMgtException {
+
+        UserStoreTypes currentUserStoreTypes = userStoreTypes;
+        if (currentUserStoreTypes == null) {
+            synchronized (this) {
+                currentUserStoreTypes = userStoreTypes;
+                if (currentUserStoreTypes == null) {
+                    currentUserStoreTypes = buildUserStoreTypes(getRegisteredClassNames());
+                    userStoreTypes = currentUserStoreTypes;
+                }
+            }
+        }
+        return currentUserStoreTypes;
+    }
+
+    /**
+     * Rebuild the registry if a user store manager has been registered or unregistered since it was built. A registry
+     * which has not been built yet is left to be built on its first use.
+     */
+    private void refresh() {
+
+        try {
+            if (userStoreTypes == null) {
+                return;
+            }
+            Set<String> registeredClassNames = getRegisteredClassNames();
+            synchronized (this) {
+                UserStoreTypes currentUserStoreTypes = userStoreTypes;
+                if (currentUserStoreTypes != null && !currentUserStoreTypes.classNames.equals(registeredClassNames)) {
+                    userStoreTypes = buildUserStoreTypes(registeredClassNames);
+                }
+            }
+        } catch (IdentityUserStoreMgtException | RuntimeException e) {
+            LOG.error("Error while refreshing the user store type registry.", e);
+        }
+    }
+
+    private Set<String> getRegisteredClassNames() throws IdentityUserStoreMgtException {
+
+        Set<String> registeredClassNames = UserStoreConfigServiceHolder.getInstance().getUserStoreConfigService()
+                .getAvailableUserStoreClasses();
+        return registeredClassNames == null ? Collections.emptySet() : registeredClassNames;
+    }
+
+    private UserStoreTypes buildUserStoreTypes(Set<String> registeredClassNames) {
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Building the user store type registry with the user store managers: " + registeredClassNames);
+        }
+        return new UserStoreTypes(registeredClassNames);
+    }
+
+    /**
+     * Immutable snapshot of the user store types built from a set of user store manager classes.
+     */
+    private static class UserStoreTypes {
+
+        private final Set<String> classNames;
+        private final Map<String, UserStoreType> byClassName = new LinkedHashMap<>();
+        private final Map<String, UserStoreType> byTypeName = new HashMap<>();
+        private final Map<String, UserStoreType> byTypeId = new HashMap<>();
+
+        UserStoreTypes(Set<String> classNames) {
+
+            this.classNames = new HashSet<>(classNames);
+            for (String className : new TreeSet<>(classNames)) {
+                UserStoreType userStoreType = new UserStoreType(className,
+                        UserStoreManagerRegistry.getUserStoreProperties(className));
+                byClassName.put(className, userStoreType);
+                byTypeName.put(userStoreType.getTypeName(), userStoreType);
+                byTypeId.put(userStoreType.getTypeId(), userStoreType);
+            }
+        }
+    }
+
+    /**
+     * Metadata of a user store type.
+     */
+    public static class UserStoreType {
+
+        private final String className;
+        private final String typeName;
+        private final String typeId;
+        private final Properties properties;
+        private final Set<String> secretPropertyNames;
+
+        UserStoreType(String className, Properties properties) {
+
+            this.className = className;
+            this.typeName = className.substring(className.lastIndexOf('.') + 1);
+            this.typeId = Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(typeName.getBytes(StandardCharsets.UTF_8));
+            this.properties = properties;
+            this.secretPropertyNames = Collections.unmodifiableSet(buildSecretPropertyNames(properties));
+        }
+
+        public String getClassName() {
+
+            return className;
+        }
+
+        public String getTypeName() {
+
+            return typeName;
+        }
+
+        public String getTypeId() {
+
+            return typeId;
+        }
+
+        public Properties getProperties() {
+
+            return properties;
+        }
+
+        /**
+         * Get the names of the properties which are stored encrypted in the user store configurations.
+         *
+         * @return Secret property names.
+         */
+        public Set<String> getSecretPropertyNames() {
+
+            return secretPropertyNames;
+        }
+
+        private static Set<String> buildSecretPropertyNames(Properties properties) {
+
+            Set<String> secretPropertyNames = new HashSet<>();
+            secretPropertyNames.add(UserStoreConfigConstants.connectionPassword);
+            if (properties == null) {
+                return secretPropertyNames;
+            }
+            for (Property[] propertyGroup : new Property[][]{properties.getMandatoryProperties(),
+                    properties.getOptionalProperties(), properties.getAdvancedProperties()}) {
+                if (ArrayUtils.isEmpty(propertyGroup)) {
+                    continue;
+                }
+                for (Property property : propertyGroup) {
+                    if (StringUtils.contains(property.getDescription(), USER_STORE_ENCRYPTED_PROPERTY_SUFFIX)) {
+                        secretPropertyNames.add(property.getName());
+                    }
+                }
+            }
+            return secretPropertyNames;
+        }
+    }
+}
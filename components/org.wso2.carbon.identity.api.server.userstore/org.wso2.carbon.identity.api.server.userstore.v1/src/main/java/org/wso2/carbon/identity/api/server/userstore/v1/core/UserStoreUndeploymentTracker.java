@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.userstore.v1.core;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.api.server.common.cache.UserStoreDomainCache;
+import org.wso2.carbon.identity.api.server.userstore.common.UserStoreConfigServiceHolder;
+import org.wso2.carbon.user.api.UserStoreException;
+import org.wso2.carbon.user.core.UserStoreManager;
+import org.wso2.carbon.user.core.service.RealmService;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.wso2.carbon.identity.api.server.userstore.common.UserStoreConstants.USER_STORE_UNDEPLOYMENT_MAX_POLLS;
+import static org.wso2.carbon.identity.api.server.userstore.common.UserStoreConstants.USER_STORE_UNDEPLOYMENT_POLL_INTERVAL;
+
+/**
+ * Tracks the undeployment of deleted user stores. A deleted user store is undeployed asynchronously by the user store
+ * deployer, hence the userstore domains of the tenant could be cached again before the user store leaves the user
+ * realm. The cached domains of the tenant are cleared once more when the undeployment completes.
+ */
+public class UserStoreUndeploymentTracker {
+
+    private static final Log LOG = LogFactory.getLog(UserStoreUndeploymentTracker.class);
+
+    private final ScheduledExecutorService undeploymentPoller = Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+                Thread thread = new Thread(runnable, "userstore-undeployment-tracker");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    /**
+     * Track the undeployment of a deleted user store and clear the cached userstore domains of the tenant when the
+     * user store is no longer in the user realm, or when the tracking gives up.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param tenantId     Tenant id.
+     * @param domainName   Domain name of the deleted user store.
+     */
+    public void track(String tenantDomain, int tenantId, String domainName) {
+
+        schedulePoll(tenantDomain, tenantId, domainName, 1);
+    }
+
+    /**
+     * Shutdown the undeployment poller. Invoked when the API context is destroyed.
+     */
+    public void shutdown() {
+
+        undeploymentPoller.shutdownNow();
+    }
+
+    private void schedulePoll(String tenantDomain, int tenantId, String domainName, int poll) {
+
+        try {
+            undeploymentPoller.schedule(() -> {
+                if (isUndeployed(tenantId, domainName) || poll >= USER_STORE_UNDEPLOYMENT_MAX_POLLS) {
+                    UserStoreDomainCache.getInstance().clearCacheEntry(tenantDomain);
+                    return;
+                }
+                schedulePoll(tenantDomain, tenantId, domainName, poll + 1);
+            }, USER_STORE_UNDEPLOYMENT_POLL_INTERVAL, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // The API context is being destroyed.
+            UserStoreDomainCache.getInstance().clearCacheEntry(tenantDomain);
+        }
+    }
+
+    private boolean isUndeployed(int tenantId, String domainName) {
+
+        RealmService realmService = UserStoreConfigServiceHolder.getInstance().getRealmService();
+        try {
+            UserStoreManager userStoreManager = realmService.getTenantUserRealm(tenantId).getUserStoreManager();
+            return userStoreManager.getSecondaryUserStoreManager(domainName) == null;
+        } catch (UserStoreException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Error while checking the undeployment of the user store: " + domainName + " of the " +
+                        "tenant: " + tenantId, e);
+            }
+            return false;
+        }
+    }
+}
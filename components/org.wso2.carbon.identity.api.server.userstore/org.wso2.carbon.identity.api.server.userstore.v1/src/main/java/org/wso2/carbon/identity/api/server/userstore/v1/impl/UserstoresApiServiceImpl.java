@@ -21,11 +21,16 @@ import org.wso2.carbon.identity.api.server.userstore.v1.UserstoresApiService;
 import org.wso2.carbon.identity.api.server.userstore.v1.core.ServerUserStoreService;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.PatchDocument;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.RDBMSConnectionReq;
+import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreExportReq;
+import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreImportReq;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreReq;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreResponse;
 
 import java.net.URI;
 import java.util.List;
+import java.util.concurrent.CompletionException;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
 import static org.wso2.carbon.identity.api.server.common.Constants.V1_API_PATH_COMPONENT;
@@ -54,6 +59,13 @@ public class UserstoresApiServiceImpl implements UserstoresApiService {
         return Response.noContent().build();
     }
 
+    @Override
+    public Response exportUserStores(UserStoreExportReq userStoreExportReq) {
+
+        return Response.ok(serverUserStoreService.exportUserStores(userStoreExportReq), MediaType.APPLICATION_JSON)
+                .build();
+    }
+
     @Override
     public Response getAvailableUserStoreTypes() {
 
@@ -87,6 +99,12 @@ public class UserstoresApiServiceImpl implements UserstoresApiService {
         return Response.ok().entity(serverUserStoreService.getUserStoreManagerProperties(typeId)).build();
     }
 
+    @Override
+    public Response importUserStores(UserStoreImportReq userStoreImportReq) {
+
+        return Response.ok().entity(serverUserStoreService.importUserStores(userStoreImportReq)).build();
+    }
+
     @Override
     public Response patchUserStore(String userstoreDomainId, List<PatchDocument> patchDocument) {
 
@@ -94,9 +112,17 @@ public class UserstoresApiServiceImpl implements UserstoresApiService {
     }
 
     @Override
-    public Response testRDBMSConnection(RDBMSConnectionReq rdBMSConnectionReq) {
+    public void testRDBMSConnection(RDBMSConnectionReq rdBMSConnectionReq, AsyncResponse asyncResponse) {
+
+        serverUserStoreService.testRDBMSConnection(rdBMSConnectionReq).whenComplete(
+                (response, error) -> resume(asyncResponse, response, error));
+    }
+
+    @Override
+    public void testRDBMSConnections(List<RDBMSConnectionReq> rdBMSConnectionReq, AsyncResponse asyncResponse) {
 
-        return Response.ok().entity(serverUserStoreService.testRDBMSConnection(rdBMSConnectionReq)).build();
+        serverUserStoreService.testRDBMSConnections(rdBMSConnectionReq).whenComplete(
+                (response, error) -> resume(asyncResponse, response, error));
     }
 
     @Override
@@ -105,6 +131,15 @@ public class UserstoresApiServiceImpl implements UserstoresApiService {
         return Response.ok().entity(serverUserStoreService.editUserStore(userstoreDomainId, userStoreReq)).build();
     }
 
+    private void resume(AsyncResponse asyncResponse, Object entity, Throwable error) {
+
+        if (error != null) {
+            asyncResponse.resume(error instanceof CompletionException ? error.getCause() : error);
+        } else {
+            asyncResponse.resume(Response.ok().entity(entity).build());
+        }
+    }
+
     private URI getResourceLocation(String id) {
 
         return buildURIForHeader(String.format(V1_API_PATH_COMPONENT + USER_STORE_PATH_COMPONENT + "/%s", id));